@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.alias.routes.permission;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.function.throwable.ThrowableBiFunction;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Defines a type alias for a function that can be used to check, in a single
+ * call, the permissions for several items. The function receives the current
+ * credentials and a list of identifiers, and returns the names of the actions
+ * (e.g., {@code "remove"}, {@code "replace"} or the name of a custom route)
+ * allowed for each identifier.
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the type of the model's identifier (e.g., {@code Long}, {@code
+ *         String}, etc.)
+ * @review
+ */
+@ConsumerType
+@FunctionalInterface
+public interface BulkPermissionFunction<T>
+	extends ThrowableBiFunction<Credentials, List<T>, Map<T, Set<String>>> {
+}
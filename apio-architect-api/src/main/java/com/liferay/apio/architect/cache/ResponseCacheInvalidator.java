@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.cache;
+
+import aQute.bnd.annotation.ProviderType;
+
+/**
+ * Evicts cached representations from the response cache. Routers that modify
+ * resources outside of the actions handled by Apio Architect, or whose changes
+ * affect other resources, can use this service to make sure stale
+ * representations aren't served.
+ *
+ * <p>
+ * Successful create, replace and remove actions already evict the cached
+ * representations whose path contains any of the action's path segments.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@ProviderType
+public interface ResponseCacheInvalidator {
+
+	/**
+	 * Evicts the cached representations whose path contains the provided
+	 * resource name.
+	 *
+	 * @param  name the resource name, as it appears in the resource's path
+	 * @review
+	 */
+	public void invalidate(String name);
+
+	/**
+	 * Evicts every cached representation.
+	 *
+	 * @review
+	 */
+	public void invalidateAll();
+
+}
@@ -16,6 +16,7 @@ package com.liferay.apio.architect.credentials;
 
 import aQute.bnd.annotation.ConsumerType;
 
+import java.util.Optional;
 import java.util.function.Supplier;
 
 /**
@@ -28,4 +29,24 @@ import java.util.function.Supplier;
 @ConsumerType
 @FunctionalInterface
 public interface Credentials extends Supplier<Object> {
+
+	/**
+	 * Returns the key that identifies these credentials in the response
+	 * cache, if the responses to these credentials can be cached. Credentials
+	 * with the same cache key must have access to the same representations.
+	 *
+	 * <p>
+	 * The cache key is kept in memory, so it shouldn't contain secrets, like
+	 * passwords or tokens. By default, this method returns {@code
+	 * Optional#empty()}, so responses are never cached.
+	 * </p>
+	 *
+	 * @return the cache key, if responses can be cached; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public default Optional<String> getCacheKeyOptional() {
+		return Optional.empty();
+	}
+
 }
\ No newline at end of file
@@ -16,7 +16,15 @@ package com.liferay.apio.architect.file;
 
 import aQute.bnd.annotation.ConsumerType;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import java.util.Date;
+import java.util.Optional;
 
 /**
  * @author Javier Gamarra
@@ -31,14 +39,118 @@ public class BinaryFile {
 	public BinaryFile(
 		InputStream inputStream, Long size, String mimeType, String name) {
 
+		this(inputStream, size, mimeType, name, null, null);
+	}
+
+	/**
+	 * Creates a binary file whose content is read from an input stream.
+	 *
+	 * <p>
+	 * The last modification date and the entity tag are used to answer
+	 * conditional requests and to validate {@code If-Range} headers. Both can
+	 * be {@code null}. The entity tag must change every time the content
+	 * changes (for example, a hash of the content).
+	 * </p>
+	 *
+	 * @param inputStream the file's content
+	 * @param size the file's size, in bytes
+	 * @param mimeType the file's MIME type
+	 * @param name the file's name
+	 * @param lastModified the file's last modification date
+	 * @param entityTag the file's entity tag, without quotes
+	 * @review
+	 */
+	public BinaryFile(
+		InputStream inputStream, Long size, String mimeType, String name,
+		Date lastModified, String entityTag) {
+
 		_inputStream = inputStream;
 		_size = size;
 		_mimeType = mimeType;
 		_name = name;
+		_lastModified = lastModified;
+		_entityTag = entityTag;
+
+		_path = null;
 	}
 
+	/**
+	 * Creates a binary file backed by a file in the file system. The size and
+	 * last modification date are read from the file.
+	 *
+	 * <p>
+	 * File-backed binaries are written by transferring the file's content
+	 * directly, and can serve any byte range requested by clients.
+	 * </p>
+	 *
+	 * @param  path the file's path
+	 * @param  mimeType the file's MIME type
+	 * @param  name the file's name
+	 * @param  entityTag the file's entity tag, without quotes; {@code null} to
+	 *         use one based on the file's size and last modification date
+	 * @throws IOException if the file's attributes couldn't be read
+	 * @review
+	 */
+	public BinaryFile(
+			Path path, String mimeType, String name, String entityTag)
+		throws IOException {
+
+		_path = path;
+		_mimeType = mimeType;
+		_name = name;
+		_entityTag = entityTag;
+
+		_inputStream = null;
+		_lastModified = new Date(Files.getLastModifiedTime(path).toMillis());
+		_size = Files.size(path);
+	}
+
+	/**
+	 * Returns the file's entity tag, if present. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the file's entity tag, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> getEntityTagOptional() {
+		return Optional.ofNullable(_entityTag);
+	}
+
+	/**
+	 * Returns the file's content. If the binary file is backed by a file in
+	 * the file system, a new input stream is opened every time this method is
+	 * called.
+	 *
+	 * @return the file's content
+	 */
 	public InputStream getInputStream() {
-		return _inputStream;
+		if (_path == null) {
+			return _inputStream;
+		}
+
+		try {
+			return Files.newInputStream(_path);
+		}
+		catch (IOException ioe) {
+			throw new UncheckedIOException(ioe);
+		}
+	}
+
+	/**
+	 * Returns the file's last modification date, if present. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the file's last modification date, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Date> getLastModifiedOptional() {
+		return Optional.ofNullable(
+			_lastModified
+		).map(
+			date -> new Date(date.getTime())
+		);
 	}
 
 	public String getMimeType() {
@@ -49,13 +161,27 @@ public class BinaryFile {
 		return _name;
 	}
 
+	/**
+	 * Returns the path of the file backing this binary file, if present.
+	 * Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the file's path, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Path> getPathOptional() {
+		return Optional.ofNullable(_path);
+	}
+
 	public long getSize() {
 		return _size;
 	}
 
+	private final String _entityTag;
 	private final InputStream _inputStream;
+	private final Date _lastModified;
 	private final String _mimeType;
 	private final String _name;
+	private final Path _path;
 	private final long _size;
 
 }
\ No newline at end of file
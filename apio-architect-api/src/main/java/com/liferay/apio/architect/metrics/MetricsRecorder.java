@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.metrics;
+
+import aQute.bnd.annotation.ConsumerType;
+
+/**
+ * Records the metrics of the requests handled by Apio Architect. Registering
+ * an implementation of this interface as an OSGi service enables the
+ * instrumentation of the request pipeline. If no recorder is registered,
+ * nothing is measured.
+ *
+ * <p>
+ * Every measurement is tagged with the name of the resource and the action it
+ * belongs to, when they are known. Otherwise, the tags are {@code null}.
+ * Implementations are called from the request threads, so they must be
+ * thread-safe and fast.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@ConsumerType
+public interface MetricsRecorder {
+
+	/**
+	 * Records an increment of a counter.
+	 *
+	 * @param  counter the counter
+	 * @param  resourceName the resource's name, or {@code null} if unknown
+	 * @param  actionName the action's name, or {@code null} if unknown
+	 * @param  count the increment
+	 * @review
+	 */
+	public void recordCount(
+		Counter counter, String resourceName, String actionName, long count);
+
+	/**
+	 * Records the time spent in a stage of the request pipeline.
+	 *
+	 * @param  stage the stage
+	 * @param  resourceName the resource's name, or {@code null} if unknown
+	 * @param  actionName the action's name, or {@code null} if unknown
+	 * @param  nanos the time spent, in nanoseconds
+	 * @review
+	 */
+	public void recordDuration(
+		Stage stage, String resourceName, String actionName, long nanos);
+
+	/**
+	 * The counters recorded while handling a request.
+	 *
+	 * @review
+	 */
+	public enum Counter {
+
+		/**
+		 * The bytes of a representation written to the response.
+		 *
+		 * @review
+		 */
+		BYTES_WRITTEN,
+
+		/**
+		 * The related models retrieved to be embedded in a representation.
+		 *
+		 * @review
+		 */
+		EMBEDDED_FETCHES,
+
+		/**
+		 * The fields of a model written to a representation.
+		 *
+		 * @review
+		 */
+		FIELDS_WRITTEN
+
+	}
+
+	/**
+	 * The timed stages of the request pipeline.
+	 *
+	 * @review
+	 */
+	public enum Stage {
+
+		/**
+		 * The retrieval of a related model to be embedded in a representation.
+		 *
+		 * @review
+		 */
+		EMBEDDED,
+
+		/**
+		 * The execution of an action.
+		 *
+		 * @review
+		 */
+		EXECUTION,
+
+		/**
+		 * The selection of the action that handles a request. If no action
+		 * handles the request, the resource's and action's names are {@code
+		 * "unknown"}.
+		 *
+		 * @review
+		 */
+		ROUTING,
+
+		/**
+		 * The mapping of a result to its representation and the writing of the
+		 * representation to the response.
+		 *
+		 * @review
+		 */
+		WRITING
+
+	}
+
+}
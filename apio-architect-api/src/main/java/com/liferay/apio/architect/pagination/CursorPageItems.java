@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.pagination;
+
+import aQute.bnd.annotation.ConsumerType;
+
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Provides the information needed by Apio Architect to construct a valid {@link
+ * Page} whose adjacent pages are identified by a cursor, instead of by a page
+ * number.
+ *
+ * <p>
+ * The cursors are opaque to clients. Apio Architect encodes them in the next
+ * and previous page URLs, and hands them back to the resource through {@link
+ * CursorPagination#getCursorOptional()}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ * @review
+ */
+@ConsumerType
+public class CursorPageItems<T> extends PageItems<T> {
+
+	public CursorPageItems(
+		Collection<T> items, int totalCount, String nextCursor) {
+
+		this(items, totalCount, nextCursor, null);
+	}
+
+	public CursorPageItems(
+		Collection<T> items, int totalCount, String nextCursor,
+		String previousCursor) {
+
+		super(items, totalCount);
+
+		_nextCursor = nextCursor;
+		_previousCursor = previousCursor;
+	}
+
+	/**
+	 * Returns the cursor of the next page, if another page follows this page
+	 * in the collection. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the next page's cursor, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> getNextCursorOptional() {
+		return Optional.ofNullable(_nextCursor);
+	}
+
+	/**
+	 * Returns the cursor of the previous page, if another page precedes this
+	 * page in the collection and the resource can page backwards. Returns
+	 * {@code Optional#empty()} otherwise.
+	 *
+	 * @return the previous page's cursor, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<String> getPreviousCursorOptional() {
+		return Optional.ofNullable(_previousCursor);
+	}
+
+	private final String _nextCursor;
+	private final String _previousCursor;
+
+}
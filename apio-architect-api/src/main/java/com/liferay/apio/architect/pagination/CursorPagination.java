@@ -0,0 +1,56 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.pagination;
+
+import aQute.bnd.annotation.ProviderType;
+
+import java.util.Optional;
+
+/**
+ * Defines cursor pagination for a collection endpoint. An instance of this
+ * class is handed to resources that paginate their collections by using a
+ * cursor instead of a page number.
+ *
+ * <p>
+ * The cursor is the value the resource returned in the previous page's {@link
+ * CursorPageItems}. It's sent to clients as an opaque parameter, so its
+ * content is only meaningful to the resource (e.g., the identifier of the
+ * previous page's last item). The first page doesn't have a cursor.
+ * </p>
+ *
+ * <p>
+ * If the request has a cursor, offset-based methods behave as if the first
+ * page was requested. Otherwise, they honor the requested page number, so
+ * resources can keep serving clients that page by number.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @see    CursorPageItems
+ * @review
+ */
+@ProviderType
+public interface CursorPagination extends Pagination {
+
+	/**
+	 * Returns the requested page's cursor, if present. Returns {@code
+	 * Optional#empty()} if the first page was requested.
+	 *
+	 * @return the requested page's cursor, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<String> getCursorOptional();
+
+}
@@ -36,6 +36,19 @@ import java.util.Optional;
 @ProviderType
 public interface Page<T> {
 
+	/**
+	 * Returns the page's cursor, if the page was created from {@link
+	 * CursorPageItems} and it isn't the collection's first page. Returns
+	 * {@code Optional#empty()} otherwise.
+	 *
+	 * @return the page's cursor, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public default Optional<String> getCursorOptional() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Returns the page's items.
 	 *
@@ -57,6 +70,19 @@ public interface Page<T> {
 	 */
 	public int getLastPageNumber();
 
+	/**
+	 * Returns the cursor of the next page, if the page was created from {@link
+	 * CursorPageItems} and another page follows this page in the collection.
+	 * Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @return the next page's cursor, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public default Optional<String> getNextCursorOptional() {
+		return Optional.empty();
+	}
+
 	/**
 	 * Returns the list of operations for the page.
 	 *
@@ -83,6 +109,19 @@ public interface Page<T> {
 	@Deprecated
 	public Optional<Path> getPathOptional();
 
+	/**
+	 * Returns the cursor of the previous page, if the page was created from
+	 * {@link CursorPageItems} and the resource provided it. Returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @return the previous page's cursor, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public default Optional<String> getPreviousCursorOptional() {
+		return Optional.empty();
+	}
+
 	/**
 	 * The page's resource. It can be either a {@link Resource.Paged} or a
 	 * {@link Resource.Nested}
@@ -124,4 +163,16 @@ public interface Page<T> {
 	 */
 	public boolean hasPrevious();
 
+	/**
+	 * Returns {@code true} if the adjacent pages are identified by a cursor,
+	 * instead of by a page number.
+	 *
+	 * @return {@code true} if the page was created from {@link
+	 *         CursorPageItems}; {@code false} otherwise
+	 * @review
+	 */
+	public default boolean isCursorPaginated() {
+		return false;
+	}
+
 }
\ No newline at end of file
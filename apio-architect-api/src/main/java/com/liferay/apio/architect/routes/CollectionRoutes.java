@@ -160,6 +160,88 @@ public interface CollectionRoutes<T, S> {
 	@ProviderType
 	public interface Builder<T, S> {
 
+		/**
+		 * Adds a route to a creator function that has four extra parameters,
+		 * along with a batch creator function that can be called several times
+		 * in the same batch operation.
+		 *
+		 * <p>
+		 * Unlike the batch creator function of {@link
+		 * #addCreator(ThrowablePentaFunction, ThrowablePentaFunction, Class,
+		 * Class, Class, Class, HasAddingPermissionFunction,
+		 * FormBuilderFunction)}, which receives every form of the batch at
+		 * once, this one receives the forms in bounded chunks, so it must not
+		 * rely on seeing the whole batch.
+		 * </p>
+		 *
+		 * <p>
+		 * Each chunk is read from the request body, validated and created
+		 * before the next one is read, so the memory used by a batch operation
+		 * depends on the chunk size instead of on the number of forms. As a
+		 * consequence, an invalid form fails the batch operation after the
+		 * previous chunks have been created.
+		 * </p>
+		 *
+		 * @param  creatorThrowablePentaFunction the creator function
+		 * @param  chunkCreatorThrowablePentaFunction the batch creator function
+		 *         called with each chunk
+		 * @param  aClass the class of the creator function's second parameter
+		 * @param  bClass the class of the creator function's third parameter
+		 * @param  cClass the class of the creator function's fourth parameter
+		 * @param  dClass the class of the creator function's fifth parameter
+		 * @param  hasAddingPermissionFunction the permission function for this
+		 *         route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 * @review
+		 */
+		public default <A, B, C, D, R> Builder<T, S> addChunkedCreator(
+			ThrowablePentaFunction<R, A, B, C, D, T>
+				creatorThrowablePentaFunction,
+			ThrowablePentaFunction<List<R>, A, B, C, D, List<S>>
+				chunkCreatorThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass,
+			HasAddingPermissionFunction hasAddingPermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			return addCreator(
+				creatorThrowablePentaFunction,
+				chunkCreatorThrowablePentaFunction, aClass, bClass, cClass,
+				dClass, hasAddingPermissionFunction, formBuilderFunction);
+		}
+
+		/**
+		 * Adds a route to a creator function that has no extra parameters,
+		 * along with a batch creator function that can be called several times
+		 * in the same batch operation.
+		 *
+		 * @param  creatorThrowableFunction the creator function
+		 * @param  chunkCreatorThrowableFunction the batch creator function
+		 *         called with each chunk
+		 * @param  hasAddingPermissionFunction the permission function for this
+		 *         route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 * @see    #addChunkedCreator(ThrowablePentaFunction,
+		 *         ThrowablePentaFunction, Class, Class, Class, Class,
+		 *         HasAddingPermissionFunction, FormBuilderFunction)
+		 * @review
+		 */
+		public default <R> Builder<T, S> addChunkedCreator(
+			ThrowableFunction<R, T> creatorThrowableFunction,
+			ThrowableFunction<List<R>, List<S>> chunkCreatorThrowableFunction,
+			HasAddingPermissionFunction hasAddingPermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			return addChunkedCreator(
+				(r, a, b, c, d) -> creatorThrowableFunction.apply(r),
+				(l, a, b, c, d) -> chunkCreatorThrowableFunction.apply(l),
+				Void.class, Void.class, Void.class, Void.class,
+				hasAddingPermissionFunction, formBuilderFunction);
+		}
+
 		/**
 		 * Adds a route to a creator function that has one extra parameter.
 		 *
@@ -275,6 +357,14 @@ public interface CollectionRoutes<T, S> {
 		/**
 		 * Adds a route to a creator function that has four extra parameters.
 		 *
+		 * <p>
+		 * In batch operations, every form is read from the request body and
+		 * validated before the first element is created, so an invalid form
+		 * fails the operation without creating anything. This keeps every form
+		 * of the batch in memory. Batch operations with many elements should
+		 * use {@code addChunkedCreator} instead.
+		 * </p>
+		 *
 		 * @param      creatorThrowablePentaFunction the creator function
 		 * @param      aClass the class of the creator function's second
 		 *             parameter
@@ -304,6 +394,14 @@ public interface CollectionRoutes<T, S> {
 		/**
 		 * Adds a route to a creator function that has four extra parameters.
 		 *
+		 * <p>
+		 * In batch operations, every form is read from the request body and
+		 * validated before the first element is created, so an invalid form
+		 * fails the operation without creating anything. This keeps every form
+		 * of the batch in memory. Batch operations with many elements should
+		 * use {@code addChunkedCreator} instead.
+		 * </p>
+		 *
 		 * @param      creatorThrowablePentaFunction the creator function
 		 * @param      batchCreatorThrowablePentaFunction the batch creator
 		 *             function
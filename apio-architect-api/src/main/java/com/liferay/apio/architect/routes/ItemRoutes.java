@@ -21,6 +21,7 @@ import com.liferay.apio.architect.alias.routes.CustomItemFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
+import com.liferay.apio.architect.alias.routes.permission.BulkPermissionFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasRemovePermissionFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasUpdatePermissionFunction;
 import com.liferay.apio.architect.consumer.throwable.ThrowableBiConsumer;
@@ -39,6 +40,7 @@ import com.liferay.apio.architect.function.throwable.ThrowableTetraFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableTriFunction;
 import com.liferay.apio.architect.identifier.Identifier;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiFunction;
@@ -169,6 +171,75 @@ public interface ItemRoutes<T, S> {
 	@ProviderType
 	public interface Builder<T, S> {
 
+		/**
+		 * Adds a route to a batch item function with one extra parameter. This
+		 * function is used to retrieve several items at once, for example,
+		 * when the same related resource is embedded in every item of a page.
+		 *
+		 * <p>
+		 * The function receives the list of identifiers and returns a map with
+		 * the items found, keyed by their identifier. Items whose identifiers
+		 * aren't present in the map, or every item if the function fails, are
+		 * retrieved one by one with the item function.
+		 * </p>
+		 *
+		 * @param  batchGetterThrowableBiFunction the function that calculates
+		 *         the items
+		 * @param  aClass the class of the batch function's second parameter
+		 * @return the updated builder
+		 * @review
+		 */
+		public default <A> Builder<T, S> addBatchGetter(
+			ThrowableBiFunction<List<S>, A, Map<S, T>>
+				batchGetterThrowableBiFunction,
+			Class<A> aClass) {
+
+			return this;
+		}
+
+		/**
+		 * Adds a route to a batch item function with no extra parameters. This
+		 * function is used to retrieve several items at once, for example,
+		 * when the same related resource is embedded in every item of a page.
+		 *
+		 * @param  batchGetterThrowableFunction the function that calculates the
+		 *         items
+		 * @return the updated builder
+		 * @see    #addBatchGetter(ThrowableBiFunction, Class)
+		 * @review
+		 */
+		public default Builder<T, S> addBatchGetter(
+			ThrowableFunction<List<S>, Map<S, T>>
+				batchGetterThrowableFunction) {
+
+			return addBatchGetter(
+				(list, ignore) -> batchGetterThrowableFunction.apply(list),
+				Void.class);
+		}
+
+		/**
+		 * Adds a function that checks, in a single call, which actions the
+		 * current credentials can perform on several items. This function is
+		 * used to render only the allowed operations of the items, for
+		 * example, when writing a page.
+		 *
+		 * <p>
+		 * Identifiers not present in the returned map are considered to have
+		 * no allowed actions. Routers that don't add this function have all of
+		 * their operations rendered.
+		 * </p>
+		 *
+		 * @param  bulkPermissionFunction the function that calculates the
+		 *         allowed actions of each item
+		 * @return the updated builder
+		 * @review
+		 */
+		public default Builder<T, S> addBulkPermissionFunction(
+			BulkPermissionFunction<S> bulkPermissionFunction) {
+
+			return this;
+		}
+
 		/**
 		 * Adds a {@link CustomRoute} via the {@code CustomRoute} object (that
 		 * sets the HTTP method to use) and the custom route function {@code
@@ -142,6 +142,94 @@ public interface NestedCollectionRoutes<T, S, U> {
 	@ProviderType
 	public interface Builder<T, S, U> {
 
+		/**
+		 * Adds a route to a creator function that has four extra parameters,
+		 * along with a batch creator function that can be called several times
+		 * in the same batch operation.
+		 *
+		 * <p>
+		 * Unlike the batch creator function of {@link
+		 * #addCreator(ThrowableHexaFunction, ThrowableHexaFunction, Class,
+		 * Class, Class, Class, HasNestedAddingPermissionFunction,
+		 * FormBuilderFunction)}, which receives every form of the batch at
+		 * once, this one receives the forms in bounded chunks, so it must not
+		 * rely on seeing the whole batch.
+		 * </p>
+		 *
+		 * <p>
+		 * Each chunk is read from the request body, validated and created
+		 * before the next one is read, so the memory used by a batch operation
+		 * depends on the chunk size instead of on the number of forms. As a
+		 * consequence, an invalid form fails the batch operation after the
+		 * previous chunks have been created.
+		 * </p>
+		 *
+		 * @param  creatorThrowableHexaFunction the creator function that adds
+		 *         the collection item
+		 * @param  chunkCreatorThrowableHexaFunction the batch creator function
+		 *         called with each chunk
+		 * @param  aClass the class of the creator function's third parameter
+		 * @param  bClass the class of the creator function's fourth parameter
+		 * @param  cClass the class of the creator function's fifth parameter
+		 * @param  dClass the class of the creator function's sixth parameter
+		 * @param  hasNestedAddingPermissionFunction the permission function for
+		 *         this route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 * @review
+		 */
+		public default <A, B, C, D, R> Builder<T, S, U> addChunkedCreator(
+			ThrowableHexaFunction<U, R, A, B, C, D, T>
+				creatorThrowableHexaFunction,
+			ThrowableHexaFunction<U, List<R>, A, B, C, D, List<S>>
+				chunkCreatorThrowableHexaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass,
+			HasNestedAddingPermissionFunction<U>
+				hasNestedAddingPermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			return addCreator(
+				creatorThrowableHexaFunction, chunkCreatorThrowableHexaFunction,
+				aClass, bClass, cClass, dClass,
+				hasNestedAddingPermissionFunction, formBuilderFunction);
+		}
+
+		/**
+		 * Adds a route to a creator function that has no extra parameters,
+		 * along with a batch creator function that can be called several times
+		 * in the same batch operation.
+		 *
+		 * @param  creatorThrowableBiFunction the creator function that adds the
+		 *         collection item
+		 * @param  chunkCreatorThrowableBiFunction the batch creator function
+		 *         called with each chunk
+		 * @param  hasNestedAddingPermissionFunction the permission function for
+		 *         this route
+		 * @param  formBuilderFunction the function that creates the form for
+		 *         this operation
+		 * @return the updated builder
+		 * @see    #addChunkedCreator(ThrowableHexaFunction,
+		 *         ThrowableHexaFunction, Class, Class, Class, Class,
+		 *         HasNestedAddingPermissionFunction, FormBuilderFunction)
+		 * @review
+		 */
+		public default <R> Builder<T, S, U> addChunkedCreator(
+			ThrowableBiFunction<U, R, T> creatorThrowableBiFunction,
+			ThrowableBiFunction<U, List<R>, List<S>>
+				chunkCreatorThrowableBiFunction,
+			HasNestedAddingPermissionFunction<U>
+				hasNestedAddingPermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			return addChunkedCreator(
+				(u, r, a, b, c, d) -> creatorThrowableBiFunction.apply(u, r),
+				(u, l, a, b, c, d) -> chunkCreatorThrowableBiFunction.apply(
+					u, l),
+				Void.class, Void.class, Void.class, Void.class,
+				hasNestedAddingPermissionFunction, formBuilderFunction);
+		}
+
 		/**
 		 * Adds a route to a creator function that has no extra parameters.
 		 *
@@ -206,6 +294,14 @@ public interface NestedCollectionRoutes<T, S, U> {
 		/**
 		 * Adds a route to a creator function that has four extra parameters.
 		 *
+		 * <p>
+		 * In batch operations, every form is read from the request body and
+		 * validated before the first element is created, so an invalid form
+		 * fails the operation without creating anything. This keeps every form
+		 * of the batch in memory. Batch operations with many elements should
+		 * use {@code addChunkedCreator} instead.
+		 * </p>
+		 *
 		 * @param      creatorThrowableHexaFunction the creator function that
 		 *             adds the collection item
 		 * @param      aClass the class of the creator function's third
@@ -238,6 +334,14 @@ public interface NestedCollectionRoutes<T, S, U> {
 		/**
 		 * Adds a route to a creator function that has four extra parameters.
 		 *
+		 * <p>
+		 * In batch operations, every form is read from the request body and
+		 * validated before the first element is created, so an invalid form
+		 * fails the operation without creating anything. This keeps every form
+		 * of the batch in memory. Batch operations with many elements should
+		 * use {@code addChunkedCreator} instead.
+		 * </p>
+		 *
 		 * @param      creatorThrowableHexaFunction the creator function that
 		 *             adds the collection item
 		 * @param      batchCreatorThrowableHexaFunction the batch creator
@@ -0,0 +1,131 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import com.liferay.apio.architect.benchmark.util.BenchmarkUtil;
+import com.liferay.apio.architect.internal.action.ActionSemanticsIndex;
+import com.liferay.apio.architect.internal.annotation.ActionManagerImpl;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures resolving the action of a request with {@link
+ * ActionManagerImpl#getAction(String, List)} for a growing number of routers.
+ * Each router contributes the collection and item actions of one resource.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class ActionManagerBenchmark {
+
+	@Benchmark
+	public void getItemAction(Blackhole blackhole) {
+		blackhole.consume(_actionManagerImpl.getAction("PUT", _itemParams));
+	}
+
+	@Benchmark
+	public void getMissingAction(Blackhole blackhole) {
+		blackhole.consume(_actionManagerImpl.getAction("PATCH", _itemParams));
+	}
+
+	@Benchmark
+	public void getPagedAction(Blackhole blackhole) {
+		blackhole.consume(_actionManagerImpl.getAction("GET", _pagedParams));
+	}
+
+	@Setup
+	public void setUp() {
+		Stream<Resource> stream = IntStream.range(
+			0, routers
+		).mapToObj(
+			i -> "resource-" + i
+		).flatMap(
+			name -> Stream.of(Paged.of(name), Item.of(name))
+		);
+
+		INSTANCE.putActionSemanticsIndex(
+			new ActionSemanticsIndex(
+				stream.flatMap(BenchmarkUtil::getActionSemantics)));
+
+		String name = "resource-" + (routers - 1);
+
+		_itemParams = asList(name, "42");
+		_pagedParams = singletonList(name);
+	}
+
+	@TearDown
+	public void tearDown() {
+		INSTANCE.clear();
+	}
+
+	/**
+	 * The number of routers, each one providing the actions of a resource.
+	 */
+	@Param({"1", "10", "100"})
+	public int routers;
+
+	private final ActionManagerImpl _actionManagerImpl =
+		new BenchmarkActionManagerImpl();
+	private List<String> _itemParams;
+	private List<String> _pagedParams;
+
+	private static class BenchmarkActionManagerImpl extends ActionManagerImpl {
+
+		private BenchmarkActionManagerImpl() {
+			pathIdentifierMapperManager = new PathIdentifierMapperManager() {
+
+				@Override
+				public <T> T mapToIdentifierOrFail(Path path) {
+					return (T)Long.valueOf(path.getId());
+				}
+
+			};
+		}
+
+	}
+
+}
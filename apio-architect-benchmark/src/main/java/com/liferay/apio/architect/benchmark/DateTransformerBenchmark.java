@@ -0,0 +1,125 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import com.liferay.apio.architect.internal.date.DateTransformer;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+
+import java.util.Date;
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares formatting and parsing the dates of a date-heavy page with {@link
+ * DateTransformer} against creating a new {@code SimpleDateFormat} for each
+ * date, as {@code DateTransformer} used to do.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class DateTransformerBenchmark {
+
+	@Benchmark
+	public void formatWithDateTransformer(Blackhole blackhole) {
+		for (Date date : _dates) {
+			blackhole.consume(DateTransformer.asString(date));
+		}
+	}
+
+	@Benchmark
+	public void formatWithNewSimpleDateFormat(Blackhole blackhole) {
+		for (Date date : _dates) {
+			DateFormat dateFormat = _createDateFormat();
+
+			blackhole.consume(dateFormat.format(date));
+		}
+	}
+
+	@Benchmark
+	public void parseWithDateTransformer(Blackhole blackhole) {
+		for (String string : _strings) {
+			blackhole.consume(DateTransformer.asDate(string));
+		}
+	}
+
+	@Benchmark
+	public void parseWithNewSimpleDateFormat(Blackhole blackhole)
+		throws ParseException {
+
+		for (String string : _strings) {
+			DateFormat dateFormat = _createDateFormat();
+
+			blackhole.consume(dateFormat.parse(string));
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+
+		_dates = new Date[items * _DATES_PER_ITEM];
+		_strings = new String[_dates.length];
+
+		long now = System.currentTimeMillis();
+
+		for (int i = 0; i < _dates.length; i++) {
+			long offset = random.nextInt(Integer.MAX_VALUE) * 1000L;
+
+			_dates[i] = new Date(now - offset);
+			_strings[i] = DateTransformer.asString(_dates[i]);
+		}
+	}
+
+	@Param({"10", "100", "1000"})
+	public int items;
+
+	private static DateFormat _createDateFormat() {
+		TimeZone timeZone = TimeZone.getTimeZone("UTC");
+
+		DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm'Z'");
+
+		dateFormat.setTimeZone(timeZone);
+
+		return dateFormat;
+	}
+
+	private static final int _DATES_PER_ITEM = 4;
+
+	private Date[] _dates;
+	private String[] _strings;
+
+}
@@ -0,0 +1,118 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import static com.liferay.apio.architect.benchmark.util.BenchmarkUtil.BLOG_POSTINGS;
+import static com.liferay.apio.architect.benchmark.util.BenchmarkUtil.PEOPLE;
+
+import com.liferay.apio.architect.benchmark.util.BenchmarkUtil;
+import com.liferay.apio.architect.documentation.contributor.CustomDocumentation;
+import com.liferay.apio.architect.internal.documentation.Documentation;
+import com.liferay.apio.architect.internal.documentation.contributor.CustomDocumentationImpl;
+import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDDocumentationMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.writer.DocumentationWriter;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Paged;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures writing the JSON-LD documentation of the blog posting and person
+ * resources with {@link DocumentationWriter}.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class DocumentationWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		CustomDocumentation.Builder customDocumentationBuilder =
+			new CustomDocumentationImpl.BuilderImpl();
+
+		customDocumentationBuilder.addDescription(
+			"headline", "The blog posting's headline");
+		customDocumentationBuilder.addLocalizedDescription(
+			BLOG_POSTINGS + "/retrieve", __ -> "Returns the blog postings");
+
+		_customDocumentation = customDocumentationBuilder.build();
+
+		_requestInfo = BenchmarkUtil.getRequestInfo(false);
+	}
+
+	@Benchmark
+	public void write(Blackhole blackhole) throws IOException {
+		_byteArrayOutputStream.reset();
+
+		Stream<Resource> stream = Stream.of(
+			Paged.of(BLOG_POSTINGS), Item.of(BLOG_POSTINGS), Paged.of(PEOPLE),
+			Item.of(PEOPLE));
+
+		Documentation documentation = new Documentation(
+			() -> Optional.of(() -> "Benchmark API"),
+			() -> Optional.of(() -> "The API used by the benchmarks"),
+			() -> Optional.of(() -> "http://localhost:8080/o/api"),
+			BenchmarkUtil::getRepresentors, stream,
+			BenchmarkUtil::getActionSemantics, () -> _customDocumentation);
+
+		DocumentationWriter documentationWriter = DocumentationWriter.create(
+			builder -> builder.documentation(
+				documentation
+			).documentationMessageMapper(
+				_documentationMessageMapper
+			).requestInfo(
+				_requestInfo
+			).typeFunction(
+				identifierClass -> Optional.of(identifierClass.getSimpleName())
+			).build());
+
+		documentationWriter.write(_byteArrayOutputStream);
+
+		blackhole.consume(_byteArrayOutputStream.size());
+	}
+
+	private final ByteArrayOutputStream _byteArrayOutputStream =
+		new ByteArrayOutputStream();
+	private CustomDocumentation _customDocumentation;
+	private final DocumentationMessageMapper _documentationMessageMapper =
+		new JSONLDDocumentationMessageMapper();
+	private RequestInfo _requestInfo;
+
+}
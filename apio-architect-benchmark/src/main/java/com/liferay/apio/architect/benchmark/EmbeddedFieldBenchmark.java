@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares writing the fields of an embedded model by walking its whole path
+ * for each field with writing them through an embedded path cursor.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class EmbeddedFieldBenchmark {
+
+	@Setup
+	public void setUp() {
+		FunctionalList<String> embeddedPathElements = null;
+
+		for (int i = 0; i < depth; i++) {
+			embeddedPathElements = new FunctionalList<>(
+				embeddedPathElements, "embedded" + i);
+		}
+
+		_embeddedPathElements = embeddedPathElements;
+	}
+
+	@Benchmark
+	public JSONObjectBuilder writeThroughCursor() {
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		for (int i = 0; i < _FIELDS; i++) {
+			jsonObjectBuilder.embeddedField(
+				_embeddedPathElements, "field" + i
+			).numberValue(
+				i
+			);
+		}
+
+		return jsonObjectBuilder;
+	}
+
+	@Benchmark
+	public JSONObjectBuilder writeThroughNestedField() {
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		for (int i = 0; i < _FIELDS; i++) {
+			Stream<String> stream = _embeddedPathElements.tailStream();
+
+			jsonObjectBuilder.nestedField(
+				_embeddedPathElements.head(), stream.toArray(String[]::new)
+			).field(
+				"field" + i
+			).numberValue(
+				i
+			);
+		}
+
+		return jsonObjectBuilder;
+	}
+
+	@Param({"1", "4", "16"})
+	public int depth;
+
+	private static final int _FIELDS = 20;
+
+	private FunctionalList<String> _embeddedPathElements;
+
+}
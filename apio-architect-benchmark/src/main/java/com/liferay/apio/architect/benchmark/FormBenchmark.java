@@ -0,0 +1,169 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.liferay.apio.architect.benchmark.identifier.PersonId;
+import com.liferay.apio.architect.benchmark.util.BenchmarkUtil;
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.internal.body.JSONToBodyConverter.JSONBodyImpl;
+import com.liferay.apio.architect.internal.form.FormImpl;
+
+import java.io.IOException;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures extracting the values of a blog posting form from an already
+ * parsed JSON body with {@link FormImpl#get(Body)} and {@link
+ * FormImpl#getList(Body)}. Parsing the body is measured by {@link
+ * JSONToBodyConverterBenchmark}.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class FormBenchmark {
+
+	@Benchmark
+	public void get(Blackhole blackhole) {
+		blackhole.consume(_form.get(_body));
+	}
+
+	@Benchmark
+	public void getList(Blackhole blackhole) {
+		List<BlogPostingForm> blogPostingForms = _form.getList(_arrayBody);
+
+		for (BlogPostingForm blogPostingForm : blogPostingForms) {
+			blackhole.consume(blogPostingForm);
+		}
+	}
+
+	@Setup
+	public void setUp() throws IOException {
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		_body = new JSONBodyImpl(objectMapper.readTree(_MEMBER));
+
+		StringBuilder sb = new StringBuilder("[");
+
+		for (int i = 0; i < 100; i++) {
+			if (i > 0) {
+				sb.append(",");
+			}
+
+			sb.append(_MEMBER);
+		}
+
+		sb.append("]");
+
+		_arrayBody = new JSONBodyImpl(objectMapper.readTree(sb.toString()));
+
+		Form.Builder<BlogPostingForm> builder = new FormImpl.BuilderImpl<>(
+			path -> Long.valueOf(path.getId()),
+			__ -> Optional.of(BenchmarkUtil.PEOPLE));
+
+		_form = builder.title(
+			__ -> "The blog posting form"
+		).description(
+			__ -> "This form can be used to create or update a blog posting"
+		).constructor(
+			BlogPostingForm::new
+		).addOptionalDate(
+			"dateCreated", BlogPostingForm::setDateCreated
+		).addOptionalString(
+			"alternativeHeadline", BlogPostingForm::setAlternativeHeadline
+		).addOptionalStringList(
+			"keywords", BlogPostingForm::setKeywords
+		).addRequiredLinkedModel(
+			"creator", PersonId.class, BlogPostingForm::setCreatorId
+		).addRequiredString(
+			"articleBody", BlogPostingForm::setArticleBody
+		).addRequiredString(
+			"headline", BlogPostingForm::setHeadline
+		).build();
+	}
+
+	/**
+	 * The values extracted by the benchmarked form.
+	 */
+	public static class BlogPostingForm {
+
+		public void setAlternativeHeadline(String alternativeHeadline) {
+			_alternativeHeadline = alternativeHeadline;
+		}
+
+		public void setArticleBody(String articleBody) {
+			_articleBody = articleBody;
+		}
+
+		public void setCreatorId(Long creatorId) {
+			_creatorId = creatorId;
+		}
+
+		public void setDateCreated(Date dateCreated) {
+			_dateCreated = dateCreated;
+		}
+
+		public void setHeadline(String headline) {
+			_headline = headline;
+		}
+
+		public void setKeywords(List<String> keywords) {
+			_keywords = keywords;
+		}
+
+		private String _alternativeHeadline;
+		private String _articleBody;
+		private Long _creatorId;
+		private Date _dateCreated;
+		private String _headline;
+		private List<String> _keywords;
+
+	}
+
+	private static final String _MEMBER =
+		"{\"headline\": \"Headline\", \"alternativeHeadline\": \"Alternative " +
+			"headline\", \"articleBody\": \"Lorem ipsum dolor sit amet, " +
+			"consectetur adipiscing elit\", \"creator\": " +
+			"\"http://localhost:8080/o/api/p/people/1\", \"dateCreated\": " +
+			"\"2018-06-26T10:00:00Z\", \"keywords\": [\"apio\", \"celery\"]}";
+
+	private Body _arrayBody;
+	private Body _body;
+	private Form<BlogPostingForm> _form;
+
+}
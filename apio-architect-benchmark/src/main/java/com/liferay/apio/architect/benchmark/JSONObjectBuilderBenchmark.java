@@ -0,0 +1,177 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import com.liferay.apio.architect.internal.message.json.JSONObjectBuilder;
+import com.liferay.apio.architect.internal.message.json.JSONOutputProfile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares writing a {@link JSONObjectBuilder} through an intermediate {@code
+ * String} and a {@code PrintWriter} with writing it directly to the output
+ * stream, using both JSON output profiles.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class JSONObjectBuilderBenchmark {
+
+	@Setup
+	public void setUp() {
+		_jsonObjectBuilder = new JSONObjectBuilder();
+
+		JSONObjectBuilder.ArrayValueStep arrayValueStep =
+			_jsonObjectBuilder.nestedField(
+				"_embedded", "BlogPosting"
+			).arrayValue();
+
+		for (int i = 0; i < items; i++) {
+			int id = i;
+
+			arrayValueStep.add(
+				jsonObjectBuilder -> _writeItem(jsonObjectBuilder, id));
+		}
+	}
+
+	@Benchmark
+	public void writeThroughString(Blackhole blackhole) {
+		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
+			new BlackholeOutputStream(blackhole), StandardCharsets.UTF_8);
+
+		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+
+		printWriter.println(_jsonObjectBuilder.build(jsonOutputProfile));
+
+		printWriter.close();
+	}
+
+	@Benchmark
+	public void writeToOutputStream(Blackhole blackhole) throws IOException {
+		_jsonObjectBuilder.writeTo(
+			new BlackholeOutputStream(blackhole), jsonOutputProfile);
+	}
+
+	@Param({"10", "100", "1000"})
+	public int items;
+
+	@Param({"COMPACT", "PRETTY"})
+	public JSONOutputProfile jsonOutputProfile;
+
+	/**
+	 * Discards every written byte, consuming it in a {@code Blackhole} to
+	 * prevent dead-code elimination.
+	 */
+	public static class BlackholeOutputStream extends OutputStream {
+
+		public BlackholeOutputStream(Blackhole blackhole) {
+			_blackhole = blackhole;
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) {
+			_blackhole.consume(bytes);
+			_blackhole.consume(length);
+		}
+
+		@Override
+		public void write(int value) {
+			_blackhole.consume(value);
+		}
+
+		private final Blackhole _blackhole;
+
+	}
+
+	private void _writeItem(JSONObjectBuilder jsonObjectBuilder, int id) {
+		jsonObjectBuilder.field(
+			"@id"
+		).stringValue(
+			"http://localhost:8080/p/blog-posting/" + id
+		);
+
+		jsonObjectBuilder.field(
+			"@type"
+		).arrayValue(
+		).addString(
+			"BlogPosting"
+		);
+
+		jsonObjectBuilder.field(
+			"headline"
+		).stringValue(
+			"Headline of the blog posting number " + id
+		);
+
+		jsonObjectBuilder.field(
+			"articleBody"
+		).stringValue(
+			"Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do " +
+				"eiusmod tempor incididunt ut labore et dolore magna aliqua."
+		);
+
+		jsonObjectBuilder.field(
+			"commentCount"
+		).numberValue(
+			id * 3
+		);
+
+		jsonObjectBuilder.nestedField(
+			"creator", "@id"
+		).stringValue(
+			"http://localhost:8080/p/person/" + (id % 10)
+		);
+
+		jsonObjectBuilder.nestedField(
+			"creator", "name"
+		).stringValue(
+			"Person " + (id % 10)
+		);
+
+		jsonObjectBuilder.field(
+			"dateCreated"
+		).stringValue(
+			"2018-06-27T10:15:30Z"
+		);
+	}
+
+	private JSONObjectBuilder _jsonObjectBuilder;
+
+}
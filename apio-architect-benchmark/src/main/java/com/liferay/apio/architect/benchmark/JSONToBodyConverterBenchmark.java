@@ -0,0 +1,183 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.internal.body.JSONToBodyConverter;
+import com.liferay.apio.architect.internal.body.JSONToBodyConverter.JSONBodyImpl;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+
+import java.lang.reflect.Proxy;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.ServletInputStream;
+import javax.servlet.http.HttpServletRequest;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares parsing JSON request bodies with a new {@code ObjectMapper} per
+ * body with parsing them through {@link JSONToBodyConverter}, which uses a
+ * shared {@code ObjectReader}.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class JSONToBodyConverterBenchmark {
+
+	@Benchmark
+	public void parseWithNewObjectMapper(Blackhole blackhole)
+		throws IOException {
+
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		try (Reader reader = new InputStreamReader(
+				new ByteArrayInputStream(_bytes), UTF_8)) {
+
+			JsonNode jsonNode = objectMapper.readTree(reader);
+
+			_consume(new JSONBodyImpl(jsonNode), blackhole);
+		}
+	}
+
+	@Benchmark
+	public void parseWithSharedObjectReader(Blackhole blackhole) {
+		Body body = JSONToBodyConverter.jsonToBody(_createRequest());
+
+		_consume(body, blackhole);
+	}
+
+	@Setup
+	public void setUp() {
+		StringBuilder sb = new StringBuilder();
+
+		if (members == 0) {
+			sb.append(_MEMBER);
+		}
+		else {
+			sb.append("[");
+
+			for (int i = 0; i < members; i++) {
+				if (i > 0) {
+					sb.append(",");
+				}
+
+				sb.append(_MEMBER);
+			}
+
+			sb.append("]");
+		}
+
+		String json = sb.toString();
+
+		_bytes = json.getBytes(UTF_8);
+	}
+
+	/**
+	 * The number of members of the JSON array body. If {@code 0}, the body is
+	 * a single JSON object.
+	 */
+	@Param({"0", "100", "10000"})
+	public int members;
+
+	private HttpServletRequest _createRequest() {
+		ByteArrayInputStream byteArrayInputStream = new ByteArrayInputStream(
+			_bytes);
+
+		ServletInputStream servletInputStream = new ServletInputStream() {
+
+			@Override
+			public int read() {
+				return byteArrayInputStream.read();
+			}
+
+			@Override
+			public int read(byte[] bytes, int offset, int length) {
+				return byteArrayInputStream.read(bytes, offset, length);
+			}
+
+		};
+
+		return (HttpServletRequest)Proxy.newProxyInstance(
+			HttpServletRequest.class.getClassLoader(),
+			new Class<?>[] {HttpServletRequest.class},
+			(proxy, method, args) -> {
+				String methodName = method.getName();
+
+				if (methodName.equals("getContentLength")) {
+					return _bytes.length;
+				}
+
+				if (methodName.equals("getInputStream")) {
+					return servletInputStream;
+				}
+
+				throw new UnsupportedOperationException(methodName);
+			});
+	}
+
+	private void _consume(Body body, Blackhole blackhole) {
+		if (members == 0) {
+			blackhole.consume(body.getValueOptional("headline"));
+
+			return;
+		}
+
+		Optional<List<Body>> optional = body.getBodyMembersOptional();
+
+		List<Body> bodies = optional.get();
+
+		for (Body member : bodies) {
+			blackhole.consume(member.getValueOptional("headline"));
+		}
+	}
+
+	private static final String _MEMBER =
+		"{\"headline\": \"Headline\", \"articleBody\": \"Lorem ipsum dolor " +
+			"sit amet, consectetur adipiscing elit\", \"creator\": " +
+			"\"http://localhost:8080/p/person/1\", \"keywords\": " +
+			"[\"apio\", \"celery\"]}";
+
+	private byte[] _bytes;
+
+}
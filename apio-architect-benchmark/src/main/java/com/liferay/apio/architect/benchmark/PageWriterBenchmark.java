@@ -0,0 +1,153 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import com.liferay.apio.architect.benchmark.model.BlogPosting;
+import com.liferay.apio.architect.benchmark.util.BenchmarkUtil;
+import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.hal.HALPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDPageMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONPageMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.unsafe.Unsafe;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+import com.liferay.apio.architect.internal.writer.PageWriter;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.representor.Representor;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures writing a page of blog postings with {@link PageWriter} for each
+ * of the JSON-LD, HAL and plain JSON message mappers, embedding every blog
+ * posting's creator.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class PageWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		if ("hal".equals(mediaType)) {
+			_pageMessageMapper = new BenchmarkHALPageMessageMapper();
+		}
+		else if ("json-ld".equals(mediaType)) {
+			_pageMessageMapper = new JSONLDPageMessageMapper<>();
+		}
+		else {
+			_pageMessageMapper = new PlainJSONPageMessageMapper<>();
+		}
+
+		_page = BenchmarkUtil.createBlogPostingPage(items);
+
+		_requestInfo = BenchmarkUtil.getRequestInfo(true);
+	}
+
+	@Benchmark
+	public void write(Blackhole blackhole) throws IOException {
+		_byteArrayOutputStream.reset();
+
+		PageWriter<BlogPosting> pageWriter = PageWriter.create(
+			builder -> builder.page(
+				_page
+			).pageMessageMapper(
+				_pageMessageMapper
+			).pathFunction(
+				BenchmarkUtil::identifierToPath
+			).resourceNameFunction(
+				__ -> Optional.of(BenchmarkUtil.BLOG_POSTINGS)
+			).representorFunction(
+				BenchmarkUtil::getRepresentorOptional
+			).requestInfo(
+				_requestInfo
+			).singleModelFunction(
+				BenchmarkUtil::getSingleModel
+			).actionSemanticsFunction(
+				BenchmarkUtil::getActionSemantics
+			).build());
+
+		pageWriter.write(_byteArrayOutputStream);
+
+		blackhole.consume(_byteArrayOutputStream.size());
+	}
+
+	/**
+	 * The number of blog postings in the page.
+	 */
+	@Param({"10", "100"})
+	public int items;
+
+	/**
+	 * The message mapper's media type.
+	 */
+	@Param({"hal", "json-ld", "plain-json"})
+	public String mediaType;
+
+	private final ByteArrayOutputStream _byteArrayOutputStream =
+		new ByteArrayOutputStream();
+	private Page<BlogPosting> _page;
+	private PageMessageMapper<BlogPosting> _pageMessageMapper;
+	private RequestInfo _requestInfo;
+
+	private static class BenchmarkHALPageMessageMapper
+		extends HALPageMessageMapper<BlogPosting>
+		implements RepresentableManager {
+
+		@Override
+		public <T> Optional<Representor<T>> getRepresentorOptional(
+			String name) {
+
+			Optional<Representor<?>> optional =
+				BenchmarkUtil.getRepresentorOptional(name);
+
+			return optional.map(Unsafe::unsafeCast);
+		}
+
+		@Override
+		public Map<String, Representor> getRepresentors() {
+			return BenchmarkUtil.getRepresentors();
+		}
+
+		private BenchmarkHALPageMessageMapper() {
+			representableManager = this;
+		}
+
+	}
+
+}
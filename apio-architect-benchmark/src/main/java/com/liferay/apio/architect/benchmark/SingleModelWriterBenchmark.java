@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import static com.liferay.apio.architect.benchmark.util.BenchmarkUtil.BLOG_POSTINGS;
+
+import com.liferay.apio.architect.benchmark.model.BlogPosting;
+import com.liferay.apio.architect.benchmark.util.BenchmarkUtil;
+import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.hal.HALSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.ld.JSONLDSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.message.json.plain.PlainJSONSingleModelMessageMapper;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.writer.SingleModelWriter;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures writing a blog posting with {@link SingleModelWriter} for each of
+ * the JSON-LD, HAL and plain JSON message mappers, with and without its
+ * creator embedded.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class SingleModelWriterBenchmark {
+
+	@Setup
+	public void setUp() {
+		if ("hal".equals(mediaType)) {
+			_singleModelMessageMapper = new HALSingleModelMessageMapper<>();
+		}
+		else if ("json-ld".equals(mediaType)) {
+			_singleModelMessageMapper = new JSONLDSingleModelMessageMapper<>();
+		}
+		else {
+			_singleModelMessageMapper =
+				new PlainJSONSingleModelMessageMapper<>();
+		}
+
+		_requestInfo = BenchmarkUtil.getRequestInfo(embedded);
+
+		_singleModel = new SingleModelImpl<>(
+			BenchmarkUtil.createBlogPosting(1), BLOG_POSTINGS);
+	}
+
+	@Benchmark
+	public void write(Blackhole blackhole) throws IOException {
+		_byteArrayOutputStream.reset();
+
+		SingleModelWriter<BlogPosting> singleModelWriter =
+			SingleModelWriter.create(
+				builder -> builder.singleModel(
+					_singleModel
+				).modelMessageMapper(
+					_singleModelMessageMapper
+				).pathFunction(
+					BenchmarkUtil::identifierToPath
+				).resourceNameFunction(
+					__ -> Optional.of(BLOG_POSTINGS)
+				).representorFunction(
+					BenchmarkUtil::getRepresentorOptional
+				).requestInfo(
+					_requestInfo
+				).singleModelFunction(
+					BenchmarkUtil::getSingleModel
+				).actionSemanticsFunction(
+					BenchmarkUtil::getActionSemantics
+				).build());
+
+		blackhole.consume(singleModelWriter.write(_byteArrayOutputStream));
+		blackhole.consume(_byteArrayOutputStream.size());
+	}
+
+	/**
+	 * Whether the blog posting's creator is embedded.
+	 */
+	@Param({"false", "true"})
+	public boolean embedded;
+
+	/**
+	 * The message mapper's media type.
+	 */
+	@Param({"hal", "json-ld", "plain-json"})
+	public String mediaType;
+
+	private final ByteArrayOutputStream _byteArrayOutputStream =
+		new ByteArrayOutputStream();
+	private RequestInfo _requestInfo;
+	private SingleModel<BlogPosting> _singleModel;
+	private SingleModelMessageMapper<BlogPosting> _singleModelMessageMapper;
+
+}
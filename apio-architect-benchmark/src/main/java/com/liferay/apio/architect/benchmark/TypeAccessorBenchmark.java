@@ -0,0 +1,168 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import static java.util.stream.Collectors.toList;
+
+import com.liferay.apio.architect.annotation.Id;
+import com.liferay.apio.architect.annotation.Vocabulary.Field;
+import com.liferay.apio.architect.annotation.Vocabulary.Type;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.annotation.representor.processor.FieldData;
+import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType;
+import com.liferay.apio.architect.internal.annotation.representor.processor.TypeProcessor;
+import com.liferay.apio.architect.internal.annotation.util.MethodHandleUtil;
+
+import java.lang.reflect.Method;
+
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares reading the fields of an annotated type through reflection with
+ * reading them through the functions created by {@link MethodHandleUtil}.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class TypeAccessorBenchmark {
+
+	@Benchmark
+	public void readThroughMethodHandles(Blackhole blackhole) {
+		for (Function<Post, Object> function : _functions) {
+			blackhole.consume(function.apply(_post));
+		}
+	}
+
+	@Benchmark
+	public void readThroughReflection(Blackhole blackhole) {
+		for (Method method : _methods) {
+			blackhole.consume(
+				Try.fromFallible(
+					() -> method.invoke(_post)
+				).orElse(
+					null
+				));
+		}
+	}
+
+	@Setup
+	public void setUp() {
+		ParsedType parsedType = TypeProcessor.processType(Post.class);
+
+		List<FieldData> fieldDataList = parsedType.getFieldDataList();
+
+		_methods = fieldDataList.stream(
+		).map(
+			FieldData::getMethod
+		).collect(
+			toList()
+		);
+
+		_functions = _methods.stream(
+		).map(
+			MethodHandleUtil::<Post, Object>getFunction
+		).collect(
+			toList()
+		);
+
+		Date date = new Date();
+
+		_post = new Post() {
+
+			@Override
+			public String getArticleBody() {
+				return "Lorem ipsum dolor sit amet";
+			}
+
+			@Override
+			public Long getCommentCount() {
+				return 42L;
+			}
+
+			@Override
+			public Date getDateCreated() {
+				return date;
+			}
+
+			@Override
+			public Date getDateModified() {
+				return date;
+			}
+
+			@Override
+			public String getHeadline() {
+				return "Headline";
+			}
+
+			@Override
+			public Long getId() {
+				return 1L;
+			}
+
+		};
+	}
+
+	/**
+	 * The annotated type whose fields are read.
+	 */
+	@Type("Post")
+	public interface Post extends Identifier<Long> {
+
+		@Field("articleBody")
+		public String getArticleBody();
+
+		@Field("commentCount")
+		public Long getCommentCount();
+
+		@Field("dateCreated")
+		public Date getDateCreated();
+
+		@Field("dateModified")
+		public Date getDateModified();
+
+		@Field("headline")
+		public String getHeadline();
+
+		@Id
+		public Long getId();
+
+	}
+
+	private List<Function<Post, Object>> _functions;
+	private List<Method> _methods;
+	private Post _post;
+
+}
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark;
+
+import static com.liferay.apio.architect.benchmark.util.BenchmarkUtil.BLOG_POSTINGS;
+
+import com.liferay.apio.architect.benchmark.model.BlogPosting;
+import com.liferay.apio.architect.benchmark.util.BenchmarkUtil;
+import com.liferay.apio.architect.internal.pagination.PageType;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.url.URLCreator;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Nested;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures creating and parsing the resource URLs written in every
+ * representation with {@link URLCreator}.
+ *
+ * @author Alejandro Hernández
+ */
+@BenchmarkMode(Mode.Throughput)
+@Fork(1)
+@Measurement(iterations = 5, time = 2)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+public class URLCreatorBenchmark {
+
+	@Benchmark
+	public void createBinaryURL(Blackhole blackhole) {
+		blackhole.consume(
+			URLCreator.createBinaryURL(_applicationURL, "image", _path));
+	}
+
+	@Benchmark
+	public void createCollectionPageURL(Blackhole blackhole) {
+		blackhole.consume(
+			URLCreator.createCollectionPageURL(
+				_COLLECTION_URL, _page, PageType.NEXT));
+	}
+
+	@Benchmark
+	public void createItemResourceURL(Blackhole blackhole) {
+		blackhole.consume(
+			URLCreator.createItemResourceURL(_applicationURL, _item));
+	}
+
+	@Benchmark
+	public void createNestedResourceURL(Blackhole blackhole) {
+		blackhole.consume(
+			URLCreator.createNestedResourceURL(_applicationURL, _nested));
+	}
+
+	@Benchmark
+	public void getPath(Blackhole blackhole) {
+		blackhole.consume(URLCreator.getPath(_ITEM_URL, BLOG_POSTINGS));
+	}
+
+	@Setup
+	public void setUp() {
+		_item = Item.of(BLOG_POSTINGS, Id.of(42L, "42"));
+
+		_nested = Nested.of(_item, "comments");
+
+		_page = BenchmarkUtil.createBlogPostingPage(10);
+
+		_path = new Path(BLOG_POSTINGS, "42");
+	}
+
+	private static final String _COLLECTION_URL =
+		"http://localhost:8080/o/api/p/blog-postings";
+
+	private static final String _ITEM_URL =
+		"http://localhost:8080/o/api/p/blog-postings/42";
+
+	private final ApplicationURL _applicationURL =
+		() -> "http://localhost:8080/o/api";
+	private Item _item;
+	private Nested _nested;
+	private Page<BlogPosting> _page;
+	private Path _path;
+
+}
@@ -0,0 +1,83 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.model;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A synthetic blog posting, modeled on the sample's {@code BlogPosting} type.
+ *
+ * @author Alejandro Hernández
+ */
+public class BlogPosting {
+
+	public BlogPosting(
+		long id, String headline, String alternativeHeadline,
+		String articleBody, long creatorId, Date dateCreated,
+		Date dateModified, List<String> keywords) {
+
+		_id = id;
+		_headline = headline;
+		_alternativeHeadline = alternativeHeadline;
+		_articleBody = articleBody;
+		_creatorId = creatorId;
+		_dateCreated = dateCreated;
+		_dateModified = dateModified;
+		_keywords = keywords;
+	}
+
+	public String getAlternativeHeadline() {
+		return _alternativeHeadline;
+	}
+
+	public String getArticleBody() {
+		return _articleBody;
+	}
+
+	public Long getCreatorId() {
+		return _creatorId;
+	}
+
+	public Date getDateCreated() {
+		return _dateCreated;
+	}
+
+	public Date getDateModified() {
+		return _dateModified;
+	}
+
+	public String getHeadline() {
+		return _headline;
+	}
+
+	public Long getId() {
+		return _id;
+	}
+
+	public List<String> getKeywords() {
+		return _keywords;
+	}
+
+	private final String _alternativeHeadline;
+	private final String _articleBody;
+	private final long _creatorId;
+	private final Date _dateCreated;
+	private final Date _dateModified;
+	private final String _headline;
+	private final long _id;
+	private final List<String> _keywords;
+
+}
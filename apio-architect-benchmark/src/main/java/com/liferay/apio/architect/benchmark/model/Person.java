@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.model;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * A synthetic person, modeled on the sample's {@code Person} type.
+ *
+ * @author Alejandro Hernández
+ */
+public class Person {
+
+	public Person(
+		long id, String givenName, String familyName, String email,
+		Date birthDate, List<String> jobTitles) {
+
+		_id = id;
+		_givenName = givenName;
+		_familyName = familyName;
+		_email = email;
+		_birthDate = birthDate;
+		_jobTitles = jobTitles;
+	}
+
+	public Date getBirthDate() {
+		return _birthDate;
+	}
+
+	public String getEmail() {
+		return _email;
+	}
+
+	public String getFamilyName() {
+		return _familyName;
+	}
+
+	public String getGivenName() {
+		return _givenName;
+	}
+
+	public Long getId() {
+		return _id;
+	}
+
+	public List<String> getJobTitles() {
+		return _jobTitles;
+	}
+
+	public String getName() {
+		return _givenName + " " + _familyName;
+	}
+
+	private final Date _birthDate;
+	private final String _email;
+	private final String _familyName;
+	private final String _givenName;
+	private final long _id;
+	private final List<String> _jobTitles;
+
+}
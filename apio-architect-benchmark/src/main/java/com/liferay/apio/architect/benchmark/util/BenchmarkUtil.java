@@ -0,0 +1,368 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.benchmark.util;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import com.liferay.apio.architect.annotation.EntryPoint;
+import com.liferay.apio.architect.benchmark.identifier.BlogPostingId;
+import com.liferay.apio.architect.benchmark.identifier.PersonId;
+import com.liferay.apio.architect.benchmark.model.BlogPosting;
+import com.liferay.apio.architect.benchmark.model.Person;
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.pagination.PageImpl;
+import com.liferay.apio.architect.internal.pagination.PaginationImpl;
+import com.liferay.apio.architect.internal.representor.RepresentorImpl;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.pagination.Page;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Paged;
+import com.liferay.apio.architect.single.model.SingleModel;
+import com.liferay.apio.architect.uri.Path;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Provides the synthetic resources, representors and functions shared by the
+ * benchmarks. The resources are modeled on the sample's {@code BlogPosting}
+ * and {@code Person} types, so the benchmarks exercise the writers and
+ * routers without starting an OSGi container.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ */
+public final class BenchmarkUtil {
+
+	/**
+	 * The name of the blog posting resource.
+	 */
+	public static final String BLOG_POSTINGS = "blog-postings";
+
+	/**
+	 * The name of the person resource.
+	 */
+	public static final String PEOPLE = "people";
+
+	/**
+	 * Creates a blog posting whose creator is a person with the same ID.
+	 *
+	 * @param  id the blog posting's ID
+	 * @return the blog posting
+	 */
+	public static BlogPosting createBlogPosting(long id) {
+		return new BlogPosting(
+			id, "Headline " + id, "Alternative headline " + id,
+			"Lorem ipsum dolor sit amet, consectetur adipiscing elit, sed do " +
+				"eiusmod tempor incididunt ut labore et dolore magna aliqua",
+			id, _DATE, _DATE, asList("apio", "architect", "hypermedia"));
+	}
+
+	/**
+	 * Creates a page of blog postings.
+	 *
+	 * @param  items the number of blog postings in the page
+	 * @return the page
+	 */
+	public static Page<BlogPosting> createBlogPostingPage(int items) {
+		List<BlogPosting> blogPostings = new ArrayList<>(items);
+
+		for (int i = 0; i < items; i++) {
+			blogPostings.add(createBlogPosting(i));
+		}
+
+		PageItems<BlogPosting> pageItems = new PageItems<>(
+			blogPostings, items * 10);
+
+		return new PageImpl<>(
+			Paged.of(BLOG_POSTINGS), pageItems, new PaginationImpl(items, 2));
+	}
+
+	/**
+	 * Creates a person.
+	 *
+	 * @param  id the person's ID
+	 * @return the person
+	 */
+	public static Person createPerson(long id) {
+		return new Person(
+			id, "Given " + id, "Family " + id, "person" + id + "@liferay.com",
+			_DATE, asList("Developer", "Writer"));
+	}
+
+	/**
+	 * Returns the action semantics of a resource: {@code retrieve} and {@code
+	 * create} for the collection, and {@code retrieve}, {@code replace} and
+	 * {@code remove} for its items. Like the routers' action semantics, they
+	 * are created once per resource and then bound to the provided one.
+	 *
+	 * @param  resource the resource
+	 * @return the action semantics
+	 */
+	public static Stream<ActionSemantics> getActionSemantics(
+		Resource resource) {
+
+		List<ActionSemantics> actionSemantics =
+			_actionSemantics.computeIfAbsent(
+				resource, BenchmarkUtil::_createActionSemanticsList);
+
+		return actionSemantics.stream(
+		).map(
+			actionSemantic -> actionSemantic.withResource(resource)
+		);
+	}
+
+	/**
+	 * Returns the name of the resource identified by an identifier class.
+	 *
+	 * @param  identifierClass the identifier class
+	 * @return the resource's name
+	 */
+	public static String getIdentifierName(
+		Class<? extends Identifier<?>> identifierClass) {
+
+		if (identifierClass.equals(BlogPostingId.class)) {
+			return BLOG_POSTINGS;
+		}
+
+		if (identifierClass.equals(PersonId.class)) {
+			return PEOPLE;
+		}
+
+		return null;
+	}
+
+	/**
+	 * Returns the representors of the benchmark resources, keyed by the
+	 * resource's name.
+	 *
+	 * @return the representors
+	 */
+	public static Map<String, Representor> getRepresentors() {
+		return _representors;
+	}
+
+	/**
+	 * Returns a resource's {@link Representor}.
+	 *
+	 * @param  name the resource's name
+	 * @return the resource's {@code Representor}, if present; {@code
+	 *         Optional#empty()} otherwise
+	 */
+	public static Optional<Representor<?>> getRepresentorOptional(
+		String name) {
+
+		Representor<?> representor = _representors.get(name);
+
+		return Optional.ofNullable(representor);
+	}
+
+	/**
+	 * Returns a {@link RequestInfo} that embeds the blog posting's creator, if
+	 * requested, and includes every field.
+	 *
+	 * @param  embedded whether the creator is embedded
+	 * @return the {@code RequestInfo}
+	 */
+	public static RequestInfo getRequestInfo(boolean embedded) {
+		return RequestInfo.create(
+			builder -> builder.httpServletRequest(
+				null
+			).serverURL(
+				() -> "http://localhost:8080"
+			).applicationURL(
+				() -> "http://localhost:8080/o/api"
+			).embedded(
+				path -> embedded && "creator".equals(path)
+			).fields(
+				__ -> string -> true
+			).language(
+				Locale::getDefault
+			).build());
+	}
+
+	/**
+	 * Returns the {@link SingleModel} identified by an identifier, if the
+	 * identifier class belongs to a benchmark resource.
+	 *
+	 * @param  identifier the identifier
+	 * @param  identifierClass the identifier class
+	 * @return the {@code SingleModel}, if present; {@code Optional#empty()}
+	 *         otherwise
+	 */
+	public static Optional<SingleModel> getSingleModel(
+		Object identifier, Class<? extends Identifier> identifierClass) {
+
+		if (!(identifier instanceof Long)) {
+			return Optional.empty();
+		}
+
+		long id = (Long)identifier;
+
+		if (identifierClass.equals(PersonId.class)) {
+			return Optional.of(new SingleModelImpl<>(createPerson(id), PEOPLE));
+		}
+
+		if (identifierClass.equals(BlogPostingId.class)) {
+			return Optional.of(
+				new SingleModelImpl<>(createBlogPosting(id), BLOG_POSTINGS));
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the {@link Path} of a resource's identifier.
+	 *
+	 * @param  name the resource's name
+	 * @param  identifier the identifier
+	 * @return the {@code Path}
+	 */
+	public static Optional<Path> identifierToPath(
+		String name, Object identifier) {
+
+		return Optional.of(new Path(name, String.valueOf(identifier)));
+	}
+
+	private static ActionSemantics _createActionSemantics(
+		Resource resource, String name, String method, Class<?> returnClass) {
+
+		return ActionSemantics.ofResource(
+			resource
+		).name(
+			name
+		).method(
+			method
+		).returns(
+			returnClass
+		).executeFunction(
+			__ -> null
+		).build();
+	}
+
+	private static List<ActionSemantics> _createActionSemanticsList(
+		Resource resource) {
+
+		if (resource instanceof Paged) {
+			ActionSemantics actionSemantics = _createActionSemantics(
+				resource, "retrieve", "GET", Page.class);
+
+			return asList(
+				actionSemantics.withAnnotations(
+					singletonList(() -> EntryPoint.class)),
+				_createActionSemantics(
+					resource, "create", "POST", SingleModel.class));
+		}
+
+		if (resource instanceof Item) {
+			return asList(
+				_createActionSemantics(
+					resource, "retrieve", "GET", SingleModel.class),
+				_createActionSemantics(
+					resource, "replace", "PUT", SingleModel.class),
+				_createActionSemantics(
+					resource, "remove", "DELETE", Void.class));
+		}
+
+		return Collections.emptyList();
+	}
+
+	private static Representor<BlogPosting> _createBlogPostingRepresentor() {
+		Representor.Builder<BlogPosting, Long> builder =
+			new RepresentorImpl.BuilderImpl<>(
+				BlogPostingId.class, BenchmarkUtil::getIdentifierName);
+
+		return builder.types(
+			"BlogPosting"
+		).identifier(
+			BlogPosting::getId
+		).addDate(
+			"dateCreated", BlogPosting::getDateCreated
+		).addDate(
+			"dateModified", BlogPosting::getDateModified
+		).addLinkedModel(
+			"creator", PersonId.class, BlogPosting::getCreatorId
+		).addString(
+			"alternativeHeadline", BlogPosting::getAlternativeHeadline
+		).addString(
+			"articleBody", BlogPosting::getArticleBody
+		).addString(
+			"headline", BlogPosting::getHeadline
+		).addStringList(
+			"keywords", BlogPosting::getKeywords
+		).build();
+	}
+
+	private static Representor<Person> _createPersonRepresentor() {
+		Representor.Builder<Person, Long> builder =
+			new RepresentorImpl.BuilderImpl<>(
+				PersonId.class, BenchmarkUtil::getIdentifierName);
+
+		return builder.types(
+			"Person"
+		).identifier(
+			Person::getId
+		).addDate(
+			"birthDate", Person::getBirthDate
+		).addString(
+			"email", Person::getEmail
+		).addString(
+			"familyName", Person::getFamilyName
+		).addString(
+			"givenName", Person::getGivenName
+		).addString(
+			"name", Person::getName
+		).addStringList(
+			"jobTitle", Person::getJobTitles
+		).build();
+	}
+
+	private BenchmarkUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final Date _DATE = new Date(1530000000000L);
+
+	private static final Map<Resource, List<ActionSemantics>>
+		_actionSemantics = new ConcurrentHashMap<>();
+	private static final Map<String, Representor> _representors;
+
+	static {
+		Map<String, Representor> representors = new HashMap<>();
+
+		representors.put(BLOG_POSTINGS, _createBlogPostingRepresentor());
+		representors.put(PEOPLE, _createPersonRepresentor());
+
+		_representors = Collections.unmodifiableMap(representors);
+	}
+
+}
@@ -14,12 +14,15 @@
 
 package com.liferay.apio.architect.internal.action;
 
+import static com.liferay.apio.architect.metrics.MetricsRecorder.Stage.EXECUTION;
+
 import static java.util.Collections.unmodifiableList;
 import static java.util.stream.Collectors.toList;
 
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.internal.alias.ProvideFunction;
 import com.liferay.apio.architect.internal.annotation.Action;
+import com.liferay.apio.architect.internal.metrics.Metrics;
 import com.liferay.apio.architect.operation.HTTPMethod;
 import com.liferay.apio.architect.resource.Resource;
 
@@ -33,6 +36,8 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.function.Function;
 
+import javax.servlet.http.HttpServletRequest;
+
 /**
  * Instances of this class contains semantic information about an action like
  *
@@ -61,7 +66,15 @@ public final class ActionSemantics {
 	 * @review
 	 */
 	public Object execute(List<?> params) throws Throwable {
-		return _executeFunction.apply(params);
+		long startTime = Metrics.startTime();
+
+		try {
+			return _executeFunction.apply(params);
+		}
+		finally {
+			Metrics.recordDuration(
+				EXECUTION, _resource.getName(), _name, startTime);
+		}
 	}
 
 	/**
@@ -140,17 +153,34 @@ public final class ActionSemantics {
 	 * @review
 	 */
 	public Action toAction(ProvideFunction provideFunction) {
-		return request -> Try.of(
-			getParamClasses()::stream
-		).map(
-			stream -> stream.map(
-				provideFunction.apply(this, request)
-			).collect(
-				toList()
-			)
-		).mapTry(
-			this::execute
-		);
+		return new Action() {
+
+			@Override
+			public Object apply(HttpServletRequest request) {
+				return Try.of(
+					getParamClasses()::stream
+				).map(
+					stream -> stream.map(
+						provideFunction.apply(ActionSemantics.this, request)
+					).collect(
+						toList()
+					)
+				).mapTry(
+					ActionSemantics.this::execute
+				);
+			}
+
+			@Override
+			public String getName() {
+				return _name;
+			}
+
+			@Override
+			public String getResourceName() {
+				return _resource.getName();
+			}
+
+		};
 	}
 
 	/**
@@ -0,0 +1,191 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.action;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+
+import com.liferay.apio.architect.resource.Resource;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * Indexes a list of {@link ActionSemantics} by their resource, HTTP method and
+ * action name, so finding the actions of a resource doesn't require scanning
+ * every action registered in the application.
+ *
+ * <p>
+ * Instances of this class are immutable and safe to share between threads.
+ * The order in which actions are provided is kept for every lookup.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class ActionSemanticsIndex {
+
+	/**
+	 * Creates a new index containing the provided action semantics.
+	 *
+	 * @param  stream the action semantics to index
+	 * @review
+	 */
+	public ActionSemanticsIndex(Stream<ActionSemantics> stream) {
+		stream.forEach(this::_add);
+	}
+
+	/**
+	 * Returns every indexed action semantics, in the order in which they were
+	 * provided.
+	 *
+	 * @return the indexed action semantics
+	 * @review
+	 */
+	public List<ActionSemantics> getActionSemantics() {
+		return unmodifiableList(_actionSemantics);
+	}
+
+	/**
+	 * Returns the action semantics of a resource. Resources are compared by
+	 * using their {@code equals} method, so identifiers are ignored.
+	 *
+	 * @param  resource the resource
+	 * @return the resource's action semantics
+	 * @review
+	 */
+	public List<ActionSemantics> getActionSemantics(Resource resource) {
+		return _actionSemanticsByResource.getOrDefault(resource, emptyList());
+	}
+
+	/**
+	 * Returns the first action semantics of a resource with the provided HTTP
+	 * method and name that matches the predicate, if present; returns {@code
+	 * Optional#empty()} otherwise.
+	 *
+	 * @param  resource the resource
+	 * @param  method the action's HTTP method
+	 * @param  name the action's name
+	 * @param  predicate an additional predicate the action must match
+	 * @return the action semantics, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<ActionSemantics> getActionSemanticsOptional(
+		Resource resource, String method, String name,
+		Predicate<ActionSemantics> predicate) {
+
+		List<ActionSemantics> list = _actionSemanticsByKey.get(
+			new Key(resource, method, name));
+
+		if (list == null) {
+			return Optional.empty();
+		}
+
+		for (ActionSemantics actionSemantics : list) {
+			if (predicate.test(actionSemantics)) {
+				return Optional.of(actionSemantics);
+			}
+		}
+
+		return Optional.empty();
+	}
+
+	/**
+	 * Returns the distinct resources with, at least, one action.
+	 *
+	 * @return the resources
+	 * @review
+	 */
+	public Stream<Resource> getResourceStream() {
+		return _actionSemanticsByResource.keySet().stream();
+	}
+
+	private void _add(ActionSemantics actionSemantics) {
+		_actionSemantics.add(actionSemantics);
+
+		Resource resource = actionSemantics.getResource();
+
+		_actionSemanticsByResource.computeIfAbsent(
+			resource, __ -> new ArrayList<>()
+		).add(
+			actionSemantics
+		);
+
+		Key key = new Key(
+			resource, actionSemantics.getHTTPMethod(),
+			actionSemantics.getActionName());
+
+		_actionSemanticsByKey.computeIfAbsent(
+			key, __ -> new ArrayList<>()
+		).add(
+			actionSemantics
+		);
+	}
+
+	private final List<ActionSemantics> _actionSemantics = new ArrayList<>();
+	private final Map<Key, List<ActionSemantics>> _actionSemanticsByKey =
+		new LinkedHashMap<>();
+	private final Map<Resource, List<ActionSemantics>>
+		_actionSemanticsByResource = new LinkedHashMap<>();
+
+	private static class Key {
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof Key)) {
+				return false;
+			}
+
+			Key key = (Key)object;
+
+			if (Objects.equals(_resource, key._resource) &&
+				Objects.equals(_method, key._method) &&
+				Objects.equals(_name, key._name)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(_resource, _method, _name);
+		}
+
+		private Key(Resource resource, String method, String name) {
+			_resource = resource;
+			_method = method;
+			_name = name;
+		}
+
+		private final String _method;
+		private final String _name;
+		private final Resource _resource;
+
+	}
+
+}
@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.alias;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+
+/**
+ * Defines a type alias for a function that receives a resource name and a list
+ * of identifiers. The function returns the names of the actions the current
+ * user can perform on each item, keyed by their identifier, if the resource
+ * provides a bulk permission function; returns {@code Optional#empty()}
+ * otherwise.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@FunctionalInterface
+public interface AllowedActionNamesFunction
+	extends BiFunction
+		<String, List<Object>, Optional<Map<Object, Set<String>>>> {
+}
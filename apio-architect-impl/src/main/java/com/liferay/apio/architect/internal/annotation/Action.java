@@ -28,6 +28,27 @@ import javax.servlet.http.HttpServletRequest;
  */
 public interface Action extends Function<HttpServletRequest, Object> {
 
+	/**
+	 * Returns the action's name, if known; {@code null} otherwise.
+	 *
+	 * @return the action's name, if known; {@code null} otherwise
+	 * @review
+	 */
+	public default String getName() {
+		return null;
+	}
+
+	/**
+	 * Returns the name of the resource the action belongs to, if known; {@code
+	 * null} otherwise.
+	 *
+	 * @return the resource's name, if known; {@code null} otherwise
+	 * @review
+	 */
+	public default String getResourceName() {
+		return null;
+	}
+
 	/**
 	 * Types implementing this interface represent errors relative to an action.
 	 *
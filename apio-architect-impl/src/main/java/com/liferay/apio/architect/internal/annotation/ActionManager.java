@@ -25,7 +25,9 @@ import com.liferay.apio.architect.single.model.SingleModel;
 import io.vavr.control.Either;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
@@ -78,6 +80,28 @@ public interface ActionManager {
 	public Stream<ActionSemantics> getActionSemantics(
 		Resource resource, Credentials credentials);
 
+	/**
+	 * Returns the names of the actions the credentials can perform on each of
+	 * the items of the resource with the provided name and identifiers, keyed
+	 * by their identifier, if the resource provides a bulk permission
+	 * function; returns {@code Optional#empty()} otherwise.
+	 *
+	 * <p>
+	 * Identifiers not present in the returned map have no allowed actions. If
+	 * the bulk permission function fails, the failure is logged and an empty
+	 * map is returned.
+	 * </p>
+	 *
+	 * @param  name the resource's name
+	 * @param  identifiers the identifiers of the items
+	 * @param  credentials the user credentials
+	 * @return the names of the allowed actions, if the resource provides a
+	 *         bulk permission function; {@code Optional#empty()} otherwise.
+	 * @review
+	 */
+	public Optional<Map<Object, Set<String>>> getAllowedActionNames(
+		String name, List<Object> identifiers, Credentials credentials);
+
 	/**
 	 * The API documentation with the list of actions and resources.
 	 *
@@ -107,4 +131,27 @@ public interface ActionManager {
 	public Optional<SingleModel> getItemSingleModel(
 		Item item, HttpServletRequest request);
 
+	/**
+	 * Returns the {@link SingleModel} instances of the resource with the
+	 * provided name and identifiers, keyed by their identifier, if the
+	 * resource provides a batch getter; returns {@code Optional#empty()}
+	 * otherwise.
+	 *
+	 * <p>
+	 * Identifiers not present in the returned map weren't returned by the
+	 * batch getter. Callers must retrieve them one by one with {@link
+	 * #getItemSingleModel(Item, HttpServletRequest)}. If the batch getter
+	 * fails, the failure is logged and {@code Optional#empty()} is returned.
+	 * </p>
+	 *
+	 * @param  name the resource's name
+	 * @param  identifiers the identifiers of the models
+	 * @param  request the current HTTP request
+	 * @return the {@link SingleModel} instances found, if the resource
+	 *         provides a batch getter; {@code Optional#empty()} otherwise.
+	 * @review
+	 */
+	public Optional<Map<Object, SingleModel>> getItemSingleModels(
+		String name, List<Object> identifiers, HttpServletRequest request);
+
 }
\ No newline at end of file
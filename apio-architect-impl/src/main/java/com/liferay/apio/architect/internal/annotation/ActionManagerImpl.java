@@ -14,26 +14,24 @@
 
 package com.liferay.apio.architect.internal.annotation;
 
-import static com.liferay.apio.architect.internal.action.Predicates.isAction;
-import static com.liferay.apio.architect.internal.action.Predicates.isActionFor;
-import static com.liferay.apio.architect.internal.action.Predicates.isCreateAction;
-import static com.liferay.apio.architect.internal.action.Predicates.isRemoveAction;
-import static com.liferay.apio.architect.internal.action.Predicates.isReplaceAction;
-import static com.liferay.apio.architect.internal.action.Predicates.isRetrieveAction;
 import static com.liferay.apio.architect.internal.action.Predicates.isRootCollectionAction;
 import static com.liferay.apio.architect.internal.action.converter.EntryPointConverter.getEntryPointFrom;
 import static com.liferay.apio.architect.internal.body.JSONToBodyConverter.jsonToBody;
 import static com.liferay.apio.architect.internal.body.MultipartToBodyConverter.multipartToBody;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static io.vavr.Predicates.instanceOf;
 import static io.vavr.control.Either.left;
 import static io.vavr.control.Either.right;
 
+import static java.util.Collections.emptyMap;
 import static java.util.function.Function.identity;
 
 import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static javax.ws.rs.core.MediaType.MULTIPART_FORM_DATA_TYPE;
 
+import static org.slf4j.LoggerFactory.getLogger;
+
 import com.liferay.apio.architect.annotation.GenericParentId;
 import com.liferay.apio.architect.annotation.Id;
 import com.liferay.apio.architect.annotation.ParentId;
@@ -42,10 +40,14 @@ import com.liferay.apio.architect.documentation.APIDescription;
 import com.liferay.apio.architect.documentation.APITitle;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.action.ActionSemanticsIndex;
 import com.liferay.apio.architect.internal.annotation.Action.Error;
 import com.liferay.apio.architect.internal.annotation.Action.Error.NotFound;
+import com.liferay.apio.architect.internal.body.JSONParsingOptions;
+import com.liferay.apio.architect.internal.body.MultipartParsingOptions;
 import com.liferay.apio.architect.internal.documentation.Documentation;
 import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.routes.ItemRoutesImpl;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.documentation.contributor.CustomDocumentationManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
@@ -68,7 +70,9 @@ import io.vavr.control.Option;
 import io.vavr.control.Try;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -80,9 +84,13 @@ import javax.ws.rs.NotFoundException;
 import javax.ws.rs.NotSupportedException;
 import javax.ws.rs.core.MediaType;
 
+import org.osgi.service.component.annotations.Activate;
 import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
 import org.osgi.service.component.annotations.Reference;
 
+import org.slf4j.Logger;
+
 /**
  * Provides methods to get the different actions provided by the different
  * routers.
@@ -110,6 +118,14 @@ public class ActionManagerImpl implements ActionManager {
 		);
 	}
 
+	@Activate
+	@Modified
+	public void activate(Map<String, Object> properties) {
+		_jsonParsingOptions = JSONParsingOptions.fromProperties(properties);
+		_multipartParsingOptions = MultipartParsingOptions.fromProperties(
+			properties);
+	}
+
 	@Override
 	public Either<Action.Error, Action> getAction(
 		String method, List<String> params) {
@@ -120,10 +136,11 @@ public class ActionManagerImpl implements ActionManager {
 			Paged paged = Paged.of(params.get(0));
 
 			if ("GET".equals(method)) {
-				return _getAction(paged, isRootCollectionAction);
+				return _getAction(
+					paged, "GET", "retrieve", isRootCollectionAction);
 			}
 			else if ("POST".equals(method)) {
-				return _getAction(paged, isCreateAction);
+				return _getAction(paged, "POST", "create");
 			}
 		}
 		else if (numberOfParams == 2) {
@@ -131,7 +148,7 @@ public class ActionManagerImpl implements ActionManager {
 			String actionName = params.get(1);
 
 			Either<Error, Action> pagedActionEither = _getAction(
-				paged, isAction(actionName, method));
+				paged, method, actionName);
 
 			if (pagedActionEither.isRight()) {
 				return pagedActionEither;
@@ -141,13 +158,13 @@ public class ActionManagerImpl implements ActionManager {
 
 			if (item != null) {
 				if ("DELETE".equals(method)) {
-					return _getAction(item, isRemoveAction);
+					return _getAction(item, "DELETE", "remove");
 				}
 				else if ("PUT".equals(method)) {
-					return _getAction(item, isReplaceAction);
+					return _getAction(item, "PUT", "replace");
 				}
 				else if ("GET".equals(method)) {
-					return _getAction(item, isRetrieveAction);
+					return _getAction(item, "GET", "retrieve");
 				}
 			}
 		}
@@ -157,10 +174,10 @@ public class ActionManagerImpl implements ActionManager {
 
 			if (genericParent != null) {
 				if ("GET".equals(method)) {
-					return _getAction(genericParent, isRetrieveAction);
+					return _getAction(genericParent, "GET", "retrieve");
 				}
 				else if ("POST".equals(method)) {
-					return _getAction(genericParent, isCreateAction);
+					return _getAction(genericParent, "POST", "create");
 				}
 			}
 			else {
@@ -175,7 +192,7 @@ public class ActionManagerImpl implements ActionManager {
 					}
 
 					Either<Error, Action> itemEither = _getAction(
-						item, isAction(params.get(2), method));
+						item, method, params.get(2));
 
 					if (itemEither.isRight()) {
 						return itemEither;
@@ -184,10 +201,10 @@ public class ActionManagerImpl implements ActionManager {
 					Nested nested = Nested.of(item, params.get(2));
 
 					if ("GET".equals(method)) {
-						return _getAction(nested, isRetrieveAction);
+						return _getAction(nested, "GET", "retrieve");
 					}
 					else if ("POST".equals(method)) {
-						return _getAction(nested, isCreateAction);
+						return _getAction(nested, "POST", "create");
 					}
 				}
 			}
@@ -197,8 +214,7 @@ public class ActionManagerImpl implements ActionManager {
 				params.get(0), params.get(1), params.get(2));
 
 			if (genericParent != null) {
-				return _getAction(
-					genericParent, isAction(params.get(3), method));
+				return _getAction(genericParent, method, params.get(3));
 			}
 
 			Item item = _getItem(params.get(0), params.get(1));
@@ -206,7 +222,7 @@ public class ActionManagerImpl implements ActionManager {
 			if (item != null) {
 				Nested nested = Nested.of(item, params.get(2));
 
-				return _getAction(nested, isAction(params.get(3), method));
+				return _getAction(nested, method, params.get(3));
 			}
 		}
 
@@ -217,15 +233,40 @@ public class ActionManagerImpl implements ActionManager {
 	public Stream<ActionSemantics> getActionSemantics(
 		Resource resource, Credentials credentials) {
 
-		Stream<ActionSemantics> stream = actionSemantics();
+		ActionSemanticsIndex actionSemanticsIndex =
+			_getActionSemanticsIndex();
+
+		List<ActionSemantics> list = actionSemanticsIndex.getActionSemantics(
+			resource);
 
-		return stream.filter(
-			isActionFor(resource)
+		return list.stream(
 		).map(
 			actionSemantics -> actionSemantics.withResource(resource)
 		);
 	}
 
+	@Override
+	public Optional<Map<Object, Set<String>>> getAllowedActionNames(
+		String name, List<Object> identifiers, Credentials credentials) {
+
+		Optional<ItemRoutesImpl<Object, Object>> optional =
+			_itemRouterManager.getItemRoutesOptional(name);
+
+		return optional.flatMap(
+			itemRoutesImpl -> Try.of(
+				() -> itemRoutesImpl.getAllowedActionNamesOptional(
+					credentials, identifiers)
+			).onFailure(
+				throwable -> _logger.warn(
+					"Unable to check the permissions of {} identifiers of " +
+						"resource {}, allowing no actions",
+					identifiers.size(), name, throwable)
+			).getOrElseGet(
+				__ -> Optional.of(emptyMap())
+			)
+		);
+	}
+
 	@Override
 	public Documentation getDocumentation(
 		HttpServletRequest httpServletRequest) {
@@ -242,11 +283,11 @@ public class ActionManagerImpl implements ActionManager {
 			() -> providerManager.provideOptional(
 				httpServletRequest, ApplicationURL.class);
 
-		Stream<ActionSemantics> stream = actionSemantics();
+		ActionSemanticsIndex actionSemanticsIndex =
+			_getActionSemanticsIndex();
 
-		Stream<Resource> resourceStream = stream.map(
-			ActionSemantics::getResource
-		).distinct();
+		Stream<Resource> resourceStream =
+			actionSemanticsIndex.getResourceStream();
 
 		return new Documentation(
 			apiTitleSupplier, apiDescriptionSupplier, applicationUrlSupplier,
@@ -257,7 +298,12 @@ public class ActionManagerImpl implements ActionManager {
 
 	@Override
 	public EntryPoint getEntryPoint() {
-		return getEntryPointFrom(actionSemantics());
+		ActionSemanticsIndex actionSemanticsIndex =
+			_getActionSemanticsIndex();
+
+		List<ActionSemantics> list = actionSemanticsIndex.getActionSemantics();
+
+		return getEntryPointFrom(list.stream());
 	}
 
 	@Override
@@ -265,7 +311,7 @@ public class ActionManagerImpl implements ActionManager {
 		Item item, HttpServletRequest request) {
 
 		return Either.narrow(
-			_getAction(item, isRetrieveAction)
+			_getAction(item, "GET", "retrieve")
 		).map(
 			action -> action.apply(request)
 		).map(
@@ -278,21 +324,57 @@ public class ActionManagerImpl implements ActionManager {
 		);
 	}
 
+	@Override
+	public Optional<Map<Object, SingleModel>> getItemSingleModels(
+		String name, List<Object> identifiers, HttpServletRequest request) {
+
+		Optional<ItemRoutesImpl<Object, Object>> optional =
+			_itemRouterManager.getItemRoutesOptional(name);
+
+		return optional.flatMap(
+			itemRoutesImpl -> Try.of(
+				() -> itemRoutesImpl.getSingleModelsOptional(
+					identifiers,
+					clazz -> Void.class.equals(clazz) ? null :
+						providerManager.provideMandatory(request, clazz))
+			).onFailure(
+				throwable -> _logger.warn(
+					"Unable to get the models of resource {} with its batch " +
+						"getter, falling back to its single getter",
+					name, throwable)
+			).getOrElseGet(
+				__ -> Optional.empty()
+			)
+		);
+	}
+
 	@Reference
 	protected PathIdentifierMapperManager pathIdentifierMapperManager;
 
 	@Reference
 	protected ProviderManager providerManager;
 
+	private void _computeActionSemanticsIndex() {
+		INSTANCE.putActionSemanticsIndex(
+			new ActionSemanticsIndex(actionSemantics()));
+	}
+
+	private Either<Action.Error, Action> _getAction(
+		Resource resource, String method, String name) {
+
+		return _getAction(resource, method, name, __ -> true);
+	}
+
 	private Either<Action.Error, Action> _getAction(
-		Resource resource, Predicate<ActionSemantics> predicate) {
+		Resource resource, String method, String name,
+		Predicate<ActionSemantics> predicate) {
 
-		Stream<ActionSemantics> actionSemanticsStream = actionSemantics();
+		ActionSemanticsIndex actionSemanticsIndex =
+			_getActionSemanticsIndex();
 
 		Optional<ActionSemantics> optionalActionSemantics =
-			actionSemanticsStream.filter(
-				predicate.and(isActionFor(resource))
-			).findFirst();
+			actionSemanticsIndex.getActionSemanticsOptional(
+				resource, method, name, predicate);
 
 		if (!optionalActionSemantics.isPresent()) {
 			return left(_notFound);
@@ -306,6 +388,11 @@ public class ActionManagerImpl implements ActionManager {
 		return right(updatedActionSemantics.toAction(this::_provide));
 	}
 
+	private ActionSemanticsIndex _getActionSemanticsIndex() {
+		return INSTANCE.getActionSemanticsIndex(
+			this::_computeActionSemanticsIndex);
+	}
+
 	private Either<Action.Error, Action> _getBinaryFileAction(
 		Item item, String binaryId) {
 
@@ -317,15 +404,32 @@ public class ActionManagerImpl implements ActionManager {
 		).<Action.Error>toEither(
 			() -> _notFound
 		).map(
-			function -> request -> Option.ofOptional(
-				getItemSingleModel(item, request)
-			).map(
-				SingleModel::getModel
-			).map(
-				function
-			).getOrElseThrow(
-				NotFoundException::new
-			)
+			function -> new Action() {
+
+				@Override
+				public Object apply(HttpServletRequest request) {
+					return Option.ofOptional(
+						getItemSingleModel(item, request)
+					).map(
+						SingleModel::getModel
+					).map(
+						function
+					).getOrElseThrow(
+						NotFoundException::new
+					);
+				}
+
+				@Override
+				public String getName() {
+					return binaryId;
+				}
+
+				@Override
+				public String getResourceName() {
+					return item.getName();
+				}
+
+			}
 		);
 	}
 
@@ -337,11 +441,11 @@ public class ActionManagerImpl implements ActionManager {
 		);
 
 		if (APPLICATION_JSON_TYPE.isCompatible(mediaType)) {
-			return jsonToBody(request);
+			return jsonToBody(request, _jsonParsingOptions);
 		}
 
 		if (MULTIPART_FORM_DATA_TYPE.isCompatible(mediaType)) {
-			return multipartToBody(request);
+			return multipartToBody(request, _multipartParsingOptions);
 		}
 
 		throw new NotSupportedException();
@@ -453,6 +557,12 @@ public class ActionManagerImpl implements ActionManager {
 	@Reference
 	private ItemRouterManager _itemRouterManager;
 
+	private volatile JSONParsingOptions _jsonParsingOptions =
+		JSONParsingOptions.DEFAULT;
+	private final Logger _logger = getLogger(getClass());
+	private volatile MultipartParsingOptions _multipartParsingOptions =
+		MultipartParsingOptions.DEFAULT;
+
 	@Reference
 	private NestedCollectionRouterManager _nestedCollectionRouterManager;
 
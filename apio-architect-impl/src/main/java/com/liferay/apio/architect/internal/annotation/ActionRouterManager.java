@@ -23,6 +23,7 @@ import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUt
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.isListBody;
 import static com.liferay.apio.architect.internal.annotation.util.ActionRouterUtil.needsParameterFromBody;
 import static com.liferay.apio.architect.internal.annotation.util.AnnotationUtil.findAnnotationInMethodOrInItsAnnotations;
+import static com.liferay.apio.architect.internal.annotation.util.MethodHandleUtil.getArrayFunction;
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static io.leangen.geantyref.GenericTypeReflector.annotate;
@@ -46,10 +47,12 @@ import com.liferay.apio.architect.internal.action.ActionSemantics;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
 import com.liferay.apio.architect.internal.url.ServerURL;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
+import com.liferay.apio.architect.pagination.CursorPagination;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.resource.Resource;
 import com.liferay.apio.architect.router.ActionRouter;
 
+import io.vavr.CheckedFunction1;
 import io.vavr.control.Option;
 
 import java.lang.reflect.Method;
@@ -162,6 +165,9 @@ public class ActionRouterManager {
 
 		Resource resource = getResource(method, name);
 
+		CheckedFunction1<Object[], Object> arrayFunction = getArrayFunction(
+			actionRouter, method);
+
 		ActionSemantics actionSemantics = ActionSemantics.ofResource(
 			resource
 		).name(
@@ -171,8 +177,7 @@ public class ActionRouterManager {
 		).returns(
 			getReturnClass(method)
 		).executeFunction(
-			params -> execute(
-				resource, params, array -> method.invoke(actionRouter, array))
+			params -> execute(resource, params, arrayFunction)
 		).bodyFunction(
 			body -> isListBody(method) ? form.getList(body) : form.get(body)
 		).receivesParams(
@@ -188,7 +193,8 @@ public class ActionRouterManager {
 		_actionRouterTypeParameter = ActionRouter.class.getTypeParameters()[0];
 	private static final List<String> _mandatoryClassNames = Arrays.asList(
 		ApplicationURL.class.getName(), Credentials.class.getName(),
-		Pagination.class.getName(), ServerURL.class.getName());
+		CursorPagination.class.getName(), Pagination.class.getName(),
+		ServerURL.class.getName());
 
 	@Reference(
 		cardinality = MULTIPLE, policyOption = GREEDY,
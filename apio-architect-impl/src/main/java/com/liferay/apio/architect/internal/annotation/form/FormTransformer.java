@@ -31,14 +31,10 @@ import com.liferay.apio.architect.internal.annotation.representor.processor.Fiel
 import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType;
 import com.liferay.apio.architect.internal.form.FormImpl;
 
-import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
-import java.lang.reflect.Proxy;
 
 import java.util.Date;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
@@ -49,7 +45,8 @@ import java.util.stream.Stream;
 
 /**
  * Responsible of building a {@link Form} using a parsed type. This class will
- * create a Proxy of the type and build a form around it
+ * create instances of the type with a {@link FormValueFactory} and build a
+ * form around it
  *
  * @author Víctor Galán
  * @review
@@ -82,22 +79,17 @@ public class FormTransformer {
 
 		Class<T> typeClass = unsafeCast(parsedType.getTypeClass());
 
-		Map<String, Object> resultsMap = new HashMap<>();
-
-		InvocationHandler invocationHandler =
-			(object, method, args) -> resultsMap.get(method.getName());
+		FormValueFactory<T> formValueFactory = FormValueFactory.of(typeClass);
 
 		Function<String, BiConsumer<T, ?>> formFunction =
-			methodName -> (object, value) -> resultsMap.put(methodName, value);
+			formValueFactory::getBiConsumer;
 
 		Builder.FieldStep<T> fieldStep = formBuilder.title(
 			__ -> ""
 		).description(
 			__ -> ""
 		).constructor(
-			() -> (T)Proxy.newProxyInstance(
-				typeClass.getClassLoader(), new Class<?>[] {typeClass},
-				invocationHandler)
+			formValueFactory::create
 		);
 
 		List<FieldData<RelativeURL>> relativeURLFieldDataList =
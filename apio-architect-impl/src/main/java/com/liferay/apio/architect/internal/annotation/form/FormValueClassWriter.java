@@ -0,0 +1,268 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.form;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+
+import java.lang.reflect.Method;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes the bytecode of a class implementing a type interface with a public
+ * {@code Object} field per method and a getter that returns that field. This
+ * lets forms fill and read the type's instances without going through a
+ * {@code java.lang.reflect.Proxy}.
+ *
+ * <p>
+ * Getters cast the field's value to the method's return type, so a value of a
+ * different type fails when read, just as it does with a proxy.
+ * </p>
+ *
+ * @author Víctor Galán
+ * @review
+ */
+public class FormValueClassWriter {
+
+	/**
+	 * Returns the bytecode of the class implementing the type interface.
+	 *
+	 * @param  className the name of the class
+	 * @param  typeClass the type interface
+	 * @param  methods the methods of the type interface. Every method must have
+	 *         no parameters and return a public, non-array class.
+	 * @return the bytecode of the class
+	 * @review
+	 */
+	public static byte[] write(
+		String className, Class<?> typeClass, List<Method> methods) {
+
+		FormValueClassWriter formValueClassWriter = new FormValueClassWriter();
+
+		try {
+			return formValueClassWriter._write(className, typeClass, methods);
+		}
+		catch (IOException ioe) {
+			throw new IllegalStateException(ioe);
+		}
+	}
+
+	private static String _getInternalName(Class<?> clazz) {
+		String name = clazz.getName();
+
+		return name.replace('.', '/');
+	}
+
+	private FormValueClassWriter() {
+	}
+
+	private int _addClass(String internalName) throws IOException {
+		int nameIndex = _addUTF8(internalName);
+
+		return _addConstant(
+			"Class:" + internalName,
+			dataOutputStream -> {
+				dataOutputStream.writeByte(_CONSTANT_CLASS);
+				dataOutputStream.writeShort(nameIndex);
+			});
+	}
+
+	private int _addConstant(String key, ConstantWriter constantWriter)
+		throws IOException {
+
+		Integer index = _constantIndexes.get(key);
+
+		if (index != null) {
+			return index;
+		}
+
+		constantWriter.write(_constantsDataOutputStream);
+
+		index = _constantCount++;
+
+		_constantIndexes.put(key, index);
+
+		return index;
+	}
+
+	private int _addMember(
+			int tag, String owner, String name, String descriptor)
+		throws IOException {
+
+		int classIndex = _addClass(owner);
+		int nameIndex = _addUTF8(name);
+		int descriptorIndex = _addUTF8(descriptor);
+
+		int nameAndTypeIndex = _addConstant(
+			"NameAndType:" + name + ":" + descriptor,
+			dataOutputStream -> {
+				dataOutputStream.writeByte(_CONSTANT_NAME_AND_TYPE);
+				dataOutputStream.writeShort(nameIndex);
+				dataOutputStream.writeShort(descriptorIndex);
+			});
+
+		return _addConstant(
+			tag + ":" + owner + ":" + name + ":" + descriptor,
+			dataOutputStream -> {
+				dataOutputStream.writeByte(tag);
+				dataOutputStream.writeShort(classIndex);
+				dataOutputStream.writeShort(nameAndTypeIndex);
+			});
+	}
+
+	private int _addUTF8(String value) throws IOException {
+		return _addConstant(
+			"UTF8:" + value,
+			dataOutputStream -> {
+				dataOutputStream.writeByte(_CONSTANT_UTF8);
+				dataOutputStream.writeUTF(value);
+			});
+	}
+
+	private byte[] _write(
+			String className, Class<?> typeClass, List<Method> methods)
+		throws IOException {
+
+		String internalName = className.replace('.', '/');
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		DataOutputStream dataOutputStream = new DataOutputStream(
+			byteArrayOutputStream);
+
+		dataOutputStream.writeShort(_ACC_PUBLIC | _ACC_FINAL | _ACC_SUPER);
+		dataOutputStream.writeShort(_addClass(internalName));
+		dataOutputStream.writeShort(_addClass(_OBJECT));
+		dataOutputStream.writeShort(1);
+		dataOutputStream.writeShort(_addClass(_getInternalName(typeClass)));
+
+		dataOutputStream.writeShort(methods.size());
+
+		for (Method method : methods) {
+			dataOutputStream.writeShort(_ACC_PUBLIC);
+			dataOutputStream.writeShort(_addUTF8(method.getName()));
+			dataOutputStream.writeShort(_addUTF8(_OBJECT_DESCRIPTOR));
+			dataOutputStream.writeShort(0);
+		}
+
+		dataOutputStream.writeShort(methods.size() + 1);
+
+		int objectConstructorIndex = _addMember(
+			_CONSTANT_METHODREF, _OBJECT, "<init>", "()V");
+
+		_writeMethod(
+			dataOutputStream, "<init>", "()V",
+			new byte[] {
+				_ALOAD_0, _INVOKESPECIAL, (byte)(objectConstructorIndex >> 8),
+				(byte)objectConstructorIndex, _RETURN
+			});
+
+		for (Method method : methods) {
+			Class<?> returnType = method.getReturnType();
+
+			int fieldIndex = _addMember(
+				_CONSTANT_FIELDREF, internalName, method.getName(),
+				_OBJECT_DESCRIPTOR);
+			int returnTypeIndex = _addClass(_getInternalName(returnType));
+
+			_writeMethod(
+				dataOutputStream, method.getName(),
+				"()L" + _getInternalName(returnType) + ";",
+				new byte[] {
+					_ALOAD_0, _GETFIELD, (byte)(fieldIndex >> 8),
+					(byte)fieldIndex, _CHECKCAST, (byte)(returnTypeIndex >> 8),
+					(byte)returnTypeIndex, _ARETURN
+				});
+		}
+
+		dataOutputStream.writeShort(0);
+
+		ByteArrayOutputStream classByteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		DataOutputStream classDataOutputStream = new DataOutputStream(
+			classByteArrayOutputStream);
+
+		classDataOutputStream.writeInt(_MAGIC);
+		classDataOutputStream.writeShort(0);
+		classDataOutputStream.writeShort(_JAVA_8_VERSION);
+		classDataOutputStream.writeShort(_constantCount);
+
+		_constantsByteArrayOutputStream.writeTo(classDataOutputStream);
+
+		byteArrayOutputStream.writeTo(classDataOutputStream);
+
+		return classByteArrayOutputStream.toByteArray();
+	}
+
+	private void _writeMethod(
+			DataOutputStream dataOutputStream, String name, String descriptor,
+			byte[] code)
+		throws IOException {
+
+		dataOutputStream.writeShort(_ACC_PUBLIC);
+		dataOutputStream.writeShort(_addUTF8(name));
+		dataOutputStream.writeShort(_addUTF8(descriptor));
+		dataOutputStream.writeShort(1);
+		dataOutputStream.writeShort(_addUTF8("Code"));
+		dataOutputStream.writeInt(12 + code.length);
+		dataOutputStream.writeShort(1);
+		dataOutputStream.writeShort(1);
+		dataOutputStream.writeInt(code.length);
+		dataOutputStream.write(code);
+		dataOutputStream.writeShort(0);
+		dataOutputStream.writeShort(0);
+	}
+
+	private static final int _ACC_FINAL = 0x0010;
+	private static final int _ACC_PUBLIC = 0x0001;
+	private static final int _ACC_SUPER = 0x0020;
+	private static final byte _ALOAD_0 = 0x2a;
+	private static final byte _ARETURN = (byte)0xb0;
+	private static final byte _CHECKCAST = (byte)0xc0;
+	private static final int _CONSTANT_CLASS = 7;
+	private static final int _CONSTANT_FIELDREF = 9;
+	private static final int _CONSTANT_METHODREF = 10;
+	private static final int _CONSTANT_NAME_AND_TYPE = 12;
+	private static final int _CONSTANT_UTF8 = 1;
+	private static final byte _GETFIELD = (byte)0xb4;
+	private static final byte _INVOKESPECIAL = (byte)0xb7;
+	private static final int _JAVA_8_VERSION = 52;
+	private static final int _MAGIC = 0xCAFEBABE;
+	private static final String _OBJECT = "java/lang/Object";
+	private static final String _OBJECT_DESCRIPTOR = "Ljava/lang/Object;";
+	private static final byte _RETURN = (byte)0xb1;
+
+	private int _constantCount = 1;
+	private final Map<String, Integer> _constantIndexes = new HashMap<>();
+	private final ByteArrayOutputStream _constantsByteArrayOutputStream =
+		new ByteArrayOutputStream();
+	private final DataOutputStream _constantsDataOutputStream =
+		new DataOutputStream(_constantsByteArrayOutputStream);
+
+	@FunctionalInterface
+	private interface ConstantWriter {
+
+		public void write(DataOutputStream dataOutputStream)
+			throws IOException;
+
+	}
+
+}
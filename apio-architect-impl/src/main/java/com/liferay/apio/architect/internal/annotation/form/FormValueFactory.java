@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.form;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Proxy;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Creates the instances of a type interface that forms fill with the values
+ * of a request's body.
+ *
+ * <p>
+ * For every type interface, a class with a plain field and a direct getter per
+ * method is generated the first time it's needed, so reading a value is just a
+ * field access. If the class can't be generated (for example, because the
+ * interface has methods with parameters or returning primitive types), the
+ * instances are created with a {@code java.lang.reflect.Proxy}.
+ * </p>
+ *
+ * @author Víctor Galán
+ * @param  <T> the type interface
+ * @review
+ */
+public abstract class FormValueFactory<T> {
+
+	/**
+	 * Returns the factory of the type interface's instances.
+	 *
+	 * @param  typeClass the type interface
+	 * @return the factory of the type interface's instances
+	 * @review
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> FormValueFactory<T> of(Class<T> typeClass) {
+		return (FormValueFactory<T>)_formValueFactories.get(typeClass);
+	}
+
+	/**
+	 * Returns a new instance of the type interface, with every value set to
+	 * {@code null}.
+	 *
+	 * @return the new instance
+	 * @review
+	 */
+	public abstract T create();
+
+	/**
+	 * Returns the function that sets the value returned by the type
+	 * interface's method in an instance created by this factory.
+	 *
+	 * @param  methodName the name of the method
+	 * @return the function that sets the value
+	 * @review
+	 */
+	public abstract BiConsumer<T, Object> getBiConsumer(String methodName);
+
+	private static List<Method> _getGeneratableMethods(Class<?> typeClass) {
+		if (!typeClass.isInterface() ||
+			!Modifier.isPublic(typeClass.getModifiers()) ||
+			(typeClass.getClassLoader() == null)) {
+
+			return null;
+		}
+
+		List<Method> methods = new ArrayList<>();
+		Set<String> methodNames = new HashSet<>();
+
+		for (Method method : typeClass.getMethods()) {
+			if (Modifier.isStatic(method.getModifiers())) {
+				continue;
+			}
+
+			Class<?> returnType = method.getReturnType();
+
+			if ((method.getParameterCount() > 0) || returnType.isArray() ||
+				returnType.isPrimitive() ||
+				!Modifier.isPublic(returnType.getModifiers()) ||
+				!methodNames.add(method.getName())) {
+
+				return null;
+			}
+
+			methods.add(method);
+		}
+
+		return methods;
+	}
+
+	private static final ClassValue<FormValueFactory<?>> _formValueFactories =
+		new ClassValue<FormValueFactory<?>>() {
+
+			@Override
+			protected FormValueFactory<?> computeValue(Class<?> typeClass) {
+				List<Method> methods = _getGeneratableMethods(typeClass);
+
+				if (methods != null) {
+					try {
+						return new GeneratedFormValueFactory<>(
+							typeClass, methods);
+					}
+					catch (ReflectiveOperationException | RuntimeException |
+						   LinkageError e) {
+
+						// Fall back to a proxy
+
+					}
+				}
+
+				return new ProxyFormValueFactory<>(typeClass);
+			}
+
+		};
+
+	private static class FormValueClassLoader extends ClassLoader {
+
+		public FormValueClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		public Class<?> defineClass(String className, byte[] bytes) {
+			return defineClass(className, bytes, 0, bytes.length);
+		}
+
+	}
+
+	private static class GeneratedFormValueFactory<T>
+		extends FormValueFactory<T> {
+
+		public GeneratedFormValueFactory(
+				Class<T> typeClass, List<Method> methods)
+			throws ReflectiveOperationException {
+
+			String className = typeClass.getName() + "$FormValue";
+
+			FormValueClassLoader formValueClassLoader =
+				new FormValueClassLoader(typeClass.getClassLoader());
+
+			Class<?> formValueClass = formValueClassLoader.defineClass(
+				className,
+				FormValueClassWriter.write(className, typeClass, methods));
+
+			MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+			MethodHandle constructorMethodHandle = lookup.findConstructor(
+				formValueClass, methodType(void.class));
+
+			_constructorMethodHandle = constructorMethodHandle.asType(
+				methodType(Object.class));
+
+			for (Method method : methods) {
+				MethodHandle setterMethodHandle = lookup.findSetter(
+					formValueClass, method.getName(), Object.class);
+
+				_setterMethodHandles.put(
+					method.getName(),
+					setterMethodHandle.asType(
+						methodType(void.class, Object.class, Object.class)));
+			}
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T create() {
+			try {
+				return (T)_constructorMethodHandle.invokeExact();
+			}
+			catch (RuntimeException | Error e) {
+				throw e;
+			}
+			catch (Throwable throwable) {
+				throw new IllegalStateException(throwable);
+			}
+		}
+
+		@Override
+		public BiConsumer<T, Object> getBiConsumer(String methodName) {
+			MethodHandle setterMethodHandle = _setterMethodHandles.get(
+				methodName);
+
+			if (setterMethodHandle == null) {
+				return (t, value) -> {
+				};
+			}
+
+			return (t, value) -> {
+				try {
+					setterMethodHandle.invokeExact((Object)t, value);
+				}
+				catch (RuntimeException | Error e) {
+					throw e;
+				}
+				catch (Throwable throwable) {
+					throw new IllegalStateException(throwable);
+				}
+			};
+		}
+
+		private final MethodHandle _constructorMethodHandle;
+		private final Map<String, MethodHandle> _setterMethodHandles =
+			new HashMap<>();
+
+	}
+
+	private static class ProxyFormValueFactory<T> extends FormValueFactory<T> {
+
+		public ProxyFormValueFactory(Class<T> typeClass) {
+			_typeClass = typeClass;
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public T create() {
+			return (T)Proxy.newProxyInstance(
+				_typeClass.getClassLoader(), new Class<?>[] {_typeClass},
+				new ValuesInvocationHandler());
+		}
+
+		@Override
+		public BiConsumer<T, Object> getBiConsumer(String methodName) {
+			return (t, value) -> {
+				ValuesInvocationHandler valuesInvocationHandler =
+					(ValuesInvocationHandler)Proxy.getInvocationHandler(t);
+
+				valuesInvocationHandler._values.put(methodName, value);
+			};
+		}
+
+		private final Class<T> _typeClass;
+
+	}
+
+	private static class ValuesInvocationHandler implements InvocationHandler {
+
+		@Override
+		public Object invoke(Object object, Method method, Object[] args) {
+			return _values.get(method.getName());
+		}
+
+		private final Map<String, Object> _values = new HashMap<>();
+
+	}
+
+}
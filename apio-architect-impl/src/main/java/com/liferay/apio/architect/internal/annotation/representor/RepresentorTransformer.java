@@ -35,8 +35,6 @@ import com.liferay.apio.architect.related.RelatedCollection;
 import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.representor.Representor.FirstStep;
 
-import io.vavr.control.Try;
-
 import java.lang.reflect.Method;
 
 import java.util.ArrayList;
@@ -81,11 +79,7 @@ public class RepresentorTransformer {
 		FirstStep<T> firstStep = builder.types(
 			type.value()
 		).identifier(
-			t -> Try.of(
-				parsedType::getIdMethod
-			).mapTry(
-				method -> (S)method.invoke(t)
-			).getOrNull()
+			_getIdentifierFunction(parsedType)
 		);
 
 		_processFields(parsedType, firstStep);
@@ -115,6 +109,18 @@ public class RepresentorTransformer {
 			typeClass, nameFunction, biConsumer, relatedCollectionsSupplier);
 	}
 
+	private static <T, S> Function<T, S> _getIdentifierFunction(
+		ParsedType parsedType) {
+
+		Method method = parsedType.getIdMethod();
+
+		if (method == null) {
+			return t -> null;
+		}
+
+		return getMethodFunction(method);
+	}
+
 	private static <T extends Identifier<?>> void
 		_processFields(ParsedType parsedType, FirstStep<T> firstStep) {
 
@@ -149,9 +155,7 @@ public class RepresentorTransformer {
 
 				firstStep.addRelatedCollection(
 					fieldData.getFieldName(), linkTo.resource(),
-					model -> Try.of(
-						() -> method.invoke(model)
-					).getOrNull());
+					getMethodFunction(method));
 
 				Class<? extends Identifier<?>> typeClass = linkTo.resource();
 
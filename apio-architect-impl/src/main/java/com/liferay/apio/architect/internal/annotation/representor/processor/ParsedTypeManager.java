@@ -25,6 +25,7 @@ import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.annotation.Vocabulary.Type;
 import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.annotation.form.FormValueFactory;
 import com.liferay.apio.architect.router.ActionRouter;
 
 import io.leangen.geantyref.GenericTypeReflector;
@@ -116,9 +117,25 @@ public class ParsedTypeManager {
 		ParsedType parsedType = TypeProcessor.processType(
 			(Class<? extends Identifier>)clazz);
 
+		_createFormValueFactories(parsedType);
+
 		INSTANCE.putParsedType(clazz.getName(), parsedType);
 	}
 
+	private void _createFormValueFactories(ParsedType parsedType) {
+		FormValueFactory.of(parsedType.getTypeClass());
+
+		for (FieldData<ParsedType> fieldData : parsedType.getParsedTypes()) {
+			_createFormValueFactories(fieldData.getData());
+		}
+
+		for (FieldData<ParsedType> fieldData :
+				parsedType.getListParsedTypes()) {
+
+			_createFormValueFactories(fieldData.getData());
+		}
+	}
+
 	@Reference(
 		cardinality = MULTIPLE, policyOption = GREEDY,
 		service = ActionRouter.class
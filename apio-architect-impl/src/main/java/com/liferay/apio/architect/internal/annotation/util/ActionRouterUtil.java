@@ -315,7 +315,8 @@ public final class ActionRouterUtil {
 	 * Returns the class of the method's return, updated so JAX-RS writers can
 	 * understand it.
 	 *
-	 * <p>{@link PageItems} and {@link List} are translated to {@link Page}.
+	 * <p>{@link PageItems}, its subclasses, and {@link List} are translated to
+	 * {@link Page}.
 	 * <p>{@code void} is translated to {@link Void}.
 	 * <p>A class annotated with {@link Type} is translated to {@link
 	 * SingleModel}.
@@ -328,7 +329,7 @@ public final class ActionRouterUtil {
 	public static Class<?> getReturnClass(Method method) {
 		Class<?> returnType = method.getReturnType();
 
-		if (PageItems.class.equals(returnType)) {
+		if (PageItems.class.isAssignableFrom(returnType)) {
 			return Page.class;
 		}
 
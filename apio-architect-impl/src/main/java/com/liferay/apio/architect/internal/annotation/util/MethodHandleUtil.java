@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.util;
+
+import static java.lang.invoke.MethodType.methodType;
+
+import com.liferay.apio.architect.functional.Try;
+
+import io.vavr.CheckedFunction1;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Provides utility functions for transforming methods into functions that call
+ * them through a {@link MethodHandle}, instead of using reflection.
+ *
+ * <p>
+ * The method handles are created once, when the function is created, so
+ * calling the function doesn't need to check access or wrap exceptions. If a
+ * method handle can't be created, the functions fall back to reflection.
+ * </p>
+ *
+ * <p>This class should not be instantiated.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class MethodHandleUtil {
+
+	/**
+	 * Returns a function that calls the action router's method with the
+	 * arguments in the provided array.
+	 *
+	 * <p>
+	 * Exceptions thrown by the method are wrapped in an {@link
+	 * InvocationTargetException}, just like {@link Method#invoke(Object,
+	 * Object...)} does.
+	 * </p>
+	 *
+	 * @param  object the object whose method will be called
+	 * @param  method the method
+	 * @return the function that calls the method
+	 * @review
+	 */
+	public static CheckedFunction1<Object[], Object> getArrayFunction(
+		Object object, Method method) {
+
+		MethodHandle methodHandle = _getMethodHandle(method);
+
+		if (methodHandle == null) {
+			return array -> method.invoke(object, array);
+		}
+
+		MethodHandle arrayMethodHandle = methodHandle.bindTo(
+			object
+		).asSpreader(
+			Object[].class, method.getParameterCount()
+		).asType(
+			methodType(Object.class, Object[].class)
+		);
+
+		return array -> {
+			try {
+				return arrayMethodHandle.invokeExact(array);
+			}
+			catch (Throwable throwable) {
+				throw new InvocationTargetException(throwable);
+			}
+		};
+	}
+
+	/**
+	 * Returns a function that calls the method on its first argument, using
+	 * the second one as the method's argument. The function returns {@code
+	 * null} if the method throws an exception. Errors are rethrown.
+	 *
+	 * @param  method the method
+	 * @return the function that calls the method
+	 * @review
+	 */
+	public static <A, T, S> BiFunction<T, A, S> getBiFunction(Method method) {
+		MethodHandle methodHandle = _getMethodHandle(method);
+
+		if (methodHandle == null) {
+			return (t, a) -> Try.fromFallible(
+				() -> (S)method.invoke(t, a)
+			).orElse(
+				null
+			);
+		}
+
+		MethodHandle biFunctionMethodHandle = methodHandle.asType(
+			methodType(Object.class, Object.class, Object.class));
+
+		return (t, a) -> {
+			try {
+				return (S)biFunctionMethodHandle.invokeExact(
+					(Object)t, (Object)a);
+			}
+			catch (Error error) {
+				throw error;
+			}
+			catch (Throwable throwable) {
+				return null;
+			}
+		};
+	}
+
+	/**
+	 * Returns a function that calls the method on its argument. The function
+	 * returns {@code null} if the method throws an exception. Errors are
+	 * rethrown.
+	 *
+	 * @param  method the method
+	 * @return the function that calls the method
+	 * @review
+	 */
+	public static <T, S> Function<T, S> getFunction(Method method) {
+		MethodHandle methodHandle = _getMethodHandle(method);
+
+		if (methodHandle == null) {
+			return t -> Try.fromFallible(
+				() -> (S)method.invoke(t)
+			).orElse(
+				null
+			);
+		}
+
+		MethodHandle functionMethodHandle = methodHandle.asType(
+			methodType(Object.class, Object.class));
+
+		return t -> {
+			try {
+				return (S)functionMethodHandle.invokeExact((Object)t);
+			}
+			catch (Error error) {
+				throw error;
+			}
+			catch (Throwable throwable) {
+				return null;
+			}
+		};
+	}
+
+	private MethodHandleUtil() {
+	}
+
+	private static MethodHandle _getMethodHandle(Method method) {
+		try {
+			MethodHandle methodHandle = _lookup.unreflect(method);
+
+			return methodHandle.asFixedArity();
+		}
+		catch (IllegalAccessException iae) {
+			return null;
+		}
+	}
+
+	private static final MethodHandles.Lookup _lookup =
+		MethodHandles.publicLookup();
+
+}
@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.body;
+
+import static com.fasterxml.jackson.core.JsonFactory.Feature.USE_THREAD_LOCAL_FOR_BUFFER_RECYCLING;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Holds the options used to parse JSON request bodies.
+ *
+ * <p>
+ * Bodies are always parsed with shared {@link ObjectReader} instances that are
+ * configured once, so Jackson's caches are reused between requests. Both
+ * limits are disabled when their value is {@code 0}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class JSONParsingOptions {
+
+	/**
+	 * The default options: buffer recycling enabled and no limits.
+	 *
+	 * @review
+	 */
+	public static final JSONParsingOptions DEFAULT = new JSONParsingOptions(
+		true, 0, 0);
+
+	/**
+	 * Returns the options set in the provided component properties. The
+	 * supported properties are {@code json.body.buffer.recycling}, {@code
+	 * json.body.max.depth} and {@code json.body.max.size}. Missing properties
+	 * keep their default value.
+	 *
+	 * @param  properties the component properties
+	 * @return the options
+	 * @review
+	 */
+	public static JSONParsingOptions fromProperties(
+		Map<String, Object> properties) {
+
+		boolean bufferRecycling = _getProperty(
+			properties, "json.body.buffer.recycling", Boolean::valueOf, true);
+		int maxDepth = _getProperty(
+			properties, "json.body.max.depth", Integer::valueOf, 0);
+		long maxSize = _getProperty(
+			properties, "json.body.max.size", Long::valueOf, 0L);
+
+		return new JSONParsingOptions(bufferRecycling, maxDepth, maxSize);
+	}
+
+	public JSONParsingOptions(
+		boolean bufferRecycling, int maxDepth, long maxSize) {
+
+		_bufferRecycling = bufferRecycling;
+		_maxDepth = maxDepth;
+		_maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the maximum nesting depth of objects and arrays in a body, or
+	 * {@code 0} if the depth isn't limited.
+	 *
+	 * @return the maximum nesting depth
+	 * @review
+	 */
+	public int getMaxDepth() {
+		return _maxDepth;
+	}
+
+	/**
+	 * Returns the maximum size in bytes of a body, or {@code 0} if the size
+	 * isn't limited.
+	 *
+	 * @return the maximum size in bytes
+	 * @review
+	 */
+	public long getMaxSize() {
+		return _maxSize;
+	}
+
+	/**
+	 * Returns the shared {@code ObjectReader} used to parse the bodies.
+	 *
+	 * @return the shared {@code ObjectReader}
+	 * @review
+	 */
+	public ObjectReader getObjectReader() {
+		if (_bufferRecycling) {
+			return _objectReader;
+		}
+
+		return _nonRecyclingObjectReader;
+	}
+
+	/**
+	 * Returns {@code true} if Jackson's thread-local buffer recycling is
+	 * enabled.
+	 *
+	 * @return {@code true} if buffer recycling is enabled; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public boolean isBufferRecycling() {
+		return _bufferRecycling;
+	}
+
+	private static <T> T _getProperty(
+		Map<String, Object> properties, String key,
+		Function<String, T> function, T defaultValue) {
+
+		return Optional.ofNullable(
+			properties.get(key)
+		).map(
+			String::valueOf
+		).map(
+			function
+		).orElse(
+			defaultValue
+		);
+	}
+
+	private static final ObjectReader _nonRecyclingObjectReader;
+	private static final ObjectReader _objectReader;
+
+	static {
+		ObjectMapper objectMapper = new ObjectMapper();
+
+		_objectReader = objectMapper.reader();
+
+		JsonFactory jsonFactory = new JsonFactory();
+
+		jsonFactory.disable(USE_THREAD_LOCAL_FOR_BUFFER_RECYCLING);
+
+		ObjectMapper nonRecyclingObjectMapper = new ObjectMapper(jsonFactory);
+
+		_nonRecyclingObjectReader = nonRecyclingObjectMapper.reader();
+	}
+
+	private final boolean _bufferRecycling;
+	private final int _maxDepth;
+	private final long _maxSize;
+
+}
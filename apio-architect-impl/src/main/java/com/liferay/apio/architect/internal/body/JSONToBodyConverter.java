@@ -14,10 +14,20 @@
 
 package com.liferay.apio.architect.internal.body;
 
+import static com.fasterxml.jackson.core.JsonToken.END_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.END_OBJECT;
+import static com.fasterxml.jackson.core.JsonToken.START_ARRAY;
+import static com.fasterxml.jackson.core.JsonToken.START_OBJECT;
+
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
 import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
@@ -25,13 +35,21 @@ import com.liferay.apio.architect.form.Body;
 
 import io.vavr.control.Try;
 
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -50,15 +68,67 @@ public class JSONToBodyConverter {
 	 * instance or fails with a {@link BadRequestException} if the input is not
 	 * a valid JSON.
 	 *
+	 * <p>
+	 * JSON arrays aren't read up front. Their members are parsed one at a time
+	 * while they are consumed (see {@link JSONArrayBodyImpl}).
+	 * </p>
+	 *
 	 * @review
 	 */
 	public static Body jsonToBody(HttpServletRequest request) {
+		return jsonToBody(request, JSONParsingOptions.DEFAULT);
+	}
+
+	/**
+	 * Reads a {@code "application/json"} HTTP request body into a {@link Body}
+	 * instance, using the provided parsing options, or fails with a {@link
+	 * BadRequestException} if the input is not a valid JSON or exceeds the
+	 * options' limits.
+	 *
+	 * @review
+	 */
+	public static Body jsonToBody(
+		HttpServletRequest request, JSONParsingOptions jsonParsingOptions) {
+
+		long maxSize = jsonParsingOptions.getMaxSize();
+
+		if ((maxSize > 0) && (request.getContentLength() > maxSize)) {
+			throw new BadRequestException(
+				"Body exceeds the maximum size of " + maxSize + " bytes");
+		}
+
+		ObjectReader objectReader = jsonParsingOptions.getObjectReader();
+
+		JsonFactory jsonFactory = objectReader.getFactory();
+
+		JsonParser jsonParser = Try.of(
+			request::getInputStream
+		).<InputStream>map(
+			inputStream -> _limitSize(inputStream, maxSize)
+		).map(
+			inputStream -> new InputStreamReader(inputStream, UTF_8)
+		).mapTry(
+			jsonFactory::createParser
+		).map(
+			parser -> _limitDepth(parser, jsonParsingOptions.getMaxDepth())
+		).getOrElseThrow(
+			() -> new BadRequestException("Body is not a valid JSON")
+		);
+
+		JsonToken jsonToken = Try.of(
+			jsonParser::nextToken
+		).getOrNull();
+
+		if (jsonToken == START_ARRAY) {
+			return new JSONArrayBodyImpl(jsonParser, objectReader);
+		}
+
 		return Try.withResources(
-			() -> new InputStreamReader(request.getInputStream(), UTF_8)
+			() -> jsonParser
 		).of(
-			new ObjectMapper()::readTree
+			parser -> objectReader.<JsonNode>readTree(parser)
 		).filter(
-			node -> node.isObject() || node.isArray()
+			node -> (node != null) && node.isObject()
 		).map(
 			JSONBodyImpl::new
 		).getOrElseThrow(
@@ -66,6 +136,133 @@ public class JSONToBodyConverter {
 		);
 	}
 
+	/**
+	 * {@link Body} implementation for {@code "application/json"} arrays, whose
+	 * members are parsed one at a time while they are consumed, so only the
+	 * member being read is kept in memory.
+	 *
+	 * <p>
+	 * The members of this body can only be consumed once.
+	 * </p>
+	 *
+	 * @review
+	 */
+	public static class JSONArrayBodyImpl implements Body {
+
+		public JSONArrayBodyImpl(
+			JsonParser jsonParser, ObjectReader objectReader) {
+
+			_jsonParser = jsonParser;
+			_objectReader = objectReader;
+		}
+
+		@Override
+		public Optional<List<Body>> getBodyMembersOptional() {
+			Stream<Body> stream = getBodyMemberStream();
+
+			return Optional.of(stream.collect(Collectors.toList()));
+		}
+
+		/**
+		 * Returns a stream that parses the body's members while it's consumed.
+		 * Members that aren't JSON objects are skipped. If the body isn't a
+		 * valid JSON array, the stream fails with a {@link
+		 * BadRequestException} when reaching the invalid member.
+		 *
+		 * @return the stream of the body's members
+		 * @review
+		 */
+		public Stream<Body> getBodyMemberStream() {
+			if (_consumed) {
+				throw new IllegalStateException(
+					"Body members have already been consumed");
+			}
+
+			_consumed = true;
+
+			Iterator<Body> iterator = new Iterator<Body>() {
+
+				@Override
+				public boolean hasNext() {
+					if (_next == null) {
+						_next = _readNext();
+					}
+
+					return _next != null;
+				}
+
+				@Override
+				public Body next() {
+					if (!hasNext()) {
+						throw new NoSuchElementException();
+					}
+
+					Body body = _next;
+
+					_next = null;
+
+					return body;
+				}
+
+				private Body _next;
+
+			};
+
+			return StreamSupport.stream(
+				Spliterators.spliteratorUnknownSize(
+					iterator, Spliterator.NONNULL | Spliterator.ORDERED),
+				false);
+		}
+
+		@Override
+		public Optional<String> getValueOptional(String key) {
+			return Optional.empty();
+		}
+
+		private Body _readNext() {
+			if (_jsonParser.isClosed()) {
+				return null;
+			}
+
+			try {
+				JsonToken jsonToken = _jsonParser.nextToken();
+
+				while ((jsonToken != null) && (jsonToken != END_ARRAY)) {
+
+					if (jsonToken == START_OBJECT) {
+						JsonNode jsonNode = _objectReader.readTree(_jsonParser);
+
+						return new JSONBodyImpl(jsonNode);
+					}
+
+					_jsonParser.skipChildren();
+
+					jsonToken = _jsonParser.nextToken();
+				}
+
+				_jsonParser.close();
+
+				if (jsonToken != END_ARRAY) {
+					throw new BadRequestException(
+						"Body is not a valid JSON Array");
+				}
+
+				return null;
+			}
+			catch (IOException ioe) {
+				Try.run(_jsonParser::close);
+
+				throw new BadRequestException(
+					"Body is not a valid JSON Array", ioe);
+			}
+		}
+
+		private boolean _consumed;
+		private final JsonParser _jsonParser;
+		private final ObjectReader _objectReader;
+
+	}
+
 	/**
 	 * {@link Body} implementation for {@code "application/json"}.
 	 *
@@ -192,4 +389,121 @@ public class JSONToBodyConverter {
 
 	}
 
+	private static JsonParser _limitDepth(JsonParser jsonParser, int maxDepth) {
+		if (maxDepth <= 0) {
+			return jsonParser;
+		}
+
+		return new DepthLimitingJsonParser(jsonParser, maxDepth);
+	}
+
+	private static InputStream _limitSize(
+		InputStream inputStream, long maxSize) {
+
+		if (maxSize <= 0) {
+			return inputStream;
+		}
+
+		return new SizeLimitingInputStream(inputStream, maxSize);
+	}
+
+	private static class DepthLimitingJsonParser extends JsonParserDelegate {
+
+		public DepthLimitingJsonParser(JsonParser jsonParser, int maxDepth) {
+			super(jsonParser);
+
+			_maxDepth = maxDepth;
+		}
+
+		@Override
+		public JsonToken nextToken() throws IOException {
+			return _checkDepth(super.nextToken());
+		}
+
+		@Override
+		public JsonToken nextValue() throws IOException {
+			return _checkDepth(super.nextValue());
+		}
+
+		@Override
+		public JsonParser skipChildren() throws IOException {
+			JsonToken jsonToken = currentToken();
+
+			super.skipChildren();
+
+			if ((jsonToken == START_ARRAY) || (jsonToken == START_OBJECT)) {
+				_depth--;
+			}
+
+			return this;
+		}
+
+		private JsonToken _checkDepth(JsonToken jsonToken) throws IOException {
+			if ((jsonToken == START_ARRAY) || (jsonToken == START_OBJECT)) {
+				_depth++;
+
+				if (_depth > _maxDepth) {
+					throw new JsonParseException(
+						this,
+						"Body exceeds the maximum depth of " + _maxDepth);
+				}
+			}
+			else if ((jsonToken == END_ARRAY) || (jsonToken == END_OBJECT)) {
+				_depth--;
+			}
+
+			return jsonToken;
+		}
+
+		private int _depth;
+		private final int _maxDepth;
+
+	}
+
+	private static class SizeLimitingInputStream extends FilterInputStream {
+
+		public SizeLimitingInputStream(InputStream inputStream, long maxSize) {
+			super(inputStream);
+
+			_maxSize = maxSize;
+		}
+
+		@Override
+		public int read() throws IOException {
+			int value = super.read();
+
+			if (value != -1) {
+				_count(1);
+			}
+
+			return value;
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length)
+			throws IOException {
+
+			int count = super.read(bytes, offset, length);
+
+			if (count > 0) {
+				_count(count);
+			}
+
+			return count;
+		}
+
+		private void _count(int count) throws IOException {
+			_size += count;
+
+			if (_size > _maxSize) {
+				throw new IOException(
+					"Body exceeds the maximum size of " + _maxSize + " bytes");
+			}
+		}
+
+		private final long _maxSize;
+		private long _size;
+
+	}
+
 }
\ No newline at end of file
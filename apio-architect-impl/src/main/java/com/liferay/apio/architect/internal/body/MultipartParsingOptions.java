@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.body;
+
+import static org.apache.commons.fileupload.disk.DiskFileItemFactory.DEFAULT_SIZE_THRESHOLD;
+
+import java.io.File;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Holds the options used to parse {@code "multipart/form-data"} request
+ * bodies.
+ *
+ * <p>
+ * File parts smaller than the size threshold are kept in memory; bigger ones
+ * are spilled to a temporary file in the repository directory. Both size
+ * limits are disabled when their value is {@code 0}.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class MultipartParsingOptions {
+
+	/**
+	 * The default options: a 10 KB size threshold, the system's temporary
+	 * directory as repository and no limits.
+	 *
+	 * @review
+	 */
+	public static final MultipartParsingOptions DEFAULT =
+		new MultipartParsingOptions(DEFAULT_SIZE_THRESHOLD, null, 0, 0);
+
+	/**
+	 * Returns the options set in the provided component properties. The
+	 * supported properties are {@code multipart.body.size.threshold}, {@code
+	 * multipart.body.repository}, {@code multipart.body.max.part.size} and
+	 * {@code multipart.body.max.size}. Missing properties keep their default
+	 * value.
+	 *
+	 * @param  properties the component properties
+	 * @return the options
+	 * @review
+	 */
+	public static MultipartParsingOptions fromProperties(
+		Map<String, Object> properties) {
+
+		int sizeThreshold = _getProperty(
+			properties, "multipart.body.size.threshold", Integer::valueOf,
+			DEFAULT_SIZE_THRESHOLD);
+		File repository = _getProperty(
+			properties, "multipart.body.repository", File::new, null);
+		long maxPartSize = _getProperty(
+			properties, "multipart.body.max.part.size", Long::valueOf, 0L);
+		long maxSize = _getProperty(
+			properties, "multipart.body.max.size", Long::valueOf, 0L);
+
+		return new MultipartParsingOptions(
+			sizeThreshold, repository, maxPartSize, maxSize);
+	}
+
+	public MultipartParsingOptions(
+		int sizeThreshold, File repository, long maxPartSize, long maxSize) {
+
+		_sizeThreshold = sizeThreshold;
+		_repository = repository;
+		_maxPartSize = maxPartSize;
+		_maxSize = maxSize;
+	}
+
+	/**
+	 * Returns the maximum size in bytes of a single part, or {@code 0} if the
+	 * size isn't limited.
+	 *
+	 * @return the maximum size in bytes of a part
+	 * @review
+	 */
+	public long getMaxPartSize() {
+		return _maxPartSize;
+	}
+
+	/**
+	 * Returns the maximum size in bytes of a body, or {@code 0} if the size
+	 * isn't limited.
+	 *
+	 * @return the maximum size in bytes
+	 * @review
+	 */
+	public long getMaxSize() {
+		return _maxSize;
+	}
+
+	/**
+	 * Returns the directory where the file parts bigger than the size
+	 * threshold are spilled, if it isn't the system's temporary directory.
+	 *
+	 * @return the repository directory, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<File> getRepositoryOptional() {
+		return Optional.ofNullable(_repository);
+	}
+
+	/**
+	 * Returns the size in bytes above which a file part is spilled to disk.
+	 *
+	 * @return the size threshold in bytes
+	 * @review
+	 */
+	public int getSizeThreshold() {
+		return _sizeThreshold;
+	}
+
+	private static <T> T _getProperty(
+		Map<String, Object> properties, String key,
+		Function<String, T> function, T defaultValue) {
+
+		return Optional.ofNullable(
+			properties.get(key)
+		).map(
+			String::valueOf
+		).map(
+			function
+		).orElse(
+			defaultValue
+		);
+	}
+
+	private final long _maxPartSize;
+	private final long _maxSize;
+	private final File _repository;
+	private final int _sizeThreshold;
+
+}
@@ -24,12 +24,12 @@ import java.io.InputStream;
 
 import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -42,6 +42,8 @@ import javax.ws.rs.BadRequestException;
 
 import org.apache.commons.fileupload.FileItem;
 import org.apache.commons.fileupload.FileItemFactory;
+import org.apache.commons.fileupload.FileItemIterator;
+import org.apache.commons.fileupload.FileItemStream;
 import org.apache.commons.fileupload.FileUploadException;
 import org.apache.commons.fileupload.disk.DiskFileItemFactory;
 import org.apache.commons.fileupload.servlet.ServletFileUpload;
@@ -50,6 +52,14 @@ import org.apache.commons.fileupload.util.Streams;
 /**
  * Reads {@code "multipart/form-data"} as a {@link Body}.
  *
+ * <p>
+ * The request body is read as a stream, one part at a time. Form fields are
+ * collected while they arrive, and file parts are stored with a {@link
+ * DiskFileItemFactory}, so only parts smaller than the configured threshold
+ * are kept in memory. The content of a file part isn't opened until its {@link
+ * BinaryFile} is read.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @review
  */
@@ -63,20 +73,45 @@ public class MultipartToBodyConverter {
 	 * @review
 	 */
 	public static Body multipartToBody(HttpServletRequest request) {
+		return multipartToBody(request, MultipartParsingOptions.DEFAULT);
+	}
+
+	/**
+	 * Reads a {@code "multipart/form"} HTTP request body into a {@link Body}
+	 * instance, using the provided parsing options, or fails with a {@link
+	 * BadRequestException} if the input is not a valid multipart form or
+	 * exceeds the options' limits.
+	 *
+	 * @review
+	 */
+	public static Body multipartToBody(
+		HttpServletRequest request,
+		MultipartParsingOptions multipartParsingOptions) {
+
 		if (!isMultipartContent(request)) {
 			throw new BadRequestException(
 				"Request body is not a valid multipart form");
 		}
 
-		FileItemFactory fileItemFactory = new DiskFileItemFactory();
+		FileItemFactory fileItemFactory = new DiskFileItemFactory(
+			multipartParsingOptions.getSizeThreshold(),
+			multipartParsingOptions.getRepositoryOptional(
+			).orElse(
+				null
+			));
 
-		ServletFileUpload servletFileUpload = new ServletFileUpload(
-			fileItemFactory);
+		ServletFileUpload servletFileUpload = new ServletFileUpload();
 
-		try {
-			List<FileItem> fileItems = servletFileUpload.parseRequest(request);
+		servletFileUpload.setFileSizeMax(
+			_toLimit(multipartParsingOptions.getMaxPartSize()));
+		servletFileUpload.setSizeMax(
+			_toLimit(multipartParsingOptions.getMaxSize()));
 
-			Iterator<FileItem> iterator = fileItems.iterator();
+		List<FileItem> fileItems = new ArrayList<>();
+
+		try {
+			FileItemIterator fileItemIterator =
+				servletFileUpload.getItemIterator(request);
 
 			Map<String, String> values = new HashMap<>();
 			Map<String, BinaryFile> binaryFiles = new HashMap<>();
@@ -85,10 +120,10 @@ public class MultipartToBodyConverter {
 			Map<String, Map<Integer, BinaryFile>> indexedFileLists =
 				new HashMap<>();
 
-			while (iterator.hasNext()) {
-				FileItem fileItem = iterator.next();
+			while (fileItemIterator.hasNext()) {
+				FileItemStream fileItemStream = fileItemIterator.next();
 
-				String name = fileItem.getFieldName();
+				String name = fileItemStream.getFieldName();
 
 				Matcher matcher = _arrayPattern.matcher(name);
 
@@ -97,26 +132,27 @@ public class MultipartToBodyConverter {
 
 					String actualName = matcher.group(1);
 
-					_storeFileItem(
-						fileItem,
+					_storeFileItemStream(
+						fileItemStream, fileItemFactory, fileItems::add,
 						value -> {
 							Map<Integer, String> indexedMap =
 								indexedValueLists.computeIfAbsent(
-									actualName, __ -> new HashMap<>());
+									actualName, __ -> new TreeMap<>());
 
 							indexedMap.put(index, value);
 						},
 						binaryFile -> {
 							Map<Integer, BinaryFile> indexedMap =
 								indexedFileLists.computeIfAbsent(
-									actualName, __ -> new HashMap<>());
+									actualName, __ -> new TreeMap<>());
 
 							indexedMap.put(index, binaryFile);
 						});
 				}
 				else {
-					_storeFileItem(
-						fileItem, value -> values.put(name, value),
+					_storeFileItemStream(
+						fileItemStream, fileItemFactory, fileItems::add,
+						value -> values.put(name, value),
 						binaryFile -> binaryFiles.put(name, binaryFile));
 				}
 			}
@@ -133,9 +169,11 @@ public class MultipartToBodyConverter {
 				key -> Optional.ofNullable(fileLists.get(key)),
 				key -> Optional.ofNullable(binaryFiles.get(key)));
 		}
-		catch (FileUploadException | IndexOutOfBoundsException |
+		catch (FileUploadException | IndexOutOfBoundsException | IOException |
 			   NumberFormatException e) {
 
+			fileItems.forEach(FileItem::delete);
+
 			throw new BadRequestException(
 				"Request body is not a valid multipart form", e);
 		}
@@ -159,30 +197,110 @@ public class MultipartToBodyConverter {
 				}));
 	}
 
-	private static void _storeFileItem(
-		FileItem fileItem, Consumer<String> valueConsumer,
-		Consumer<BinaryFile> fileConsumer) {
+	private static void _storeFileItemStream(
+			FileItemStream fileItemStream, FileItemFactory fileItemFactory,
+			Consumer<FileItem> fileItemConsumer,
+			Consumer<String> valueConsumer, Consumer<BinaryFile> fileConsumer)
+		throws IOException {
 
-		try {
-			if (fileItem.isFormField()) {
-				InputStream stream = fileItem.getInputStream();
+		if (fileItemStream.isFormField()) {
+			InputStream stream = fileItemStream.openStream();
 
-				valueConsumer.accept(Streams.asString(stream));
-			}
-			else {
-				BinaryFile binaryFile = new BinaryFile(
-					fileItem.getInputStream(), fileItem.getSize(),
-					fileItem.getContentType(), fileItem.getName());
+			valueConsumer.accept(Streams.asString(stream));
 
-				fileConsumer.accept(binaryFile);
-			}
+			return;
 		}
-		catch (IOException ioe) {
-			throw new BadRequestException("Invalid body", ioe);
+
+		FileItem fileItem = fileItemFactory.createItem(
+			fileItemStream.getFieldName(), fileItemStream.getContentType(),
+			false, fileItemStream.getName());
+
+		fileItemConsumer.accept(fileItem);
+
+		Streams.copy(
+			fileItemStream.openStream(), fileItem.getOutputStream(), true);
+
+		BinaryFile binaryFile = new BinaryFile(
+			new FileItemInputStream(fileItem), fileItem.getSize(),
+			fileItem.getContentType(), fileItem.getName());
+
+		fileConsumer.accept(binaryFile);
+	}
+
+	private static long _toLimit(long maxSize) {
+		if (maxSize > 0) {
+			return maxSize;
 		}
+
+		return -1;
 	}
 
 	private static final Pattern _arrayPattern = Pattern.compile(
 		"([A-Z|a-z]+)\\[([0-9]+)]");
 
-}
\ No newline at end of file
+	/**
+	 * Reads the content of a {@link FileItem}, opening it on the first read.
+	 * Closing the stream deletes the item's temporary file, if any.
+	 */
+	private static class FileItemInputStream extends InputStream {
+
+		@Override
+		public int available() throws IOException {
+			InputStream inputStream = _getInputStream();
+
+			return inputStream.available();
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				if (_inputStream != null) {
+					_inputStream.close();
+				}
+			}
+			finally {
+				_fileItem.delete();
+			}
+		}
+
+		@Override
+		public int read() throws IOException {
+			InputStream inputStream = _getInputStream();
+
+			return inputStream.read();
+		}
+
+		@Override
+		public int read(byte[] bytes, int offset, int length)
+			throws IOException {
+
+			InputStream inputStream = _getInputStream();
+
+			return inputStream.read(bytes, offset, length);
+		}
+
+		@Override
+		public long skip(long n) throws IOException {
+			InputStream inputStream = _getInputStream();
+
+			return inputStream.skip(n);
+		}
+
+		private FileItemInputStream(FileItem fileItem) {
+			_fileItem = fileItem;
+		}
+
+		private InputStream _getInputStream() throws IOException {
+			if (_inputStream == null) {
+				_inputStream = _fileItem.getInputStream();
+			}
+
+			return _inputStream;
+		}
+
+		private final FileItem _fileItem;
+		private InputStream _inputStream;
+
+	}
+
+}
@@ -19,6 +19,9 @@ import com.liferay.apio.architect.functional.Try;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
+
 import java.util.Date;
 import java.util.TimeZone;
 
@@ -26,6 +29,13 @@ import java.util.TimeZone;
  * Provides functions for transforming dates to/from ISO-8061 date strings.
  *
  * <p>
+ * Dates between the years 1583 and 9999 are formatted and parsed directly,
+ * without creating a {@code DateFormat}. Any other date, or any string that
+ * isn't exactly in the {@code yyyy-MM-dd'T'HH:mm'Z'} format, is handled by a
+ * {@code SimpleDateFormat}, so the results are the same as before.
+ * </p>
+ *
+ * <p>
  * This class shouldn't be instantiated.
  * </p>
  *
@@ -42,11 +52,13 @@ public class DateTransformer {
 	 *         object otherwise
 	 */
 	public static Try<Date> asDate(String string) {
-		TimeZone timeZone = TimeZone.getTimeZone("UTC");
+		long time = _parse(string);
 
-		DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm'Z'");
+		if (time != Long.MIN_VALUE) {
+			return Try.success(new Date(time));
+		}
 
-		dateFormat.setTimeZone(timeZone);
+		DateFormat dateFormat = _createDateFormat();
 
 		return Try.fromFallible(() -> dateFormat.parse(string));
 	}
@@ -58,17 +70,123 @@ public class DateTransformer {
 	 * @return the ISO-8061 date string
 	 */
 	public static String asString(Date date) {
+		long time = date.getTime();
+
+		if ((time < _MIN_TIME) || (time >= _MAX_TIME)) {
+			DateFormat dateFormat = _createDateFormat();
+
+			return dateFormat.format(date);
+		}
+
+		long minutes = Math.floorDiv(time, 60000L);
+
+		LocalDate localDate = LocalDate.ofEpochDay(
+			Math.floorDiv(minutes, 1440L));
+
+		int minuteOfDay = (int)Math.floorMod(minutes, 1440L);
+
+		char[] chars = new char[17];
+
+		_write(chars, 0, localDate.getYear(), 4);
+
+		chars[4] = '-';
+
+		_write(chars, 5, localDate.getMonthValue(), 2);
+
+		chars[7] = '-';
+
+		_write(chars, 8, localDate.getDayOfMonth(), 2);
+
+		chars[10] = 'T';
+
+		_write(chars, 11, minuteOfDay / 60, 2);
+
+		chars[13] = ':';
+
+		_write(chars, 14, minuteOfDay % 60, 2);
+
+		chars[16] = 'Z';
+
+		return new String(chars);
+	}
+
+	private static DateFormat _createDateFormat() {
 		TimeZone timeZone = TimeZone.getTimeZone("UTC");
 
 		DateFormat dateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm'Z'");
 
 		dateFormat.setTimeZone(timeZone);
 
-		return dateFormat.format(date);
+		return dateFormat;
+	}
+
+	private static long _parse(String string) {
+		if ((string.length() != 17) || (string.charAt(4) != '-') ||
+			(string.charAt(7) != '-') || (string.charAt(10) != 'T') ||
+			(string.charAt(13) != ':') || (string.charAt(16) != 'Z')) {
+
+			return Long.MIN_VALUE;
+		}
+
+		int year = _read(string, 0, 4);
+		int month = _read(string, 5, 2);
+		int day = _read(string, 8, 2);
+		int hour = _read(string, 11, 2);
+		int minute = _read(string, 14, 2);
+
+		if ((year < 1583) || (month < 0) || (day < 0) || (hour < 0) ||
+			(hour > 23) || (minute < 0) || (minute > 59)) {
+
+			return Long.MIN_VALUE;
+		}
+
+		try {
+			LocalDate localDate = LocalDate.of(year, month, day);
+
+			long minutes =
+				(localDate.toEpochDay() * 1440L) + (hour * 60L) + minute;
+
+			return minutes * 60000L;
+		}
+		catch (DateTimeException dte) {
+			return Long.MIN_VALUE;
+		}
+	}
+
+	private static int _read(String string, int offset, int length) {
+		int value = 0;
+
+		for (int i = offset; i < (offset + length); i++) {
+			char c = string.charAt(i);
+
+			if ((c < '0') || (c > '9')) {
+				return -1;
+			}
+
+			value = (value * 10) + (c - '0');
+		}
+
+		return value;
+	}
+
+	private static void _write(
+		char[] chars, int offset, int value, int length) {
+
+		for (int i = (offset + length) - 1; i >= offset; i--) {
+			chars[i] = (char)('0' + (value % 10));
+
+			value /= 10;
+		}
 	}
 
 	private DateTransformer() {
 		throw new UnsupportedOperationException();
 	}
 
-}
\ No newline at end of file
+	private static final long _MAX_TIME =
+		LocalDate.of(10000, 1, 1).toEpochDay() * 86400000L;
+
+	private static final long _MIN_TIME =
+		LocalDate.of(1583, 1, 1).toEpochDay() * 86400000L;
+
+}
@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.file;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+import com.liferay.apio.architect.file.BinaryFile;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+
+import java.util.Optional;
+
+/**
+ * Reads the content of a {@link BinaryFile} into an output stream.
+ *
+ * <p>
+ * If the binary file is backed by a file in the file system, its content is
+ * transferred with {@link FileChannel#transferTo(long, long,
+ * WritableByteChannel)}, so it doesn't go through a buffer in the heap, and
+ * ranges can be read in any order. Otherwise, its input stream is copied
+ * through a 64 KB buffer, and ranges must be read in order.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class BinaryFileReader implements Closeable {
+
+	public BinaryFileReader(BinaryFile binaryFile) throws IOException {
+		Optional<Path> optional = binaryFile.getPathOptional();
+
+		if (optional.isPresent()) {
+			_fileChannel = FileChannel.open(optional.get(), READ);
+			_inputStream = null;
+		}
+		else {
+			_fileChannel = null;
+			_inputStream = binaryFile.getInputStream();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (_fileChannel != null) {
+			_fileChannel.close();
+		}
+		else {
+			_inputStream.close();
+		}
+	}
+
+	/**
+	 * Writes the whole content of the file into the output stream.
+	 *
+	 * @param  outputStream the output stream
+	 * @throws IOException if the content couldn't be read or written
+	 * @review
+	 */
+	public void transferTo(OutputStream outputStream) throws IOException {
+		if (_fileChannel != null) {
+			transferTo(0, _fileChannel.size(), outputStream);
+
+			return;
+		}
+
+		byte[] bytes = new byte[_BUFFER_SIZE];
+
+		int read;
+
+		while ((read = _inputStream.read(bytes)) != -1) {
+			outputStream.write(bytes, 0, read);
+
+			_position += read;
+		}
+	}
+
+	/**
+	 * Writes a range of the file's content into the output stream.
+	 *
+	 * @param  start the position of the first byte to write
+	 * @param  count the number of bytes to write
+	 * @param  outputStream the output stream
+	 * @throws IOException if the content couldn't be read or written, or if
+	 *         the range starts before the last byte read from a stream
+	 * @review
+	 */
+	public void transferTo(long start, long count, OutputStream outputStream)
+		throws IOException {
+
+		if (_fileChannel != null) {
+			WritableByteChannel writableByteChannel = Channels.newChannel(
+				outputStream);
+
+			long position = start;
+			long end = start + count;
+
+			while (position < end) {
+				long transferred = _fileChannel.transferTo(
+					position, end - position, writableByteChannel);
+
+				if (transferred <= 0) {
+					throw new EOFException();
+				}
+
+				position += transferred;
+			}
+
+			return;
+		}
+
+		if (start < _position) {
+			throw new IOException(
+				"Ranges of a stream must be read in order: " + start +
+					" is before " + _position);
+		}
+
+		_skip(start - _position);
+
+		byte[] bytes = new byte[(int)Math.min(count, _BUFFER_SIZE)];
+
+		long remaining = count;
+
+		while (remaining > 0) {
+			int read = _inputStream.read(
+				bytes, 0, (int)Math.min(bytes.length, remaining));
+
+			if (read == -1) {
+				throw new EOFException();
+			}
+
+			outputStream.write(bytes, 0, read);
+
+			_position += read;
+			remaining -= read;
+		}
+	}
+
+	private void _skip(long count) throws IOException {
+		long remaining = count;
+
+		while (remaining > 0) {
+			long skipped = _inputStream.skip(remaining);
+
+			if (skipped <= 0) {
+				if (_inputStream.read() == -1) {
+					throw new EOFException();
+				}
+
+				skipped = 1;
+			}
+
+			_position += skipped;
+			remaining -= skipped;
+		}
+	}
+
+	private static final int _BUFFER_SIZE = 65536;
+
+	private final FileChannel _fileChannel;
+	private final InputStream _inputStream;
+	private long _position;
+
+}
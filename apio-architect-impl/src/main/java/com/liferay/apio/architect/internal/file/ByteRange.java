@@ -0,0 +1,229 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.file;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Represents a range of bytes of a binary file, as requested in a {@code
+ * Range} header.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class ByteRange {
+
+	/**
+	 * The maximum number of ranges served in a single response. Requests with
+	 * more ranges receive the whole file.
+	 *
+	 * @review
+	 */
+	public static final int MAX_RANGES = 16;
+
+	/**
+	 * Parses the value of a {@code Range} header for a file of the provided
+	 * size.
+	 *
+	 * <p>
+	 * Returns {@code Optional#empty()} if the header must be ignored, because
+	 * it's missing, invalid, or asks for more than {@link #MAX_RANGES} ranges.
+	 * Returns an empty list if none of the ranges can be satisfied.
+	 * </p>
+	 *
+	 * <p>
+	 * The satisfiable ranges are sorted, and the ones that overlap or are
+	 * adjacent are coalesced, so every byte is served once and the ranges can
+	 * be read in a single pass.
+	 * </p>
+	 *
+	 * @param  range the {@code Range} header's value
+	 * @param  size the file's size
+	 * @return the satisfiable ranges, if the header must be honored; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public static Optional<List<ByteRange>> parse(String range, long size) {
+		if ((range == null) || (size < 0) || !range.startsWith(_PREFIX)) {
+			return Optional.empty();
+		}
+
+		String[] specs = range.substring(
+			_PREFIX.length()
+		).split(
+			","
+		);
+
+		if (specs.length > MAX_RANGES) {
+			return Optional.empty();
+		}
+
+		List<ByteRange> byteRanges = new ArrayList<>();
+
+		for (String spec : specs) {
+			spec = spec.trim();
+
+			int index = spec.indexOf('-');
+
+			if (index == -1) {
+				return Optional.empty();
+			}
+
+			long first = _parseLong(spec.substring(0, index));
+			long last = _parseLong(spec.substring(index + 1));
+
+			if (index == 0) {
+				if (last < 0) {
+					return Optional.empty();
+				}
+
+				if ((last > 0) && (size > 0)) {
+					byteRanges.add(
+						new ByteRange(Math.max(0, size - last), size - 1));
+				}
+
+				continue;
+			}
+
+			if (first < 0) {
+				return Optional.empty();
+			}
+
+			if (index == (spec.length() - 1)) {
+				if (first < size) {
+					byteRanges.add(new ByteRange(first, size - 1));
+				}
+
+				continue;
+			}
+
+			if ((last < 0) || (first > last)) {
+				return Optional.empty();
+			}
+
+			if (first < size) {
+				byteRanges.add(new ByteRange(first, Math.min(last, size - 1)));
+			}
+		}
+
+		List<ByteRange> coalescedByteRanges = _coalesce(byteRanges);
+
+		return Optional.of(Collections.unmodifiableList(coalescedByteRanges));
+	}
+
+	public ByteRange(long start, long end) {
+		_start = start;
+		_end = end;
+	}
+
+	/**
+	 * Returns the value of the {@code Content-Range} header for this range.
+	 *
+	 * @param  size the file's size
+	 * @return the {@code Content-Range} header's value
+	 * @review
+	 */
+	public String getContentRange(long size) {
+		return "bytes " + _start + "-" + _end + "/" + size;
+	}
+
+	/**
+	 * Returns the position of the range's last byte.
+	 *
+	 * @return the position of the range's last byte
+	 * @review
+	 */
+	public long getEnd() {
+		return _end;
+	}
+
+	/**
+	 * Returns the number of bytes in the range.
+	 *
+	 * @return the number of bytes in the range
+	 * @review
+	 */
+	public long getLength() {
+		return (_end - _start) + 1;
+	}
+
+	/**
+	 * Returns the position of the range's first byte.
+	 *
+	 * @return the position of the range's first byte
+	 * @review
+	 */
+	public long getStart() {
+		return _start;
+	}
+
+	private static List<ByteRange> _coalesce(List<ByteRange> byteRanges) {
+		byteRanges.sort(Comparator.comparingLong(ByteRange::getStart));
+
+		List<ByteRange> coalescedByteRanges = new ArrayList<>();
+
+		ByteRange previous = null;
+
+		for (ByteRange byteRange : byteRanges) {
+			if ((previous != null) &&
+				(byteRange.getStart() <= (previous.getEnd() + 1))) {
+
+				previous = new ByteRange(
+					previous.getStart(),
+					Math.max(previous.getEnd(), byteRange.getEnd()));
+
+				coalescedByteRanges.set(
+					coalescedByteRanges.size() - 1, previous);
+
+				continue;
+			}
+
+			previous = byteRange;
+
+			coalescedByteRanges.add(byteRange);
+		}
+
+		return coalescedByteRanges;
+	}
+
+	private static long _parseLong(String string) {
+		if (string.isEmpty()) {
+			return -1;
+		}
+
+		for (int i = 0; i < string.length(); i++) {
+			if (!Character.isDigit(string.charAt(i))) {
+				return -2;
+			}
+		}
+
+		try {
+			return Long.parseLong(string);
+		}
+		catch (NumberFormatException nfe) {
+			return -2;
+		}
+	}
+
+	private static final String _PREFIX = "bytes=";
+
+	private final long _end;
+	private final long _start;
+
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.file;
+
+import com.liferay.apio.architect.file.BinaryFile;
+
+import java.util.List;
+
+/**
+ * Represents the ranges of a {@link BinaryFile} that must be sent in a
+ * partial content response.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class PartialBinaryFile {
+
+	public PartialBinaryFile(
+		BinaryFile binaryFile, List<ByteRange> byteRanges, String boundary) {
+
+		_binaryFile = binaryFile;
+		_byteRanges = byteRanges;
+		_boundary = boundary;
+	}
+
+	/**
+	 * Returns the binary file.
+	 *
+	 * @return the binary file
+	 * @review
+	 */
+	public BinaryFile getBinaryFile() {
+		return _binaryFile;
+	}
+
+	/**
+	 * Returns the boundary that separates the ranges in a {@code
+	 * multipart/byteranges} response. Returns {@code null} if there's only
+	 * one range.
+	 *
+	 * @return the boundary, if there's more than one range; {@code null}
+	 *         otherwise
+	 * @review
+	 */
+	public String getBoundary() {
+		return _boundary;
+	}
+
+	/**
+	 * Returns the ranges that must be sent.
+	 *
+	 * @return the ranges
+	 * @review
+	 */
+	public List<ByteRange> getByteRanges() {
+		return _byteRanges;
+	}
+
+	private final BinaryFile _binaryFile;
+	private final String _boundary;
+	private final List<ByteRange> _byteRanges;
+
+}
@@ -69,6 +69,7 @@ import com.liferay.apio.architect.form.FieldType;
 import com.liferay.apio.architect.form.Form;
 import com.liferay.apio.architect.form.FormField;
 import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.body.JSONToBodyConverter.JSONArrayBodyImpl;
 import com.liferay.apio.architect.language.AcceptLanguage;
 
 import java.util.Date;
@@ -117,18 +118,40 @@ public class FormImpl<T> implements Form<T> {
 
 	@Override
 	public List<T> getList(Body body) {
-		Optional<List<Body>> optional = body.getBodyMembersOptional();
+		Stream<T> stream = getStream(body);
 
-		List<Body> bodyMembers = optional.orElseThrow(
-			() -> new BadRequestException("Body does not contain members"));
+		return stream.collect(Collectors.toList());
+	}
 
-		Stream<Body> stream = bodyMembers.stream();
+	/**
+	 * Returns a stream with the result of applying the form to each of the
+	 * body's members. If the body's members are read while being consumed
+	 * (see {@link JSONArrayBodyImpl}), each member is transformed as soon as
+	 * it's read, without keeping the rest of them in memory.
+	 *
+	 * @param  body the body with the members
+	 * @return the stream with the result of applying the form to each member
+	 * @review
+	 */
+	public Stream<T> getStream(Body body) {
+		Stream<Body> stream;
 
-		return stream.map(
-			this::get
-		).collect(
-			Collectors.toList()
-		);
+		if (body instanceof JSONArrayBodyImpl) {
+			JSONArrayBodyImpl jsonArrayBodyImpl = (JSONArrayBodyImpl)body;
+
+			stream = jsonArrayBodyImpl.getBodyMemberStream();
+		}
+		else {
+			Optional<List<Body>> optional = body.getBodyMembersOptional();
+
+			List<Body> bodyMembers = optional.orElseThrow(
+				() -> new BadRequestException(
+					"Body does not contain members"));
+
+			stream = bodyMembers.stream();
+		}
+
+		return stream.map(this::get);
 	}
 
 	@Override
@@ -0,0 +1,114 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.cache;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.internal.annotation.ActionManager;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+import org.slf4j.Logger;
+
+/**
+ * Computes the data needed by the documentation and the entry point in the
+ * background, every time the data in the {@code ManagerCache} is invalidated,
+ * so the first request after a deployment doesn't have to compute it.
+ *
+ * <p>
+ * Deployments usually invalidate the data several times in a row, so the data
+ * is only computed once no invalidation has happened for a second.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(immediate = true, service = DocumentationCacheWarmer.class)
+public class DocumentationCacheWarmer {
+
+	@Activate
+	public void activate() {
+		_scheduledExecutorService = Executors.newSingleThreadScheduledExecutor(
+			runnable -> {
+				Thread thread = new Thread(
+					runnable, "Apio documentation cache warmer");
+
+				thread.setDaemon(true);
+
+				return thread;
+			});
+
+		INSTANCE.addInvalidationListener(_invalidationListener);
+
+		_schedule();
+	}
+
+	@Deactivate
+	public synchronized void deactivate() {
+		INSTANCE.removeInvalidationListener(_invalidationListener);
+
+		_scheduledExecutorService.shutdownNow();
+	}
+
+	private synchronized void _schedule() {
+		if (_scheduledExecutorService.isShutdown()) {
+			return;
+		}
+
+		if (_scheduledFuture != null) {
+			_scheduledFuture.cancel(false);
+		}
+
+		_scheduledFuture = _scheduledExecutorService.schedule(
+			this::_warm, _DELAY, TimeUnit.MILLISECONDS);
+	}
+
+	private void _warm() {
+		try {
+			_representableManager.getRepresentors();
+
+			_actionManager.getEntryPoint();
+		}
+		catch (RuntimeException re) {
+			_logger.debug("Unable to warm the documentation cache", re);
+		}
+	}
+
+	private static final long _DELAY = 1000;
+
+	@Reference
+	private ActionManager _actionManager;
+
+	private final Runnable _invalidationListener = this::_schedule;
+	private final Logger _logger = getLogger(getClass());
+
+	@Reference
+	private RepresentableManager _representableManager;
+
+	private ScheduledExecutorService _scheduledExecutorService;
+	private ScheduledFuture<?> _scheduledFuture;
+
+}
@@ -0,0 +1,648 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.cache;
+
+import static com.liferay.apio.architect.internal.jaxrs.util.EntityTagUtil.matchesIfNoneMatch;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+
+import com.liferay.apio.architect.cache.ResponseCacheInvalidator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Caches the rendered representations of {@code GET} requests, so requests
+ * for resources that haven't changed don't need to execute the action, the
+ * representor and the message mapper again.
+ *
+ * <p>
+ * The cache is disabled by default. It can be enabled and configured with the
+ * {@code response.cache.enabled}, {@code response.cache.max.entries}, {@code
+ * response.cache.max.entry.size} and {@code response.cache.time.to.live}
+ * (in seconds) component properties. The least recently used representations
+ * are evicted when the cache is full, and representations bigger than the
+ * maximum entry size are never cached, so the cache's memory is bounded by the
+ * product of both limits.
+ * </p>
+ *
+ * <p>
+ * Every cached representation has a weak entity tag computed from its bytes.
+ * Requests whose {@code If-None-Match} header matches it receive a {@code 304
+ * Not Modified} response.
+ * </p>
+ *
+ * <p>
+ * Only the responses to requests whose {@link
+ * com.liferay.apio.architect.credentials.Credentials} provide a cache key are
+ * cached. Every cached representation is evicted when the data in the {@code
+ * ManagerCache} is invalidated, since it may have been rendered by routers,
+ * representors or message mappers that are no longer registered.
+ * </p>
+ *
+ * <p>
+ * The documentation and the entry point are cached separately (see {@link
+ * #getDocumentationResponseOptional(HttpServletRequest, Key)}), since they
+ * only change when the API's routers, representors or message mappers do.
+ * This cache is enabled by default, and can be configured with the {@code
+ * response.cache.documentation.enabled}, {@code
+ * response.cache.documentation.max.entries} and {@code
+ * response.cache.documentation.max.entry.size} component properties.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = {ResponseCache.class, ResponseCacheInvalidator.class})
+public class ResponseCache implements ResponseCacheInvalidator {
+
+	@Activate
+	public void activate(Map<String, Object> properties) {
+		modified(properties);
+
+		INSTANCE.addInvalidationListener(_invalidationListener);
+	}
+
+	@Deactivate
+	public void deactivate() {
+		INSTANCE.removeInvalidationListener(_invalidationListener);
+
+		invalidateAll();
+	}
+
+	/**
+	 * Returns the cached documentation or entry point response for the
+	 * request, if present. If the response isn't cached, the request is marked
+	 * so its representation is stored once it's written, and {@code
+	 * Optional#empty()} is returned.
+	 *
+	 * <p>
+	 * Unlike other representations, these responses don't depend on the
+	 * request's credentials and don't expire. They're discarded every time
+	 * the data in the {@code ManagerCache} is invalidated, and have strong
+	 * entity tags.
+	 * </p>
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  key the request's cache key
+	 * @return the cached response, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<Response> getDocumentationResponseOptional(
+		HttpServletRequest httpServletRequest, Key key) {
+
+		if (!_documentationEnabled) {
+			return Optional.empty();
+		}
+
+		long generation = INSTANCE.getGeneration();
+
+		Entry entry = _getDocumentationEntry(key, generation);
+
+		if (entry == null) {
+			httpServletRequest.setAttribute(
+				_PENDING_KEY_ATTRIBUTE, new PendingKey(key, generation, true));
+
+			return Optional.empty();
+		}
+
+		return Optional.of(_getResponse(httpServletRequest, entry));
+	}
+
+	/**
+	 * Returns the output stream that the representation of the current
+	 * request must be written to. If the request's cached response wasn't
+	 * found, the returned stream buffers the representation, stores it in the
+	 * cache and adds its {@code ETag} header once it's closed. Otherwise, the
+	 * provided output stream is returned.
+	 *
+	 * <p>
+	 * If the representation grows bigger than the maximum entry size, the
+	 * returned stream stops buffering and writes it directly to the provided
+	 * output stream, without an {@code ETag} header.
+	 * </p>
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  mediaType the representation's media type
+	 * @param  httpHeaders the response headers
+	 * @param  outputStream the response's output stream
+	 * @return the output stream the representation must be written to
+	 * @review
+	 */
+	public OutputStream getOutputStream(
+		HttpServletRequest httpServletRequest, String mediaType,
+		MultivaluedMap<String, Object> httpHeaders, OutputStream outputStream) {
+
+		Object object = httpServletRequest.getAttribute(_PENDING_KEY_ATTRIBUTE);
+
+		if (!(object instanceof PendingKey)) {
+			return outputStream;
+		}
+
+		httpServletRequest.removeAttribute(_PENDING_KEY_ATTRIBUTE);
+
+		return new CachingOutputStream(
+			(PendingKey)object, mediaType, httpHeaders, outputStream);
+	}
+
+	/**
+	 * Returns the cached response for the request, if present. If the
+	 * response isn't cached, the request is marked so its representation is
+	 * stored once it's written (see {@link #getOutputStream(
+	 * HttpServletRequest, String, MultivaluedMap, OutputStream)}) and {@code
+	 * Optional#empty()} is returned.
+	 *
+	 * @param  httpServletRequest the current request
+	 * @param  key the request's cache key
+	 * @return the cached response, if present; {@code Optional#empty()}
+	 *         otherwise
+	 * @review
+	 */
+	public Optional<Response> getResponseOptional(
+		HttpServletRequest httpServletRequest, Key key) {
+
+		if (!_enabled) {
+			return Optional.empty();
+		}
+
+		Entry entry = _getEntry(key);
+
+		if (entry == null) {
+			httpServletRequest.setAttribute(
+				_PENDING_KEY_ATTRIBUTE,
+				new PendingKey(key, _generation.get(), false));
+
+			return Optional.empty();
+		}
+
+		return Optional.of(_getResponse(httpServletRequest, entry));
+	}
+
+	@Override
+	public void invalidate(String name) {
+		invalidate(Collections.singletonList(name));
+	}
+
+	/**
+	 * Evicts the cached representations whose path contains any of the
+	 * provided path segments.
+	 *
+	 * @param  params the path segments
+	 * @review
+	 */
+	public void invalidate(List<String> params) {
+		_generation.incrementAndGet();
+
+		synchronized (_entries) {
+			Set<Key> keys = _entries.keySet();
+
+			keys.removeIf(key -> !Collections.disjoint(key._params, params));
+		}
+	}
+
+	@Override
+	public void invalidateAll() {
+		_generation.incrementAndGet();
+
+		synchronized (_entries) {
+			_entries.clear();
+		}
+
+		synchronized (_documentationEntries) {
+			_documentationEntries.clear();
+		}
+	}
+
+	/**
+	 * Returns {@code true} if the response cache is enabled.
+	 *
+	 * @return {@code true} if the cache is enabled; {@code false} otherwise
+	 * @review
+	 */
+	public boolean isEnabled() {
+		return _enabled;
+	}
+
+	@Modified
+	public void modified(Map<String, Object> properties) {
+		_enabled = _getProperty(
+			properties, "response.cache.enabled", Boolean::valueOf, false);
+		_maxEntries = _getProperty(
+			properties, "response.cache.max.entries", Integer::valueOf, 1000);
+		_maxEntrySize = _getProperty(
+			properties, "response.cache.max.entry.size", Integer::valueOf,
+			1024 * 1024);
+
+		long timeToLive = _getProperty(
+			properties, "response.cache.time.to.live", Long::valueOf, 60L);
+
+		_timeToLive = TimeUnit.SECONDS.toNanos(timeToLive);
+
+		_documentationEnabled = _getProperty(
+			properties, "response.cache.documentation.enabled",
+			Boolean::valueOf, true);
+		_documentationMaxEntries = _getProperty(
+			properties, "response.cache.documentation.max.entries",
+			Integer::valueOf, 100);
+		_documentationMaxEntrySize = _getProperty(
+			properties, "response.cache.documentation.max.entry.size",
+			Integer::valueOf, 8 * 1024 * 1024);
+
+		invalidateAll();
+	}
+
+	/**
+	 * Identifies a cached representation. Two requests share a representation
+	 * only if their application URL, path, query string, {@code Accept} and
+	 * {@code Accept-Language} headers, and credentials' cache keys are equal.
+	 * The query string includes the {@code fields}, {@code embedded} and
+	 * pagination parameters.
+	 *
+	 * @review
+	 */
+	public static class Key {
+
+		/**
+		 * Creates the cache key of a request.
+		 *
+		 * @param  httpServletRequest the request
+		 * @param  params the path segments of the requested resource
+		 * @param  applicationURL the request's application URL
+		 * @param  credentials the cache key of the request's credentials
+		 * @return the cache key
+		 * @review
+		 */
+		public static Key of(
+			HttpServletRequest httpServletRequest, List<String> params,
+			String applicationURL, String credentials) {
+
+			return new Key(
+				applicationURL, params, httpServletRequest.getQueryString(),
+				httpServletRequest.getHeader("Accept"),
+				httpServletRequest.getHeader("Accept-Language"), credentials);
+		}
+
+		@Override
+		public boolean equals(Object object) {
+			if (this == object) {
+				return true;
+			}
+
+			if (!(object instanceof Key)) {
+				return false;
+			}
+
+			Key key = (Key)object;
+
+			if (Objects.equals(_applicationURL, key._applicationURL) &&
+				Objects.equals(_params, key._params) &&
+				Objects.equals(_queryString, key._queryString) &&
+				Objects.equals(_accept, key._accept) &&
+				Objects.equals(_acceptLanguage, key._acceptLanguage) &&
+				Objects.equals(_credentials, key._credentials)) {
+
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return Objects.hash(
+				_applicationURL, _params, _queryString, _accept,
+				_acceptLanguage, _credentials);
+		}
+
+		private Key(
+			String applicationURL, List<String> params, String queryString,
+			String accept, String acceptLanguage, String credentials) {
+
+			_applicationURL = applicationURL;
+			_params = params;
+			_queryString = queryString;
+			_accept = accept;
+			_acceptLanguage = acceptLanguage;
+			_credentials = credentials;
+		}
+
+		private final String _accept;
+		private final String _acceptLanguage;
+		private final String _applicationURL;
+		private final String _credentials;
+		private final List<String> _params;
+		private final String _queryString;
+
+	}
+
+	private static EntityTag _getEntityTag(byte[] bytes, boolean weak) {
+		MessageDigest messageDigest;
+
+		try {
+			messageDigest = MessageDigest.getInstance("SHA-256");
+		}
+		catch (NoSuchAlgorithmException nsae) {
+			throw new IllegalStateException(nsae);
+		}
+
+		byte[] digest = messageDigest.digest(bytes);
+
+		StringBuilder sb = new StringBuilder(32);
+
+		for (int i = 0; i < 16; i++) {
+			sb.append(Character.forDigit((digest[i] >> 4) & 0xF, 16));
+			sb.append(Character.forDigit(digest[i] & 0xF, 16));
+		}
+
+		return new EntityTag(sb.toString(), weak);
+	}
+
+	private static <T> T _getProperty(
+		Map<String, Object> properties, String key,
+		Function<String, T> function, T defaultValue) {
+
+		return Optional.ofNullable(
+			properties.get(key)
+		).map(
+			String::valueOf
+		).map(
+			function
+		).orElse(
+			defaultValue
+		);
+	}
+
+	private Entry _getDocumentationEntry(Key key, long generation) {
+		synchronized (_documentationEntries) {
+			if (_documentationGeneration != generation) {
+				_documentationEntries.clear();
+
+				_documentationGeneration = generation;
+			}
+
+			return _documentationEntries.get(key);
+		}
+	}
+
+	private Entry _getEntry(Key key) {
+		synchronized (_entries) {
+			Entry entry = _entries.get(key);
+
+			if ((entry != null) &&
+				((System.nanoTime() - entry._expirationTime) > 0)) {
+
+				_entries.remove(key);
+
+				return null;
+			}
+
+			return entry;
+		}
+	}
+
+	private Response _getResponse(
+		HttpServletRequest httpServletRequest, Entry entry) {
+
+		String ifNoneMatch = httpServletRequest.getHeader("If-None-Match");
+
+		if (matchesIfNoneMatch(ifNoneMatch, entry._entityTag)) {
+			return Response.notModified(
+				entry._entityTag
+			).build();
+		}
+
+		return Response.ok(
+			entry._bytes, entry._mediaType
+		).tag(
+			entry._entityTag
+		).build();
+	}
+
+	private void _put(PendingKey pendingKey, Entry entry) {
+		if (pendingKey._documentation) {
+			synchronized (_documentationEntries) {
+				if ((pendingKey._generation == INSTANCE.getGeneration()) &&
+					(pendingKey._generation == _documentationGeneration)) {
+
+					_documentationEntries.put(pendingKey._key, entry);
+				}
+			}
+
+			return;
+		}
+
+		synchronized (_entries) {
+			if (pendingKey._generation == _generation.get()) {
+				_entries.put(pendingKey._key, entry);
+			}
+		}
+	}
+
+	private static final String _PENDING_KEY_ATTRIBUTE =
+		ResponseCache.class.getName() + "#PENDING_KEY";
+
+	private volatile boolean _documentationEnabled = true;
+
+	private final Map<Key, Entry> _documentationEntries =
+		new LinkedHashMap<Key, Entry>(16, 0.75F, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+				if (size() > _documentationMaxEntries) {
+					return true;
+				}
+
+				return false;
+			}
+
+		};
+
+	private long _documentationGeneration = -1;
+	private volatile int _documentationMaxEntries = 100;
+	private volatile int _documentationMaxEntrySize = 8 * 1024 * 1024;
+	private volatile boolean _enabled;
+
+	private final Map<Key, Entry> _entries = new LinkedHashMap<Key, Entry>(
+		16, 0.75F, true) {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, Entry> eldest) {
+			if (size() > _maxEntries) {
+				return true;
+			}
+
+			return false;
+		}
+
+	};
+
+	private final AtomicLong _generation = new AtomicLong();
+	private final Runnable _invalidationListener = this::invalidateAll;
+	private volatile int _maxEntries = 1000;
+	private volatile int _maxEntrySize = 1024 * 1024;
+	private volatile long _timeToLive = TimeUnit.SECONDS.toNanos(60);
+
+	private class CachingOutputStream extends OutputStream {
+
+		@Override
+		public void close() throws IOException {
+			if (_closed) {
+				return;
+			}
+
+			_closed = true;
+
+			if (_byteArrayOutputStream != null) {
+				byte[] bytes = _byteArrayOutputStream.toByteArray();
+
+				Entry entry = new Entry(
+					bytes, _mediaType,
+					_getEntityTag(bytes, !_pendingKey._documentation),
+					System.nanoTime() + _timeToLive);
+
+				_put(_pendingKey, entry);
+
+				_httpHeaders.putSingle(ETAG, entry._entityTag);
+
+				_outputStream.write(bytes);
+			}
+
+			_outputStream.close();
+		}
+
+		@Override
+		public void flush() throws IOException {
+			if (_byteArrayOutputStream == null) {
+				_outputStream.flush();
+			}
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length)
+			throws IOException {
+
+			if (_byteArrayOutputStream != null) {
+				int size = _byteArrayOutputStream.size();
+
+				if ((size + length) <= _maxSize) {
+					_byteArrayOutputStream.write(bytes, offset, length);
+
+					return;
+				}
+
+				_byteArrayOutputStream.writeTo(_outputStream);
+
+				_byteArrayOutputStream = null;
+			}
+
+			_outputStream.write(bytes, offset, length);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			write(new byte[] {(byte)b}, 0, 1);
+		}
+
+		private CachingOutputStream(
+			PendingKey pendingKey, String mediaType,
+			MultivaluedMap<String, Object> httpHeaders,
+			OutputStream outputStream) {
+
+			_pendingKey = pendingKey;
+			_mediaType = mediaType;
+			_httpHeaders = httpHeaders;
+			_outputStream = outputStream;
+
+			if (pendingKey._documentation) {
+				_maxSize = _documentationMaxEntrySize;
+			}
+			else {
+				_maxSize = _maxEntrySize;
+			}
+		}
+
+		private ByteArrayOutputStream _byteArrayOutputStream =
+			new ByteArrayOutputStream();
+		private boolean _closed;
+		private final MultivaluedMap<String, Object> _httpHeaders;
+		private final int _maxSize;
+		private final String _mediaType;
+		private final OutputStream _outputStream;
+		private final PendingKey _pendingKey;
+
+	}
+
+	private static class Entry {
+
+		private Entry(
+			byte[] bytes, String mediaType, EntityTag entityTag,
+			long expirationTime) {
+
+			_bytes = bytes;
+			_mediaType = mediaType;
+			_entityTag = entityTag;
+			_expirationTime = expirationTime;
+		}
+
+		private final byte[] _bytes;
+		private final EntityTag _entityTag;
+		private final long _expirationTime;
+		private final String _mediaType;
+
+	}
+
+	private static class PendingKey {
+
+		private PendingKey(Key key, long generation, boolean documentation) {
+			_key = key;
+			_generation = generation;
+			_documentation = documentation;
+		}
+
+		private final boolean _documentation;
+		private final long _generation;
+		private final Key _key;
+
+	}
+
+}
@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.jaxrs.filter;
 
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
 import com.liferay.apio.architect.internal.jaxrs.util.ErrorUtil;
@@ -60,7 +61,8 @@ public class FailureFilter implements ContainerResponseFilter {
 			entityTry.onFailure(
 				throwable -> {
 					Response response = _errorUtil.getErrorResponse(
-						throwable, _request);
+						throwable, _request,
+						containerRequestContext.getHeaderString(ACCEPT));
 
 					_updateContext(containerResponseContext, response);
 				});
@@ -14,10 +14,13 @@
 
 package com.liferay.apio.architect.internal.jaxrs.mapper;
 
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
+
 import com.liferay.apio.architect.internal.jaxrs.util.ErrorUtil;
 
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.Request;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.ext.ExceptionMapper;
@@ -44,12 +47,16 @@ public class WebApplicationExceptionMapper
 
 	@Override
 	public Response toResponse(WebApplicationException exception) {
-		return _errorUtil.getErrorResponse(exception, _request);
+		return _errorUtil.getErrorResponse(
+			exception, _request, _httpHeaders.getHeaderString(ACCEPT));
 	}
 
 	@Reference
 	private ErrorUtil _errorUtil;
 
+	@Context
+	private HttpHeaders _httpHeaders;
+
 	@Context
 	private Request _request;
 
@@ -14,22 +14,36 @@
 
 package com.liferay.apio.architect.internal.jaxrs.resource;
 
+import static com.liferay.apio.architect.metrics.MetricsRecorder.Stage.ROUTING;
+
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.singletonList;
 
 import static javax.ws.rs.core.Response.Status.METHOD_NOT_ALLOWED;
+import static javax.ws.rs.core.Response.Status.Family.SUCCESSFUL;
 import static javax.ws.rs.core.Response.Status.NOT_FOUND;
 
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.file.BinaryFile;
 import com.liferay.apio.architect.internal.annotation.Action;
 import com.liferay.apio.architect.internal.annotation.Action.Error;
 import com.liferay.apio.architect.internal.annotation.Action.Error.NotAllowed;
 import com.liferay.apio.architect.internal.annotation.ActionManager;
-import com.liferay.apio.architect.internal.documentation.Documentation;
-import com.liferay.apio.architect.internal.entrypoint.EntryPoint;
+import com.liferay.apio.architect.internal.jaxrs.cache.ResponseCache;
+import com.liferay.apio.architect.internal.jaxrs.cache.ResponseCache.Key;
+import com.liferay.apio.architect.internal.jaxrs.util.BinaryFileUtil;
+import com.liferay.apio.architect.internal.metrics.Metrics;
+import com.liferay.apio.architect.internal.url.ApplicationURL;
+import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager;
 
 import io.vavr.control.Either;
+import io.vavr.control.Option;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -45,6 +59,12 @@ import org.osgi.service.component.annotations.Reference;
 /**
  * Declares the resource from which all of the APIs originate.
  *
+ * <p>
+ * The documentation and the entry point are cached per media type, language
+ * and application URL, and served with strong entity tags, until the API's
+ * routers, representors or message mappers change.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @review
  */
@@ -58,8 +78,10 @@ public class RootResource {
 	 */
 	@GET
 	@Path("/doc")
-	public Documentation documentation() {
-		return _actionManager.getDocumentation(_request);
+	public Response documentation() {
+		return _getDocumentationResponse(
+			singletonList("doc"),
+			() -> _actionManager.getDocumentation(_request));
 	}
 
 	/**
@@ -69,8 +91,9 @@ public class RootResource {
 	 */
 	@GET
 	@Path("/")
-	public EntryPoint home() {
-		return _actionManager.getEntryPoint();
+	public Response home() {
+		return _getDocumentationResponse(
+			emptyList(), () -> _actionManager.getEntryPoint());
 	}
 
 	/**
@@ -98,11 +121,73 @@ public class RootResource {
 		).build();
 	}
 
+	private Optional<Response> _getCachedResponseOptional(List<String> params) {
+		if (!_responseCache.isEnabled()) {
+			return Optional.empty();
+		}
+
+		Optional<Credentials> optional = _providerManager.provideOptional(
+			_request, Credentials.class);
+
+		return optional.flatMap(
+			Credentials::getCacheKeyOptional
+		).map(
+			cacheKey -> Key.of(
+				_request, params,
+				_providerManager.provideMandatory(
+					_request, ApplicationURL.class
+				).get(),
+				cacheKey)
+		).flatMap(
+			key -> _responseCache.getResponseOptional(_request, key)
+		);
+	}
+
+	/**
+	 * Returns the cached documentation or entry point response, if present.
+	 * Otherwise, returns a response with the object provided by the supplier,
+	 * which is cached once it's written.
+	 */
+	private Response _getDocumentationResponse(
+		List<String> params, Supplier<?> supplier) {
+
+		Key key = Key.of(
+			_request, params,
+			_providerManager.provideMandatory(
+				_request, ApplicationURL.class
+			).get(),
+			null);
+
+		Optional<Response> optional =
+			_responseCache.getDocumentationResponseOptional(_request, key);
+
+		return optional.orElseGet(
+			() -> Response.ok(
+				supplier.get()
+			).build());
+	}
+
 	@SuppressWarnings("Convert2MethodRef")
 	private Response _getResponse(String method, List<String> params) {
+		boolean get = "GET".equals(method);
+
+		if (get) {
+			Optional<Response> optional = _getCachedResponseOptional(params);
+
+			if (optional.isPresent()) {
+				return optional.get();
+			}
+		}
+
+		long startTime = Metrics.startTime();
+
 		Either<Error, Action> either = _actionManager.getAction(method, params);
 
-		return either.fold(
+		Metrics.recordDuration(
+			ROUTING, _getTag(either, Action::getResourceName),
+			_getTag(either, Action::getName), startTime);
+
+		Response response = either.fold(
 			error -> {
 				if (error instanceof NotAllowed) {
 					return _toResponse((NotAllowed)error);
@@ -111,11 +196,36 @@ public class RootResource {
 				return _notFoundResponse;
 			},
 			action -> _toResponse(action));
+
+		Response.StatusType statusType = response.getStatusInfo();
+
+		if (!get && (statusType.getFamily() == SUCCESSFUL)) {
+			_responseCache.invalidate(params);
+		}
+
+		return response;
+	}
+
+	private String _getTag(
+		Either<Error, Action> either, Function<Action, String> function) {
+
+		return either.toOption(
+		).flatMap(
+			action -> Option.of(function.apply(action))
+		).getOrElse(
+			"unknown"
+		);
 	}
 
 	private Response _toResponse(Action action) {
+		Object object = action.apply(_request);
+
+		if (object instanceof BinaryFile) {
+			return BinaryFileUtil.getResponse((BinaryFile)object, _request);
+		}
+
 		return Response.ok(
-			action.apply(_request)
+			object
 		).build();
 	}
 
@@ -126,7 +236,13 @@ public class RootResource {
 	@Reference
 	private ActionManager _actionManager;
 
+	@Reference
+	private ProviderManager _providerManager;
+
 	@Context
 	private HttpServletRequest _request;
 
+	@Reference
+	private ResponseCache _responseCache;
+
 }
\ No newline at end of file
@@ -0,0 +1,333 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.util;
+
+import static com.liferay.apio.architect.internal.jaxrs.util.EntityTagUtil.matchesIfNoneMatch;
+import static com.liferay.apio.architect.internal.jaxrs.util.EntityTagUtil.quote;
+
+import static javax.ws.rs.core.Response.Status.PARTIAL_CONTENT;
+import static javax.ws.rs.core.Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.internal.file.ByteRange;
+import com.liferay.apio.architect.internal.file.PartialBinaryFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.Response.ResponseBuilder;
+
+import org.slf4j.Logger;
+
+/**
+ * Provides utility functions for creating the response for a {@link
+ * BinaryFile}, honoring the conditional and range headers of the request.
+ *
+ * <p>
+ * The validators of a binary file are its entity tag, if provided, and its
+ * last modification date. If the binary file has a last modification date but
+ * no entity tag, one is created from its size and last modification date.
+ * </p>
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class BinaryFileUtil {
+
+	/**
+	 * Returns the response for a binary file.
+	 *
+	 * <p>
+	 * {@code GET} and {@code HEAD} requests whose {@code If-None-Match} or
+	 * {@code If-Modified-Since} headers match the binary file's validators
+	 * receive a {@code 304 Not Modified} response. {@code GET} requests with
+	 * a {@code Range} header receive a {@code 206 Partial Content} response
+	 * with the requested ranges, or a {@code 416 Range Not Satisfiable}
+	 * response if none of them can be satisfied. The {@code Range} header is
+	 * ignored if an {@code If-Range} header doesn't match the binary file's
+	 * validators.
+	 * </p>
+	 *
+	 * <p>
+	 * The binary file's input stream is closed if the response has no entity
+	 * that writes it, as happens with {@code HEAD} requests and with the
+	 * {@code 304} and {@code 416} responses.
+	 * </p>
+	 *
+	 * @param  binaryFile the binary file
+	 * @param  httpServletRequest the current request
+	 * @return the response
+	 * @review
+	 */
+	public static Response getResponse(
+		BinaryFile binaryFile, HttpServletRequest httpServletRequest) {
+
+		Optional<Date> optional = binaryFile.getLastModifiedOptional();
+
+		Date lastModified = optional.orElse(null);
+
+		EntityTag entityTag = _getEntityTag(binaryFile, lastModified);
+
+		String method = httpServletRequest.getMethod();
+
+		if (!"GET".equals(method) && !"HEAD".equals(method)) {
+			return Response.ok(
+				binaryFile
+			).build();
+		}
+
+		if (_isNotModified(httpServletRequest, entityTag, lastModified)) {
+			_close(binaryFile);
+
+			return _withValidators(
+				Response.notModified(), entityTag, lastModified
+			).build();
+		}
+
+		ResponseBuilder responseBuilder;
+
+		if ("HEAD".equals(method)) {
+			_close(binaryFile);
+
+			responseBuilder = _getHeadResponseBuilder(binaryFile);
+		}
+		else {
+			responseBuilder = _getResponseBuilder(
+				binaryFile, httpServletRequest, entityTag, lastModified);
+		}
+
+		if (binaryFile.getSize() >= 0) {
+			responseBuilder.header("Accept-Ranges", "bytes");
+		}
+
+		return _withValidators(
+			responseBuilder, entityTag, lastModified
+		).build();
+	}
+
+	private static void _close(BinaryFile binaryFile) {
+		Optional<?> optional = binaryFile.getPathOptional();
+
+		if (optional.isPresent()) {
+			return;
+		}
+
+		InputStream inputStream = binaryFile.getInputStream();
+
+		if (inputStream == null) {
+			return;
+		}
+
+		try {
+			inputStream.close();
+		}
+		catch (IOException ioe) {
+			_logger.warn("Unable to close the input stream of a file", ioe);
+		}
+	}
+
+	private static String _createBoundary() {
+		ThreadLocalRandom threadLocalRandom = ThreadLocalRandom.current();
+
+		return Long.toHexString(threadLocalRandom.nextLong()) +
+			Long.toHexString(threadLocalRandom.nextLong());
+	}
+
+	private static long _getDateHeader(
+		HttpServletRequest httpServletRequest, String name) {
+
+		try {
+			return httpServletRequest.getDateHeader(name);
+		}
+		catch (IllegalArgumentException iae) {
+			return -1;
+		}
+	}
+
+	private static EntityTag _getEntityTag(
+		BinaryFile binaryFile, Date lastModified) {
+
+		Optional<String> optional = binaryFile.getEntityTagOptional();
+
+		if (optional.isPresent()) {
+			return new EntityTag(optional.get());
+		}
+
+		if (lastModified == null) {
+			return null;
+		}
+
+		return new EntityTag(
+			Long.toHexString(binaryFile.getSize()) + "-" +
+				Long.toHexString(lastModified.getTime()));
+	}
+
+	private static ResponseBuilder _getHeadResponseBuilder(
+		BinaryFile binaryFile) {
+
+		ResponseBuilder responseBuilder = Response.ok(
+		).type(
+			binaryFile.getMimeType()
+		);
+
+		if (binaryFile.getSize() >= 0) {
+			responseBuilder.header("Content-Length", binaryFile.getSize());
+		}
+
+		return responseBuilder;
+	}
+
+	private static ResponseBuilder _getResponseBuilder(
+		BinaryFile binaryFile, HttpServletRequest httpServletRequest,
+		EntityTag entityTag, Date lastModified) {
+
+		long size = binaryFile.getSize();
+
+		if (!_isRangeValid(httpServletRequest, entityTag, lastModified)) {
+			return Response.ok(binaryFile);
+		}
+
+		Optional<List<ByteRange>> optional = ByteRange.parse(
+			httpServletRequest.getHeader("Range"), size);
+
+		if (!optional.isPresent()) {
+			return Response.ok(binaryFile);
+		}
+
+		List<ByteRange> byteRanges = optional.get();
+
+		if (byteRanges.isEmpty()) {
+			_close(binaryFile);
+
+			return Response.status(
+				REQUESTED_RANGE_NOT_SATISFIABLE
+			).header(
+				"Content-Range", "bytes */" + size
+			);
+		}
+
+		if (byteRanges.size() == 1) {
+			return Response.status(
+				PARTIAL_CONTENT
+			).entity(
+				new PartialBinaryFile(binaryFile, byteRanges, null)
+			);
+		}
+
+		return Response.status(
+			PARTIAL_CONTENT
+		).entity(
+			new PartialBinaryFile(binaryFile, byteRanges, _createBoundary())
+		);
+	}
+
+	private static boolean _isNotModified(
+		HttpServletRequest httpServletRequest, EntityTag entityTag,
+		Date lastModified) {
+
+		String ifNoneMatch = httpServletRequest.getHeader("If-None-Match");
+
+		if (ifNoneMatch != null) {
+			return matchesIfNoneMatch(ifNoneMatch, entityTag);
+		}
+
+		if (lastModified == null) {
+			return false;
+		}
+
+		long ifModifiedSince = _getDateHeader(
+			httpServletRequest, "If-Modified-Since");
+
+		if (ifModifiedSince == -1) {
+			return false;
+		}
+
+		if ((lastModified.getTime() / 1000) <= (ifModifiedSince / 1000)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static boolean _isRangeValid(
+		HttpServletRequest httpServletRequest, EntityTag entityTag,
+		Date lastModified) {
+
+		String ifRange = httpServletRequest.getHeader("If-Range");
+
+		if (ifRange == null) {
+			return true;
+		}
+
+		ifRange = ifRange.trim();
+
+		if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+			if (entityTag == null) {
+				return false;
+			}
+
+			return ifRange.equals(quote(entityTag));
+		}
+
+		if (lastModified == null) {
+			return false;
+		}
+
+		long date = _getDateHeader(httpServletRequest, "If-Range");
+
+		if ((lastModified.getTime() / 1000) == (date / 1000)) {
+			return true;
+		}
+
+		return false;
+	}
+
+	private static ResponseBuilder _withValidators(
+		ResponseBuilder responseBuilder, EntityTag entityTag,
+		Date lastModified) {
+
+		if (entityTag != null) {
+			responseBuilder.tag(entityTag);
+		}
+
+		if (lastModified != null) {
+			responseBuilder.lastModified(lastModified);
+		}
+
+		return responseBuilder;
+	}
+
+	private BinaryFileUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static final Logger _logger = getLogger(BinaryFileUtil.class);
+
+}
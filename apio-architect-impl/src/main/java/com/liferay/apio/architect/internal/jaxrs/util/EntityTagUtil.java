@@ -0,0 +1,87 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.util;
+
+import javax.ws.rs.core.EntityTag;
+
+/**
+ * Provides utility functions for comparing the entity tags of a response with
+ * the ones sent in the conditional headers of a request.
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class EntityTagUtil {
+
+	/**
+	 * Returns {@code true} if the value of an {@code If-None-Match} header
+	 * matches the entity tag. Entity tags are compared with the weak
+	 * comparison function, so their weakness indicator is ignored.
+	 *
+	 * @param  ifNoneMatch the value of the {@code If-None-Match} header
+	 * @param  entityTag the entity tag
+	 * @return {@code true} if the header matches the entity tag; {@code false}
+	 *         otherwise
+	 * @review
+	 */
+	public static boolean matchesIfNoneMatch(
+		String ifNoneMatch, EntityTag entityTag) {
+
+		if ((ifNoneMatch == null) || (entityTag == null)) {
+			return false;
+		}
+
+		String quotedValue = quote(entityTag);
+
+		for (String value : ifNoneMatch.split(",")) {
+			value = value.trim();
+
+			if (value.equals("*")) {
+				return true;
+			}
+
+			if (value.startsWith("W/")) {
+				value = value.substring(2);
+			}
+
+			if (value.equals(quotedValue)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns the opaque value of the entity tag between quotes, without its
+	 * weakness indicator.
+	 *
+	 * @param  entityTag the entity tag
+	 * @return the quoted value
+	 * @review
+	 */
+	public static String quote(EntityTag entityTag) {
+		return "\"" + entityTag.getValue() + "\"";
+	}
+
+	private EntityTagUtil() {
+		throw new UnsupportedOperationException();
+	}
+
+}
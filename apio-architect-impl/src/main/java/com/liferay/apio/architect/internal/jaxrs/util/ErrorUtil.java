@@ -49,10 +49,11 @@ public class ErrorUtil {
 	 *
 	 * @param  e the exception
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @return the response
 	 */
 	public <E extends Throwable> Response getErrorResponse(
-		E e, Request request) {
+		E e, Request request, String acceptHeader) {
 
 		if (!Exception.class.isAssignableFrom(e.getClass())) {
 			_logException(e, e.getMessage());
@@ -85,7 +86,8 @@ public class ErrorUtil {
 		int statusCode = apiError.getStatusCode();
 
 		Optional<ErrorMessageMapper> errorMessageMapperOptional =
-			_errorMessageMapperManager.getErrorMessageMapperOptional(request);
+			_errorMessageMapperManager.getErrorMessageMapperOptional(
+				request, acceptHeader);
 
 		return errorMessageMapperOptional.map(
 			errorMessageMapper -> Response.status(
@@ -58,10 +58,11 @@ public class BatchResultMessageBodyWriter<T>
 
 	@Override
 	public Optional<BatchResultMessageMapper<T>> getMessageMapperOptional(
-		Request request) {
+		Request request, String acceptHeader) {
 
 		return _batchResultMessageMapperManager.
-			getBatchResultMessageMapperOptional(request);
+			getBatchResultMessageMapperOptional(
+				request, acceptHeader);
 	}
 
 	@Override
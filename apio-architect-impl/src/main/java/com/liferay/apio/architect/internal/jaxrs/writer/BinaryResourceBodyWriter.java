@@ -18,9 +18,9 @@ import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
 import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.internal.file.BinaryFileReader;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.io.OutputStream;
 
 import java.lang.annotation.Annotation;
@@ -79,13 +79,10 @@ public class BinaryResourceBodyWriter implements MessageBodyWriter<BinaryFile> {
 		multivaluedMap.put(
 			CONTENT_LENGTH, Collections.singletonList(binaryFile.getSize()));
 
-		byte[] bytes = new byte[1024];
+		try (BinaryFileReader binaryFileReader = new BinaryFileReader(
+				binaryFile)) {
 
-		InputStream inputStream = binaryFile.getInputStream();
-		int value = -1;
-
-		while ((value = inputStream.read(bytes)) != -1) {
-			outputStream.write(bytes, 0, value);
+			binaryFileReader.transferTo(outputStream);
 		}
 
 		outputStream.close();
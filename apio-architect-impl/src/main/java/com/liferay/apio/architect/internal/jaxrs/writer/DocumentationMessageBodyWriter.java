@@ -24,6 +24,9 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.Rep
 import com.liferay.apio.architect.internal.writer.DocumentationWriter;
 import com.liferay.apio.architect.representor.BaseRepresentor;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.util.Optional;
 
 import javax.ws.rs.core.Request;
@@ -57,10 +60,11 @@ public class DocumentationMessageBodyWriter
 
 	@Override
 	public Optional<DocumentationMessageMapper> getMessageMapperOptional(
-		Request request) {
+		Request request, String acceptHeader) {
 
 		return _documentationMessageMapperManager.
-			getDocumentationMessageMapperOptional(request);
+			getDocumentationMessageMapperOptional(
+				request, acceptHeader);
 	}
 
 	@Override
@@ -69,7 +73,31 @@ public class DocumentationMessageBodyWriter
 		DocumentationMessageMapper documentationMessageMapper,
 		RequestInfo requestInfo) {
 
-		DocumentationWriter documentationWriter = DocumentationWriter.create(
+		DocumentationWriter documentationWriter = _createDocumentationWriter(
+			documentation, documentationMessageMapper, requestInfo);
+
+		return documentationWriter.write();
+	}
+
+	@Override
+	protected void write(
+			Documentation documentation,
+			DocumentationMessageMapper documentationMessageMapper,
+			RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		DocumentationWriter documentationWriter = _createDocumentationWriter(
+			documentation, documentationMessageMapper, requestInfo);
+
+		documentationWriter.write(outputStream);
+	}
+
+	private DocumentationWriter _createDocumentationWriter(
+		Documentation documentation,
+		DocumentationMessageMapper documentationMessageMapper,
+		RequestInfo requestInfo) {
+
+		return DocumentationWriter.create(
 			builder -> builder.documentation(
 				documentation
 			).documentationMessageMapper(
@@ -85,8 +113,6 @@ public class DocumentationMessageBodyWriter
 					BaseRepresentor::getPrimaryType
 				)
 			).build());
-
-		return documentationWriter.write();
 	}
 
 	@Reference
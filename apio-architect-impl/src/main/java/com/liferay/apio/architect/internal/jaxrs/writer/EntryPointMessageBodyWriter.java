@@ -58,10 +58,11 @@ public class EntryPointMessageBodyWriter
 
 	@Override
 	public Optional<EntryPointMessageMapper> getMessageMapperOptional(
-		Request request) {
+		Request request, String acceptHeader) {
 
 		return _entryPointMessageMapperManager.
-			getEntryPointMessageMapperOptional(request);
+			getEntryPointMessageMapperOptional(
+				request, acceptHeader);
 	}
 
 	@Override
@@ -26,6 +26,9 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathId
 import com.liferay.apio.architect.internal.writer.PageWriter;
 import com.liferay.apio.architect.pagination.Page;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.util.Optional;
 
 import javax.ws.rs.core.Request;
@@ -61,9 +64,10 @@ public class PageMessageBodyWriter<T>
 
 	@Override
 	public Optional<PageMessageMapper<T>> getMessageMapperOptional(
-		Request request) {
+		Request request, String acceptHeader) {
 
-		return _pageMessageMapperManager.getPageMessageMapperOptional(request);
+		return _pageMessageMapperManager.getPageMessageMapperOptional(
+			request, acceptHeader);
 	}
 
 	@Override
@@ -71,10 +75,32 @@ public class PageMessageBodyWriter<T>
 		Page<T> page, PageMessageMapper<T> pageMessageMapper,
 		RequestInfo requestInfo) {
 
+		PageWriter<T> pageWriter = _createPageWriter(
+			page, pageMessageMapper, requestInfo);
+
+		return pageWriter.write();
+	}
+
+	@Override
+	protected void write(
+			Page<T> page, PageMessageMapper<T> pageMessageMapper,
+			RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		PageWriter<T> pageWriter = _createPageWriter(
+			page, pageMessageMapper, requestInfo);
+
+		pageWriter.write(outputStream);
+	}
+
+	private PageWriter<T> _createPageWriter(
+		Page<T> page, PageMessageMapper<T> pageMessageMapper,
+		RequestInfo requestInfo) {
+
 		Credentials credentials = providerManager.provideMandatory(
 			request, Credentials.class);
 
-		PageWriter<T> pageWriter = PageWriter.create(
+		return PageWriter.create(
 			builder -> builder.page(
 				page
 			).pageMessageMapper(
@@ -93,9 +119,12 @@ public class PageMessageBodyWriter<T>
 			).actionSemanticsFunction(
 				resource -> actionManager.getActionSemantics(
 					resource, credentials)
+			).allowedActionNamesFunction(
+				(name, identifiers) -> actionManager.getAllowedActionNames(
+					name, identifiers, credentials)
+			).batchSingleModelFunction(
+				this::getSingleModelsOptional
 			).build());
-
-		return pageWriter.write();
 	}
 
 	@Reference
@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.writer;
+
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+
+import static javax.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
+import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.internal.file.BinaryFileReader;
+import com.liferay.apio.architect.internal.file.ByteRange;
+import com.liferay.apio.architect.internal.file.PartialBinaryFile;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Writes the requested ranges of a binary file. A single range is written as
+ * is, and several ranges are written as a {@code multipart/byteranges} body.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	property = {
+		"osgi.jaxrs.application.select=(liferay.apio.architect.application=true)",
+		"osgi.jaxrs.extension=true"
+	},
+	service = MessageBodyWriter.class
+)
+@Provider
+public class PartialBinaryFileBodyWriter
+	implements MessageBodyWriter<PartialBinaryFile> {
+
+	public long getSize(
+		PartialBinaryFile partialBinaryFile, Class<?> aClass, Type type,
+		Annotation[] annotations, MediaType mediaType) {
+
+		return -1;
+	}
+
+	public boolean isWriteable(
+		Class<?> clazz, Type genericType, Annotation[] annotations,
+		MediaType mediaType) {
+
+		return PartialBinaryFile.class.isAssignableFrom(clazz);
+	}
+
+	@Override
+	public void writeTo(
+			PartialBinaryFile partialBinaryFile, Class<?> aClass, Type type,
+			Annotation[] annotations, MediaType mediaType,
+			MultivaluedMap<String, Object> multivaluedMap,
+			OutputStream outputStream)
+		throws IOException, WebApplicationException {
+
+		BinaryFile binaryFile = partialBinaryFile.getBinaryFile();
+
+		List<ByteRange> byteRanges = partialBinaryFile.getByteRanges();
+
+		try (BinaryFileReader binaryFileReader = new BinaryFileReader(
+				binaryFile)) {
+
+			if (byteRanges.size() == 1) {
+				_writeRange(
+					binaryFile, byteRanges.get(0), binaryFileReader,
+					multivaluedMap, outputStream);
+			}
+			else {
+				_writeRanges(
+					binaryFile, byteRanges, partialBinaryFile.getBoundary(),
+					binaryFileReader, multivaluedMap, outputStream);
+			}
+		}
+
+		outputStream.close();
+	}
+
+	private void _writeRange(
+			BinaryFile binaryFile, ByteRange byteRange,
+			BinaryFileReader binaryFileReader,
+			MultivaluedMap<String, Object> multivaluedMap,
+			OutputStream outputStream)
+		throws IOException {
+
+		multivaluedMap.put(
+			CONTENT_TYPE, Collections.singletonList(binaryFile.getMimeType()));
+
+		multivaluedMap.put(
+			CONTENT_LENGTH, Collections.singletonList(byteRange.getLength()));
+
+		multivaluedMap.put(
+			"Content-Range",
+			Collections.singletonList(
+				byteRange.getContentRange(binaryFile.getSize())));
+
+		binaryFileReader.transferTo(
+			byteRange.getStart(), byteRange.getLength(), outputStream);
+	}
+
+	private void _writeRanges(
+			BinaryFile binaryFile, List<ByteRange> byteRanges, String boundary,
+			BinaryFileReader binaryFileReader,
+			MultivaluedMap<String, Object> multivaluedMap,
+			OutputStream outputStream)
+		throws IOException {
+
+		List<byte[]> partHeaders = new ArrayList<>(byteRanges.size());
+
+		String mimeType = binaryFile.getMimeType();
+
+		byte[] end = ("\r\n--" + boundary + "--\r\n").getBytes(ISO_8859_1);
+
+		long length = end.length;
+
+		for (ByteRange byteRange : byteRanges) {
+			StringBuilder sb = new StringBuilder();
+
+			sb.append("\r\n--");
+			sb.append(boundary);
+			sb.append("\r\n");
+
+			if (mimeType != null) {
+				sb.append(CONTENT_TYPE);
+				sb.append(": ");
+				sb.append(mimeType);
+				sb.append("\r\n");
+			}
+
+			sb.append("Content-Range: ");
+			sb.append(byteRange.getContentRange(binaryFile.getSize()));
+			sb.append("\r\n\r\n");
+
+			String partHeader = sb.toString();
+
+			byte[] bytes = partHeader.getBytes(ISO_8859_1);
+
+			partHeaders.add(bytes);
+
+			length += bytes.length + byteRange.getLength();
+		}
+
+		multivaluedMap.put(
+			CONTENT_TYPE,
+			Collections.singletonList(
+				"multipart/byteranges; boundary=" + boundary));
+
+		multivaluedMap.put(CONTENT_LENGTH, Collections.singletonList(length));
+
+		for (int i = 0; i < byteRanges.size(); i++) {
+			ByteRange byteRange = byteRanges.get(i);
+
+			outputStream.write(partHeaders.get(i));
+
+			binaryFileReader.transferTo(
+				byteRange.getStart(), byteRange.getLength(), outputStream);
+		}
+
+		outputStream.write(end);
+	}
+
+}
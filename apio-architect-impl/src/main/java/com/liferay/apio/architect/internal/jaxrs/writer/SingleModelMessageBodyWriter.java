@@ -17,16 +17,24 @@ package com.liferay.apio.architect.internal.jaxrs.writer;
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.internal.action.ActionSemantics;
 import com.liferay.apio.architect.internal.jaxrs.writer.base.BaseMessageBodyWriter;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.message.json.SingleModelMessageMapperManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.RepresentableManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
+import com.liferay.apio.architect.internal.writer.AllowedActionsLoader;
 import com.liferay.apio.architect.internal.writer.SingleModelWriter;
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.single.model.SingleModel;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import javax.ws.rs.NotFoundException;
 import javax.ws.rs.core.Request;
@@ -62,10 +70,11 @@ public class SingleModelMessageBodyWriter<T>
 
 	@Override
 	public Optional<SingleModelMessageMapper<T>> getMessageMapperOptional(
-		Request request) {
+		Request request, String acceptHeader) {
 
 		return _singleModelMessageMapperManager.
-			getSingleModelMessageMapperOptional(request);
+			getSingleModelMessageMapperOptional(
+				request, acceptHeader);
 	}
 
 	@Override
@@ -74,10 +83,42 @@ public class SingleModelMessageBodyWriter<T>
 		SingleModelMessageMapper<T> singleModelMessageMapper,
 		RequestInfo requestInfo) {
 
+		SingleModelWriter<T> singleModelWriter = _createSingleModelWriter(
+			singleModel, singleModelMessageMapper, requestInfo);
+
+		Optional<String> optional = singleModelWriter.write();
+
+		return optional.orElseThrow(NotFoundException::new);
+	}
+
+	@Override
+	protected void write(
+			SingleModel<T> singleModel,
+			SingleModelMessageMapper<T> singleModelMessageMapper,
+			RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		SingleModelWriter<T> singleModelWriter = _createSingleModelWriter(
+			singleModel, singleModelMessageMapper, requestInfo);
+
+		if (!singleModelWriter.write(outputStream)) {
+			throw new NotFoundException();
+		}
+	}
+
+	private SingleModelWriter<T> _createSingleModelWriter(
+		SingleModel<T> singleModel,
+		SingleModelMessageMapper<T> singleModelMessageMapper,
+		RequestInfo requestInfo) {
+
 		Credentials credentials = providerManager.provideMandatory(
 			request, Credentials.class);
 
-		SingleModelWriter<T> singleModelWriter = SingleModelWriter.create(
+		AllowedActionsLoader allowedActionsLoader = new AllowedActionsLoader(
+			(name, identifiers) -> actionManager.getAllowedActionNames(
+				name, identifiers, credentials));
+
+		return SingleModelWriter.create(
 			builder -> builder.singleModel(
 				singleModel
 			).modelMessageMapper(
@@ -94,13 +135,23 @@ public class SingleModelMessageBodyWriter<T>
 			).singleModelFunction(
 				this::getSingleModelOptional
 			).actionSemanticsFunction(
-				resource -> actionManager.getActionSemantics(
-					resource, credentials)
+				resource -> _getActionSemantics(
+					resource, credentials, allowedActionsLoader)
 			).build());
+	}
 
-		Optional<String> optional = singleModelWriter.write();
+	private Stream<ActionSemantics> _getActionSemantics(
+		Resource resource, Credentials credentials,
+		AllowedActionsLoader allowedActionsLoader) {
 
-		return optional.orElseThrow(NotFoundException::new);
+		Stream<ActionSemantics> stream = actionManager.getActionSemantics(
+			resource, credentials);
+
+		if (resource instanceof Item) {
+			return allowedActionsLoader.filter((Item)resource, stream);
+		}
+
+		return stream;
 	}
 
 	@Reference
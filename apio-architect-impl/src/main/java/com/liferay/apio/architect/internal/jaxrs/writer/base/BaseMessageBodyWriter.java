@@ -16,11 +16,15 @@ package com.liferay.apio.architect.internal.jaxrs.writer.base;
 
 import static java.util.Collections.singletonList;
 
+import static javax.ws.rs.core.HttpHeaders.ACCEPT;
 import static javax.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.annotation.ActionManager;
+import com.liferay.apio.architect.internal.jaxrs.cache.ResponseCache;
+import com.liferay.apio.architect.internal.message.json.JSONOutputProfile;
 import com.liferay.apio.architect.internal.message.json.MessageMapper;
+import com.liferay.apio.architect.internal.metrics.Metrics;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.response.control.Embedded;
 import com.liferay.apio.architect.internal.response.control.Fields;
@@ -30,11 +34,13 @@ import com.liferay.apio.architect.internal.wiring.osgi.manager.provider.Provider
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.NameManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
 import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.resource.Resource.Id;
 import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
@@ -44,7 +50,9 @@ import java.lang.reflect.Type;
 
 import java.nio.charset.StandardCharsets;
 
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 
 import javax.servlet.http.HttpServletRequest;
@@ -81,10 +89,12 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	 * returns {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @return the message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
-	public abstract Optional<S> getMessageMapperOptional(Request request);
+	public abstract Optional<S> getMessageMapperOptional(
+		Request request, String acceptHeader);
 
 	@Override
 	public long getSize(
@@ -107,14 +117,10 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 			T t, Class<?> aClass, Type type, Annotation[] annotations,
 			MediaType mediaType, MultivaluedMap<String, Object> httpHeaders,
 			OutputStream outputStream)
-		throws WebApplicationException {
+		throws IOException, WebApplicationException {
 
-		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
-			outputStream, StandardCharsets.UTF_8);
-
-		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
-
-		Optional<S> optional = getMessageMapperOptional(_request);
+		Optional<S> optional = getMessageMapperOptional(
+			_request, request.getHeader(ACCEPT));
 
 		S s = optional.orElseThrow(NotSupportedException::new);
 
@@ -143,15 +149,29 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 				).orElse(
 					Locale::getDefault
 				)
+			).jsonOutputProfile(
+				providerManager.provideOptional(
+					request, JSONOutputProfile.class
+				).orElse(
+					JSONOutputProfile.COMPACT
+				)
 			).build());
 
-		String result = write(t, s, requestInfo);
-
 		httpHeaders.put(CONTENT_TYPE, singletonList(s.getMediaType()));
 
-		printWriter.println(result);
+		OutputStream responseOutputStream = responseCache.getOutputStream(
+			request, s.getMediaType(), httpHeaders, outputStream);
 
-		printWriter.close();
+		OutputStream meteredOutputStream = Metrics.meter(responseOutputStream);
+
+		write(t, s, requestInfo, meteredOutputStream);
+
+		if (responseOutputStream != outputStream) {
+			responseOutputStream.close();
+		}
+
+		Metrics.recordWriting(
+			meteredOutputStream, _getResourceName(t), request.getMethod());
 	}
 
 	/**
@@ -176,6 +196,28 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 		);
 	}
 
+	/**
+	 * Returns the {@link SingleModel} instances identified by the supplied
+	 * identifiers, keyed by their identifier, if the resource can be retrieved
+	 * in batches; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  identifiers the single models identifiers
+	 * @param  identifierClass the resource identifier class
+	 * @return the {@code SingleModel} instances found, if the resource can be
+	 *         retrieved in batches; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	protected Optional<Map<Object, SingleModel>> getSingleModelsOptional(
+		List<Object> identifiers, Class<? extends Identifier> identifierClass) {
+
+		Optional<String> nameOptional = nameManager.getNameOptional(
+			identifierClass.getName());
+
+		return nameOptional.flatMap(
+			name -> actionManager.getItemSingleModels(
+				name, identifiers, request));
+	}
+
 	/**
 	 * Writes the element to a {@code String} by using the supplied message
 	 * mapper and the current {@link RequestInfo}.
@@ -187,6 +229,40 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	 */
 	protected abstract String write(T t, S s, RequestInfo requestInfo);
 
+	/**
+	 * Writes the element directly to the output stream by using the supplied
+	 * message mapper and the current {@link RequestInfo}.
+	 *
+	 * <p>
+	 * By default, this method writes the {@code String} returned by {@link
+	 * #write(Object, MessageMapper, RequestInfo)}. Writers able to generate the
+	 * representation incrementally should override it to avoid creating the
+	 * intermediate {@code String}.
+	 * </p>
+	 *
+	 * @param  t the element being written
+	 * @param  s the message mapper
+	 * @param  requestInfo the current request info
+	 * @param  outputStream the output stream
+	 * @throws IOException if the element couldn't be written
+	 * @review
+	 */
+	protected void write(
+			T t, S s, RequestInfo requestInfo, OutputStream outputStream)
+		throws IOException {
+
+		String result = write(t, s, requestInfo);
+
+		OutputStreamWriter outputStreamWriter = new OutputStreamWriter(
+			outputStream, StandardCharsets.UTF_8);
+
+		PrintWriter printWriter = new PrintWriter(outputStreamWriter, true);
+
+		printWriter.println(result);
+
+		printWriter.close();
+	}
+
 	@Reference
 	protected ActionManager actionManager;
 
@@ -202,6 +278,9 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 	@Context
 	protected HttpServletRequest request;
 
+	@Reference
+	protected ResponseCache responseCache;
+
 	private Optional<Item> _getItem(String name, Object identifier) {
 		Optional<Path> optionalPath = pathIdentifierMapperManager.mapToPath(
 			name, identifier);
@@ -213,6 +292,22 @@ public abstract class BaseMessageBodyWriter<T, S extends MessageMapper>
 		);
 	}
 
+	private String _getResourceName(Object object) {
+		if (object instanceof SingleModel) {
+			SingleModel<?> singleModel = (SingleModel<?>)object;
+
+			return singleModel.getResourceName();
+		}
+
+		if (object instanceof Page) {
+			Page<?> page = (Page<?>)object;
+
+			return page.getResourceName();
+		}
+
+		return null;
+	}
+
 	@Context
 	private Request _request;
 
@@ -14,11 +14,12 @@
 
 package com.liferay.apio.architect.internal.list;
 
-import java.util.ArrayList;
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -27,6 +28,12 @@ import java.util.stream.Stream;
  * methods this interface defines to take different elements from the list.
  * Instances of {@code FunctionalList} should always have at least one element.
  *
+ * <p>
+ * Lists are persistent: creating a list from a previous one only links to it,
+ * so appending an element takes constant time and never copies the previous
+ * elements. The elements are collected the first time a stream is requested.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés§
  * @author Jorge Ferrer
@@ -35,20 +42,16 @@ import java.util.stream.Stream;
 public class FunctionalList<E> {
 
 	public FunctionalList(FunctionalList<E> functionalList, E last) {
+		_parent = functionalList;
+		_element = last;
+
 		if (functionalList == null) {
 			_first = last;
-			_tail = Collections.emptyList();
+			_size = 1;
 		}
 		else {
-			_first = functionalList.head();
-
-			Stream<E> stream = functionalList.tailStream();
-
-			List<E> tail = stream.collect(Collectors.toList());
-
-			tail.add(last);
-
-			_tail = tail;
+			_first = functionalList._first;
+			_size = functionalList._size + 1;
 		}
 	}
 
@@ -68,19 +71,13 @@ public class FunctionalList<E> {
 	 *         list
 	 */
 	public Stream<E> initStream() {
-		if (_init == null) {
-			List<E> init = new ArrayList<>();
-
-			init.add(_first);
-
-			Stream<E> stream = middleStream();
-
-			init.addAll(stream.collect(Collectors.toList()));
-
-			_init = init;
+		if (_parent == null) {
+			return Stream.of(_first);
 		}
 
-		return _init.stream();
+		List<E> elements = _parent._getElements();
+
+		return elements.stream();
 	}
 
 	/**
@@ -89,15 +86,11 @@ public class FunctionalList<E> {
 	 * @return the last element of the list; {@code Optional.empty()} otherwise
 	 */
 	public Optional<E> lastOptional() {
-		if (_last == null) {
-			if (_tail.size() == 0) {
-				return Optional.empty();
-			}
-
-			_last = _tail.get(_tail.size() - 1);
+		if (_parent == null) {
+			return Optional.empty();
 		}
 
-		return Optional.of(_last);
+		return Optional.of(_element);
 	}
 
 	/**
@@ -107,16 +100,25 @@ public class FunctionalList<E> {
 	 *         and last
 	 */
 	public Stream<E> middleStream() {
-		if (_middle == null) {
-			if (_tail.size() == 0) {
-				_middle = Collections.emptyList();
-			}
-			else {
-				_middle = _tail.subList(0, _tail.size() - 1);
-			}
+		if (_size < 3) {
+			return Stream.empty();
 		}
 
-		return _middle.stream();
+		List<E> elements = _getElements();
+
+		List<E> middle = elements.subList(1, _size - 1);
+
+		return middle.stream();
+	}
+
+	/**
+	 * Returns the number of elements of the list.
+	 *
+	 * @return the number of elements of the list
+	 * @review
+	 */
+	public int size() {
+		return _size;
 	}
 
 	/**
@@ -125,13 +127,41 @@ public class FunctionalList<E> {
 	 * @return a {@code Stream} that contains all list elements except the first
 	 */
 	public Stream<E> tailStream() {
-		return _tail.stream();
+		if (_parent == null) {
+			return Stream.empty();
+		}
+
+		List<E> elements = _getElements();
+
+		List<E> tail = elements.subList(1, _size);
+
+		return tail.stream();
+	}
+
+	private List<E> _getElements() {
+		if (_elements == null) {
+			Object[] elements = new Object[_size];
+
+			FunctionalList<E> functionalList = this;
+
+			for (int i = _size - 1; i >= 0; i--) {
+				elements[i] = functionalList._element;
+
+				functionalList = functionalList._parent;
+			}
+
+			List<E> list = unsafeCast(Arrays.asList(elements));
+
+			_elements = Collections.unmodifiableList(list);
+		}
+
+		return _elements;
 	}
 
+	private final E _element;
+	private List<E> _elements;
 	private final E _first;
-	private List<E> _init;
-	private E _last;
-	private List<E> _middle;
-	private final List<E> _tail;
+	private final FunctionalList<E> _parent;
+	private final int _size;
 
-}
\ No newline at end of file
+}
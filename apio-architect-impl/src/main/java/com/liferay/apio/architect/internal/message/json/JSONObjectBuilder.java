@@ -14,19 +14,35 @@
 
 package com.liferay.apio.architect.internal.message.json;
 
-import static com.fasterxml.jackson.databind.MapperFeature.SORT_PROPERTIES_ALPHABETICALLY;
 import static com.fasterxml.jackson.databind.SerializationFeature.INDENT_OUTPUT;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import com.liferay.apio.architect.internal.list.FunctionalList;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 /**
  * Creates JSON objects. Instances of this interface should be used to write a
@@ -90,19 +106,132 @@ public class JSONObjectBuilder {
 
 	/**
 	 * Returns the JSON object constructed as a {@code String} by the JSON
-	 * object builder.
+	 * object builder, using the {@link JSONOutputProfile#COMPACT} profile.
 	 *
 	 * @return the JSON object
 	 */
 	public String build() {
+		return build(JSONOutputProfile.COMPACT);
+	}
+
+	/**
+	 * Returns the JSON object constructed as a {@code String} by the JSON
+	 * object builder, using the provided output profile.
+	 *
+	 * @param  jsonOutputProfile the output profile
+	 * @return the JSON object
+	 * @review
+	 */
+	public String build(JSONOutputProfile jsonOutputProfile) {
+		ObjectWriter objectWriter = _getObjectWriter(jsonOutputProfile);
+
 		try {
-			return _OBJECT_MAPPER.writeValueAsString(_objectNode);
+			return objectWriter.writeValueAsString(
+				_getJsonNode(jsonOutputProfile));
 		}
 		catch (JsonProcessingException jpe) {
 			return _objectNode.toString();
 		}
 	}
 
+	/**
+	 * Writes the JSON object constructed by the JSON object builder directly to
+	 * the provided output stream, using a {@code JsonGenerator} bound to it.
+	 * Unlike {@link #build()}, this method doesn't create an intermediate
+	 * {@code String} with the whole JSON object. The {@link
+	 * JSONOutputProfile#COMPACT} profile is used. The output stream is flushed,
+	 * but not closed.
+	 *
+	 * @param  outputStream the output stream
+	 * @throws IOException if the JSON object couldn't be written
+	 * @review
+	 */
+	public void writeTo(OutputStream outputStream) throws IOException {
+		writeTo(outputStream, JSONOutputProfile.COMPACT);
+	}
+
+	/**
+	 * Writes the JSON object constructed by the JSON object builder directly to
+	 * the provided output stream, using the provided output profile. The
+	 * output stream is flushed, but not closed.
+	 *
+	 * @param  outputStream the output stream
+	 * @param  jsonOutputProfile the output profile
+	 * @throws IOException if the JSON object couldn't be written
+	 * @review
+	 */
+	public void writeTo(
+			OutputStream outputStream, JSONOutputProfile jsonOutputProfile)
+		throws IOException {
+
+		JsonFactory jsonFactory = _OBJECT_MAPPER.getFactory();
+
+		JsonGenerator jsonGenerator = jsonFactory.createGenerator(
+			outputStream, JsonEncoding.UTF8);
+
+		jsonGenerator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+		ObjectWriter objectWriter = _getObjectWriter(jsonOutputProfile);
+
+		objectWriter.writeValue(
+			jsonGenerator, _getJsonNode(jsonOutputProfile));
+
+		jsonGenerator.writeRaw(System.lineSeparator());
+
+		jsonGenerator.close();
+	}
+
+	/**
+	 * Begins creating a field inside the JSON object located at the provided
+	 * embedded path. This method behaves like calling {@link
+	 * #nestedField(String, String...)} with the path's elements, followed by
+	 * {@link FieldStep#field(String)}.
+	 *
+	 * <p>
+	 * The JSON object at the end of the path is located only once per path
+	 * instance. Following calls with the same {@code FunctionalList} reuse it,
+	 * so writing every field of an embedded model doesn't walk the whole path
+	 * again. If the JSON object is replaced in its parent (for example, by
+	 * writing a value in its place), the path is walked again.
+	 * </p>
+	 *
+	 * @param  embeddedPathElements the embedded path
+	 * @param  name the field's name
+	 * @return the builder's field step
+	 * @review
+	 */
+	public FieldStep embeddedField(
+		FunctionalList<String> embeddedPathElements, String name) {
+
+		return new FieldStep(
+			name, _getEmbeddedObjectNode(null, embeddedPathElements));
+	}
+
+	/**
+	 * Begins creating a field inside the JSON object located at the provided
+	 * embedded path, adding a prefix to each level. This method behaves like
+	 * calling {@link #nestedPrefixedField(String, String, String...)} with the
+	 * path's elements, followed by {@link FieldStep#field(String)}.
+	 *
+	 * <p>
+	 * As in {@link #embeddedField(FunctionalList, String)}, the JSON object at
+	 * the end of the path is located only once per path instance.
+	 * </p>
+	 *
+	 * @param  prefix each level's prefix
+	 * @param  embeddedPathElements the embedded path
+	 * @param  name the field's name
+	 * @return the builder's field step
+	 * @review
+	 */
+	public FieldStep embeddedPrefixedField(
+		String prefix, FunctionalList<String> embeddedPathElements,
+		String name) {
+
+		return new FieldStep(
+			name, _getEmbeddedObjectNode(prefix, embeddedPathElements));
+	}
+
 	/**
 	 * Begins creating a field inside the JSON object.
 	 *
@@ -429,19 +558,7 @@ public class JSONObjectBuilder {
 		 * @return the builder's field step
 		 */
 		public FieldStep field(String name) {
-			ObjectNode objectNode = Optional.ofNullable(
-				_objectNode.get(_name)
-			).filter(
-				JsonNode::isObject
-			).map(
-				ObjectNode.class::cast
-			).orElseGet(
-				_OBJECT_MAPPER::createObjectNode
-			);
-
-			_objectNode.set(_name, objectNode);
-
-			return new FieldStep(name, objectNode);
+			return new FieldStep(name, _getObjectNode(_objectNode, _name));
 		}
 
 		/**
@@ -604,13 +721,179 @@ public class JSONObjectBuilder {
 
 	}
 
-	private static final ObjectMapper _OBJECT_MAPPER = new ObjectMapper() {
-		{
-			configure(SORT_PROPERTIES_ALPHABETICALLY, true);
-			enable(INDENT_OUTPUT);
+	private static ObjectNode _getObjectNode(
+		ObjectNode parentObjectNode, String name) {
+
+		JsonNode jsonNode = parentObjectNode.get(name);
+
+		if ((jsonNode != null) && jsonNode.isObject()) {
+			return (ObjectNode)jsonNode;
 		}
-	};
 
+		ObjectNode objectNode = _OBJECT_MAPPER.createObjectNode();
+
+		parentObjectNode.set(name, objectNode);
+
+		return objectNode;
+	}
+
+	private static JsonNode _sortFields(JsonNode jsonNode) {
+		if (jsonNode.isObject()) {
+			List<String> fieldNames = new ArrayList<>();
+
+			Iterator<String> iterator = jsonNode.fieldNames();
+
+			iterator.forEachRemaining(fieldNames::add);
+
+			Collections.sort(fieldNames);
+
+			ObjectNode objectNode = _OBJECT_MAPPER.createObjectNode();
+
+			for (String fieldName : fieldNames) {
+				objectNode.set(fieldName, _sortFields(jsonNode.get(fieldName)));
+			}
+
+			return objectNode;
+		}
+
+		if (jsonNode.isArray()) {
+			ArrayNode arrayNode = _OBJECT_MAPPER.createArrayNode();
+
+			for (JsonNode element : jsonNode) {
+				arrayNode.add(_sortFields(element));
+			}
+
+			return arrayNode;
+		}
+
+		return jsonNode;
+	}
+
+	private ObjectNode _getEmbeddedObjectNode(
+		String prefix, FunctionalList<String> embeddedPathElements) {
+
+		if (_embeddedCursors == null) {
+			_embeddedCursors = new IdentityHashMap<>();
+		}
+
+		EmbeddedCursor embeddedCursor = _embeddedCursors.get(
+			embeddedPathElements);
+
+		if ((embeddedCursor != null) &&
+			embeddedCursor.isValid(_objectNode, prefix)) {
+
+			return embeddedCursor._objectNode;
+		}
+
+		List<String> names = new ArrayList<>();
+		String name = embeddedPathElements.head();
+
+		Stream<String> stream = embeddedPathElements.tailStream();
+
+		Iterator<String> iterator = stream.iterator();
+
+		while (true) {
+			if (prefix != null) {
+				names.add(prefix);
+			}
+
+			if (!iterator.hasNext()) {
+				break;
+			}
+
+			names.add(name);
+
+			name = iterator.next();
+		}
+
+		names.add(name);
+
+		List<ObjectNode> objectNodes = new ArrayList<>(names.size());
+
+		ObjectNode objectNode = _objectNode;
+
+		for (String objectNodeName : names) {
+			objectNode = _getObjectNode(objectNode, objectNodeName);
+
+			objectNodes.add(objectNode);
+		}
+
+		embeddedCursor = new EmbeddedCursor(prefix, names, objectNodes);
+
+		_embeddedCursors.put(embeddedPathElements, embeddedCursor);
+
+		return embeddedCursor._objectNode;
+	}
+
+	private JsonNode _getJsonNode(JSONOutputProfile jsonOutputProfile) {
+		if (jsonOutputProfile == JSONOutputProfile.PRETTY) {
+			return _sortFields(_objectNode);
+		}
+
+		return _objectNode;
+	}
+
+	private ObjectWriter _getObjectWriter(JSONOutputProfile jsonOutputProfile) {
+		if (jsonOutputProfile == JSONOutputProfile.PRETTY) {
+			return _PRETTY_OBJECT_WRITER;
+		}
+
+		return _COMPACT_OBJECT_WRITER;
+	}
+
+	private static final ObjectMapper _OBJECT_MAPPER = new ObjectMapper();
+
+	private static final ObjectWriter _COMPACT_OBJECT_WRITER =
+		_OBJECT_MAPPER.writer();
+
+	private static final ObjectWriter _PRETTY_OBJECT_WRITER =
+		_OBJECT_MAPPER.writer(INDENT_OUTPUT);
+
+	private Map<FunctionalList<String>, EmbeddedCursor> _embeddedCursors;
 	private final ObjectNode _objectNode;
 
+	/**
+	 * Points to the JSON object located at an embedded path. The cursor is
+	 * only reused while every JSON object on the path is still set in its
+	 * parent, so replacing any of them walks the path again.
+	 */
+	private static class EmbeddedCursor {
+
+		public EmbeddedCursor(
+			String prefix, List<String> names, List<ObjectNode> objectNodes) {
+
+			_prefix = prefix;
+			_names = names;
+			_objectNodes = objectNodes;
+
+			_objectNode = objectNodes.get(objectNodes.size() - 1);
+		}
+
+		public boolean isValid(ObjectNode rootObjectNode, String prefix) {
+			if (!Objects.equals(_prefix, prefix)) {
+				return false;
+			}
+
+			ObjectNode parentObjectNode = rootObjectNode;
+
+			for (int i = 0; i < _names.size(); i++) {
+				ObjectNode objectNode = _objectNodes.get(i);
+
+				if (parentObjectNode.get(_names.get(i)) != objectNode) {
+					return false;
+				}
+
+				parentObjectNode = objectNode;
+			}
+
+			return true;
+		}
+
+		private final List<String> _names;
+		private final ObjectNode _objectNode;
+		private final List<ObjectNode> _objectNodes;
+		private final String _prefix;
+
+	}
+
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.message.json;
+
+/**
+ * Defines how the JSON objects created by a {@link JSONObjectBuilder} are
+ * written.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public enum JSONOutputProfile {
+
+	/**
+	 * Writes JSON without any whitespace between tokens. Fields are written in
+	 * the order they were added. For the fields of a representor, that order
+	 * is grouped by field type, in declaration order within each type.
+	 */
+	COMPACT,
+
+	/**
+	 * Writes indented JSON, with the fields of every object sorted
+	 * alphabetically. Meant for debugging and reading responses.
+	 */
+	PRETTY
+
+}
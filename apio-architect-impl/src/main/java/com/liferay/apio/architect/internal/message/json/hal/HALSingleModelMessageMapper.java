@@ -99,26 +99,10 @@ public class HALSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String url) {
 
-		Optional<String> optional = embeddedPathElements.lastOptional();
-
-		String head = embeddedPathElements.head();
-
-		Stream<String> middleStream = embeddedPathElements.middleStream();
-
-		String[] middle = middleStream.toArray(String[]::new);
-
-		jsonObjectBuilder.field(
-			"_embedded"
-		).ifElseCondition(
-			optional.isPresent(),
-			builder -> builder.nestedSuffixedField(
-				"_embedded", head, middle
-			).field(
-				optional.get()
-			),
-			builder -> builder.field(head)
+		jsonObjectBuilder.embeddedPrefixedField(
+			"_embedded", embeddedPathElements, "_links"
 		).nestedField(
-			"_links", fieldName, "href"
+			fieldName, "href"
 		).stringValue(
 			url
 		);
@@ -340,27 +324,9 @@ public class HALSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Consumer<JSONObjectBuilder.FieldStep> consumer) {
 
-		Optional<String> optional = embeddedPathElements.lastOptional();
-
-		String head = embeddedPathElements.head();
-
-		Stream<String> middleStream = embeddedPathElements.middleStream();
-
-		String[] middle = middleStream.toArray(String[]::new);
-
-		JSONObjectBuilder.FieldStep builderStep = jsonObjectBuilder.field(
-			"_embedded"
-		).ifElseCondition(
-			optional.isPresent(),
-			builder -> builder.nestedSuffixedField(
-				"_embedded", head, middle
-			).field(
-				optional.get()
-			),
-			builder -> builder.field(head)
-		).field(
-			fieldName
-		);
+		JSONObjectBuilder.FieldStep builderStep =
+			jsonObjectBuilder.embeddedPrefixedField(
+				"_embedded", embeddedPathElements, fieldName);
 
 		consumer.accept(builderStep);
 	}
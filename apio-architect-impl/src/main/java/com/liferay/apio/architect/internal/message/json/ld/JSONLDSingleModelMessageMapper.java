@@ -104,10 +104,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Boolean value) {
 
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).booleanValue(
 			value
 		);
@@ -119,10 +117,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<Boolean> value) {
 
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).arrayValue(
 		).addAllBooleans(
 			value
@@ -135,10 +131,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String url) {
 
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).stringValue(
 			url
 		);
@@ -150,10 +144,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Number value) {
 
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).numberValue(
 			value
 		);
@@ -165,10 +157,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<Number> value) {
 
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).arrayValue(
 		).addAllNumbers(
 			value
@@ -181,10 +171,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String value) {
 
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).stringValue(
 			value
 		);
@@ -196,10 +184,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<String> value) {
 
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).arrayValue(
 		).addAllStrings(
 			value
@@ -211,10 +197,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, List<String> types) {
 
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
-		).field(
-			"@type"
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, "@type"
 		).arrayValue(
 		).addAllStrings(
 			types
@@ -226,10 +210,8 @@ public class JSONLDSingleModelMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String url) {
 
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), _getTail(embeddedPathElements)
-		).field(
-			"@id"
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, "@id"
 		).stringValue(
 			url
 		);
@@ -441,9 +423,6 @@ public class JSONLDSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements,
 		ActionSemantics actionSemantics) {
 
-		String head = embeddedPathElements.head();
-		String[] tail = _getTail(embeddedPathElements);
-
 		actionJSONObjectBuilder.field(
 			"@id"
 		).stringValue(
@@ -458,10 +437,8 @@ public class JSONLDSingleModelMessageMapper<T>
 			getActionTypes(actionSemantics.getActionName())
 		);
 
-		singleModelJSONObjectBuilder.nestedField(
-			head, tail
-		).field(
-			"operation"
+		singleModelJSONObjectBuilder.embeddedField(
+			embeddedPathElements, "operation"
 		).arrayValue(
 		).add(
 			actionJSONObjectBuilder
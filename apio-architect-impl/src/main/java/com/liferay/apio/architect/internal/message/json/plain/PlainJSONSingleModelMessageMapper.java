@@ -70,12 +70,8 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Boolean value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).booleanValue(
 			value
 		);
@@ -87,12 +83,8 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<Boolean> value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).arrayValue(
 		).addAllBooleans(
 			value
@@ -105,12 +97,8 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).stringValue(
 			url
 		);
@@ -122,12 +110,8 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		Number value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).numberValue(
 			value
 		);
@@ -139,12 +123,8 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<Number> value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).arrayValue(
 		).addAllNumbers(
 			value
@@ -157,12 +137,8 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		String value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).stringValue(
 			value
 		);
@@ -174,12 +150,8 @@ public class PlainJSONSingleModelMessageMapper<T>
 		FunctionalList<String> embeddedPathElements, String fieldName,
 		List<String> value) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
-		).field(
-			fieldName
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, fieldName
 		).arrayValue(
 		).addAllStrings(
 			value
@@ -191,12 +163,8 @@ public class PlainJSONSingleModelMessageMapper<T>
 		JSONObjectBuilder jsonObjectBuilder,
 		FunctionalList<String> embeddedPathElements, String url) {
 
-		Stream<String> tailStream = embeddedPathElements.tailStream();
-
-		jsonObjectBuilder.nestedField(
-			embeddedPathElements.head(), tailStream.toArray(String[]::new)
-		).field(
-			"self"
+		jsonObjectBuilder.embeddedField(
+			embeddedPathElements, "self"
 		).stringValue(
 			url
 		);
@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Records the distribution of a metric's values in buckets whose bounds are
+ * powers of two, so recording a value doesn't allocate memory and never
+ * blocks. Percentiles are estimated with the upper bound of the bucket that
+ * contains them, so their error is below a factor of two.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class Histogram implements Metric {
+
+	/**
+	 * Returns the ID of the histogram of a metric with the provided name and
+	 * tags.
+	 *
+	 * @param  name the metric's name
+	 * @param  resourceName the resource's name
+	 * @param  actionName the action's name
+	 * @return the histogram's ID
+	 * @review
+	 */
+	public static String getId(
+		String name, String resourceName, String actionName) {
+
+		return name + ":" + resourceName + ":" + actionName;
+	}
+
+	public Histogram(String name, String resourceName, String actionName) {
+		_name = name;
+		_resourceName = resourceName;
+		_actionName = actionName;
+
+		_id = getId(name, resourceName, actionName);
+	}
+
+	@Override
+	public String getActionName() {
+		return _actionName;
+	}
+
+	@Override
+	public Long getCount() {
+		return _count.sum();
+	}
+
+	@Override
+	public String getId() {
+		return _id;
+	}
+
+	@Override
+	public Long getMax() {
+		return _max.get();
+	}
+
+	@Override
+	public Long getMean() {
+		long count = _count.sum();
+
+		if (count == 0) {
+			return 0L;
+		}
+
+		return _sum.sum() / count;
+	}
+
+	@Override
+	public String getName() {
+		return _name;
+	}
+
+	@Override
+	public Long getP50() {
+		return getPercentile(0.5);
+	}
+
+	@Override
+	public Long getP95() {
+		return getPercentile(0.95);
+	}
+
+	@Override
+	public Long getP99() {
+		return getPercentile(0.99);
+	}
+
+	/**
+	 * Returns the estimated value below which the provided fraction of the
+	 * recorded values falls.
+	 *
+	 * @param  fraction the fraction, between {@code 0} and {@code 1}
+	 * @return the estimated percentile
+	 * @review
+	 */
+	public long getPercentile(double fraction) {
+		long count = _count.sum();
+
+		if (count == 0) {
+			return 0;
+		}
+
+		long rank = (long)Math.ceil(fraction * count);
+		long seen = 0;
+
+		for (int i = 0; i < _BUCKETS; i++) {
+			seen += _buckets.get(i);
+
+			if ((seen >= rank) && (seen > 0)) {
+				return Math.min(_getUpperBound(i), _max.get());
+			}
+		}
+
+		return _max.get();
+	}
+
+	@Override
+	public String getResourceName() {
+		return _resourceName;
+	}
+
+	@Override
+	public Long getSum() {
+		return _sum.sum();
+	}
+
+	/**
+	 * Records a value. Negative values are recorded as {@code 0}.
+	 *
+	 * @param  value the value
+	 * @review
+	 */
+	public void record(long value) {
+		value = Math.max(value, 0);
+
+		_buckets.incrementAndGet(_BUCKETS - Long.numberOfLeadingZeros(value));
+		_count.increment();
+		_sum.add(value);
+
+		long max = _max.get();
+
+		while ((value > max) && !_max.compareAndSet(max, value)) {
+			max = _max.get();
+		}
+	}
+
+	private static long _getUpperBound(int bucket) {
+		if (bucket == (_BUCKETS - 1)) {
+			return Long.MAX_VALUE;
+		}
+
+		return (1L << bucket) - 1;
+	}
+
+	private static final int _BUCKETS = 64;
+
+	private final String _actionName;
+	private final AtomicLongArray _buckets = new AtomicLongArray(_BUCKETS);
+	private final LongAdder _count = new LongAdder();
+	private final String _id;
+	private final AtomicLong _max = new AtomicLong();
+	private final String _name;
+	private final String _resourceName;
+	private final LongAdder _sum = new LongAdder();
+
+}
@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import static org.osgi.service.component.annotations.ConfigurationPolicy.REQUIRE;
+
+import com.liferay.apio.architect.metrics.MetricsRecorder;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Records every metric in an in-memory {@link Histogram}, keyed by the metric's
+ * name and tags. The recorded histograms are exposed through the API by the
+ * {@link MetricActionRouter}.
+ *
+ * <p>
+ * This recorder is only registered if a configuration with its PID exists, so
+ * the metrics are disabled by default.
+ * </p>
+ *
+ * <p>
+ * At most {@link #MAX_HISTOGRAMS} histograms are kept, so unbounded tag values
+ * can't exhaust the memory. Metrics for new names and tags are discarded once
+ * that number is reached.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	configurationPolicy = REQUIRE,
+	service = {InMemoryMetricsRecorder.class, MetricsRecorder.class}
+)
+public class InMemoryMetricsRecorder implements MetricsRecorder {
+
+	/**
+	 * The maximum number of histograms kept by this recorder.
+	 *
+	 * @review
+	 */
+	public static final int MAX_HISTOGRAMS = 1000;
+
+	/**
+	 * Returns the histogram with the provided ID, if present.
+	 *
+	 * @param  id the histogram's ID
+	 * @return the histogram, if present; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Histogram> getHistogramOptional(String id) {
+		return Optional.ofNullable(_histograms.get(id));
+	}
+
+	/**
+	 * Returns the recorded histograms, sorted by their ID.
+	 *
+	 * @return the histograms
+	 * @review
+	 */
+	public List<Histogram> getHistograms() {
+		List<Histogram> histograms = new ArrayList<>(_histograms.values());
+
+		histograms.sort(Comparator.comparing(Histogram::getId));
+
+		return histograms;
+	}
+
+	@Override
+	public void recordCount(
+		Counter counter, String resourceName, String actionName, long count) {
+
+		Histogram histogram = _getHistogram(
+			counter.name(), resourceName, actionName);
+
+		if (histogram != null) {
+			histogram.record(count);
+		}
+	}
+
+	@Override
+	public void recordDuration(
+		Stage stage, String resourceName, String actionName, long nanos) {
+
+		Histogram histogram = _getHistogram(
+			stage.name(), resourceName, actionName);
+
+		if (histogram != null) {
+			histogram.record(nanos);
+		}
+	}
+
+	private Histogram _getHistogram(
+		String name, String resourceName, String actionName) {
+
+		String id = Histogram.getId(name, resourceName, actionName);
+
+		Histogram histogram = _histograms.get(id);
+
+		if (histogram != null) {
+			return histogram;
+		}
+
+		if (_histograms.size() >= MAX_HISTOGRAMS) {
+			return null;
+		}
+
+		return _histograms.computeIfAbsent(
+			id, __ -> new Histogram(name, resourceName, actionName));
+	}
+
+	private final ConcurrentMap<String, Histogram> _histograms =
+		new ConcurrentHashMap<>();
+
+}
@@ -0,0 +1,86 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Counts the bytes written to an output stream and remembers when it was
+ * created.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class MeteredOutputStream extends OutputStream {
+
+	public MeteredOutputStream(OutputStream outputStream) {
+		_outputStream = outputStream;
+
+		_startTime = System.nanoTime();
+	}
+
+	@Override
+	public void close() throws IOException {
+		_outputStream.close();
+	}
+
+	@Override
+	public void flush() throws IOException {
+		_outputStream.flush();
+	}
+
+	/**
+	 * Returns the number of bytes written.
+	 *
+	 * @return the number of bytes written
+	 * @review
+	 */
+	public long getCount() {
+		return _count;
+	}
+
+	/**
+	 * Returns the value of {@link System#nanoTime()} when the stream was
+	 * created.
+	 *
+	 * @return the creation time
+	 * @review
+	 */
+	public long getStartTime() {
+		return _startTime;
+	}
+
+	@Override
+	public void write(byte[] bytes, int offset, int length)
+		throws IOException {
+
+		_outputStream.write(bytes, offset, length);
+
+		_count += length;
+	}
+
+	@Override
+	public void write(int b) throws IOException {
+		_outputStream.write(b);
+
+		_count++;
+	}
+
+	private long _count;
+	private final OutputStream _outputStream;
+	private final long _startTime;
+
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import com.liferay.apio.architect.annotation.Id;
+import com.liferay.apio.architect.annotation.Vocabulary.Field;
+import com.liferay.apio.architect.annotation.Vocabulary.Type;
+import com.liferay.apio.architect.identifier.Identifier;
+
+/**
+ * Represents the distribution of a metric recorded by the {@link
+ * InMemoryMetricsRecorder}, exposed through the API. Durations are expressed
+ * in nanoseconds.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Type("Metric")
+public interface Metric extends Identifier<String> {
+
+	/**
+	 * Returns the name of the action the metric was recorded for, if known.
+	 *
+	 * @return the action's name
+	 * @review
+	 */
+	@Field("action")
+	public String getActionName();
+
+	/**
+	 * Returns the number of recorded values.
+	 *
+	 * @return the number of recorded values
+	 * @review
+	 */
+	@Field("count")
+	public Long getCount();
+
+	/**
+	 * Returns the metric's ID.
+	 *
+	 * @return the metric's ID
+	 * @review
+	 */
+	@Id
+	public String getId();
+
+	/**
+	 * Returns the maximum recorded value.
+	 *
+	 * @return the maximum value
+	 * @review
+	 */
+	@Field("max")
+	public Long getMax();
+
+	/**
+	 * Returns the mean of the recorded values.
+	 *
+	 * @return the mean value
+	 * @review
+	 */
+	@Field("mean")
+	public Long getMean();
+
+	/**
+	 * Returns the metric's name: the name of the stage or counter.
+	 *
+	 * @return the metric's name
+	 * @review
+	 */
+	@Field("name")
+	public String getName();
+
+	/**
+	 * Returns the estimated median of the recorded values.
+	 *
+	 * @return the estimated median
+	 * @review
+	 */
+	@Field("p50")
+	public Long getP50();
+
+	/**
+	 * Returns the estimated 95th percentile of the recorded values.
+	 *
+	 * @return the estimated 95th percentile
+	 * @review
+	 */
+	@Field("p95")
+	public Long getP95();
+
+	/**
+	 * Returns the estimated 99th percentile of the recorded values.
+	 *
+	 * @return the estimated 99th percentile
+	 * @review
+	 */
+	@Field("p99")
+	public Long getP99();
+
+	/**
+	 * Returns the name of the resource the metric was recorded for, if known.
+	 *
+	 * @return the resource's name
+	 * @review
+	 */
+	@Field("resource")
+	public String getResourceName();
+
+	/**
+	 * Returns the sum of the recorded values.
+	 *
+	 * @return the sum of the recorded values
+	 * @review
+	 */
+	@Field("sum")
+	public Long getSum();
+
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import static org.osgi.service.component.annotations.ConfigurationPolicy.REQUIRE;
+
+import com.liferay.apio.architect.annotation.Actions.Retrieve;
+import com.liferay.apio.architect.annotation.Id;
+import com.liferay.apio.architect.pagination.PageItems;
+import com.liferay.apio.architect.pagination.Pagination;
+import com.liferay.apio.architect.router.ActionRouter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.ws.rs.NotFoundException;
+
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Exposes the histograms recorded by the {@link InMemoryMetricsRecorder} as
+ * {@link Metric} resources. Like the recorder, this router is only registered
+ * if a configuration with the recorder's PID exists.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(
+	configurationPid =
+		"com.liferay.apio.architect.internal.metrics.InMemoryMetricsRecorder",
+	configurationPolicy = REQUIRE, service = ActionRouter.class
+)
+public class MetricActionRouter implements ActionRouter<Metric> {
+
+	@Retrieve
+	public PageItems<Metric> retrieve(Pagination pagination) {
+		List<Histogram> histograms = _inMemoryMetricsRecorder.getHistograms();
+
+		int count = histograms.size();
+
+		int startPosition = Math.min(pagination.getStartPosition(), count);
+		int endPosition = Math.min(pagination.getEndPosition(), count);
+
+		List<Metric> metrics = new ArrayList<>(
+			histograms.subList(startPosition, endPosition));
+
+		return new PageItems<>(metrics, count);
+	}
+
+	@Retrieve
+	public Metric retrieve(@Id String id) {
+		return _inMemoryMetricsRecorder.getHistogramOptional(
+			id
+		).orElseThrow(
+			() -> new NotFoundException("Unable to get metric " + id)
+		);
+	}
+
+	@Reference
+	private InMemoryMetricsRecorder _inMemoryMetricsRecorder;
+
+}
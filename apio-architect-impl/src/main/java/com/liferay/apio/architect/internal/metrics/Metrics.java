@@ -0,0 +1,180 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import com.liferay.apio.architect.metrics.MetricsRecorder;
+import com.liferay.apio.architect.metrics.MetricsRecorder.Counter;
+import com.liferay.apio.architect.metrics.MetricsRecorder.Stage;
+
+import java.io.OutputStream;
+
+/**
+ * Provides the entry points used to instrument the request pipeline. Every
+ * method delegates to the registered {@link MetricsRecorder}, if any.
+ *
+ * <p>
+ * If no recorder is registered, the methods only read a volatile field before
+ * returning, so the instrumentation's overhead is negligible. Timed stages
+ * must start with {@link #startTime()}, which doesn't read the clock if no
+ * recorder is registered.
+ * </p>
+ *
+ * <p>
+ * This class shouldn't be instantiated.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class Metrics {
+
+	/**
+	 * Returns {@code true} if a metrics recorder is registered.
+	 *
+	 * @return {@code true} if metrics are recorded; {@code false} otherwise
+	 * @review
+	 */
+	public static boolean isEnabled() {
+		if (_metricsRecorder != null) {
+			return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Returns an output stream that counts the bytes written to the provided
+	 * one, if metrics are recorded. Otherwise, the provided output stream is
+	 * returned. The bytes are recorded with {@link
+	 * #recordWriting(OutputStream, String, String)}.
+	 *
+	 * @param  outputStream the output stream
+	 * @return the output stream to write to
+	 * @review
+	 */
+	public static OutputStream meter(OutputStream outputStream) {
+		if (_metricsRecorder == null) {
+			return outputStream;
+		}
+
+		return new MeteredOutputStream(outputStream);
+	}
+
+	/**
+	 * Records an increment of a counter.
+	 *
+	 * @param  counter the counter
+	 * @param  resourceName the resource's name, if known
+	 * @param  actionName the action's name, if known
+	 * @param  count the increment
+	 * @review
+	 */
+	public static void recordCount(
+		Counter counter, String resourceName, String actionName, long count) {
+
+		MetricsRecorder metricsRecorder = _metricsRecorder;
+
+		if (metricsRecorder != null) {
+			metricsRecorder.recordCount(
+				counter, resourceName, actionName, count);
+		}
+	}
+
+	/**
+	 * Records the time spent in a stage since the provided start time.
+	 *
+	 * @param  stage the stage
+	 * @param  resourceName the resource's name, if known
+	 * @param  actionName the action's name, if known
+	 * @param  startTime the value returned by {@link #startTime()} when the
+	 *         stage started
+	 * @review
+	 */
+	public static void recordDuration(
+		Stage stage, String resourceName, String actionName, long startTime) {
+
+		MetricsRecorder metricsRecorder = _metricsRecorder;
+
+		if ((metricsRecorder != null) && (startTime != 0)) {
+			metricsRecorder.recordDuration(
+				stage, resourceName, actionName,
+				System.nanoTime() - startTime);
+		}
+	}
+
+	/**
+	 * Records the bytes written to an output stream returned by {@link
+	 * #meter(OutputStream)} and the time spent since it was created, as the
+	 * {@link Stage#WRITING} stage.
+	 *
+	 * @param  outputStream the output stream
+	 * @param  resourceName the resource's name, if known
+	 * @param  actionName the action's name, if known
+	 * @review
+	 */
+	public static void recordWriting(
+		OutputStream outputStream, String resourceName, String actionName) {
+
+		MetricsRecorder metricsRecorder = _metricsRecorder;
+
+		if ((metricsRecorder == null) ||
+			!(outputStream instanceof MeteredOutputStream)) {
+
+			return;
+		}
+
+		MeteredOutputStream meteredOutputStream =
+			(MeteredOutputStream)outputStream;
+
+		metricsRecorder.recordCount(
+			Counter.BYTES_WRITTEN, resourceName, actionName,
+			meteredOutputStream.getCount());
+		metricsRecorder.recordDuration(
+			Stage.WRITING, resourceName, actionName,
+			System.nanoTime() - meteredOutputStream.getStartTime());
+	}
+
+	/**
+	 * Sets the metrics recorder, or disables the metrics if it's {@code null}.
+	 *
+	 * @param  metricsRecorder the metrics recorder
+	 * @review
+	 */
+	public static void setMetricsRecorder(MetricsRecorder metricsRecorder) {
+		_metricsRecorder = metricsRecorder;
+	}
+
+	/**
+	 * Returns the start time of a timed stage, or {@code 0} if metrics aren't
+	 * recorded.
+	 *
+	 * @return the start time
+	 * @review
+	 */
+	public static long startTime() {
+		if (_metricsRecorder == null) {
+			return 0;
+		}
+
+		return System.nanoTime();
+	}
+
+	private Metrics() {
+		throw new UnsupportedOperationException();
+	}
+
+	private static volatile MetricsRecorder _metricsRecorder;
+
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import static org.osgi.service.component.annotations.ReferenceCardinality.OPTIONAL;
+import static org.osgi.service.component.annotations.ReferencePolicyOption.GREEDY;
+
+import com.liferay.apio.architect.metrics.MetricsRecorder;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Deactivate;
+import org.osgi.service.component.annotations.Reference;
+
+/**
+ * Hands the registered {@link MetricsRecorder} with the highest ranking to
+ * {@link Metrics}. The component is reactivated every time the recorder
+ * changes.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(immediate = true, service = MetricsRecorderTracker.class)
+public class MetricsRecorderTracker {
+
+	@Activate
+	public void activate() {
+		Metrics.setMetricsRecorder(_metricsRecorder);
+	}
+
+	@Deactivate
+	public void deactivate() {
+		Metrics.setMetricsRecorder(null);
+	}
+
+	@Reference(cardinality = OPTIONAL, policyOption = GREEDY)
+	private MetricsRecorder _metricsRecorder;
+
+}
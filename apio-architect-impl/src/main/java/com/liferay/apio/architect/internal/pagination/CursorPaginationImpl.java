@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.pagination;
+
+import com.liferay.apio.architect.pagination.CursorPagination;
+
+import java.util.Optional;
+
+/**
+ * Defines cursor pagination for a collection endpoint. An instance of this
+ * class is handed to resources that handle cursor pagination parameters.
+ *
+ * <p>
+ * The page number is only meaningful if there is no cursor. Otherwise, it's
+ * always the first page, so offset-based methods are relative to the cursor.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @see    com.liferay.apio.architect.pagination.CursorPageItems
+ * @review
+ */
+public class CursorPaginationImpl
+	extends PaginationImpl implements CursorPagination {
+
+	public CursorPaginationImpl(
+		int itemsPerPage, int pageNumber, String cursor) {
+
+		super(itemsPerPage, pageNumber);
+
+		_cursor = cursor;
+	}
+
+	@Override
+	public Optional<String> getCursorOptional() {
+		return Optional.ofNullable(_cursor);
+	}
+
+	private final String _cursor;
+
+}
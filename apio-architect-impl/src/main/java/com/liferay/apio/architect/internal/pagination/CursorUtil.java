@@ -0,0 +1,74 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.pagination;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import com.liferay.apio.architect.functional.Try;
+
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Provides utility functions for encoding the cursors returned by resources
+ * into opaque, URL-safe strings, and for decoding them back.
+ *
+ * <p>This class should not be instantiated.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class CursorUtil {
+
+	/**
+	 * Returns the cursor encoded in the provided string, if the string is a
+	 * valid encoded cursor. Returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  encodedCursor the encoded cursor
+	 * @return the decoded cursor, if valid; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public static Optional<String> decodeCursor(String encodedCursor) {
+		if ((encodedCursor == null) || encodedCursor.isEmpty()) {
+			return Optional.empty();
+		}
+
+		return Try.fromFallible(
+			() -> _decoder.decode(encodedCursor)
+		).map(
+			bytes -> new String(bytes, UTF_8)
+		).toOptional();
+	}
+
+	/**
+	 * Encodes the provided cursor into an opaque string that can be safely
+	 * used in a URL query parameter.
+	 *
+	 * @param  cursor the cursor
+	 * @return the encoded cursor
+	 * @review
+	 */
+	public static String encodeCursor(String cursor) {
+		return _encoder.encodeToString(cursor.getBytes(UTF_8));
+	}
+
+	private CursorUtil() {
+	}
+
+	private static final Base64.Decoder _decoder = Base64.getUrlDecoder();
+	private static final Base64.Encoder _encoder =
+		Base64.getUrlEncoder().withoutPadding();
+
+}
@@ -17,6 +17,8 @@ package com.liferay.apio.architect.internal.pagination;
 import static java.util.Collections.emptyList;
 
 import com.liferay.apio.architect.operation.Operation;
+import com.liferay.apio.architect.pagination.CursorPageItems;
+import com.liferay.apio.architect.pagination.CursorPagination;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
@@ -46,6 +48,42 @@ public class PageImpl<T> implements Page<T> {
 		_itemsPerPage = pagination.getItemsPerPage();
 		_pageNumber = pagination.getPageNumber();
 		_totalCount = pageItems.getTotalCount();
+
+		if (pageItems instanceof CursorPageItems) {
+			CursorPageItems<T> cursorPageItems = (CursorPageItems<T>)pageItems;
+
+			_cursorPaginated = true;
+			_nextCursor = cursorPageItems.getNextCursorOptional(
+			).orElse(
+				null
+			);
+			_previousCursor = cursorPageItems.getPreviousCursorOptional(
+			).orElse(
+				null
+			);
+		}
+		else {
+			_cursorPaginated = false;
+			_nextCursor = null;
+			_previousCursor = null;
+		}
+
+		if (pagination instanceof CursorPagination) {
+			CursorPagination cursorPagination = (CursorPagination)pagination;
+
+			_cursor = cursorPagination.getCursorOptional(
+			).orElse(
+				null
+			);
+		}
+		else {
+			_cursor = null;
+		}
+	}
+
+	@Override
+	public Optional<String> getCursorOptional() {
+		return Optional.ofNullable(_cursor);
 	}
 
 	@Override
@@ -67,6 +105,11 @@ public class PageImpl<T> implements Page<T> {
 		return -Math.floorDiv(-_totalCount, _itemsPerPage);
 	}
 
+	@Override
+	public Optional<String> getNextCursorOptional() {
+		return Optional.ofNullable(_nextCursor);
+	}
+
 	@Override
 	public List<Operation> getOperations() {
 		return emptyList();
@@ -82,6 +125,11 @@ public class PageImpl<T> implements Page<T> {
 		return Optional.empty();
 	}
 
+	@Override
+	public Optional<String> getPreviousCursorOptional() {
+		return Optional.ofNullable(_previousCursor);
+	}
+
 	@Override
 	public Resource getResource() {
 		return _resource;
@@ -99,6 +147,10 @@ public class PageImpl<T> implements Page<T> {
 
 	@Override
 	public boolean hasNext() {
+		if (_cursorPaginated) {
+			return _nextCursor != null;
+		}
+
 		if (getLastPageNumber() > _pageNumber) {
 			return true;
 		}
@@ -108,6 +160,10 @@ public class PageImpl<T> implements Page<T> {
 
 	@Override
 	public boolean hasPrevious() {
+		if (_cursorPaginated) {
+			return _previousCursor != null;
+		}
+
 		if (_pageNumber > 1) {
 			return true;
 		}
@@ -115,9 +171,18 @@ public class PageImpl<T> implements Page<T> {
 		return false;
 	}
 
+	@Override
+	public boolean isCursorPaginated() {
+		return _cursorPaginated;
+	}
+
+	private final String _cursor;
+	private final boolean _cursorPaginated;
 	private final Collection<T> _items;
 	private final int _itemsPerPage;
+	private final String _nextCursor;
 	private final int _pageNumber;
+	private final String _previousCursor;
 	private final Resource _resource;
 	private final int _totalCount;
 
@@ -25,7 +25,8 @@ import org.osgi.service.component.annotations.Component;
 
 /**
  * Creates the application's URL based on the HTTP request and the forwarded
- * header, to account for proxies.
+ * header, to account for proxies. The URL is computed the first time it's
+ * requested and reused for the rest of the request.
  *
  * @author Javier Gamarra
  */
@@ -34,10 +35,22 @@ public class ApplicationURLProvider implements Provider<ApplicationURL> {
 
 	@Override
 	public ApplicationURL createContext(HttpServletRequest httpServletRequest) {
-		return () -> {
-			String serverURL = getServerURL(httpServletRequest);
+		return new ApplicationURL() {
+
+			@Override
+			public String get() {
+				if (_applicationURL == null) {
+					String serverURL = getServerURL(httpServletRequest);
+
+					_applicationURL =
+						serverURL + httpServletRequest.getContextPath();
+				}
+
+				return _applicationURL;
+			}
+
+			private String _applicationURL;
 
-			return serverURL + httpServletRequest.getContextPath();
 		};
 	}
 
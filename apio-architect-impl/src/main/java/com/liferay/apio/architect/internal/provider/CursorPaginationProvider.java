@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.provider;
+
+import static com.liferay.apio.architect.internal.pagination.CursorUtil.decodeCursor;
+
+import com.liferay.apio.architect.internal.pagination.CursorPaginationImpl;
+import com.liferay.apio.architect.pagination.CursorPagination;
+import com.liferay.apio.architect.pagination.Pagination;
+import com.liferay.apio.architect.provider.Provider;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Component;
+
+/**
+ * Lets resources provide {@link CursorPagination} as a parameter in the methods
+ * of the different routes builders.
+ *
+ * <p>
+ * Cursor pagination is opt-in: only routes asking for a {@code
+ * CursorPagination} receive the request's {@code cursor} parameter, and plain
+ * {@link Pagination} always pages by number. If the request doesn't contain a
+ * valid {@code cursor} parameter, the provided {@code CursorPagination} honors
+ * the {@code page} parameter, so resources can still serve page-number
+ * requests.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = Provider.class)
+public class CursorPaginationProvider implements Provider<CursorPagination> {
+
+	@Override
+	public CursorPagination createContext(
+		HttpServletRequest httpServletRequest) {
+
+		Pagination pagination = _paginationProvider.createContext(
+			httpServletRequest);
+
+		Optional<String> optional = decodeCursor(
+			httpServletRequest.getParameter("cursor"));
+
+		return optional.map(
+			cursor -> new CursorPaginationImpl(
+				pagination.getItemsPerPage(), 1, cursor)
+		).orElseGet(
+			() -> new CursorPaginationImpl(
+				pagination.getItemsPerPage(), pagination.getPageNumber(),
+				null)
+		);
+	}
+
+	private final PaginationProvider _paginationProvider =
+		new PaginationProvider();
+
+}
@@ -15,16 +15,19 @@
 package com.liferay.apio.architect.internal.provider;
 
 import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.internal.response.control.SelectedFields;
 import com.liferay.apio.architect.provider.Provider;
 
 import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
-import java.util.function.Function;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -34,6 +37,14 @@ import org.osgi.service.component.annotations.Component;
  * Lets consumers use the {@code fields} affordance in order to select which
  * fields must be included in representations.
  *
+ * <p>
+ * The {@code fields[type]} parameters are parsed once per request into a set
+ * of fields per type. The predicate for a list of types is computed the first
+ * time it's requested and reused for the rest of the request, so testing a
+ * field is a single hash lookup. The returned {@link SelectedFields} also keeps
+ * the serialization plans compiled for it during the request.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -45,54 +56,57 @@ public class FieldsProvider implements Provider<Fields> {
 		Map<String, String[]> parameterMap =
 			httpServletRequest.getParameterMap();
 
-		Set<Map.Entry<String, String[]>> set = parameterMap.entrySet();
-
-		Stream<Map.Entry<String, String[]>> stream = set.stream();
+		Map<String, Set<String>> fieldsMap = new HashMap<>();
 
-		Map<String, List<String>> fieldsMap = stream.filter(
-			entry -> {
-				String key = entry.getKey();
+		parameterMap.forEach(
+			(key, value) -> {
+				Matcher matcher = _pattern.matcher(key);
 
-				return key.matches(_REGEXP);
-			}
-		).filter(
-			entry -> {
-				String[] value = entry.getValue();
+				if (!matcher.matches() || (value.length != 1) ||
+					value[0].isEmpty()) {
 
-				if (value.length == 1) {
-					return true;
+					return;
 				}
 
-				return false;
-			}
-		).filter(
-			entry -> !entry.getValue()[0].isEmpty()
-		).collect(
-			Collectors.toMap(
-				entry -> _getTypeFunction.apply(entry.getKey()),
-				entry -> Arrays.asList(entry.getValue()[0].split(",")))
-		);
-
-		return types -> field -> {
-			Stream<String> typesStream = types.stream();
-
-			List<String> fields = typesStream.map(
-				fieldsMap::get
-			).filter(
-				Objects::nonNull
-			).flatMap(
-				List::stream
-			).collect(
-				Collectors.toList()
-			);
-
-			return fields.isEmpty() || fields.contains(field);
-		};
+				fieldsMap.put(
+					matcher.group(1),
+					new HashSet<>(Arrays.asList(value[0].split(","))));
+			});
+
+		if (fieldsMap.isEmpty()) {
+			return Fields.ALL;
+		}
+
+		Map<List<String>, Predicate<String>> predicates =
+			new ConcurrentHashMap<>();
+
+		return new SelectedFields(
+			types -> predicates.computeIfAbsent(
+				types, __ -> _getPredicate(fieldsMap, types)));
 	}
 
-	private static final String _REGEXP = "fields\\[([A-Z|a-z]+)]";
+	private static Predicate<String> _getPredicate(
+		Map<String, Set<String>> fieldsMap, List<String> types) {
+
+		Set<String> fields = new HashSet<>();
+
+		for (String type : types) {
+			Set<String> typeFields = fieldsMap.get(type);
+
+			if (typeFields != null) {
+				fields.addAll(typeFields);
+			}
+		}
+
+		if (fields.isEmpty()) {
+			return _alwaysTrue;
+		}
+
+		return fields::contains;
+	}
 
-	private static final Function<String, String> _getTypeFunction =
-		key -> key.substring(key.indexOf("[") + 1, key.indexOf("]"));
+	private static final Predicate<String> _alwaysTrue = __ -> true;
+	private static final Pattern _pattern = Pattern.compile(
+		"fields\\[([A-Z|a-z]+)]");
 
-}
\ No newline at end of file
+}
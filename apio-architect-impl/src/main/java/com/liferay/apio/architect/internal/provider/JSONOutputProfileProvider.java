@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.provider;
+
+import static com.liferay.apio.architect.internal.message.json.JSONOutputProfile.COMPACT;
+import static com.liferay.apio.architect.internal.message.json.JSONOutputProfile.PRETTY;
+
+import com.liferay.apio.architect.internal.message.json.JSONOutputProfile;
+import com.liferay.apio.architect.provider.Provider;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.osgi.service.component.annotations.Activate;
+import org.osgi.service.component.annotations.Component;
+import org.osgi.service.component.annotations.Modified;
+
+/**
+ * Provides the {@link JSONOutputProfile} used to write the JSON
+ * representations of a request.
+ *
+ * <p>
+ * The default profile is set with the {@code json.output.profile}
+ * configuration property ({@code compact} or {@code pretty}), and is {@code
+ * compact} if the property isn't set. Consumers can override it for a request
+ * with the {@code pretty} parameter: {@code ?pretty=true} selects the {@code
+ * pretty} profile, and {@code ?pretty=false} the {@code compact} one.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+@Component(service = Provider.class)
+public class JSONOutputProfileProvider implements Provider<JSONOutputProfile> {
+
+	@Activate
+	@Modified
+	public void activate(Map<String, Object> properties) {
+		_jsonOutputProfile = Optional.ofNullable(
+			properties.get("json.output.profile")
+		).map(
+			String::valueOf
+		).map(
+			String::trim
+		).map(
+			value -> value.toUpperCase(Locale.ENGLISH)
+		).map(
+			JSONOutputProfile::valueOf
+		).orElse(
+			COMPACT
+		);
+	}
+
+	@Override
+	public JSONOutputProfile createContext(
+		HttpServletRequest httpServletRequest) {
+
+		String pretty = httpServletRequest.getParameter("pretty");
+
+		if (pretty == null) {
+			return _jsonOutputProfile;
+		}
+
+		if (pretty.isEmpty() || Boolean.parseBoolean(pretty)) {
+			return PRETTY;
+		}
+
+		return COMPACT;
+	}
+
+	private volatile JSONOutputProfile _jsonOutputProfile = COMPACT;
+
+}
@@ -25,7 +25,8 @@ import org.osgi.service.component.annotations.Component;
 
 /**
  * Creates the server's URL based on the HTTP request and the forwarded header,
- * to account for proxies.
+ * to account for proxies. The URL is computed the first time it's requested
+ * and reused for the rest of the request.
  *
  * @author Javier Gamarra
  */
@@ -34,7 +35,20 @@ public class ServerURLProvider implements Provider<ServerURL> {
 
 	@Override
 	public ServerURL createContext(HttpServletRequest httpServletRequest) {
-		return () -> getServerURL(httpServletRequest);
+		return new ServerURL() {
+
+			@Override
+			public String get() {
+				if (_serverURL == null) {
+					_serverURL = getServerURL(httpServletRequest);
+				}
+
+				return _serverURL;
+			}
+
+			private String _serverURL;
+
+		};
 	}
 
 }
\ No newline at end of file
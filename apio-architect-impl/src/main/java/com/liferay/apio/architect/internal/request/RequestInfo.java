@@ -14,6 +14,7 @@
 
 package com.liferay.apio.architect.internal.request;
 
+import com.liferay.apio.architect.internal.message.json.JSONOutputProfile;
 import com.liferay.apio.architect.internal.response.control.Embedded;
 import com.liferay.apio.architect.internal.response.control.Fields;
 import com.liferay.apio.architect.internal.url.ApplicationURL;
@@ -82,6 +83,17 @@ public class RequestInfo {
 		return _httpServletRequest;
 	}
 
+	/**
+	 * Returns the profile used to write the JSON representations. Defaults to
+	 * {@link JSONOutputProfile#COMPACT}.
+	 *
+	 * @return the JSON output profile
+	 * @review
+	 */
+	public JSONOutputProfile getJSONOutputProfile() {
+		return _jsonOutputProfile;
+	}
+
 	/**
 	 * Returns the server URL.
 	 *
@@ -138,6 +150,22 @@ public class RequestInfo {
 				return new RequestInfo(Builder.this);
 			}
 
+			/**
+			 * Adds information to the builder about the profile used to write
+			 * the JSON representations. This step is optional.
+			 *
+			 * @param  jsonOutputProfile the JSON output profile
+			 * @return the builder's final step
+			 * @review
+			 */
+			public BuildStep jsonOutputProfile(
+				JSONOutputProfile jsonOutputProfile) {
+
+				_jsonOutputProfile = jsonOutputProfile;
+
+				return this;
+			}
+
 		}
 
 		public class EmbeddedStep {
@@ -209,6 +237,8 @@ public class RequestInfo {
 		private Embedded _embedded;
 		private Fields _fields;
 		private HttpServletRequest _httpServletRequest;
+		private JSONOutputProfile _jsonOutputProfile =
+			JSONOutputProfile.COMPACT;
 		private ServerURL _serverURL;
 
 	}
@@ -220,6 +250,7 @@ public class RequestInfo {
 		_applicationURL = builder._applicationURL;
 		_embedded = builder._embedded;
 		_httpServletRequest = builder._httpServletRequest;
+		_jsonOutputProfile = builder._jsonOutputProfile;
 	}
 
 	private final AcceptLanguage _acceptLanguage;
@@ -227,6 +258,7 @@ public class RequestInfo {
 	private final Embedded _embedded;
 	private final Fields _fields;
 	private final HttpServletRequest _httpServletRequest;
+	private final JSONOutputProfile _jsonOutputProfile;
 	private final ServerURL _serverURL;
 
 }
\ No newline at end of file
@@ -34,4 +34,13 @@ import java.util.function.Predicate;
  * @author Jorge Ferrer
  */
 public interface Fields extends Function<List<String>, Predicate<String>> {
+
+	/**
+	 * The fields context used when clients don't select any field. It includes
+	 * every field of every resource.
+	 *
+	 * @review
+	 */
+	public static final Fields ALL = types -> field -> true;
+
 }
\ No newline at end of file
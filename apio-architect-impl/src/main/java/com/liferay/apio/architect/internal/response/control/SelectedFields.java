@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.response.control;
+
+import com.liferay.apio.architect.internal.unsafe.Unsafe;
+import com.liferay.apio.architect.internal.writer.SerializationPlan;
+import com.liferay.apio.architect.representor.BaseRepresentor;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Represents the fields context of a request in which clients selected which
+ * fields to include in representations.
+ *
+ * <p>
+ * Instances of this class live as long as the request, and keep the
+ * serialization plans compiled for them, so every model of a representor
+ * written in the request shares the same plan.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class SelectedFields implements Fields {
+
+	public SelectedFields(Function<List<String>, Predicate<String>> function) {
+		_function = function;
+	}
+
+	@Override
+	public Predicate<String> apply(List<String> types) {
+		return _function.apply(types);
+	}
+
+	/**
+	 * Returns the serialization plan for the representor in this fields
+	 * context, computing it with the provided function if it isn't cached yet.
+	 *
+	 * @param  baseRepresentor the representor
+	 * @param  function the function that compiles the plan
+	 * @return the serialization plan
+	 * @review
+	 */
+	public <T> SerializationPlan<T> getSerializationPlan(
+		BaseRepresentor<T> baseRepresentor,
+		Function<BaseRepresentor<T>, SerializationPlan<T>> function) {
+
+		SerializationPlan<?> serializationPlan =
+			_serializationPlans.computeIfAbsent(
+				baseRepresentor, __ -> function.apply(baseRepresentor));
+
+		return Unsafe.unsafeCast(serializationPlan);
+	}
+
+	private final Function<List<String>, Predicate<String>> _function;
+	private final Map<BaseRepresentor<?>, SerializationPlan<?>>
+		_serializationPlans = new ConcurrentHashMap<>();
+
+}
\ No newline at end of file
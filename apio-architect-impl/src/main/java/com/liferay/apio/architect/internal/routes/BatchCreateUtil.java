@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.routes;
+
+import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.function.throwable.ThrowableFunction;
+import com.liferay.apio.architect.internal.form.FormImpl;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Provides utility functions for executing batch-create actions without
+ * keeping the whole request body's JSON tree in memory.
+ *
+ * <p>This class should not be instantiated.
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public final class BatchCreateUtil {
+
+	/**
+	 * The number of forms passed to the batch creator in each call, when the
+	 * batch creator was added as a chunked creator.
+	 *
+	 * @review
+	 */
+	public static final int CHUNK_SIZE = 100;
+
+	/**
+	 * Passes the stream's elements to the batch creator in chunks of, at most,
+	 * {@code chunkSize} elements, and passes the identifiers created by each
+	 * chunk to the consumer before the next chunk is read. The batch creator
+	 * is always called at least once, even if the stream is empty.
+	 *
+	 * <p>
+	 * Only the current chunk is kept in memory. Since each chunk is read (and
+	 * therefore validated) right before it's created, an invalid element fails
+	 * the batch after the previous chunks have been created. Batch creators
+	 * that must not create anything if an element is invalid should use a
+	 * {@code chunkSize} of {@link Integer#MAX_VALUE}, so every element is read
+	 * before the batch creator is called.
+	 * </p>
+	 *
+	 * @param  stream the stream with the forms of the elements to create
+	 * @param  chunkSize the maximum number of elements per chunk
+	 * @param  throwableFunction the batch creator
+	 * @param  consumer the consumer of each chunk's identifiers
+	 * @review
+	 */
+	public static <R, S> void createInChunks(
+			Stream<R> stream, int chunkSize,
+			ThrowableFunction<List<R>, List<S>> throwableFunction,
+			Consumer<List<S>> consumer)
+		throws Exception {
+
+		Iterator<R> iterator = stream.iterator();
+
+		do {
+			List<R> chunk = new ArrayList<>();
+
+			while (iterator.hasNext() && (chunk.size() < chunkSize)) {
+				chunk.add(iterator.next());
+			}
+
+			consumer.accept(throwableFunction.apply(chunk));
+		}
+		while (iterator.hasNext());
+	}
+
+	/**
+	 * Returns a stream with the result of applying the form to each of the
+	 * body's members.
+	 *
+	 * @param  form the form
+	 * @param  body the body with the members
+	 * @return the stream with the result of applying the form to each member
+	 * @review
+	 */
+	public static <R> Stream<R> getFormStream(Form<R> form, Body body) {
+		if (form instanceof FormImpl) {
+			FormImpl<R> formImpl = (FormImpl<R>)form;
+
+			return formImpl.getStream(body);
+		}
+
+		List<R> list = form.getList(body);
+
+		return list.stream();
+	}
+
+	private BatchCreateUtil() {
+	}
+
+}
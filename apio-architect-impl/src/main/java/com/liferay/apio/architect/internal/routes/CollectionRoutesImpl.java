@@ -14,6 +14,9 @@
 
 package com.liferay.apio.architect.internal.routes;
 
+import static com.liferay.apio.architect.internal.routes.BatchCreateUtil.CHUNK_SIZE;
+import static com.liferay.apio.architect.internal.routes.BatchCreateUtil.createInChunks;
+import static com.liferay.apio.architect.internal.routes.BatchCreateUtil.getFormStream;
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 
 import static java.util.Collections.unmodifiableList;
@@ -50,6 +53,7 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * @author Alejandro Hernández
@@ -116,6 +120,22 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 			_nameFunction = nameFunction;
 		}
 
+		@Override
+		public <A, B, C, D, R> Builder<T, S> addChunkedCreator(
+			ThrowablePentaFunction<R, A, B, C, D, T>
+				creatorThrowablePentaFunction,
+			ThrowablePentaFunction<List<R>, A, B, C, D, List<S>>
+				chunkCreatorThrowablePentaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass,
+			HasAddingPermissionFunction hasAddingPermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			return _addCreator(
+				creatorThrowablePentaFunction,
+				chunkCreatorThrowablePentaFunction, CHUNK_SIZE, aClass, bClass,
+				cClass, dClass, formBuilderFunction);
+		}
+
 		@Override
 		public <A, B, C, D, R> Builder<T, S> addCreator(
 			ThrowablePentaFunction<R, A, B, C, D, T>
@@ -131,10 +151,10 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 						r -> creatorThrowablePentaFunction.apply(
 							r, a, b, c, d));
 
-			return addCreator(
+			return _addCreator(
 				creatorThrowablePentaFunction,
-				batchCreatorThrowablePentaFunction, aClass, bClass, cClass,
-				dClass, hasAddingPermissionFunction, formBuilderFunction);
+				batchCreatorThrowablePentaFunction, Integer.MAX_VALUE, aClass,
+				bClass, cClass, dClass, formBuilderFunction);
 		}
 
 		@Override
@@ -147,59 +167,10 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 			HasAddingPermissionFunction hasAddingPermissionFunction,
 			FormBuilderFunction<R> formBuilderFunction) {
 
-			Form<?> form = formBuilderFunction.apply(
-				unsafeCast(_formBuilderSupplier.get()));
-
-			ActionSemantics batchCreateActionSemantics =
-				ActionSemantics.ofResource(
-					_paged
-				).name(
-					"batch-create"
-				).method(
-					"POST"
-				).returns(
-					BatchResult.class
-				).executeFunction(
-					params -> batchCreatorThrowablePentaFunction.andThen(
-						t -> new BatchResult<>(t, _paged.getName())
-					).apply(
-						unsafeCast(params.get(0)), unsafeCast(params.get(1)),
-						unsafeCast(params.get(2)), unsafeCast(params.get(3)),
-						unsafeCast(params.get(4))
-					)
-				).bodyFunction(
-					form::getList
-				).receivesParams(
-					Body.class, aClass, bClass, cClass, dClass
-				).build();
-
-			_actionSemantics.add(batchCreateActionSemantics);
-
-			ActionSemantics createActionSemantics = ActionSemantics.ofResource(
-				_paged
-			).name(
-				"create"
-			).method(
-				"POST"
-			).returns(
-				SingleModel.class
-			).executeFunction(
-				params -> creatorThrowablePentaFunction.andThen(
-					t -> new SingleModelImpl<>(t, _paged.getName())
-				).apply(
-					unsafeCast(params.get(0)), unsafeCast(params.get(1)),
-					unsafeCast(params.get(2)), unsafeCast(params.get(3)),
-					unsafeCast(params.get(4))
-				)
-			).bodyFunction(
-				form::get
-			).receivesParams(
-				Body.class, aClass, bClass, cClass, dClass
-			).build();
-
-			_actionSemantics.add(createActionSemantics);
-
-			return this;
+			return _addCreator(
+				creatorThrowablePentaFunction,
+				batchCreatorThrowablePentaFunction, Integer.MAX_VALUE, aClass,
+				bClass, cClass, dClass, formBuilderFunction);
 		}
 
 		@Override
@@ -306,6 +277,79 @@ public class CollectionRoutesImpl<T, S> implements CollectionRoutes<T, S> {
 			);
 		}
 
+		private <A, B, C, D, R> Builder<T, S> _addCreator(
+			ThrowablePentaFunction<R, A, B, C, D, T>
+				creatorThrowablePentaFunction,
+			ThrowablePentaFunction<List<R>, A, B, C, D, List<S>>
+				batchCreatorThrowablePentaFunction,
+			int chunkSize, Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass, FormBuilderFunction<R> formBuilderFunction) {
+
+			Form<R> form = formBuilderFunction.apply(
+				unsafeCast(_formBuilderSupplier.get()));
+
+			ActionSemantics batchCreateActionSemantics =
+				ActionSemantics.ofResource(
+					_paged
+				).name(
+					"batch-create"
+				).method(
+					"POST"
+				).returns(
+					BatchResult.class
+				).executeFunction(
+					params -> {
+						Stream<R> stream = unsafeCast(params.get(0));
+
+						List<S> identifiers = new ArrayList<>();
+
+						createInChunks(
+							stream, chunkSize,
+							list -> batchCreatorThrowablePentaFunction.apply(
+								list, unsafeCast(params.get(1)),
+								unsafeCast(params.get(2)),
+								unsafeCast(params.get(3)),
+								unsafeCast(params.get(4))),
+							identifiers::addAll);
+
+						return new BatchResult<>(
+							identifiers, _paged.getName());
+					}
+				).bodyFunction(
+					body -> getFormStream(form, body)
+				).receivesParams(
+					Body.class, aClass, bClass, cClass, dClass
+				).build();
+
+			_actionSemantics.add(batchCreateActionSemantics);
+
+			ActionSemantics createActionSemantics = ActionSemantics.ofResource(
+				_paged
+			).name(
+				"create"
+			).method(
+				"POST"
+			).returns(
+				SingleModel.class
+			).executeFunction(
+				params -> creatorThrowablePentaFunction.andThen(
+					t -> new SingleModelImpl<>(t, _paged.getName())
+				).apply(
+					unsafeCast(params.get(0)), unsafeCast(params.get(1)),
+					unsafeCast(params.get(2)), unsafeCast(params.get(3)),
+					unsafeCast(params.get(4))
+				)
+			).bodyFunction(
+				form::get
+			).receivesParams(
+				Body.class, aClass, bClass, cClass, dClass
+			).build();
+
+			_actionSemantics.add(createActionSemantics);
+
+			return this;
+		}
+
 		private <U> List<S> _transformList(
 				List<U> list,
 				ThrowableFunction<U, T> transformThrowableFunction)
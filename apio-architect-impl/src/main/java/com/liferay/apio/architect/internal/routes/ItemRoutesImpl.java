@@ -21,6 +21,7 @@ import com.liferay.apio.architect.alias.routes.CustomItemFunction;
 import com.liferay.apio.architect.alias.routes.DeleteItemConsumer;
 import com.liferay.apio.architect.alias.routes.GetItemFunction;
 import com.liferay.apio.architect.alias.routes.UpdateItemFunction;
+import com.liferay.apio.architect.alias.routes.permission.BulkPermissionFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasRemovePermissionFunction;
 import com.liferay.apio.architect.alias.routes.permission.HasUpdatePermissionFunction;
 import com.liferay.apio.architect.annotation.Id;
@@ -29,6 +30,7 @@ import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.custom.actions.CustomRoute;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.form.Form;
+import com.liferay.apio.architect.function.throwable.ThrowableBiFunction;
 import com.liferay.apio.architect.function.throwable.ThrowableHexaFunction;
 import com.liferay.apio.architect.function.throwable.ThrowablePentaFunction;
 import com.liferay.apio.architect.identifier.Identifier;
@@ -42,9 +44,11 @@ import com.liferay.apio.architect.single.model.SingleModel;
 import io.vavr.CheckedRunnable;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -56,6 +60,11 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 	public ItemRoutesImpl(BuilderImpl<T, S> builderImpl) {
 		_actionSemantics = builderImpl._actionSemantics;
+		_batchGetterClass = builderImpl._batchGetterClass;
+		_name = builderImpl._item.getName();
+		_batchGetterThrowableBiFunction =
+			builderImpl._batchGetterThrowableBiFunction;
+		_bulkPermissionFunction = builderImpl._bulkPermissionFunction;
 	}
 
 	/**
@@ -67,6 +76,38 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 		return _actionSemantics;
 	}
 
+	/**
+	 * Returns the names of the actions the credentials can perform on each of
+	 * the items identified by the provided identifiers, by using the function
+	 * added with {@link Builder#addBulkPermissionFunction(
+	 * BulkPermissionFunction)}. Returns {@code Optional#empty()} if no bulk
+	 * permission function was added.
+	 *
+	 * @param  credentials the current credentials
+	 * @param  identifiers the identifiers of the items
+	 * @return the names of the allowed actions, keyed by the item's
+	 *         identifier, if a bulk permission function was added; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Map<Object, Set<String>>> getAllowedActionNamesOptional(
+			Credentials credentials, List<Object> identifiers)
+		throws Exception {
+
+		if (_bulkPermissionFunction == null) {
+			return Optional.empty();
+		}
+
+		Map<Object, Set<String>> allowedActionNames =
+			_bulkPermissionFunction.apply(credentials, identifiers);
+
+		if (allowedActionNames == null) {
+			return Optional.of(new HashMap<>());
+		}
+
+		return Optional.of(allowedActionNames);
+	}
+
 	@Override
 	public Optional<Map<String, CustomItemFunction<?, S>>>
 		getCustomItemFunctionsOptional() {
@@ -94,6 +135,41 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 		throw new UnsupportedOperationException();
 	}
 
+	/**
+	 * Returns the single models identified by the provided identifiers, by
+	 * using the function added with {@link Builder#addBatchGetter(
+	 * ThrowableBiFunction, Class)}. Returns {@code Optional#empty()} if no
+	 * batch getter was added.
+	 *
+	 * @param  identifiers the identifiers of the models
+	 * @param  provideFunction the function used to provide the batch getter's
+	 *         extra parameter
+	 * @return the single models found, keyed by their identifier, if a batch
+	 *         getter was added; {@code Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<Map<Object, SingleModel>> getSingleModelsOptional(
+			List<Object> identifiers, Function<Class<?>, Object> provideFunction)
+		throws Exception {
+
+		if (_batchGetterThrowableBiFunction == null) {
+			return Optional.empty();
+		}
+
+		Map<Object, T> models = _batchGetterThrowableBiFunction.apply(
+			identifiers, provideFunction.apply(_batchGetterClass));
+
+		Map<Object, SingleModel> singleModels = new HashMap<>();
+
+		if (models != null) {
+			models.forEach(
+				(identifier, model) -> singleModels.put(
+					identifier, new SingleModelImpl<>(model, _name)));
+		}
+
+		return Optional.of(singleModels);
+	}
+
 	@Override
 	public Optional<UpdateItemFunction<T, S>> getUpdateItemFunctionOptional() {
 		throw new UnsupportedOperationException();
@@ -118,6 +194,28 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 			_nameFunction = nameFunction;
 		}
 
+		@Override
+		public <A> Builder<T, S> addBatchGetter(
+			ThrowableBiFunction<List<S>, A, Map<S, T>>
+				batchGetterThrowableBiFunction,
+			Class<A> aClass) {
+
+			_batchGetterClass = aClass;
+			_batchGetterThrowableBiFunction = unsafeCast(
+				batchGetterThrowableBiFunction);
+
+			return this;
+		}
+
+		@Override
+		public Builder<T, S> addBulkPermissionFunction(
+			BulkPermissionFunction<S> bulkPermissionFunction) {
+
+			_bulkPermissionFunction = unsafeCast(bulkPermissionFunction);
+
+			return this;
+		}
+
 		@Override
 		public <A, B, C, D, R, U, I extends Identifier<?>> Builder<T, S>
 			addCustomRoute(
@@ -302,6 +400,10 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 
 		private final List<ActionSemantics> _actionSemantics =
 			new ArrayList<>();
+		private Class<?> _batchGetterClass;
+		private ThrowableBiFunction<List<Object>, Object, Map<Object, T>>
+			_batchGetterThrowableBiFunction;
+		private BulkPermissionFunction<Object> _bulkPermissionFunction;
 		private final Supplier<Form.Builder> _formBuilderSupplier;
 		private final Item _item;
 		private final Function<String, Optional<String>> _nameFunction;
@@ -309,5 +411,10 @@ public class ItemRoutesImpl<T, S> implements ItemRoutes<T, S> {
 	}
 
 	private final List<ActionSemantics> _actionSemantics;
+	private final Class<?> _batchGetterClass;
+	private final ThrowableBiFunction<List<Object>, Object, Map<Object, T>>
+		_batchGetterThrowableBiFunction;
+	private final BulkPermissionFunction<Object> _bulkPermissionFunction;
+	private final String _name;
 
 }
\ No newline at end of file
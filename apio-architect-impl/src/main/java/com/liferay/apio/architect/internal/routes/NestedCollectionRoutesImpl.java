@@ -14,6 +14,9 @@
 
 package com.liferay.apio.architect.internal.routes;
 
+import static com.liferay.apio.architect.internal.routes.BatchCreateUtil.CHUNK_SIZE;
+import static com.liferay.apio.architect.internal.routes.BatchCreateUtil.createInChunks;
+import static com.liferay.apio.architect.internal.routes.BatchCreateUtil.getFormStream;
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
 
 import com.liferay.apio.architect.alias.form.FormBuilderFunction;
@@ -46,6 +49,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * @author Alejandro Hernández
@@ -110,6 +114,23 @@ public class NestedCollectionRoutesImpl<T, S, U>
 			_modelToIdentifierFunction = modelToIdentifierFunction;
 		}
 
+		@Override
+		public <A, B, C, D, R> Builder<T, S, U> addChunkedCreator(
+			ThrowableHexaFunction<U, R, A, B, C, D, T>
+				creatorThrowableHexaFunction,
+			ThrowableHexaFunction<U, List<R>, A, B, C, D, List<S>>
+				chunkCreatorThrowableHexaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass, Class<D> dClass,
+			HasNestedAddingPermissionFunction<U>
+				hasNestedAddingPermissionFunction,
+			FormBuilderFunction<R> formBuilderFunction) {
+
+			return _addCreator(
+				creatorThrowableHexaFunction, chunkCreatorThrowableHexaFunction,
+				CHUNK_SIZE, aClass, bClass, cClass, dClass,
+				formBuilderFunction);
+		}
+
 		@Override
 		public <A, B, C, D, R> Builder<T, S, U> addCreator(
 			ThrowableHexaFunction<U, R, A, B, C, D, T>
@@ -126,10 +147,10 @@ public class NestedCollectionRoutesImpl<T, S, U>
 						r -> creatorThrowableHexaFunction.apply(
 							u, r, a, b, c, d));
 
-			return addCreator(
+			return _addCreator(
 				creatorThrowableHexaFunction, batchCreatorThrowableHexaFunction,
-				aClass, bClass, cClass, dClass,
-				hasNestedAddingPermissionFunction, formBuilderFunction);
+				Integer.MAX_VALUE, aClass, bClass, cClass, dClass,
+				formBuilderFunction);
 		}
 
 		@Override
@@ -143,7 +164,60 @@ public class NestedCollectionRoutesImpl<T, S, U>
 				hasNestedAddingPermissionFunction,
 			FormBuilderFunction<R> formBuilderFunction) {
 
-			Form form = formBuilderFunction.apply(
+			return _addCreator(
+				creatorThrowableHexaFunction, batchCreatorThrowableHexaFunction,
+				Integer.MAX_VALUE, aClass, bClass, cClass, dClass,
+				formBuilderFunction);
+		}
+
+		@Override
+		public <A, B, C, D> Builder<T, S, U> addGetter(
+			ThrowableHexaFunction<Pagination, U, A, B, C, D, PageItems<T>>
+				getterThrowableHexaFunction,
+			Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass) {
+
+			ActionSemantics actionSemantics = ActionSemantics.ofResource(
+				_resource
+			).name(
+				"retrieve"
+			).method(
+				"GET"
+			).returns(
+				Page.class
+			).executeFunction(
+				params -> getterThrowableHexaFunction.andThen(
+					pageItems -> new PageImpl<>(
+						_resourceWithParentId((Id)params.get(1)), pageItems,
+						(Pagination)params.get(0))
+				).apply(
+					(Pagination)params.get(0), _getId(params.get(1)),
+					unsafeCast(params.get(2)), unsafeCast(params.get(3)),
+					unsafeCast(params.get(4)), unsafeCast(params.get(5))
+				)
+			).receivesParams(
+				Pagination.class, _getIdClass(), aClass, bClass, cClass, dClass
+			).build();
+
+			_actionSemantics.add(actionSemantics);
+
+			return this;
+		}
+
+		@Override
+		public NestedCollectionRoutes<T, S, U> build() {
+			return new NestedCollectionRoutesImpl<>(this);
+		}
+
+		private <A, B, C, D, R> Builder<T, S, U> _addCreator(
+			ThrowableHexaFunction<U, R, A, B, C, D, T>
+				creatorThrowableHexaFunction,
+			ThrowableHexaFunction<U, List<R>, A, B, C, D, List<S>>
+				batchCreatorThrowableHexaFunction,
+			int chunkSize, Class<A> aClass, Class<B> bClass, Class<C> cClass,
+			Class<D> dClass, FormBuilderFunction<R> formBuilderFunction) {
+
+			Form<R> form = formBuilderFunction.apply(
 				unsafeCast(_formBuilderSupplier.get()));
 
 			ActionSemantics batchCreateActionSemantics =
@@ -156,15 +230,26 @@ public class NestedCollectionRoutesImpl<T, S, U>
 				).returns(
 					BatchResult.class
 				).executeFunction(
-					params -> batchCreatorThrowableHexaFunction.andThen(
-						t -> new BatchResult<>(t, _resource.getName())
-					).apply(
-						_getId(params.get(0)), unsafeCast(params.get(1)),
-						unsafeCast(params.get(2)), unsafeCast(params.get(3)),
-						unsafeCast(params.get(4)), unsafeCast(params.get(5))
-					)
+					params -> {
+						Stream<R> stream = unsafeCast(params.get(1));
+
+						List<S> identifiers = new ArrayList<>();
+
+						createInChunks(
+							stream, chunkSize,
+							list -> batchCreatorThrowableHexaFunction.apply(
+								_getId(params.get(0)), list,
+								unsafeCast(params.get(2)),
+								unsafeCast(params.get(3)),
+								unsafeCast(params.get(4)),
+								unsafeCast(params.get(5))),
+							identifiers::addAll);
+
+						return new BatchResult<>(
+							identifiers, _resource.getName());
+					}
 				).bodyFunction(
-					form::getList
+					body -> getFormStream(form, body)
 				).receivesParams(
 					_getIdClass(), Body.class, aClass, bClass, cClass, dClass
 				).build();
@@ -198,45 +283,6 @@ public class NestedCollectionRoutesImpl<T, S, U>
 			return this;
 		}
 
-		@Override
-		public <A, B, C, D> Builder<T, S, U> addGetter(
-			ThrowableHexaFunction<Pagination, U, A, B, C, D, PageItems<T>>
-				getterThrowableHexaFunction,
-			Class<A> aClass, Class<B> bClass, Class<C> cClass,
-			Class<D> dClass) {
-
-			ActionSemantics actionSemantics = ActionSemantics.ofResource(
-				_resource
-			).name(
-				"retrieve"
-			).method(
-				"GET"
-			).returns(
-				Page.class
-			).executeFunction(
-				params -> getterThrowableHexaFunction.andThen(
-					pageItems -> new PageImpl<>(
-						_resourceWithParentId((Id)params.get(1)), pageItems,
-						(Pagination)params.get(0))
-				).apply(
-					(Pagination)params.get(0), _getId(params.get(1)),
-					unsafeCast(params.get(2)), unsafeCast(params.get(3)),
-					unsafeCast(params.get(4)), unsafeCast(params.get(5))
-				)
-			).receivesParams(
-				Pagination.class, _getIdClass(), aClass, bClass, cClass, dClass
-			).build();
-
-			_actionSemantics.add(actionSemantics);
-
-			return this;
-		}
-
-		@Override
-		public NestedCollectionRoutes<T, S, U> build() {
-			return new NestedCollectionRoutesImpl<>(this);
-		}
-
 		private U _getId(Object object) {
 			Resource.Id id = (Resource.Id)object;
 
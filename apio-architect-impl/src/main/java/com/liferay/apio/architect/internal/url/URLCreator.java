@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.internal.url;
 
+import static com.liferay.apio.architect.internal.pagination.CursorUtil.encodeCursor;
+
 import static java.lang.String.join;
 
 import static java.util.Arrays.asList;
@@ -109,17 +111,52 @@ public final class URLCreator {
 	public static String createBinaryURL(
 		ApplicationURL applicationURL, String binaryId, Path path) {
 
-		URI uri = UriBuilder.fromPath(
-			"{name}"
-		).path(
-			"{id}"
-		).path(
-			"{binaryId}"
-		).build(
-			path.getName(), path.getId(), binaryId
-		);
+		return _binaryURLTemplate.expand(
+			applicationURL.get(), path.getName(), path.getId(), binaryId);
+	}
+
+	/**
+	 * Returns the URL for a collection page identified by a cursor. The cursor
+	 * is encoded, so it's opaque to clients.
+	 *
+	 * @param  collectionURL the collection URL
+	 * @param  cursor the cursor returned by the resource, or {@code null} for
+	 *         the collection's first page
+	 * @param  itemsPerPage the number of items per page
+	 * @return the collection page URL
+	 * @review
+	 */
+	public static String createCollectionCursorPageURL(
+		String collectionURL, String cursor, int itemsPerPage) {
+
+		if (cursor == null) {
+			if (_isSafe(collectionURL, _URL_CHARACTERS)) {
+				return collectionURL + "?per_page=" + itemsPerPage;
+			}
+
+			return UriBuilder.fromUri(
+				collectionURL
+			).queryParam(
+				"per_page", itemsPerPage
+			).build(
+			).toString();
+		}
+
+		String encodedCursor = encodeCursor(cursor);
+
+		if (_isSafe(collectionURL, _URL_CHARACTERS)) {
+			return collectionURL + "?cursor=" + encodedCursor + "&per_page=" +
+				itemsPerPage;
+		}
 
-		return createAbsoluteURL(applicationURL, uri.toString());
+		return UriBuilder.fromUri(
+			collectionURL
+		).queryParam(
+			"cursor", encodedCursor
+		).queryParam(
+			"per_page", itemsPerPage
+		).build(
+		).toString();
 	}
 
 	/**
@@ -132,6 +169,11 @@ public final class URLCreator {
 	public static String createCollectionPageURL(
 		String collectionURL, Page page, PageType pageType) {
 
+		if (_isSafe(collectionURL, _URL_CHARACTERS)) {
+			return collectionURL + "?page=" + pageType.getPageNumber(page) +
+				"&per_page=" + page.getItemsPerPage();
+		}
+
 		return UriBuilder.fromUri(
 			collectionURL
 		).queryParam(
@@ -158,19 +200,9 @@ public final class URLCreator {
 		Optional<Id> optional = genericParent.getParentIdOptional();
 
 		return optional.map(
-			id -> UriBuilder.fromPath(
-				"{name}"
-			).path(
-				"{parentName}"
-			).path(
-				"{parentId}"
-			).build(
-				genericParent.getName(), genericParent.getParentName(),
-				id.asString()
-			)
-		).map(
-			uri -> createAbsoluteURL(applicationURL, uri.toString())
-		);
+			id -> _genericParentURLTemplate.expand(
+				applicationURL.get(), genericParent.getName(),
+				genericParent.getParentName(), id.asString()));
 	}
 
 	/**
@@ -189,16 +221,8 @@ public final class URLCreator {
 		Optional<Id> optional = item.getIdOptional();
 
 		return optional.map(
-			id -> UriBuilder.fromPath(
-				"{name}"
-			).path(
-				"{id}"
-			).build(
-				item.getName(), id.asString()
-			)
-		).map(
-			uri -> createAbsoluteURL(applicationURL, uri.toString())
-		);
+			id -> _itemURLTemplate.expand(
+				applicationURL.get(), item.getName(), id.asString()));
 	}
 
 	/**
@@ -219,18 +243,9 @@ public final class URLCreator {
 		Optional<Id> optional = parent.getIdOptional();
 
 		return optional.map(
-			id -> UriBuilder.fromPath(
-				"{parentName}"
-			).path(
-				"{id}"
-			).path(
-				"{name}"
-			).build(
-				parent.getName(), id.asString(), nested.getName()
-			)
-		).map(
-			uri -> createAbsoluteURL(applicationURL, uri.toString())
-		);
+			id -> _nestedURLTemplate.expand(
+				applicationURL.get(), parent.getName(), id.asString(),
+				nested.getName()));
 	}
 
 	/**
@@ -244,13 +259,8 @@ public final class URLCreator {
 	public static String createPagedResourceURL(
 		ApplicationURL applicationURL, Paged paged) {
 
-		URI uri = UriBuilder.fromPath(
-			"{name}"
-		).build(
-			paged.getName()
-		);
-
-		return createAbsoluteURL(applicationURL, uri.toString());
+		return _pagedURLTemplate.expand(
+			applicationURL.get(), paged.getName());
 	}
 
 	/**
@@ -338,6 +348,22 @@ public final class URLCreator {
 		return join("/", baseUrl, relativeURL);
 	}
 
+	private static boolean _isSafe(String string, boolean[] safeCharacters) {
+		if ((string == null) || string.isEmpty()) {
+			return false;
+		}
+
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+
+			if ((c >= safeCharacters.length) || !safeCharacters[c]) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
 	private static Predicate<Path> _isNotEmpty(
 		Function<Path, String> function) {
 
@@ -352,7 +378,109 @@ public final class URLCreator {
 		throw new UnsupportedOperationException();
 	}
 
+	private static final boolean[] _SEGMENT_CHARACTERS = new boolean[128];
+	private static final boolean[] _URL_CHARACTERS = new boolean[128];
+
+	private static final URLTemplate _binaryURLTemplate = new URLTemplate(
+		"name", "id", "binaryId");
+	private static final URLTemplate _genericParentURLTemplate =
+		new URLTemplate("name", "parentName", "parentId");
+	private static final URLTemplate _itemURLTemplate = new URLTemplate(
+		"name", "id");
+	private static final URLTemplate _nestedURLTemplate = new URLTemplate(
+		"parentName", "id", "name");
+	private static final URLTemplate _pagedURLTemplate = new URLTemplate(
+		"name");
 	private static final List<String> _resourceActions = asList(
 		"create", "remove", "replace", "retrieve");
 
+	static {
+		for (char c = '0'; c <= '9'; c++) {
+			_SEGMENT_CHARACTERS[c] = true;
+		}
+
+		for (char c = 'A'; c <= 'Z'; c++) {
+			_SEGMENT_CHARACTERS[c] = true;
+		}
+
+		for (char c = 'a'; c <= 'z'; c++) {
+			_SEGMENT_CHARACTERS[c] = true;
+		}
+
+		_SEGMENT_CHARACTERS['-'] = true;
+		_SEGMENT_CHARACTERS['.'] = true;
+		_SEGMENT_CHARACTERS['_'] = true;
+
+		System.arraycopy(_SEGMENT_CHARACTERS, 0, _URL_CHARACTERS, 0, 128);
+
+		_URL_CHARACTERS['/'] = true;
+		_URL_CHARACTERS[':'] = true;
+	}
+
+	/**
+	 * A URL made of one path segment per template variable, like {@code
+	 * {name}/{id}}, relative to the application URL.
+	 *
+	 * <p>
+	 * If every value only contains characters that are never encoded in a
+	 * path segment, the URL is written directly. Otherwise, it's built with a
+	 * {@code UriBuilder}, so the result is always the same.
+	 * </p>
+	 */
+	private static class URLTemplate {
+
+		public String expand(String applicationURL, String... values) {
+			int length = applicationURL.length() + values.length;
+
+			for (String value : values) {
+				if (!_isSafe(value, _SEGMENT_CHARACTERS)) {
+					return _expandWithUriBuilder(applicationURL, values);
+				}
+
+				length += value.length();
+			}
+
+			StringBuilder sb = new StringBuilder(length);
+
+			if (applicationURL.endsWith("/")) {
+				sb.append(applicationURL, 0, applicationURL.length() - 1);
+			}
+			else {
+				sb.append(applicationURL);
+			}
+
+			for (String value : values) {
+				sb.append('/');
+				sb.append(value);
+			}
+
+			return sb.toString();
+		}
+
+		private URLTemplate(String... names) {
+			_templates = new String[names.length];
+
+			for (int i = 0; i < names.length; i++) {
+				_templates[i] = "{" + names[i] + "}";
+			}
+		}
+
+		private String _expandWithUriBuilder(
+			String applicationURL, String... values) {
+
+			UriBuilder uriBuilder = UriBuilder.fromPath(_templates[0]);
+
+			for (int i = 1; i < _templates.length; i++) {
+				uriBuilder = uriBuilder.path(_templates[i]);
+			}
+
+			URI uri = uriBuilder.build((Object[])values);
+
+			return _buildURL(applicationURL, uri.toString());
+		}
+
+		private final String[] _templates;
+
+	}
+
 }
\ No newline at end of file
@@ -16,7 +16,7 @@ package com.liferay.apio.architect.internal.wiring.osgi.manager.base;
 
 import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
-import com.liferay.apio.architect.internal.wiring.osgi.tracker.map.listener.ClearCacheServiceTrackerMapListener;
+import com.liferay.apio.architect.internal.wiring.osgi.tracker.map.listener.InvalidateCacheServiceTrackerMapListener;
 import com.liferay.osgi.service.tracker.collections.internal.DefaultServiceTrackerCustomizer;
 import com.liferay.osgi.service.tracker.collections.internal.map.ServiceTrackerMapImpl;
 import com.liferay.osgi.service.tracker.collections.internal.map.SingleValueServiceTrackerBucketFactory;
@@ -50,7 +50,8 @@ public abstract class BaseManager<T, U> {
 			bundleContext, _managedClass, null, this::emit,
 			new DefaultServiceTrackerCustomizer<>(bundleContext),
 			new SingleValueServiceTrackerBucketFactory<>(),
-			new ClearCacheServiceTrackerMapListener<>());
+			new InvalidateCacheServiceTrackerMapListener<>(
+				this::invalidateCache));
 
 		INSTANCE.clear();
 	}
@@ -77,6 +78,19 @@ public abstract class BaseManager<T, U> {
 	protected abstract void emit(
 		ServiceReference<T> serviceReference, Emitter<U> emitter);
 
+	/**
+	 * Invalidates the cached data that depends on the service registered
+	 * under a key, after the service is added, modified or removed. By
+	 * default, the whole cache is cleared. Managers should override this
+	 * method to only invalidate the data they compute.
+	 *
+	 * @param key the changed service's key
+	 * @review
+	 */
+	protected void invalidateCache(U key) {
+		INSTANCE.clear();
+	}
+
 	protected BundleContext bundleContext;
 	protected ServiceTrackerMap<U, T> serviceTrackerMap;
 
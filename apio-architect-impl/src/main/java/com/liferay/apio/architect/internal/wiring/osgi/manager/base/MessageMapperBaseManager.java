@@ -37,11 +37,13 @@ public abstract class MessageMapperBaseManager<T extends MessageMapper>
 	extends BaseManager<T, String> {
 
 	public MessageMapperBaseManager(
-		Class<T> managedClass, BiConsumer<MediaType, T> storeBiConsumer) {
+		Class<T> managedClass, BiConsumer<MediaType, T> storeBiConsumer,
+		BiConsumer<MediaType, T> replaceBiConsumer) {
 
 		super(managedClass);
 
 		_storeBiConsumer = storeBiConsumer;
+		_replaceBiConsumer = replaceBiConsumer;
 	}
 
 	/**
@@ -73,7 +75,31 @@ public abstract class MessageMapperBaseManager<T extends MessageMapper>
 		emitter.emit(t.getMediaType());
 	}
 
+	/**
+	 * Replaces the cached message mapper of the changed media type with the
+	 * one currently registered, leaving the rest of the cache untouched.
+	 *
+	 * @param key the changed media type
+	 */
+	@Override
+	protected void invalidateCache(String key) {
+		if (serviceTrackerMap == null) {
+			return;
+		}
+
+		try {
+			MediaType mediaType = MediaType.valueOf(key);
+
+			_replaceBiConsumer.accept(
+				mediaType, serviceTrackerMap.getService(key));
+		}
+		catch (IllegalArgumentException iae) {
+			_logger.warn("Message mapper has invalid media type: {}", key);
+		}
+	}
+
 	private Logger _logger = getLogger(getClass());
+	private final BiConsumer<MediaType, T> _replaceBiConsumer;
 	private final BiConsumer<MediaType, T> _storeBiConsumer;
 
 }
\ No newline at end of file
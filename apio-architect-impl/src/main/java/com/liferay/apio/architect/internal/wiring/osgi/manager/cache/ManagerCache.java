@@ -19,6 +19,7 @@ import static javax.ws.rs.core.Variant.VariantListBuilder.newInstance;
 import com.liferay.apio.architect.documentation.contributor.CustomDocumentation;
 import com.liferay.apio.architect.identifier.Identifier;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.action.ActionSemanticsIndex;
 import com.liferay.apio.architect.internal.annotation.representor.processor.ParsedType;
 import com.liferay.apio.architect.internal.message.json.BatchResultMessageMapper;
 import com.liferay.apio.architect.internal.message.json.DocumentationMessageMapper;
@@ -28,6 +29,8 @@ import com.liferay.apio.architect.internal.message.json.PageMessageMapper;
 import com.liferay.apio.architect.internal.message.json.SingleModelMessageMapper;
 import com.liferay.apio.architect.internal.unsafe.Unsafe;
 import com.liferay.apio.architect.internal.wiring.osgi.alias.EmptyFunction;
+import com.liferay.apio.architect.internal.writer.SerializationPlan;
+import com.liferay.apio.architect.representor.BaseRepresentor;
 import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.routes.CollectionRoutes;
 import com.liferay.apio.architect.routes.ItemRoutes;
@@ -35,11 +38,20 @@ import com.liferay.apio.architect.routes.NestedCollectionRoutes;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
@@ -54,6 +66,14 @@ import javax.ws.rs.core.Variant.VariantListBuilder;
  * #INSTANCE}.
  * </p>
  *
+ * <p>
+ * The cached data is kept in an immutable snapshot published through a single
+ * atomic reference, so lookups never take a lock. Missing data is computed by
+ * only one thread at a time on a private copy of the snapshot, which is
+ * published once the computation finishes. After the cache is cleared, other
+ * threads keep serving the previous data while the new one is computed.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 public class ManagerCache {
@@ -69,44 +89,51 @@ public class ManagerCache {
 	 * @param actionSemantics the action semantics
 	 */
 	public void addActionSemantics(ActionSemantics actionSemantics) {
-		if (_actionSemantics == null) {
-			_actionSemantics = new ArrayList<>();
-		}
+		_update(
+			snapshot -> snapshot._actionSemantics = snapshot._add(
+				snapshot._actionSemantics, actionSemantics));
+	}
 
-		_actionSemantics.add(actionSemantics);
+	/**
+	 * Adds a listener that is called every time cached data is invalidated,
+	 * after the invalidation is published. Listeners are called in the thread
+	 * that invalidates the data, so they should return quickly.
+	 *
+	 * @param runnable the listener
+	 * @review
+	 */
+	public void addInvalidationListener(Runnable runnable) {
+		_invalidationListeners.add(runnable);
 	}
 
 	/**
 	 * Clears the cache.
 	 */
 	public void clear() {
-		_actionSemantics = null;
-		_collectionRoutes = null;
-		_documentationMessageMappers = null;
-		_entryPointMessageMappers = null;
-		_errorMessageMappers = null;
-		_identifierClasses = null;
-		_reusableIdentifierClasses = null;
-		_itemRoutes = null;
-		_names = null;
-		_nestedCollectionRoutes = null;
-		_pageMessageMappers = null;
-		_parsedTypes = null;
-		_batchResultMessageMappers = null;
-		_representors = null;
-		_reusableNestedCollectionRoutes = null;
-		_rootResourceNamesSdk = null;
-		_singleModelMessageMappers = null;
+		_invalidate(Snapshot::_clear);
 	}
 
 	public List<ActionSemantics> getActionSemantics(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_actionSemantics == null) {
-			computeEmptyFunction.invoke();
-		}
+		return _get(
+			snapshot -> snapshot._actionSemantics, computeEmptyFunction);
+	}
 
-		return _actionSemantics;
+	/**
+	 * Returns the index of every action semantics provided by the different
+	 * routers.
+	 *
+	 * @param  computeEmptyFunction the function that can be called to compute
+	 *         the data
+	 * @return the action semantics index
+	 * @review
+	 */
+	public ActionSemanticsIndex getActionSemanticsIndex(
+		EmptyFunction computeEmptyFunction) {
+
+		return _get(
+			snapshot -> snapshot._actionSemanticsIndex, computeEmptyFunction);
 	}
 
 	/**
@@ -114,6 +141,7 @@ public class ManagerCache {
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the batch result message mapper, if present; {@code
@@ -121,14 +149,16 @@ public class ManagerCache {
 	 */
 	public <T> Optional<BatchResultMessageMapper<T>>
 		getBatchResultMessageMapperOptional(
-			Request request, EmptyFunction computeEmptyFunction) {
+			Request request, String acceptHeader,
+			EmptyFunction computeEmptyFunction) {
 
-		if (_batchResultMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<MediaType, BatchResultMessageMapper> messageMappers = _get(
+			snapshot -> snapshot._batchResultMessageMappers,
+			computeEmptyFunction);
 
 		Optional<BatchResultMessageMapper> optional = _getMessageMapperOptional(
-			request, _batchResultMessageMappers);
+			request, acceptHeader, messageMappers,
+			_batchResultMediaTypeSelections);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -136,21 +166,15 @@ public class ManagerCache {
 	public Map<String, CollectionRoutes> getCollectionRoutes(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_collectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _collectionRoutes;
+		return _get(
+			snapshot -> snapshot._collectionRoutes, computeEmptyFunction);
 	}
 
 	public CustomDocumentation getDocumentationContribution(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_customDocumentation == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _customDocumentation;
+		return _get(
+			snapshot -> snapshot._customDocumentation, computeEmptyFunction);
 	}
 
 	/**
@@ -158,6 +182,7 @@ public class ManagerCache {
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the documentation message mapper, if present; {@code
@@ -165,14 +190,17 @@ public class ManagerCache {
 	 */
 	public Optional<DocumentationMessageMapper>
 		getDocumentationMessageMapperOptional(
-			Request request, EmptyFunction computeEmptyFunction) {
+			Request request, String acceptHeader,
+			EmptyFunction computeEmptyFunction) {
 
-		if (_documentationMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<MediaType, DocumentationMessageMapper> messageMappers = _get(
+			snapshot -> snapshot._documentationMessageMappers,
+			computeEmptyFunction);
 
 		Optional<DocumentationMessageMapper> optional =
-			_getMessageMapperOptional(request, _documentationMessageMappers);
+			_getMessageMapperOptional(
+				request, acceptHeader, messageMappers,
+				_documentationMediaTypeSelections);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -182,20 +210,23 @@ public class ManagerCache {
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the entry point message mapper, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<EntryPointMessageMapper> getEntryPointMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
+		Request request, String acceptHeader,
+		EmptyFunction computeEmptyFunction) {
 
-		if (_entryPointMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<MediaType, EntryPointMessageMapper> messageMappers = _get(
+			snapshot -> snapshot._entryPointMessageMappers,
+			computeEmptyFunction);
 
 		Optional<EntryPointMessageMapper> optional = _getMessageMapperOptional(
-			request, _entryPointMessageMappers);
+			request, acceptHeader, messageMappers,
+			_entryPointMediaTypeSelections);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -205,24 +236,37 @@ public class ManagerCache {
 	 * {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the error message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
 	public Optional<ErrorMessageMapper> getErrorMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
+		Request request, String acceptHeader,
+		EmptyFunction computeEmptyFunction) {
 
-		if (_errorMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<MediaType, ErrorMessageMapper> messageMappers = _get(
+			snapshot -> snapshot._errorMessageMappers, computeEmptyFunction);
 
 		Optional<ErrorMessageMapper> optional = _getMessageMapperOptional(
-			request, _errorMessageMappers);
+			request, acceptHeader, messageMappers, _errorMediaTypeSelections);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
 
+	/**
+	 * Returns the generation of the cached data. The generation changes every
+	 * time cached data is invalidated or a message mapper is replaced, so data
+	 * derived from the cache can be discarded when it changes.
+	 *
+	 * @return the generation of the cached data
+	 * @review
+	 */
+	public long getGeneration() {
+		return _generation.get();
+	}
+
 	/**
 	 * Returns the resource name's identifier class.
 	 *
@@ -234,12 +278,11 @@ public class ManagerCache {
 	public <T extends Identifier> Optional<Class<T>> getIdentifierClassOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_identifierClasses == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<String, Class<Identifier>> identifierClasses = _get(
+			snapshot -> snapshot._identifierClasses, computeEmptyFunction);
 
 		return Optional.ofNullable(
-			_identifierClasses
+			identifierClasses
 		).map(
 			map -> map.get(name)
 		).map(
@@ -250,11 +293,7 @@ public class ManagerCache {
 	public Map<String, ItemRoutes> getItemRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_itemRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _itemRoutes;
+		return _get(snapshot -> snapshot._itemRoutes, computeEmptyFunction);
 	}
 
 	/**
@@ -269,11 +308,10 @@ public class ManagerCache {
 	public Optional<String> getNameOptional(
 		String className, EmptyFunction computeEmptyFunction) {
 
-		if (_names == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<String, String> names = _get(
+			snapshot -> snapshot._names, computeEmptyFunction);
 
-		Optional<Map<String, String>> optional = getNamesOptional();
+		Optional<Map<String, String>> optional = Optional.ofNullable(names);
 
 		return optional.map(map -> map.get(className));
 	}
@@ -288,17 +326,16 @@ public class ManagerCache {
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<Map<String, String>> getNamesOptional() {
-		return Optional.ofNullable(_names);
+		Snapshot snapshot = _getSnapshot();
+
+		return Optional.ofNullable(snapshot._names);
 	}
 
 	public Map<String, NestedCollectionRoutes> getNestedCollectionRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_nestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _nestedCollectionRoutes;
+		return _get(
+			snapshot -> snapshot._nestedCollectionRoutes, computeEmptyFunction);
 	}
 
 	/**
@@ -306,20 +343,21 @@ public class ManagerCache {
 	 * {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the page message mapper, if present; {@code Optional#empty()}
 	 *         otherwise
 	 */
 	public <T> Optional<PageMessageMapper<T>> getPageMessageMapperOptional(
-		Request request, EmptyFunction computeEmptyFunction) {
+		Request request, String acceptHeader,
+		EmptyFunction computeEmptyFunction) {
 
-		if (_pageMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<MediaType, PageMessageMapper> messageMappers = _get(
+			snapshot -> snapshot._pageMessageMappers, computeEmptyFunction);
 
 		Optional<PageMessageMapper> optional = _getMessageMapperOptional(
-			request, _pageMessageMappers);
+			request, acceptHeader, messageMappers, _pageMediaTypeSelections);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
@@ -335,21 +373,13 @@ public class ManagerCache {
 	public Map<String, ParsedType> getParsedTypesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_parsedTypes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _parsedTypes;
+		return _get(snapshot -> snapshot._parsedTypes, computeEmptyFunction);
 	}
 
 	public Map<String, Representor> getRepresentorMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_representors == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _representors;
+		return _get(snapshot -> snapshot._representors, computeEmptyFunction);
 	}
 
 	/**
@@ -364,12 +394,11 @@ public class ManagerCache {
 	public <T> Optional<Representor<T>> getRepresentorOptional(
 		String name, EmptyFunction computeEmptyFunction) {
 
-		if (_representors == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<String, Representor> representors = _get(
+			snapshot -> snapshot._representors, computeEmptyFunction);
 
 		return Optional.ofNullable(
-			_representors
+			representors
 		).map(
 			map -> map.get(name)
 		).map(
@@ -380,16 +409,16 @@ public class ManagerCache {
 	public Map<String, NestedCollectionRoutes> getReusableCollectionRoutesMap(
 		EmptyFunction computeEmptyFunction) {
 
-		if (_reusableNestedCollectionRoutes == null) {
-			computeEmptyFunction.invoke();
-		}
-
-		return _reusableNestedCollectionRoutes;
+		return _get(
+			snapshot -> snapshot._reusableNestedCollectionRoutes,
+			computeEmptyFunction);
 	}
 
 	public Optional<Class<?>> getReusableIdentifierClassOptional(String name) {
+		Snapshot snapshot = _getSnapshot();
+
 		return Optional.ofNullable(
-			_reusableIdentifierClasses
+			snapshot._reusableIdentifierClasses
 		).map(
 			map -> map.get(name)
 		).map(
@@ -397,11 +426,33 @@ public class ManagerCache {
 		);
 	}
 
+	/**
+	 * Returns the serialization plan used for writing every field of the
+	 * representor, computing it with the provided function if it isn't cached
+	 * yet. Cached plans are discarded every time the cache is invalidated.
+	 *
+	 * @param  baseRepresentor the representor
+	 * @param  function the function that compiles the plan
+	 * @return the serialization plan
+	 * @review
+	 */
+	public <T> SerializationPlan<T> getSerializationPlan(
+		BaseRepresentor<T> baseRepresentor,
+		Function<BaseRepresentor<T>, SerializationPlan<T>> function) {
+
+		SerializationPlan<?> serializationPlan =
+			_serializationPlans.computeIfAbsent(
+				baseRepresentor, __ -> function.apply(baseRepresentor));
+
+		return Unsafe.unsafeCast(serializationPlan);
+	}
+
 	/**
 	 * Returns the single model message mapper, if present, for the current
 	 * request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @param  computeEmptyFunction the function that can be called to compute
 	 *         the data
 	 * @return the single model message mapper, if present; {@code
@@ -409,18 +460,136 @@ public class ManagerCache {
 	 */
 	public <T> Optional<SingleModelMessageMapper<T>>
 		getSingleModelMessageMapperOptional(
-			Request request, EmptyFunction computeEmptyFunction) {
+			Request request, String acceptHeader,
+			EmptyFunction computeEmptyFunction) {
 
-		if (_singleModelMessageMappers == null) {
-			computeEmptyFunction.invoke();
-		}
+		Map<MediaType, SingleModelMessageMapper> messageMappers = _get(
+			snapshot -> snapshot._singleModelMessageMappers,
+			computeEmptyFunction);
 
 		Optional<SingleModelMessageMapper> optional = _getMessageMapperOptional(
-			request, _singleModelMessageMappers);
+			request, acceptHeader, messageMappers,
+			_singleModelMediaTypeSelections);
 
 		return optional.map(Unsafe::unsafeCast);
 	}
 
+	/**
+	 * Removes the action semantics provided by the action routers, so they're
+	 * computed again the next time they're requested.
+	 *
+	 * @review
+	 */
+	public void invalidateActionSemantics() {
+		_invalidate(
+			snapshot -> {
+				snapshot._actionSemantics = null;
+				snapshot._actionSemanticsIndex = null;
+			});
+	}
+
+	/**
+	 * Removes the collection routes, so they're computed again the next time
+	 * they're requested.
+	 *
+	 * @review
+	 */
+	public void invalidateCollectionRoutes() {
+		_invalidate(
+			snapshot -> {
+				snapshot._actionSemanticsIndex = null;
+				snapshot._collectionRoutes = null;
+				snapshot._rootResourceNamesSdk = null;
+			});
+	}
+
+	/**
+	 * Removes the item routes, so they're computed again the next time they're
+	 * requested.
+	 *
+	 * @review
+	 */
+	public void invalidateItemRoutes() {
+		_invalidate(
+			snapshot -> {
+				snapshot._actionSemanticsIndex = null;
+				snapshot._itemRoutes = null;
+			});
+	}
+
+	/**
+	 * Removes the nested collection routes, so they're computed again the next
+	 * time they're requested.
+	 *
+	 * @review
+	 */
+	public void invalidateNestedCollectionRoutes() {
+		_invalidate(
+			snapshot -> {
+				snapshot._actionSemanticsIndex = null;
+				snapshot._nestedCollectionRoutes = null;
+			});
+	}
+
+	/**
+	 * Removes the representors, along with the names and identifier classes of
+	 * the resources, so they're computed again the next time they're
+	 * requested.
+	 *
+	 * <p>
+	 * Since routes and action semantics are created using the names of the
+	 * resources, they're removed as well. Message mappers, parsed types and
+	 * the documentation contribution are kept.
+	 * </p>
+	 *
+	 * @review
+	 */
+	public void invalidateRepresentors() {
+		_invalidate(
+			snapshot -> {
+				snapshot._actionSemantics = null;
+				snapshot._actionSemanticsIndex = null;
+				snapshot._collectionRoutes = null;
+				snapshot._identifierClasses = null;
+				snapshot._itemRoutes = null;
+				snapshot._names = null;
+				snapshot._nestedCollectionRoutes = null;
+				snapshot._representors = null;
+				snapshot._reusableIdentifierClasses = null;
+				snapshot._reusableNestedCollectionRoutes = null;
+				snapshot._rootResourceNamesSdk = null;
+			});
+	}
+
+	/**
+	 * Removes the reusable nested collection routes, so they're computed again
+	 * the next time they're requested.
+	 *
+	 * @review
+	 */
+	public void invalidateReusableNestedCollectionRoutes() {
+		_invalidate(
+			snapshot -> {
+				snapshot._actionSemanticsIndex = null;
+				snapshot._reusableIdentifierClasses = null;
+				snapshot._reusableNestedCollectionRoutes = null;
+			});
+	}
+
+	/**
+	 * Sets the index of every action semantics provided by the different
+	 * routers. The index replaces the previous one atomically.
+	 *
+	 * @param  actionSemanticsIndex the action semantics index
+	 * @review
+	 */
+	public void putActionSemanticsIndex(
+		ActionSemanticsIndex actionSemanticsIndex) {
+
+		_update(
+			snapshot -> snapshot._actionSemanticsIndex = actionSemanticsIndex);
+	}
+
 	/**
 	 * Adds a batch result message mapper.
 	 *
@@ -431,11 +600,10 @@ public class ManagerCache {
 		MediaType mediaType,
 		BatchResultMessageMapper batchResultMessageMapper) {
 
-		if (_batchResultMessageMappers == null) {
-			_batchResultMessageMappers = new HashMap<>();
-		}
-
-		_batchResultMessageMappers.put(mediaType, batchResultMessageMapper);
+		_update(
+			snapshot -> snapshot._batchResultMessageMappers = snapshot._put(
+				snapshot._batchResultMessageMappers, mediaType,
+				batchResultMessageMapper));
 	}
 
 	/**
@@ -447,17 +615,16 @@ public class ManagerCache {
 	public void putCollectionRoutes(
 		String key, CollectionRoutes collectionRoutes) {
 
-		if (_collectionRoutes == null) {
-			_collectionRoutes = new HashMap<>();
-		}
-
-		_collectionRoutes.put(key, collectionRoutes);
+		_update(
+			snapshot -> snapshot._collectionRoutes = snapshot._put(
+				snapshot._collectionRoutes, key, collectionRoutes));
 	}
 
 	public void putDocumentationContribution(
 		CustomDocumentation customDocumentation) {
 
-		_customDocumentation = customDocumentation;
+		_update(
+			snapshot -> snapshot._customDocumentation = customDocumentation);
 	}
 
 	/**
@@ -470,11 +637,10 @@ public class ManagerCache {
 		MediaType mediaType,
 		DocumentationMessageMapper documentationMessageMapper) {
 
-		if (_documentationMessageMappers == null) {
-			_documentationMessageMappers = new HashMap<>();
-		}
-
-		_documentationMessageMappers.put(mediaType, documentationMessageMapper);
+		_update(
+			snapshot -> snapshot._documentationMessageMappers = snapshot._put(
+				snapshot._documentationMessageMappers, mediaType,
+				documentationMessageMapper));
 	}
 
 	/**
@@ -486,11 +652,10 @@ public class ManagerCache {
 	public void putEntryPointMessageMapper(
 		MediaType mediaType, EntryPointMessageMapper entryPointMessageMapper) {
 
-		if (_entryPointMessageMappers == null) {
-			_entryPointMessageMappers = new HashMap<>();
-		}
-
-		_entryPointMessageMappers.put(mediaType, entryPointMessageMapper);
+		_update(
+			snapshot -> snapshot._entryPointMessageMappers = snapshot._put(
+				snapshot._entryPointMessageMappers, mediaType,
+				entryPointMessageMapper));
 	}
 
 	/**
@@ -502,11 +667,9 @@ public class ManagerCache {
 	public void putErrorMessageMapper(
 		MediaType mediaType, ErrorMessageMapper errorMessageMapper) {
 
-		if (_errorMessageMappers == null) {
-			_errorMessageMappers = new HashMap<>();
-		}
-
-		_errorMessageMappers.put(mediaType, errorMessageMapper);
+		_update(
+			snapshot -> snapshot._errorMessageMappers = snapshot._put(
+				snapshot._errorMessageMappers, mediaType, errorMessageMapper));
 	}
 
 	/**
@@ -518,11 +681,9 @@ public class ManagerCache {
 	public void putIdentifierClass(
 		String key, Class<Identifier> identifierClass) {
 
-		if (_identifierClasses == null) {
-			_identifierClasses = new HashMap<>();
-		}
-
-		_identifierClasses.put(key, identifierClass);
+		_update(
+			snapshot -> snapshot._identifierClasses = snapshot._put(
+				snapshot._identifierClasses, key, identifierClass));
 	}
 
 	/**
@@ -532,11 +693,9 @@ public class ManagerCache {
 	 * @param itemRoutes the item routes
 	 */
 	public void putItemRoutes(String key, ItemRoutes itemRoutes) {
-		if (_itemRoutes == null) {
-			_itemRoutes = new HashMap<>();
-		}
-
-		_itemRoutes.put(key, itemRoutes);
+		_update(
+			snapshot -> snapshot._itemRoutes = snapshot._put(
+				snapshot._itemRoutes, key, itemRoutes));
 	}
 
 	/**
@@ -546,11 +705,9 @@ public class ManagerCache {
 	 * @param name the resource name
 	 */
 	public void putName(String key, String name) {
-		if (_names == null) {
-			_names = new HashMap<>();
-		}
-
-		_names.put(key, name);
+		_update(
+			snapshot -> snapshot._names = snapshot._put(
+				snapshot._names, key, name));
 	}
 
 	/**
@@ -562,11 +719,9 @@ public class ManagerCache {
 	public void putNestedCollectionRoutes(
 		String key, NestedCollectionRoutes nestedCollectionRoutes) {
 
-		if (_nestedCollectionRoutes == null) {
-			_nestedCollectionRoutes = new HashMap<>();
-		}
-
-		_nestedCollectionRoutes.put(key, nestedCollectionRoutes);
+		_update(
+			snapshot -> snapshot._nestedCollectionRoutes = snapshot._put(
+				snapshot._nestedCollectionRoutes, key, nestedCollectionRoutes));
 	}
 
 	/**
@@ -578,11 +733,9 @@ public class ManagerCache {
 	public void putPageMessageMapper(
 		MediaType mediaType, PageMessageMapper pageMessageMapper) {
 
-		if (_pageMessageMappers == null) {
-			_pageMessageMappers = new HashMap<>();
-		}
-
-		_pageMessageMappers.put(mediaType, pageMessageMapper);
+		_update(
+			snapshot -> snapshot._pageMessageMappers = snapshot._put(
+				snapshot._pageMessageMappers, mediaType, pageMessageMapper));
 	}
 
 	/**
@@ -593,11 +746,9 @@ public class ManagerCache {
 	 * @review
 	 */
 	public void putParsedType(String key, ParsedType parsedType) {
-		if (_parsedTypes == null) {
-			_parsedTypes = new HashMap<>();
-		}
-
-		_parsedTypes.put(key, parsedType);
+		_update(
+			snapshot -> snapshot._parsedTypes = snapshot._put(
+				snapshot._parsedTypes, key, parsedType));
 	}
 
 	/**
@@ -607,21 +758,17 @@ public class ManagerCache {
 	 * @param representor the representor
 	 */
 	public void putRepresentor(String key, Representor representor) {
-		if (_representors == null) {
-			_representors = new HashMap<>();
-		}
-
-		_representors.put(key, representor);
+		_update(
+			snapshot -> snapshot._representors = snapshot._put(
+				snapshot._representors, key, representor));
 	}
 
 	public void putReusableIdentifierClass(
 		String key, Class<?> identifierClass) {
 
-		if (_reusableIdentifierClasses == null) {
-			_reusableIdentifierClasses = new HashMap<>();
-		}
-
-		_reusableIdentifierClasses.put(key, identifierClass);
+		_update(
+			snapshot -> snapshot._reusableIdentifierClasses = snapshot._put(
+				snapshot._reusableIdentifierClasses, key, identifierClass));
 	}
 
 	/**
@@ -634,12 +781,11 @@ public class ManagerCache {
 	public void putReusableNestedCollectionRoutes(
 		String key, NestedCollectionRoutes reusableNestedCollectionRoutes) {
 
-		if (_reusableNestedCollectionRoutes == null) {
-			_reusableNestedCollectionRoutes = new HashMap<>();
-		}
-
-		_reusableNestedCollectionRoutes.put(
-			key, reusableNestedCollectionRoutes);
+		_update(
+			snapshot ->
+				snapshot._reusableNestedCollectionRoutes = snapshot._put(
+					snapshot._reusableNestedCollectionRoutes, key,
+					reusableNestedCollectionRoutes));
 	}
 
 	/**
@@ -649,11 +795,9 @@ public class ManagerCache {
 	 * @review
 	 */
 	public void putRootResourceNameSdk(String rootResourceNameSdk) {
-		if (_rootResourceNamesSdk == null) {
-			_rootResourceNamesSdk = new ArrayList<>();
-		}
-
-		_rootResourceNamesSdk.add(rootResourceNameSdk);
+		_update(
+			snapshot -> snapshot._rootResourceNamesSdk = snapshot._add(
+				snapshot._rootResourceNamesSdk, rootResourceNameSdk));
 	}
 
 	/**
@@ -666,42 +810,275 @@ public class ManagerCache {
 		MediaType mediaType,
 		SingleModelMessageMapper singleModelMessageMapper) {
 
-		if (_singleModelMessageMappers == null) {
-			_singleModelMessageMappers = new HashMap<>();
-		}
+		_update(
+			snapshot -> snapshot._singleModelMessageMappers = snapshot._put(
+				snapshot._singleModelMessageMappers, mediaType,
+				singleModelMessageMapper));
+	}
 
-		_singleModelMessageMappers.put(mediaType, singleModelMessageMapper);
+	/**
+	 * Removes a listener added with {@link #addInvalidationListener(
+	 * Runnable)}.
+	 *
+	 * @param runnable the listener
+	 * @review
+	 */
+	public void removeInvalidationListener(Runnable runnable) {
+		_invalidationListeners.remove(runnable);
+	}
+
+	/**
+	 * Replaces the batch result message mapper of a media type, if the batch
+	 * result message mappers have already been computed. If the provided
+	 * message mapper is {@code null}, the media type's message mapper is
+	 * removed.
+	 *
+	 * @param  mediaType the media type
+	 * @param  batchResultMessageMapper the new batch result message mapper, or
+	 *         {@code null}
+	 * @review
+	 */
+	public void replaceBatchResultMessageMapper(
+		MediaType mediaType,
+		BatchResultMessageMapper batchResultMessageMapper) {
+
+		_update(
+			snapshot -> snapshot._batchResultMessageMappers =
+				snapshot._replace(
+					snapshot._batchResultMessageMappers, mediaType,
+					batchResultMessageMapper));
+
+		_notifyInvalidationListeners();
+	}
+
+	/**
+	 * Replaces the documentation message mapper of a media type, if the
+	 * documentation message mappers have already been computed. If the provided
+	 * message mapper is {@code null}, the media type's message mapper is
+	 * removed.
+	 *
+	 * @param  mediaType the media type
+	 * @param  documentationMessageMapper the new documentation message mapper,
+	 *         or {@code null}
+	 * @review
+	 */
+	public void replaceDocumentationMessageMapper(
+		MediaType mediaType,
+		DocumentationMessageMapper documentationMessageMapper) {
+
+		_update(
+			snapshot -> snapshot._documentationMessageMappers =
+				snapshot._replace(
+					snapshot._documentationMessageMappers, mediaType,
+					documentationMessageMapper));
+
+		_notifyInvalidationListeners();
+	}
+
+	/**
+	 * Replaces the entry point message mapper of a media type, if the entry
+	 * point message mappers have already been computed. If the provided message
+	 * mapper is {@code null}, the media type's message mapper is removed.
+	 *
+	 * @param  mediaType the media type
+	 * @param  entryPointMessageMapper the new entry point message mapper, or
+	 *         {@code null}
+	 * @review
+	 */
+	public void replaceEntryPointMessageMapper(
+		MediaType mediaType, EntryPointMessageMapper entryPointMessageMapper) {
+
+		_update(
+			snapshot -> snapshot._entryPointMessageMappers =
+				snapshot._replace(
+					snapshot._entryPointMessageMappers, mediaType,
+					entryPointMessageMapper));
+
+		_notifyInvalidationListeners();
+	}
+
+	/**
+	 * Replaces the error message mapper of a media type, if the error message
+	 * mappers have already been computed. If the provided message mapper is
+	 * {@code null}, the media type's message mapper is removed.
+	 *
+	 * @param  mediaType the media type
+	 * @param  errorMessageMapper the new error message mapper, or {@code null}
+	 * @review
+	 */
+	public void replaceErrorMessageMapper(
+		MediaType mediaType, ErrorMessageMapper errorMessageMapper) {
+
+		_update(
+			snapshot -> snapshot._errorMessageMappers = snapshot._replace(
+				snapshot._errorMessageMappers, mediaType, errorMessageMapper));
+
+		_notifyInvalidationListeners();
+	}
+
+	/**
+	 * Replaces the page message mapper of a media type, if the page message
+	 * mappers have already been computed. If the provided message mapper is
+	 * {@code null}, the media type's message mapper is removed.
+	 *
+	 * @param  mediaType the media type
+	 * @param  pageMessageMapper the new page message mapper, or {@code null}
+	 * @review
+	 */
+	public void replacePageMessageMapper(
+		MediaType mediaType, PageMessageMapper pageMessageMapper) {
+
+		_update(
+			snapshot -> snapshot._pageMessageMappers = snapshot._replace(
+				snapshot._pageMessageMappers, mediaType, pageMessageMapper));
+
+		_notifyInvalidationListeners();
+	}
+
+	/**
+	 * Replaces the single model message mapper of a media type, if the single
+	 * model message mappers have already been computed. If the provided message
+	 * mapper is {@code null}, the media type's message mapper is removed.
+	 *
+	 * @param  mediaType the media type
+	 * @param  singleModelMessageMapper the new single model message mapper, or
+	 *         {@code null}
+	 * @review
+	 */
+	public void replaceSingleModelMessageMapper(
+		MediaType mediaType,
+		SingleModelMessageMapper singleModelMessageMapper) {
+
+		_update(
+			snapshot -> snapshot._singleModelMessageMappers =
+				snapshot._replace(
+					snapshot._singleModelMessageMappers, mediaType,
+					singleModelMessageMapper));
+
+		_notifyInvalidationListeners();
 	}
 
 	private ManagerCache() {
 	}
 
+	/**
+	 * Returns the data selected by the function from the current snapshot. If
+	 * the data is missing, it's computed by calling the provided function.
+	 *
+	 * <p>
+	 * Only one thread computes data at a time. While it does, other threads
+	 * keep serving the data from before the last {@link #clear()}, if any, and
+	 * wait for the computation otherwise.
+	 * </p>
+	 */
+	private <T> T _get(
+		Function<Snapshot, T> function, EmptyFunction computeEmptyFunction) {
+
+		Snapshot snapshot = _snapshotAtomicReference.get();
+
+		T t = function.apply(snapshot);
+
+		if (t != null) {
+			return t;
+		}
+
+		if (!_lock.tryLock()) {
+			if (snapshot._staleSnapshot != null) {
+				T staleT = function.apply(snapshot._staleSnapshot);
+
+				if (staleT != null) {
+					return staleT;
+				}
+			}
+
+			_lock.lock();
+		}
+
+		try {
+			if (_workingSnapshot != null) {
+				t = function.apply(_workingSnapshot);
+
+				if (t == null) {
+					computeEmptyFunction.invoke();
+
+					t = function.apply(_workingSnapshot);
+				}
+
+				return t;
+			}
+
+			snapshot = _snapshotAtomicReference.get();
+
+			t = function.apply(snapshot);
+
+			if (t != null) {
+				return t;
+			}
+
+			_workingSnapshot = snapshot._copy();
+
+			try {
+				computeEmptyFunction.invoke();
+
+				t = function.apply(_workingSnapshot);
+
+				_publish(snapshot, _workingSnapshot);
+
+				return t;
+			}
+			finally {
+				_workingSnapshot = null;
+			}
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
 	private <T> Optional<T> _getMessageMapperOptional(
-		Request request, Map<MediaType, T> messageMappers) {
+		Request request, String acceptHeader, Map<MediaType, T> messageMappers,
+		AtomicReference<MediaTypeSelections> atomicReference) {
 
-		return Optional.ofNullable(
-			messageMappers
-		).map(
-			Map::keySet
-		).map(
-			Set::stream
-		).map(
-			stream -> stream.toArray(MediaType[]::new)
-		).map(
-			this::_getVariantListBuilder
-		).map(
-			VariantListBuilder::build
-		).map(
-			request::selectVariant
-		).map(
-			Variant::getMediaType
-		).flatMap(
-			mediaType -> Optional.ofNullable(
-				messageMappers
-			).map(
-				map -> map.get(mediaType)
-			)
-		);
+		if (messageMappers == null) {
+			return Optional.empty();
+		}
+
+		MediaTypeSelections mediaTypeSelections = atomicReference.get();
+
+		if ((mediaTypeSelections == null) ||
+			(mediaTypeSelections._messageMappers != messageMappers)) {
+
+			mediaTypeSelections = new MediaTypeSelections(messageMappers);
+
+			atomicReference.set(mediaTypeSelections);
+		}
+
+		String key = _normalize(acceptHeader);
+
+		Optional<MediaType> optional = mediaTypeSelections._mediaTypes.get(
+			key);
+
+		if (optional == null) {
+			optional = _selectMediaType(request, messageMappers.keySet());
+
+			if (mediaTypeSelections._mediaTypes.size() < _MAX_SELECTIONS) {
+				mediaTypeSelections._mediaTypes.put(key, optional);
+			}
+		}
+
+		return optional.map(messageMappers::get);
+	}
+
+	/**
+	 * Returns the snapshot visible to the current thread: the one being
+	 * computed, if this thread is computing data; the published one otherwise.
+	 */
+	private Snapshot _getSnapshot() {
+		if (_lock.isHeldByCurrentThread() && (_workingSnapshot != null)) {
+			return _workingSnapshot;
+		}
+
+		return _snapshotAtomicReference.get();
 	}
 
 	private VariantListBuilder _getVariantListBuilder(MediaType[] mediaTypes) {
@@ -721,27 +1098,399 @@ public class ManagerCache {
 		return variantListBuilder.mediaTypes(mediaTypes);
 	}
 
+	/**
+	 * Publishes a copy of the current snapshot without the data removed by the
+	 * consumer. The removed data is kept as stale data, that can be served
+	 * while it's computed again. Serialization plans are always discarded,
+	 * since they may belong to representors that are no longer registered.
+	 */
+	private void _invalidate(Consumer<Snapshot> consumer) {
+		_snapshotAtomicReference.updateAndGet(
+			snapshot -> snapshot._invalidate(consumer));
+
+		_serializationPlans.clear();
+
+		_notifyInvalidationListeners();
+	}
+
+	/**
+	 * Increases the generation of the cached data and calls the invalidation
+	 * listeners.
+	 */
+	private void _notifyInvalidationListeners() {
+		_generation.incrementAndGet();
+
+		for (Runnable runnable : _invalidationListeners) {
+			runnable.run();
+		}
+	}
+
+	/**
+	 * Returns the {@code Accept} header without whitespaces and in lower case,
+	 * so equivalent headers share the same selection.
+	 */
+	private String _normalize(String acceptHeader) {
+		if (acceptHeader == null) {
+			return "";
+		}
+
+		StringBuilder sb = new StringBuilder(acceptHeader.length());
+
+		for (int i = 0; i < acceptHeader.length(); i++) {
+			char c = acceptHeader.charAt(i);
+
+			if (!Character.isWhitespace(c)) {
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+
+		return sb.toString();
+	}
+
+	/**
+	 * Publishes the updated snapshot, unless the cache was cleared since the
+	 * original snapshot was read. In that case, the updated snapshot is
+	 * discarded, since it could contain data from unregistered services.
+	 *
+	 * <p>
+	 * Once the data is computed again, the stale data is no longer needed, so
+	 * the published snapshot doesn't keep it reachable.
+	 * </p>
+	 */
+	private void _publish(Snapshot snapshot, Snapshot updatedSnapshot) {
+		updatedSnapshot._ownedObjects = null;
+		updatedSnapshot._staleSnapshot = null;
+
+		_snapshotAtomicReference.compareAndSet(snapshot, updatedSnapshot);
+	}
+
+	private Optional<MediaType> _selectMediaType(
+		Request request, Set<MediaType> mediaTypes) {
+
+		return Optional.of(
+			mediaTypes.toArray(new MediaType[0])
+		).map(
+			this::_getVariantListBuilder
+		).map(
+			VariantListBuilder::build
+		).map(
+			request::selectVariant
+		).map(
+			Variant::getMediaType
+		);
+	}
+
+	/**
+	 * Updates the snapshot being computed, if the current thread is computing
+	 * data. Otherwise, a copy of the current snapshot is updated and published,
+	 * retrying if the cache is invalidated in the meantime.
+	 */
+	private void _update(Consumer<Snapshot> consumer) {
+		_lock.lock();
+
+		try {
+			if (_workingSnapshot != null) {
+				consumer.accept(_workingSnapshot);
+
+				return;
+			}
+
+			while (true) {
+				Snapshot snapshot = _snapshotAtomicReference.get();
+
+				Snapshot updatedSnapshot = snapshot._copy();
+
+				consumer.accept(updatedSnapshot);
+
+				updatedSnapshot._ownedObjects = null;
+
+				if (_snapshotAtomicReference.compareAndSet(
+						snapshot, updatedSnapshot)) {
+
+					return;
+				}
+			}
+		}
+		finally {
+			_lock.unlock();
+		}
+	}
+
+	private static final int _MAX_SELECTIONS = 64;
+
 	private static final MediaType _MEDIA_TYPE = MediaType.valueOf(
 		"application/ld+json");
 
-	private List<ActionSemantics> _actionSemantics;
-	private Map<MediaType, BatchResultMessageMapper> _batchResultMessageMappers;
-	private Map<String, CollectionRoutes> _collectionRoutes;
-	private CustomDocumentation _customDocumentation;
-	private Map<MediaType, DocumentationMessageMapper>
-		_documentationMessageMappers;
-	private Map<MediaType, EntryPointMessageMapper> _entryPointMessageMappers;
-	private Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
-	private Map<String, Class<Identifier>> _identifierClasses;
-	private Map<String, ItemRoutes> _itemRoutes;
-	private Map<String, String> _names;
-	private Map<String, NestedCollectionRoutes> _nestedCollectionRoutes;
-	private Map<MediaType, PageMessageMapper> _pageMessageMappers;
-	private Map<String, ParsedType> _parsedTypes;
-	private Map<String, Representor> _representors;
-	private Map<String, Class<?>> _reusableIdentifierClasses;
-	private Map<String, NestedCollectionRoutes> _reusableNestedCollectionRoutes;
-	private List<String> _rootResourceNamesSdk;
-	private Map<MediaType, SingleModelMessageMapper> _singleModelMessageMappers;
+	private final AtomicReference<MediaTypeSelections>
+		_batchResultMediaTypeSelections = new AtomicReference<>();
+	private final AtomicReference<MediaTypeSelections>
+		_documentationMediaTypeSelections = new AtomicReference<>();
+	private final AtomicReference<MediaTypeSelections>
+		_entryPointMediaTypeSelections = new AtomicReference<>();
+	private final AtomicReference<MediaTypeSelections>
+		_errorMediaTypeSelections = new AtomicReference<>();
+	private final AtomicLong _generation = new AtomicLong();
+	private final List<Runnable> _invalidationListeners =
+		new CopyOnWriteArrayList<>();
+	private final ReentrantLock _lock = new ReentrantLock();
+	private final AtomicReference<MediaTypeSelections>
+		_pageMediaTypeSelections = new AtomicReference<>();
+	private final Map<BaseRepresentor<?>, SerializationPlan<?>>
+		_serializationPlans = new ConcurrentHashMap<>();
+	private final AtomicReference<MediaTypeSelections>
+		_singleModelMediaTypeSelections = new AtomicReference<>();
+	private final AtomicReference<Snapshot> _snapshotAtomicReference =
+		new AtomicReference<>(new Snapshot());
+	private Snapshot _workingSnapshot;
+
+	/**
+	 * Holds the media types selected for each normalized {@code Accept} header
+	 * among the keys of a message mappers map. Since the maps are never
+	 * modified once published, a new instance is created whenever the message
+	 * mappers change.
+	 */
+	private static class MediaTypeSelections {
+
+		private MediaTypeSelections(Map<MediaType, ?> messageMappers) {
+			_messageMappers = messageMappers;
+		}
+
+		private final Map<String, Optional<MediaType>> _mediaTypes =
+			new ConcurrentHashMap<>();
+		private final Map<MediaType, ?> _messageMappers;
+
+	}
+
+	/**
+	 * Holds the cached data. Instances are only modified while they're being
+	 * computed, before being published.
+	 */
+	private static class Snapshot {
+
+		private <T> List<T> _add(List<T> list, T t) {
+			if ((list == null) || !_ownedObjects.contains(list)) {
+				if (list == null) {
+					list = new ArrayList<>();
+				}
+				else {
+					list = new ArrayList<>(list);
+				}
+
+				_ownedObjects.add(list);
+			}
+
+			list.add(t);
+
+			return list;
+		}
+
+		/**
+		 * Removes every cached data except the documentation contribution,
+		 * which is managed by its own tracker.
+		 */
+		private void _clear() {
+			_actionSemantics = null;
+			_actionSemanticsIndex = null;
+			_batchResultMessageMappers = null;
+			_collectionRoutes = null;
+			_documentationMessageMappers = null;
+			_entryPointMessageMappers = null;
+			_errorMessageMappers = null;
+			_identifierClasses = null;
+			_itemRoutes = null;
+			_names = null;
+			_nestedCollectionRoutes = null;
+			_pageMessageMappers = null;
+			_parsedTypes = null;
+			_representors = null;
+			_reusableIdentifierClasses = null;
+			_reusableNestedCollectionRoutes = null;
+			_rootResourceNamesSdk = null;
+			_singleModelMessageMappers = null;
+		}
+
+		private Snapshot _copy() {
+			Snapshot snapshot = new Snapshot();
+
+			snapshot._fill(this);
+
+			snapshot._ownedObjects = Collections.newSetFromMap(
+				new IdentityHashMap<>());
+			snapshot._staleSnapshot = _staleSnapshot;
+
+			return snapshot;
+		}
+
+		private void _fill(Snapshot snapshot) {
+			if (_actionSemantics == null) {
+				_actionSemantics = snapshot._actionSemantics;
+			}
+
+			if (_actionSemanticsIndex == null) {
+				_actionSemanticsIndex = snapshot._actionSemanticsIndex;
+			}
+
+			if (_batchResultMessageMappers == null) {
+				_batchResultMessageMappers =
+					snapshot._batchResultMessageMappers;
+			}
+
+			if (_collectionRoutes == null) {
+				_collectionRoutes = snapshot._collectionRoutes;
+			}
+
+			if (_customDocumentation == null) {
+				_customDocumentation = snapshot._customDocumentation;
+			}
+
+			if (_documentationMessageMappers == null) {
+				_documentationMessageMappers =
+					snapshot._documentationMessageMappers;
+			}
+
+			if (_entryPointMessageMappers == null) {
+				_entryPointMessageMappers = snapshot._entryPointMessageMappers;
+			}
+
+			if (_errorMessageMappers == null) {
+				_errorMessageMappers = snapshot._errorMessageMappers;
+			}
+
+			if (_identifierClasses == null) {
+				_identifierClasses = snapshot._identifierClasses;
+			}
+
+			if (_itemRoutes == null) {
+				_itemRoutes = snapshot._itemRoutes;
+			}
+
+			if (_names == null) {
+				_names = snapshot._names;
+			}
+
+			if (_nestedCollectionRoutes == null) {
+				_nestedCollectionRoutes = snapshot._nestedCollectionRoutes;
+			}
+
+			if (_pageMessageMappers == null) {
+				_pageMessageMappers = snapshot._pageMessageMappers;
+			}
+
+			if (_parsedTypes == null) {
+				_parsedTypes = snapshot._parsedTypes;
+			}
+
+			if (_representors == null) {
+				_representors = snapshot._representors;
+			}
+
+			if (_reusableIdentifierClasses == null) {
+				_reusableIdentifierClasses =
+					snapshot._reusableIdentifierClasses;
+			}
+
+			if (_reusableNestedCollectionRoutes == null) {
+				_reusableNestedCollectionRoutes =
+					snapshot._reusableNestedCollectionRoutes;
+			}
+
+			if (_rootResourceNamesSdk == null) {
+				_rootResourceNamesSdk = snapshot._rootResourceNamesSdk;
+			}
+
+			if (_singleModelMessageMappers == null) {
+				_singleModelMessageMappers =
+					snapshot._singleModelMessageMappers;
+			}
+		}
+
+		/**
+		 * Returns a copy of this snapshot without the data removed by the
+		 * consumer. Only this snapshot is kept as stale data, so data from
+		 * older generations is never reachable from the returned snapshot.
+		 */
+		private Snapshot _invalidate(Consumer<Snapshot> consumer) {
+			Snapshot staleSnapshot = _copy();
+
+			staleSnapshot._ownedObjects = null;
+			staleSnapshot._staleSnapshot = null;
+
+			Snapshot snapshot = _copy();
+
+			consumer.accept(snapshot);
+
+			snapshot._ownedObjects = null;
+			snapshot._staleSnapshot = staleSnapshot;
+
+			return snapshot;
+		}
+
+		private <K, V> Map<K, V> _put(Map<K, V> map, K key, V value) {
+			if ((map == null) || !_ownedObjects.contains(map)) {
+				if (map == null) {
+					map = new HashMap<>();
+				}
+				else {
+					map = new HashMap<>(map);
+				}
+
+				_ownedObjects.add(map);
+			}
+
+			map.put(key, value);
+
+			return map;
+		}
+
+		private <K, V> Map<K, V> _replace(Map<K, V> map, K key, V value) {
+			if (map == null) {
+				return null;
+			}
+
+			if (value != null) {
+				return _put(map, key, value);
+			}
+
+			if (!map.containsKey(key)) {
+				return map;
+			}
+
+			Map<K, V> updatedMap = new HashMap<>(map);
+
+			updatedMap.remove(key);
+
+			_ownedObjects.add(updatedMap);
+
+			return updatedMap;
+		}
+
+		private List<ActionSemantics> _actionSemantics;
+		private ActionSemanticsIndex _actionSemanticsIndex;
+		private Map<MediaType, BatchResultMessageMapper>
+			_batchResultMessageMappers;
+		private Map<String, CollectionRoutes> _collectionRoutes;
+		private CustomDocumentation _customDocumentation;
+		private Map<MediaType, DocumentationMessageMapper>
+			_documentationMessageMappers;
+		private Map<MediaType, EntryPointMessageMapper>
+			_entryPointMessageMappers;
+		private Map<MediaType, ErrorMessageMapper> _errorMessageMappers;
+		private Map<String, Class<Identifier>> _identifierClasses;
+		private Map<String, ItemRoutes> _itemRoutes;
+		private Map<String, String> _names;
+		private Map<String, NestedCollectionRoutes> _nestedCollectionRoutes;
+		private Set<Object> _ownedObjects;
+		private Map<MediaType, PageMessageMapper> _pageMessageMappers;
+		private Map<String, ParsedType> _parsedTypes;
+		private Map<String, Representor> _representors;
+		private Map<String, Class<?>> _reusableIdentifierClasses;
+		private Map<String, NestedCollectionRoutes>
+			_reusableNestedCollectionRoutes;
+		private List<String> _rootResourceNamesSdk;
+		private Map<MediaType, SingleModelMessageMapper>
+			_singleModelMessageMappers;
+		private Snapshot _staleSnapshot;
+
+	}
 
 }
\ No newline at end of file
@@ -57,6 +57,10 @@ public class ExceptionMapperManager
 		return _convert(exception, unsafeCast(exception.getClass()));
 	}
 
+	@Override
+	protected void invalidateCache(String key) {
+	}
+
 	private <T extends Exception> Optional<APIError> _convert(
 		T exception, Class<T> exceptionClass) {
 
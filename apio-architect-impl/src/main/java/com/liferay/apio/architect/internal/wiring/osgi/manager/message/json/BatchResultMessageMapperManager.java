@@ -38,7 +38,8 @@ public class BatchResultMessageMapperManager
 	public BatchResultMessageMapperManager() {
 		super(
 			BatchResultMessageMapper.class,
-			INSTANCE::putBatchResultMessageMapper);
+			INSTANCE::putBatchResultMessageMapper,
+			INSTANCE::replaceBatchResultMessageMapper);
 	}
 
 	/**
@@ -46,14 +47,16 @@ public class BatchResultMessageMapperManager
 	 * corresponds to the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @return the {@code BatchResultMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public <T> Optional<BatchResultMessageMapper<T>>
-		getBatchResultMessageMapperOptional(Request request) {
+		getBatchResultMessageMapperOptional(
+			Request request, String acceptHeader) {
 
 		return INSTANCE.getBatchResultMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, acceptHeader, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
@@ -38,7 +38,8 @@ public class DocumentationMessageMapperManager
 	public DocumentationMessageMapperManager() {
 		super(
 			DocumentationMessageMapper.class,
-			INSTANCE::putDocumentationMessageMapper);
+			INSTANCE::putDocumentationMessageMapper,
+			INSTANCE::replaceDocumentationMessageMapper);
 	}
 
 	/**
@@ -46,14 +47,16 @@ public class DocumentationMessageMapperManager
 	 * corresponds to the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @return the {@code DocumentationMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<DocumentationMessageMapper>
-		getDocumentationMessageMapperOptional(Request request) {
+		getDocumentationMessageMapperOptional(
+			Request request, String acceptHeader) {
 
 		return INSTANCE.getDocumentationMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, acceptHeader, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
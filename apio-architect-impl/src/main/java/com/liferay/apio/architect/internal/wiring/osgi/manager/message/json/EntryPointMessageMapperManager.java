@@ -37,8 +37,8 @@ public class EntryPointMessageMapperManager
 
 	public EntryPointMessageMapperManager() {
 		super(
-			EntryPointMessageMapper.class,
-			INSTANCE::putEntryPointMessageMapper);
+			EntryPointMessageMapper.class, INSTANCE::putEntryPointMessageMapper,
+			INSTANCE::replaceEntryPointMessageMapper);
 	}
 
 	/**
@@ -46,14 +46,15 @@ public class EntryPointMessageMapperManager
 	 * to the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @return the {@code EntryPointMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<EntryPointMessageMapper> getEntryPointMessageMapperOptional(
-		Request request) {
+		Request request, String acceptHeader) {
 
 		return INSTANCE.getEntryPointMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, acceptHeader, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
@@ -36,7 +36,9 @@ public class ErrorMessageMapperManager
 	extends MessageMapperBaseManager<ErrorMessageMapper> {
 
 	public ErrorMessageMapperManager() {
-		super(ErrorMessageMapper.class, INSTANCE::putErrorMessageMapper);
+		super(
+			ErrorMessageMapper.class, INSTANCE::putErrorMessageMapper,
+			INSTANCE::replaceErrorMessageMapper);
 	}
 
 	/**
@@ -44,14 +46,15 @@ public class ErrorMessageMapperManager
 	 * the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @return the {@code ErrorMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public Optional<ErrorMessageMapper> getErrorMessageMapperOptional(
-		Request request) {
+		Request request, String acceptHeader) {
 
 		return INSTANCE.getErrorMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, acceptHeader, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
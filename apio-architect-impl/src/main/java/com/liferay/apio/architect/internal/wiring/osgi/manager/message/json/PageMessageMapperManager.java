@@ -36,7 +36,9 @@ public class PageMessageMapperManager
 	extends MessageMapperBaseManager<PageMessageMapper> {
 
 	public PageMessageMapperManager() {
-		super(PageMessageMapper.class, INSTANCE::putPageMessageMapper);
+		super(
+			PageMessageMapper.class, INSTANCE::putPageMessageMapper,
+			INSTANCE::replacePageMessageMapper);
 	}
 
 	/**
@@ -44,14 +46,15 @@ public class PageMessageMapperManager
 	 * the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @return the {@code PageMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public <T> Optional<PageMessageMapper<T>> getPageMessageMapperOptional(
-		Request request) {
+		Request request, String acceptHeader) {
 
 		return INSTANCE.getPageMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, acceptHeader, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
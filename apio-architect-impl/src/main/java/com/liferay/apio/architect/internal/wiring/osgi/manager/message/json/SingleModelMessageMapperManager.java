@@ -38,7 +38,8 @@ public class SingleModelMessageMapperManager
 	public SingleModelMessageMapperManager() {
 		super(
 			SingleModelMessageMapper.class,
-			INSTANCE::putSingleModelMessageMapper);
+			INSTANCE::putSingleModelMessageMapper,
+			INSTANCE::replaceSingleModelMessageMapper);
 	}
 
 	/**
@@ -46,14 +47,16 @@ public class SingleModelMessageMapperManager
 	 * corresponds to the current request; {@code Optional#empty()} otherwise.
 	 *
 	 * @param  request the current request
+	 * @param  acceptHeader the current request's {@code Accept} header
 	 * @return the {@code SingleModelMessageMapper}, if present; {@code
 	 *         Optional#empty()} otherwise
 	 */
 	public <T> Optional<SingleModelMessageMapper<T>>
-		getSingleModelMessageMapperOptional(Request request) {
+		getSingleModelMessageMapperOptional(
+			Request request, String acceptHeader) {
 
 		return INSTANCE.getSingleModelMessageMapperOptional(
-			request, this::computeMessageMappers);
+			request, acceptHeader, this::computeMessageMappers);
 	}
 
 }
\ No newline at end of file
@@ -15,23 +15,29 @@
 package com.liferay.apio.architect.internal.wiring.osgi.manager.provider;
 
 import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
 import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.base.ClassNameBaseManager;
 import com.liferay.apio.architect.provider.Provider;
+import com.liferay.osgi.service.tracker.collections.map.ServiceReferenceMapper.Emitter;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.servlet.http.HttpServletRequest;
 
 import javax.ws.rs.NotFoundException;
 
+import org.osgi.framework.ServiceReference;
 import org.osgi.service.component.annotations.Component;
 
 import org.slf4j.Logger;
@@ -39,6 +45,13 @@ import org.slf4j.Logger;
 /**
  * Manages services that have a {@link Provider}.
  *
+ * <p>
+ * The instances provided for a request are stored in one of its attributes,
+ * so each provider is only called once per request. Providers whose instances
+ * must be created every time they're requested can opt out by registering
+ * with the {@link #KEY_PER_CALL} property set to {@code true}.
+ * </p>
+ *
  * @author Alejandro Hernández
  * @author Carlos Sierra Andrés
  * @author Jorge Ferrer
@@ -46,6 +59,15 @@ import org.slf4j.Logger;
 @Component(service = ProviderManager.class)
 public class ProviderManager extends ClassNameBaseManager<Provider> {
 
+	/**
+	 * Represents the property that, if {@code true}, makes a provider be called
+	 * every time its class is requested, instead of once per request.
+	 *
+	 * @review
+	 */
+	public static final String KEY_PER_CALL =
+		"apio.architect.provider.per.call";
+
 	public ProviderManager() {
 		super(Provider.class, 0);
 	}
@@ -80,6 +102,12 @@ public class ProviderManager extends ClassNameBaseManager<Provider> {
 	public <T> T provideMandatory(
 		HttpServletRequest httpServletRequest, Class<T> clazz) {
 
+		Optional<T> optional = provideOptional(httpServletRequest, clazz);
+
+		if (optional.isPresent()) {
+			return optional.get();
+		}
+
 		Optional<Provider> providerOptional = getServiceOptional(clazz);
 
 		if (!providerOptional.isPresent()) {
@@ -88,19 +116,13 @@ public class ProviderManager extends ClassNameBaseManager<Provider> {
 			throw new NotFoundException();
 		}
 
-		Optional<T> optional = provideOptional(httpServletRequest, clazz);
-
-		if (clazz.equals(Credentials.class) && !optional.isPresent()) {
+		if (clazz.equals(Credentials.class)) {
 			return unsafeCast((Credentials)() -> "");
 		}
 
-		return optional.orElseThrow(
-			() -> {
-				_logger.warn(
-					"Mandatory provider for class {} returned null", clazz);
+		_logger.warn("Mandatory provider for class {} returned null", clazz);
 
-				return new NotFoundException();
-			});
+		throw new NotFoundException();
 	}
 
 	/**
@@ -115,12 +137,80 @@ public class ProviderManager extends ClassNameBaseManager<Provider> {
 	public <T> Optional<T> provideOptional(
 		HttpServletRequest httpServletRequest, Class<T> clazz) {
 
+		String className = clazz.getName();
+
+		if (_perCallClassNames.contains(className)) {
+			return _createContextOptional(httpServletRequest, clazz);
+		}
+
+		Map<String, Optional<?>> contexts = _getContexts(httpServletRequest);
+
+		Optional<?> optional = contexts.get(className);
+
+		if (optional == null) {
+			optional = _createContextOptional(httpServletRequest, clazz);
+
+			contexts.put(className, optional);
+		}
+
+		return unsafeCast(optional);
+	}
+
+	@Override
+	protected void emit(
+		ServiceReference<Provider> serviceReference, Emitter<String> emitter) {
+
+		boolean perCall = Boolean.parseBoolean(
+			String.valueOf(serviceReference.getProperty(KEY_PER_CALL)));
+
+		super.emit(
+			serviceReference,
+			key -> {
+				if (perCall) {
+					_perCallClassNames.add(key);
+				}
+				else {
+					_perCallClassNames.remove(key);
+				}
+
+				emitter.emit(key);
+			});
+	}
+
+	@Override
+	protected void invalidateCache(String key) {
+		INSTANCE.invalidateActionSemantics();
+	}
+
+	private <T> Optional<T> _createContextOptional(
+		HttpServletRequest httpServletRequest, Class<T> clazz) {
+
 		Optional<Provider<T>> optional = unsafeCast(getServiceOptional(clazz));
 
 		return optional.map(
 			provider -> provider.createContext(httpServletRequest));
 	}
 
+	private Map<String, Optional<?>> _getContexts(
+		HttpServletRequest httpServletRequest) {
+
+		Map<String, Optional<?>> contexts = unsafeCast(
+			httpServletRequest.getAttribute(_CONTEXTS_ATTRIBUTE));
+
+		if (contexts == null) {
+			contexts = new HashMap<>();
+
+			httpServletRequest.setAttribute(_CONTEXTS_ATTRIBUTE, contexts);
+		}
+
+		return contexts;
+	}
+
+	private static final String _CONTEXTS_ATTRIBUTE =
+		ProviderManager.class.getName() + "#CONTEXTS";
+
 	private Logger _logger = getLogger(getClass());
+	private final Set<String> _perCallClassNames =
+		ConcurrentHashMap.newKeySet();
 
 }
\ No newline at end of file
@@ -123,6 +123,11 @@ public class RepresentableManagerImpl
 		);
 	}
 
+	@Override
+	protected void invalidateCache(Class<Identifier> key) {
+		INSTANCE.invalidateRepresentors();
+	}
+
 	private void _computeRepresentables() {
 		Map<String, List<RelatedCollection<?, ?>>> relatedCollections =
 			new HashMap<>();
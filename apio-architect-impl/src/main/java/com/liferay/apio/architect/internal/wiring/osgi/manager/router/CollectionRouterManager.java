@@ -81,6 +81,11 @@ public class CollectionRouterManager
 		);
 	}
 
+	@Override
+	protected void invalidateCache(String key) {
+		INSTANCE.invalidateCollectionRoutes();
+	}
+
 	private void _computeCollectionRoutes() {
 		forEachService(
 			(className, collectionRouter) -> {
@@ -22,6 +22,7 @@ import com.liferay.apio.architect.internal.action.ActionSemantics;
 import com.liferay.apio.architect.internal.form.FormImpl;
 import com.liferay.apio.architect.internal.routes.ItemRoutesImpl;
 import com.liferay.apio.architect.internal.routes.ItemRoutesImpl.BuilderImpl;
+import com.liferay.apio.architect.internal.unsafe.Unsafe;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.base.ClassNameBaseManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.representable.NameManager;
 import com.liferay.apio.architect.internal.wiring.osgi.manager.uri.mapper.PathIdentifierMapperManager;
@@ -78,6 +79,32 @@ public class ItemRouterManager extends ClassNameBaseManager<ItemRouter> {
 		);
 	}
 
+	/**
+	 * Returns the {@link ItemRoutesImpl} of the resource with the provided
+	 * name, if present; returns {@code Optional#empty()} otherwise.
+	 *
+	 * @param  name the resource's name
+	 * @return the resource's {@code ItemRoutesImpl}, if present; {@code
+	 *         Optional#empty()} otherwise
+	 * @review
+	 */
+	public Optional<ItemRoutesImpl<Object, Object>> getItemRoutesOptional(
+		String name) {
+
+		return Optional.ofNullable(
+			INSTANCE.getItemRoutesMap(this::_computeItemRoutes)
+		).map(
+			map -> map.get(name)
+		).map(
+			Unsafe::unsafeCast
+		);
+	}
+
+	@Override
+	protected void invalidateCache(String key) {
+		INSTANCE.invalidateItemRoutes();
+	}
+
 	private void _computeItemRoutes() {
 		forEachService(
 			(className, itemRouter) -> {
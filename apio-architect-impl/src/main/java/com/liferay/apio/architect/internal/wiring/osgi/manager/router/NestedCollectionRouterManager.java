@@ -129,6 +129,11 @@ public class NestedCollectionRouterManager
 		);
 	}
 
+	@Override
+	protected void invalidateCache(String key) {
+		INSTANCE.invalidateNestedCollectionRoutes();
+	}
+
 	private void _computeNestedCollectionRoutes() {
 		forEachService(
 			(key, nestedCollectionRouter) -> {
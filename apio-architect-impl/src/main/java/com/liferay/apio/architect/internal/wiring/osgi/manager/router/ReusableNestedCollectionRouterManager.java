@@ -87,6 +87,11 @@ public class ReusableNestedCollectionRouterManager
 		);
 	}
 
+	@Override
+	protected void invalidateCache(String key) {
+		INSTANCE.invalidateReusableNestedCollectionRoutes();
+	}
+
 	private void _computeNestedCollectionRoutes() {
 		forEachService(
 			(className, reusableNestedCollectionRouter) -> {
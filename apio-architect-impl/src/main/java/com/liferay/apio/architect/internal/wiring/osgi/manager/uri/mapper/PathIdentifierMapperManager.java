@@ -119,6 +119,10 @@ public class PathIdentifierMapperManager
 		);
 	}
 
+	@Override
+	protected void invalidateCache(String key) {
+	}
+
 	private <T> T _getGenericParentIdentifierOptional(Path path) {
 		Optional<Class<?>> genericParentClassOptional =
 			INSTANCE.getReusableIdentifierClassOptional(path.getName());
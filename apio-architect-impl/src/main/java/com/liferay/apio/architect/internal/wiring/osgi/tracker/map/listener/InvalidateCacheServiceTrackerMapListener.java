@@ -14,34 +14,43 @@
 
 package com.liferay.apio.architect.internal.wiring.osgi.tracker.map.listener;
 
-import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
-
 import com.liferay.osgi.service.tracker.collections.map.ServiceTrackerMap;
 import com.liferay.osgi.service.tracker.collections.map.ServiceTrackerMapListener;
 
+import java.util.function.Consumer;
+
 /**
- * Provides an implementation of a {@link ServiceTrackerMapListener} that clears
- * the {@link
+ * Provides an implementation of a {@link ServiceTrackerMapListener} that
+ * informs the provided consumer of every changed key, so it can invalidate the
+ * data of the {@link
  * com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache}
- * on every change.
+ * that depends on that key.
  *
  * @author Alejandro Hernández
  */
-public class ClearCacheServiceTrackerMapListener<T, U>
+public class InvalidateCacheServiceTrackerMapListener<T, U>
 	implements ServiceTrackerMapListener<U, T, T> {
 
+	public InvalidateCacheServiceTrackerMapListener(
+		Consumer<U> invalidateConsumer) {
+
+		_invalidateConsumer = invalidateConsumer;
+	}
+
 	@Override
 	public void keyEmitted(
 		ServiceTrackerMap<U, T> serviceTrackerMap, U s, T t1, T t2) {
 
-		INSTANCE.clear();
+		_invalidateConsumer.accept(s);
 	}
 
 	@Override
 	public void keyRemoved(
 		ServiceTrackerMap<U, T> serviceTrackerMap, U s, T t1, T t2) {
 
-		INSTANCE.clear();
+		_invalidateConsumer.accept(s);
 	}
 
+	private final Consumer<U> _invalidateConsumer;
+
 }
\ No newline at end of file
@@ -0,0 +1,176 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.writer;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singletonList;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.internal.alias.AllowedActionNamesFunction;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * Loads, and keeps for the rest of the request, the names of the actions the
+ * current user can perform on the items of a resource.
+ *
+ * <p>
+ * The allowed actions of several items can be loaded with a single call to
+ * the {@link AllowedActionNamesFunction}, for example, before writing a page.
+ * Items whose allowed actions weren't loaded before filtering their action
+ * semantics are loaded one by one. Resources that don't provide a bulk
+ * permission function are never filtered.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @review
+ */
+public class AllowedActionsLoader {
+
+	public AllowedActionsLoader(
+		AllowedActionNamesFunction allowedActionNamesFunction) {
+
+		_allowedActionNamesFunction = allowedActionNamesFunction;
+	}
+
+	/**
+	 * Returns the action semantics the current user can perform on the item.
+	 * If the item's resource doesn't provide a bulk permission function, the
+	 * action semantics are returned unfiltered.
+	 *
+	 * @param  item the item
+	 * @param  stream the item's action semantics
+	 * @return the action semantics allowed for the item
+	 * @review
+	 */
+	public Stream<ActionSemantics> filter(
+		Item item, Stream<ActionSemantics> stream) {
+
+		Optional<Object> optional = item.getIdOptional(
+		).map(
+			Id::asObject
+		);
+
+		if (!optional.isPresent()) {
+			return stream;
+		}
+
+		Object identifier = optional.get();
+
+		String name = item.getName();
+
+		load(name, singletonList(identifier));
+
+		if (!isRestricted(name)) {
+			return stream;
+		}
+
+		Map<Object, Set<String>> allowedActionNames =
+			_allowedActionNamesMap.get(name);
+
+		Set<String> actionNames = allowedActionNames.getOrDefault(
+			identifier, emptySet());
+
+		return stream.filter(
+			actionSemantics -> actionNames.contains(
+				actionSemantics.getActionName()));
+	}
+
+	/**
+	 * Returns {@code true} if the resource with the provided name provides a
+	 * bulk permission function, and its allowed actions have been loaded.
+	 *
+	 * @param  name the resource's name
+	 * @return {@code true} if the resource's actions are filtered; {@code
+	 *         false} otherwise
+	 * @review
+	 */
+	public boolean isRestricted(String name) {
+		return _allowedActionNamesMap.containsKey(name);
+	}
+
+	/**
+	 * Loads, with a single call, the allowed actions of the items of the
+	 * resource with the provided name. Identifiers already loaded are not
+	 * requested again.
+	 *
+	 * @param  name the resource's name
+	 * @param  identifiers the identifiers of the items
+	 * @review
+	 */
+	public void load(String name, Collection<?> identifiers) {
+		if (identifiers.isEmpty() || _unrestrictedNames.contains(name)) {
+			return;
+		}
+
+		Map<Object, Set<String>> allowedActionNames =
+			_allowedActionNamesMap.get(name);
+
+		List<Object> pendingIdentifiers = new ArrayList<>();
+
+		for (Object identifier : identifiers) {
+			if ((allowedActionNames == null) ||
+				!allowedActionNames.containsKey(identifier)) {
+
+				pendingIdentifiers.add(identifier);
+			}
+		}
+
+		if (pendingIdentifiers.isEmpty()) {
+			return;
+		}
+
+		Optional<Map<Object, Set<String>>> optional =
+			_allowedActionNamesFunction.apply(name, pendingIdentifiers);
+
+		if (!optional.isPresent()) {
+			_unrestrictedNames.add(name);
+
+			return;
+		}
+
+		Map<Object, Set<String>> map = optional.get();
+
+		Map<Object, Set<String>> loadedAllowedActionNames =
+			_allowedActionNamesMap.computeIfAbsent(
+				name, __ -> new HashMap<>());
+
+		for (Object identifier : pendingIdentifiers) {
+			Set<String> actionNames = map.get(identifier);
+
+			if (actionNames == null) {
+				actionNames = emptySet();
+			}
+
+			loadedAllowedActionNames.put(identifier, actionNames);
+		}
+	}
+
+	private final AllowedActionNamesFunction _allowedActionNamesFunction;
+	private final Map<String, Map<Object, Set<String>>> _allowedActionNamesMap =
+		new HashMap<>();
+	private final Set<String> _unrestrictedNames = new HashSet<>();
+
+}
@@ -94,7 +94,8 @@ public class BatchResultWriter<T> {
 
 		_batchResultMessageMapper.onFinish(_jsonObjectBuilder, _batchResult);
 
-		return Optional.of(_jsonObjectBuilder.build());
+		return Optional.of(
+			_jsonObjectBuilder.build(_requestInfo.getJSONOutputProfile()));
 	}
 
 	/**
@@ -48,6 +48,9 @@ import com.liferay.apio.architect.resource.Resource;
 import com.liferay.apio.architect.resource.Resource.Item;
 import com.liferay.apio.architect.resource.Resource.Paged;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -92,35 +95,25 @@ public class DocumentationWriter {
 	 * @return the JSON representation of the {@code Documentation}
 	 */
 	public String write() {
-		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
-
-		_writeDocumentationMetadata(jsonObjectBuilder);
-
-		Map<String, Representor> representors =
-			_documentation.getRepresentors();
-
-		Stream<Resource> stream = _documentation.getResourceStream();
-
-		stream.filter(
-			resource -> resource instanceof Item || resource instanceof Paged
-		).forEach(
-			resource -> {
-				String name = resource.getName();
+		JSONObjectBuilder jsonObjectBuilder = _write();
 
-				Representor representor = representors.get(name);
-
-				_writeRoute(
-					jsonObjectBuilder, representor,
-					_getResourceMapperTriConsumer(resource),
-					(type, resourceJsonObjectBuilder) -> _writeOperations(
-						name, type, resource, resourceJsonObjectBuilder),
-					_getWriteFieldsRepresentorConsumer(resource, representor));
-			}
-		);
+		return jsonObjectBuilder.build(_requestInfo.getJSONOutputProfile());
+	}
 
-		_documentationMessageMapper.onFinish(jsonObjectBuilder, _documentation);
+	/**
+	 * Writes the {@link Documentation} directly to the provided output stream,
+	 * without creating an intermediate {@code String}.
+	 *
+	 * @param  outputStream the output stream
+	 * @throws IOException if the documentation couldn't be written to the
+	 *         output stream
+	 * @review
+	 */
+	public void write(OutputStream outputStream) throws IOException {
+		JSONObjectBuilder jsonObjectBuilder = _write();
 
-		return jsonObjectBuilder.build();
+		jsonObjectBuilder.writeTo(
+			outputStream, _requestInfo.getJSONOutputProfile());
 	}
 
 	/**
@@ -359,6 +352,38 @@ public class DocumentationWriter {
 			representor, resourceJsonObjectBuilder);
 	}
 
+	private JSONObjectBuilder _write() {
+		JSONObjectBuilder jsonObjectBuilder = new JSONObjectBuilder();
+
+		_writeDocumentationMetadata(jsonObjectBuilder);
+
+		Map<String, Representor> representors =
+			_documentation.getRepresentors();
+
+		Stream<Resource> stream = _documentation.getResourceStream();
+
+		stream.filter(
+			resource -> resource instanceof Item || resource instanceof Paged
+		).forEach(
+			resource -> {
+				String name = resource.getName();
+
+				Representor representor = representors.get(name);
+
+				_writeRoute(
+					jsonObjectBuilder, representor,
+					_getResourceMapperTriConsumer(resource),
+					(type, resourceJsonObjectBuilder) -> _writeOperations(
+						name, type, resource, resourceJsonObjectBuilder),
+					_getWriteFieldsRepresentorConsumer(resource, representor));
+			}
+		);
+
+		_documentationMessageMapper.onFinish(jsonObjectBuilder, _documentation);
+
+		return jsonObjectBuilder;
+	}
+
 	private void _writeActionSemantics(
 		ActionSemantics actionSemantics, JSONObjectBuilder jsonObjectBuilder,
 		String name, String type) {
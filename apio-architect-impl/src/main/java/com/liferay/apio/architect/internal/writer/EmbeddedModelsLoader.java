@@ -0,0 +1,202 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.writer;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.alias.BatchSingleModelFunction;
+import com.liferay.apio.architect.internal.alias.RepresentorFunction;
+import com.liferay.apio.architect.internal.alias.SingleModelFunction;
+import com.liferay.apio.architect.internal.request.RequestInfo;
+import com.liferay.apio.architect.internal.response.control.Embedded;
+import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.related.RelatedModel;
+import com.liferay.apio.architect.representor.Representor;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.slf4j.Logger;
+
+/**
+ * Retrieves, in batches, the related models that are going to be embedded in a
+ * list of models, before any of them is written.
+ *
+ * <p>
+ * The identifiers of every embedded related model are gathered and
+ * de-duplicated, and then retrieved with a single call per resource by using a
+ * {@link BatchSingleModelFunction}. The resulting {@link SingleModelFunction}
+ * answers from the retrieved models, falling back to the provided {@code
+ * SingleModelFunction} for resources that can't be retrieved in batches, for
+ * models that aren't directly embedded in the list's models, and for models
+ * missing from the batch result.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the type of the models being written
+ * @review
+ */
+public class EmbeddedModelsLoader<T> {
+
+	public EmbeddedModelsLoader(
+		RequestInfo requestInfo, RepresentorFunction representorFunction,
+		BatchSingleModelFunction batchSingleModelFunction) {
+
+		_requestInfo = requestInfo;
+		_representorFunction = representorFunction;
+		_batchSingleModelFunction = batchSingleModelFunction;
+	}
+
+	/**
+	 * Retrieves the related models embedded in the provided single models and
+	 * returns a {@link SingleModelFunction} that uses them.
+	 *
+	 * @param  singleModels the single models being written
+	 * @param  singleModelFunction the function used for models that couldn't
+	 *         be retrieved in batches
+	 * @return the {@code SingleModelFunction} using the retrieved models
+	 * @review
+	 */
+	public SingleModelFunction load(
+		Collection<SingleModel<T>> singleModels,
+		SingleModelFunction singleModelFunction) {
+
+		Map<Class<? extends Identifier>, Set<Object>> identifiersMap =
+			new LinkedHashMap<>();
+
+		singleModels.forEach(
+			singleModel -> _addIdentifiers(singleModel, identifiersMap));
+
+		if (identifiersMap.isEmpty()) {
+			return singleModelFunction;
+		}
+
+		Map<Class<? extends Identifier>, Map<Object, SingleModel>>
+			singleModelsMap = new HashMap<>();
+
+		identifiersMap.forEach(
+			(identifierClass, identifiers) -> {
+				Optional<Map<Object, SingleModel>> optional =
+					_batchSingleModelFunction.apply(
+						new ArrayList<>(identifiers), identifierClass);
+
+				optional.ifPresent(
+					map -> singleModelsMap.put(identifierClass, map));
+			});
+
+		if (singleModelsMap.isEmpty()) {
+			return singleModelFunction;
+		}
+
+		return (identifier, identifierClass) -> {
+			Map<Object, SingleModel> map = singleModelsMap.get(
+				identifierClass);
+
+			if (map == null) {
+				return singleModelFunction.apply(identifier, identifierClass);
+			}
+
+			SingleModel singleModel = map.get(identifier);
+
+			if (singleModel == null) {
+				return singleModelFunction.apply(identifier, identifierClass);
+			}
+
+			return Optional.of(singleModel);
+		};
+	}
+
+	private void _addIdentifiers(
+		SingleModel<T> singleModel,
+		Map<Class<? extends Identifier>, Set<Object>> identifiersMap) {
+
+		Optional<Representor<?>> optional = _representorFunction.apply(
+			singleModel.getResourceName());
+
+		if (!optional.isPresent()) {
+			return;
+		}
+
+		@SuppressWarnings("unchecked")
+		Representor<T> representor = (Representor<T>)optional.get();
+
+		Fields fields = _requestInfo.getFields();
+
+		Predicate<String> fieldsPredicate = fields.apply(
+			representor.getTypes());
+
+		Embedded embedded = _requestInfo.getEmbedded();
+
+		List<RelatedModel<T, ?>> relatedModels =
+			representor.getRelatedModels();
+
+		for (RelatedModel<T, ?> relatedModel : relatedModels) {
+			String key = relatedModel.getKey();
+
+			if (!fieldsPredicate.test(key) || !embedded.test(key)) {
+				continue;
+			}
+
+			Object identifier = _getIdentifier(relatedModel, singleModel);
+
+			if (identifier == null) {
+				continue;
+			}
+
+			identifiersMap.computeIfAbsent(
+				relatedModel.getIdentifierClass(), __ -> new LinkedHashSet<>()
+			).add(
+				identifier
+			);
+		}
+	}
+
+	private <S> S _getIdentifier(
+		RelatedModel<T, S> relatedModel, SingleModel<T> singleModel) {
+
+		Function<T, S> modelToIdentifierFunction =
+			relatedModel.getModelToIdentifierFunction();
+
+		try {
+			return modelToIdentifierFunction.apply(singleModel.getModel());
+		}
+		catch (Exception e) {
+			if (_logger.isDebugEnabled()) {
+				_logger.debug(
+					"Unable to get the identifier of " + relatedModel.getKey(),
+					e);
+			}
+
+			return null;
+		}
+	}
+
+	private final BatchSingleModelFunction _batchSingleModelFunction;
+	private final Logger _logger = getLogger(getClass());
+	private final RepresentorFunction _representorFunction;
+	private final RequestInfo _requestInfo;
+
+}
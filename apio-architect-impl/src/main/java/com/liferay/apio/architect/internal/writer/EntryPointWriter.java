@@ -66,7 +66,7 @@ public class EntryPointWriter {
 
 		_entryPointMessageMapper.onFinish(_jsonObjectBuilder, _entryPoint);
 
-		return _jsonObjectBuilder.build();
+		return _jsonObjectBuilder.build(_requestInfo.getJSONOutputProfile());
 	}
 
 	/**
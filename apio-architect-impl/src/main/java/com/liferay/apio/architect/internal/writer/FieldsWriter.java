@@ -20,6 +20,9 @@ import static com.liferay.apio.architect.internal.url.URLCreator.createBinaryURL
 import static com.liferay.apio.architect.internal.url.URLCreator.createGenericParentResourceURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createItemResourceURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createNestedResourceURL;
+import static com.liferay.apio.architect.metrics.MetricsRecorder.Counter.EMBEDDED_FETCHES;
+import static com.liferay.apio.architect.metrics.MetricsRecorder.Counter.FIELDS_WRITTEN;
+import static com.liferay.apio.architect.metrics.MetricsRecorder.Stage.EMBEDDED;
 
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -31,6 +34,7 @@ import com.liferay.apio.architect.internal.alias.BaseRepresentorFunction;
 import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.alias.SingleModelFunction;
 import com.liferay.apio.architect.internal.list.FunctionalList;
+import com.liferay.apio.architect.internal.metrics.Metrics;
 import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.response.control.Fields;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
@@ -114,9 +118,9 @@ public class FieldsWriter<T> {
 	 *         exists; an always-successful predicate otherwise
 	 */
 	public Predicate<String> getFieldsPredicate() {
-		Fields fields = _requestInfo.getFields();
+		SerializationPlan<T> serializationPlan = _getSerializationPlan();
 
-		return fields.apply(_baseRepresentor.getTypes());
+		return serializationPlan.getFieldsPredicate();
 	}
 
 	/**
@@ -151,8 +155,10 @@ public class FieldsWriter<T> {
 	public void writeApplicationRelativeURLFields(
 		BiConsumer<String, String> biConsumer) {
 
-		writeFields(
-			BaseRepresentor::getApplicationRelativeURLFunctions,
+		SerializationPlan<T> serializationPlan = _getSerializationPlan();
+
+		_writeFields(
+			serializationPlan.getApplicationRelativeURLFunctions(),
 			writeField(
 				relativeURL -> createAbsoluteURL(
 					_requestInfo.getApplicationURL(), relativeURL),
@@ -170,8 +176,10 @@ public class FieldsWriter<T> {
 		Function<String, String> urlFunction = binaryId -> createBinaryURL(
 			_requestInfo.getApplicationURL(), binaryId, _path);
 
-		writeFields(
-			BaseRepresentor::getBinaryFunctions,
+		SerializationPlan<T> serializationPlan = _getSerializationPlan();
+
+		_writeFields(
+			serializationPlan.getBinaryFunctions(),
 			(key, binaryFile) -> biConsumer.accept(
 				key, urlFunction.apply(key)));
 	}
@@ -184,8 +192,10 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the {@code BiConsumer} called to write each field
 	 */
 	public void writeBooleanFields(BiConsumer<String, Boolean> biConsumer) {
-		writeFields(
-			BaseRepresentor::getBooleanFunctions, writeField(biConsumer));
+		SerializationPlan<T> serializationPlan = _getSerializationPlan();
+
+		_writeFields(
+			serializationPlan.getBooleanFunctions(), writeField(biConsumer));
 	}
 
 	/**
@@ -198,8 +208,11 @@ public class FieldsWriter<T> {
 	public void writeBooleanListFields(
 		BiConsumer<String, List<Boolean>> biConsumer) {
 
-		writeFields(
-			BaseRepresentor::getBooleanListFunctions, writeField(biConsumer));
+		SerializationPlan<T> serializationPlan = _getSerializationPlan();
+
+		_writeFields(
+			serializationPlan.getBooleanListFunctions(),
+			writeField(biConsumer));
 	}
 
 	/**
@@ -264,23 +277,13 @@ public class FieldsWriter<T> {
 		List<FieldFunction<T, U>> list = representorFunction.apply(
 			_baseRepresentor);
 
-		Stream<FieldFunction<T, U>> stream = list.stream();
-
-		stream.filter(
-			fieldFunction -> {
-				Predicate<String> fieldsPredicate = getFieldsPredicate();
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
 
-				return fieldsPredicate.test(fieldFunction.getKey());
+		for (FieldFunction<T, U> fieldFunction : list) {
+			if (fieldsPredicate.test(fieldFunction.getKey())) {
+				_writeField(fieldFunction, biConsumer);
 			}
-		).forEach(
-			fieldFunction -> _tryToWriteField(
-				fieldFunction.getKey(),
-				key -> {
-					U u = fieldFunction.apply(_singleModel.getModel());
-
-					biConsumer.accept(key, u);
-				})
-		);
+		}
 	}
 
 	/**
@@ -291,8 +294,10 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the {@code BiConsumer} called to write each link
 	 */
 	public void writeLinks(BiConsumer<String, String> biConsumer) {
-		writeFields(
-			BaseRepresentor::getLinkFunctions,
+		SerializationPlan<T> serializationPlan = _getSerializationPlan();
+
+		_writeFields(
+			serializationPlan.getLinkFunctions(),
 			writeField(Function.identity(), biConsumer));
 	}
 
@@ -306,8 +311,10 @@ public class FieldsWriter<T> {
 	public void writeLocalizedStringFields(
 		BiConsumer<String, String> biConsumer) {
 
-		writeFields(
-			BaseRepresentor::getLocalizedStringFunctions,
+		SerializationPlan<T> serializationPlan = _getSerializationPlan();
+
+		_writeFields(
+			serializationPlan.getLocalizedStringFunctions(),
 			writeField(
 				function -> function.apply(_requestInfo.getAcceptLanguage()),
 				biConsumer));
@@ -318,6 +325,8 @@ public class FieldsWriter<T> {
 		SingleModel<S> singleModel,
 		BiConsumer<NestedListFieldFunction, List<?>> biConsumer) {
 
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
+
 		baseRepresentorFunction.apply(
 			singleModel.getResourceName()
 		).<BaseRepresentor<S>>map(
@@ -330,8 +339,6 @@ public class FieldsWriter<T> {
 			Stream::empty
 		).forEach(
 			nestedListFieldFunction -> {
-				Predicate<String> fieldsPredicate = getFieldsPredicate();
-
 				String key = nestedListFieldFunction.getKey();
 
 				if (!fieldsPredicate.test(key)) {
@@ -357,6 +364,8 @@ public class FieldsWriter<T> {
 			<SingleModel<S>, FunctionalList<String>, BaseRepresentorFunction>
 				triConsumer) {
 
+		Predicate<String> fieldsPredicate = getFieldsPredicate();
+
 		baseRepresentorFunction.apply(
 			singleModel.getResourceName()
 		).<BaseRepresentor<U>>map(
@@ -369,8 +378,6 @@ public class FieldsWriter<T> {
 			Stream::empty
 		).forEach(
 			nestedFieldFunction -> {
-				Predicate<String> fieldsPredicate = getFieldsPredicate();
-
 				String key = nestedFieldFunction.getKey();
 
 				if (!fieldsPredicate.test(key)) {
@@ -410,8 +417,10 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the {@code BiConsumer} called to write each field
 	 */
 	public void writeNumberFields(BiConsumer<String, Number> biConsumer) {
-		writeFields(
-			BaseRepresentor::getNumberFunctions, writeField(biConsumer));
+		SerializationPlan<T> serializationPlan = _getSerializationPlan();
+
+		_writeFields(
+			serializationPlan.getNumberFunctions(), writeField(biConsumer));
 	}
 
 	/**
@@ -424,8 +433,11 @@ public class FieldsWriter<T> {
 	public void writeNumberListFields(
 		BiConsumer<String, List<Number>> biConsumer) {
 
-		writeFields(
-			BaseRepresentor::getNumberListFunctions, writeField(biConsumer));
+		SerializationPlan<T> serializationPlan = _getSerializationPlan();
+
+		_writeFields(
+			serializationPlan.getNumberListFunctions(),
+			writeField(biConsumer));
 	}
 
 	/**
@@ -561,11 +573,22 @@ public class FieldsWriter<T> {
 					".", stream.collect(Collectors.toList()));
 
 				if (embedded.test(embeddedPath)) {
+					long startTime = Metrics.startTime();
+
 					Optional<SingleModel<U>> singleModelOptional =
 						getSingleModel(
 							relatedModel, _singleModel,
 							unsafeCast(_singleModelFunction));
 
+					String resourceName = _singleModel.getResourceName();
+
+					Metrics.recordDuration(
+						EMBEDDED, resourceName, relatedModel.getKey(),
+						startTime);
+					Metrics.recordCount(
+						EMBEDDED_FETCHES, resourceName, relatedModel.getKey(),
+						1);
+
 					if (!singleModelOptional.isPresent()) {
 						return;
 					}
@@ -668,8 +691,10 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the consumer that writes each field
 	 */
 	public void writeRelativeURLFields(BiConsumer<String, String> biConsumer) {
-		writeFields(
-			BaseRepresentor::getRelativeURLFunctions,
+		SerializationPlan<T> serializationPlan = _getSerializationPlan();
+
+		_writeFields(
+			serializationPlan.getRelativeURLFunctions(),
 			writeField(
 				relativeURL -> createAbsoluteURL(
 					_requestInfo.getServerURL(), relativeURL),
@@ -700,8 +725,10 @@ public class FieldsWriter<T> {
 	 * @param biConsumer the consumer that writes each field
 	 */
 	public void writeStringFields(BiConsumer<String, String> biConsumer) {
-		writeFields(
-			BaseRepresentor::getStringFunctions, writeField(biConsumer));
+		SerializationPlan<T> serializationPlan = _getSerializationPlan();
+
+		_writeFields(
+			serializationPlan.getStringFunctions(), writeField(biConsumer));
 	}
 
 	/**
@@ -714,8 +741,11 @@ public class FieldsWriter<T> {
 	public void writeStringListFields(
 		BiConsumer<String, List<String>> biConsumer) {
 
-		writeFields(
-			BaseRepresentor::getStringListFunctions, writeField(biConsumer));
+		SerializationPlan<T> serializationPlan = _getSerializationPlan();
+
+		_writeFields(
+			serializationPlan.getStringListFunctions(),
+			writeField(biConsumer));
 	}
 
 	/**
@@ -728,6 +758,15 @@ public class FieldsWriter<T> {
 		consumer.accept(_baseRepresentor.getTypes());
 	}
 
+	private SerializationPlan<T> _getSerializationPlan() {
+		if (_serializationPlan == null) {
+			_serializationPlan = SerializationPlan.of(
+				_baseRepresentor, _requestInfo.getFields());
+		}
+
+		return _serializationPlan;
+	}
+
 	private void _tryToWriteField(String key, Consumer<String> consumer) {
 		try {
 			consumer.accept(key);
@@ -739,6 +778,38 @@ public class FieldsWriter<T> {
 		}
 	}
 
+	private <U> void _writeField(
+		FieldFunction<T, U> fieldFunction, BiConsumer<String, U> biConsumer) {
+
+		String key = fieldFunction.getKey();
+
+		try {
+			U u = fieldFunction.apply(_singleModel.getModel());
+
+			biConsumer.accept(key, u);
+		}
+		catch (Exception e) {
+			if (_logger.isDebugEnabled()) {
+				_logger.debug("Unable to write field" + key, e);
+			}
+		}
+	}
+
+	private <U> void _writeFields(
+		FieldFunction<T, U>[] fieldFunctions,
+		BiConsumer<String, U> biConsumer) {
+
+		for (FieldFunction<T, U> fieldFunction : fieldFunctions) {
+			_writeField(fieldFunction, biConsumer);
+		}
+
+		if (fieldFunctions.length > 0) {
+			Metrics.recordCount(
+				FIELDS_WRITTEN, _singleModel.getResourceName(), null,
+				fieldFunctions.length);
+		}
+	}
+
 	private void _writeResourceURL(
 		String url, FunctionalList<String> parentEmbeddedPathElements,
 		BiConsumer<String, FunctionalList<String>> biConsumer, String key) {
@@ -755,6 +826,7 @@ public class FieldsWriter<T> {
 	private final Logger _logger = getLogger(getClass());
 	private final Path _path;
 	private final RequestInfo _requestInfo;
+	private SerializationPlan<T> _serializationPlan;
 	private final SingleModel<T> _singleModel;
 	private final SingleModelFunction _singleModelFunction;
 
@@ -14,6 +14,8 @@
 
 package com.liferay.apio.architect.internal.writer;
 
+import static com.liferay.apio.architect.internal.unsafe.Unsafe.unsafeCast;
+import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionCursorPageURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionPageURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createResourceURL;
 import static com.liferay.apio.architect.internal.writer.util.WriterUtil.getFieldsWriter;
@@ -21,7 +23,9 @@ import static com.liferay.apio.architect.internal.writer.util.WriterUtil.getPath
 
 import com.liferay.apio.architect.alias.representor.NestedListFieldFunction;
 import com.liferay.apio.architect.internal.alias.ActionSemanticsFunction;
+import com.liferay.apio.architect.internal.alias.AllowedActionNamesFunction;
 import com.liferay.apio.architect.internal.alias.BaseRepresentorFunction;
+import com.liferay.apio.architect.internal.alias.BatchSingleModelFunction;
 import com.liferay.apio.architect.internal.alias.PathFunction;
 import com.liferay.apio.architect.internal.alias.RepresentorFunction;
 import com.liferay.apio.architect.internal.alias.ResourceNameFunction;
@@ -34,14 +38,20 @@ import com.liferay.apio.architect.internal.request.RequestInfo;
 import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.representor.BaseRepresentor;
+import com.liferay.apio.architect.representor.Representor;
 import com.liferay.apio.architect.single.model.SingleModel;
 import com.liferay.apio.architect.uri.Path;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Writes a page.
@@ -67,6 +77,8 @@ public class PageWriter<T> {
 	public PageWriter(Builder<T> builder) {
 		_page = builder._page;
 		_actionSemanticsFunction = builder._actionSemanticsFunction;
+		_allowedActionNamesFunction = builder._allowedActionNamesFunction;
+		_batchSingleModelFunction = builder._batchSingleModelFunction;
 		_pageMessageMapper = builder._pageMessageMapper;
 		_pathFunction = builder._pathFunction;
 		_representorFunction = builder._representorFunction;
@@ -89,45 +101,24 @@ public class PageWriter<T> {
 	 *         Optional#empty()} otherwise
 	 */
 	public String write() {
-		_pageMessageMapper.mapItemTotalCount(
-			_jsonObjectBuilder, _page.getTotalCount());
-
-		Collection<T> items = _page.getItems();
-
-		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
-
-		_writePageURLs();
-
-		Optional<String> optionalURL = createResourceURL(
-			_requestInfo.getApplicationURL(), _page.getResource());
-
-		optionalURL.ifPresent(
-			url -> _pageMessageMapper.mapCollectionURL(
-				_jsonObjectBuilder, url));
-
-		String resourceName = _page.getResourceName();
-
-		items.forEach(
-			model -> _writeItem(new SingleModelImpl<>(model, resourceName)));
-
-		ActionWriter actionWriter = new ActionWriter(
-			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
+		_write();
 
-		_actionSemanticsFunction.apply(
-			_page.getResource()
-		).forEach(
-			actionWriter::write
-		);
-
-		_representorFunction.apply(
-			resourceName
-		).ifPresent(
-			_mapPageSemantics(_jsonObjectBuilder)
-		);
+		return _jsonObjectBuilder.build(_requestInfo.getJSONOutputProfile());
+	}
 
-		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
+	/**
+	 * Writes the handled {@link Page} directly to the provided output stream,
+	 * without creating an intermediate {@code String}.
+	 *
+	 * @param  outputStream the output stream
+	 * @throws IOException if the page couldn't be written to the output stream
+	 * @review
+	 */
+	public void write(OutputStream outputStream) throws IOException {
+		_write();
 
-		return _jsonObjectBuilder.build();
+		_jsonObjectBuilder.writeTo(
+			outputStream, _requestInfo.getJSONOutputProfile());
 	}
 
 	/**
@@ -171,6 +162,46 @@ public class PageWriter<T> {
 
 		public class BuildStep {
 
+			/**
+			 * Adds information to the builder about the function that gets the
+			 * names of the actions the current user can perform on several
+			 * items at once. If provided, the allowed actions of the page's
+			 * items are retrieved with this function before writing the page,
+			 * and the items whose resource provides a bulk permission function
+			 * are written with their allowed operations.
+			 *
+			 * @param  allowedActionNamesFunction the function that gets the
+			 *         names of the allowed actions of several items
+			 * @return the updated builder
+			 * @review
+			 */
+			public BuildStep allowedActionNamesFunction(
+				AllowedActionNamesFunction allowedActionNamesFunction) {
+
+				_allowedActionNamesFunction = allowedActionNamesFunction;
+
+				return this;
+			}
+
+			/**
+			 * Adds information to the builder about the function that gets
+			 * several {@code SingleModel} instances of a class at once. If
+			 * provided, the related models embedded in the page's items are
+			 * retrieved with this function before writing the page.
+			 *
+			 * @param  batchSingleModelFunction the function that gets several
+			 *         {@code SingleModel} instances of a class
+			 * @return the updated builder
+			 * @review
+			 */
+			public BuildStep batchSingleModelFunction(
+				BatchSingleModelFunction batchSingleModelFunction) {
+
+				_batchSingleModelFunction = batchSingleModelFunction;
+
+				return this;
+			}
+
 			/**
 			 * Constructs and returns a {@code PageWriter} instance with the
 			 * information provided to the builder.
@@ -305,6 +336,8 @@ public class PageWriter<T> {
 		}
 
 		private ActionSemanticsFunction _actionSemanticsFunction;
+		private AllowedActionNamesFunction _allowedActionNamesFunction;
+		private BatchSingleModelFunction _batchSingleModelFunction;
 		private Page<T> _page;
 		private PageMessageMapper<T> _pageMessageMapper;
 		private PathFunction _pathFunction;
@@ -315,6 +348,50 @@ public class PageWriter<T> {
 
 	}
 
+	private void _loadAllowedActions(
+		String resourceName, List<SingleModel<T>> singleModels) {
+
+		if (_allowedActionNamesFunction == null) {
+			return;
+		}
+
+		Optional<Representor<?>> optional = _representorFunction.apply(
+			resourceName);
+
+		if (!optional.isPresent()) {
+			return;
+		}
+
+		Representor<T> representor = unsafeCast(optional.get());
+
+		List<Object> identifiers = singleModels.stream(
+		).map(
+			SingleModel::getModel
+		).map(
+			representor::getIdentifier
+		).collect(
+			Collectors.toList()
+		);
+
+		_allowedActionsLoader = new AllowedActionsLoader(
+			_allowedActionNamesFunction);
+
+		_allowedActionsLoader.load(resourceName, identifiers);
+	}
+
+	private void _loadEmbeddedModels(List<SingleModel<T>> singleModels) {
+		if (_batchSingleModelFunction == null) {
+			return;
+		}
+
+		EmbeddedModelsLoader<T> embeddedModelsLoader =
+			new EmbeddedModelsLoader<>(
+				_requestInfo, _representorFunction, _batchSingleModelFunction);
+
+		_singleModelFunction = embeddedModelsLoader.load(
+			singleModels, _singleModelFunction);
+	}
+
 	private Consumer<BaseRepresentor> _mapPageSemantics(
 		JSONObjectBuilder jsonObjectBuilder) {
 
@@ -325,6 +402,57 @@ public class PageWriter<T> {
 		};
 	}
 
+	private void _write() {
+		_pageMessageMapper.mapItemTotalCount(
+			_jsonObjectBuilder, _page.getTotalCount());
+
+		Collection<T> items = _page.getItems();
+
+		_pageMessageMapper.mapPageCount(_jsonObjectBuilder, items.size());
+
+		_writePageURLs();
+
+		Optional<String> optionalURL = createResourceURL(
+			_requestInfo.getApplicationURL(), _page.getResource());
+
+		optionalURL.ifPresent(
+			url -> _pageMessageMapper.mapCollectionURL(
+				_jsonObjectBuilder, url));
+
+		String resourceName = _page.getResourceName();
+
+		Stream<T> stream = items.stream();
+
+		List<SingleModel<T>> singleModels = stream.map(
+			model -> new SingleModelImpl<>(model, resourceName)
+		).collect(
+			Collectors.toList()
+		);
+
+		_loadEmbeddedModels(singleModels);
+
+		_loadAllowedActions(resourceName, singleModels);
+
+		singleModels.forEach(this::_writeItem);
+
+		ActionWriter actionWriter = new ActionWriter(
+			_pageMessageMapper, _requestInfo, _jsonObjectBuilder);
+
+		_actionSemanticsFunction.apply(
+			_page.getResource()
+		).forEach(
+			actionWriter::write
+		);
+
+		_representorFunction.apply(
+			resourceName
+		).ifPresent(
+			_mapPageSemantics(_jsonObjectBuilder)
+		);
+
+		_pageMessageMapper.onFinish(_jsonObjectBuilder, _page);
+	}
+
 	private void _writeBasicFields(
 		FieldsWriter<?> fieldsWriter, JSONObjectBuilder jsonObjectBuilder) {
 
@@ -377,6 +505,39 @@ public class PageWriter<T> {
 				_jsonObjectBuilder, jsonObjectBuilder, field, value));
 	}
 
+	private void _writeCursorPageURLs(String url) {
+		int itemsPerPage = _page.getItemsPerPage();
+
+		_pageMessageMapper.mapCurrentPageURL(
+			_jsonObjectBuilder,
+			createCollectionCursorPageURL(
+				url,
+				_page.getCursorOptional(
+				).orElse(
+					null
+				),
+				itemsPerPage));
+
+		_pageMessageMapper.mapFirstPageURL(
+			_jsonObjectBuilder,
+			createCollectionCursorPageURL(url, null, itemsPerPage));
+
+		Optional<String> nextCursorOptional = _page.getNextCursorOptional();
+
+		nextCursorOptional.ifPresent(
+			cursor -> _pageMessageMapper.mapNextPageURL(
+				_jsonObjectBuilder,
+				createCollectionCursorPageURL(url, cursor, itemsPerPage)));
+
+		Optional<String> previousCursorOptional =
+			_page.getPreviousCursorOptional();
+
+		previousCursorOptional.ifPresent(
+			cursor -> _pageMessageMapper.mapPreviousPageURL(
+				_jsonObjectBuilder,
+				createCollectionCursorPageURL(url, cursor, itemsPerPage)));
+	}
+
 	private <U> void _writeItem(
 		JSONObjectBuilder collectionJSONObjectBuilder,
 		SingleModel<U> singleModel, FunctionalList<String> embeddedPathElements,
@@ -479,6 +640,8 @@ public class PageWriter<T> {
 			url -> _pageMessageMapper.mapItemSelfURL(
 				_jsonObjectBuilder, itemJsonObjectBuilder, url));
 
+		_writeItemActions(fieldsWriter, singleModel, itemJsonObjectBuilder);
+
 		fieldsWriter.writeRelatedModels(
 			_pathFunction,
 			(embeddedSingleModel, embeddedPathElements1) ->
@@ -518,6 +681,28 @@ public class PageWriter<T> {
 			_jsonObjectBuilder, itemJsonObjectBuilder, singleModel);
 	}
 
+	private void _writeItemActions(
+		FieldsWriter<T> fieldsWriter, SingleModel<T> singleModel,
+		JSONObjectBuilder itemJsonObjectBuilder) {
+
+		if ((_allowedActionsLoader == null) ||
+			!_allowedActionsLoader.isRestricted(
+				singleModel.getResourceName())) {
+
+			return;
+		}
+
+		ActionWriter actionWriter = new ActionWriter(
+			_pageMessageMapper, _requestInfo, itemJsonObjectBuilder);
+
+		fieldsWriter.withItem(
+			item -> _allowedActionsLoader.filter(
+				item, _actionSemanticsFunction.apply(item)
+			).forEach(
+				actionWriter::write
+			));
+	}
+
 	private <S> void _writeItemEmbeddedModelFields(
 		SingleModel<S> singleModel, FunctionalList<String> embeddedPathElements,
 		JSONObjectBuilder itemJsonObjectBuilder) {
@@ -713,6 +898,12 @@ public class PageWriter<T> {
 		Optional<String> optionalURL = createResourceURL(
 			_requestInfo.getApplicationURL(), _page.getResource());
 
+		if (_page.isCursorPaginated()) {
+			optionalURL.ifPresent(this::_writeCursorPageURLs);
+
+			return;
+		}
+
 		optionalURL.ifPresent(
 			url -> {
 				_pageMessageMapper.mapCurrentPageURL(
@@ -742,6 +933,9 @@ public class PageWriter<T> {
 	}
 
 	private final ActionSemanticsFunction _actionSemanticsFunction;
+	private final AllowedActionNamesFunction _allowedActionNamesFunction;
+	private AllowedActionsLoader _allowedActionsLoader;
+	private final BatchSingleModelFunction _batchSingleModelFunction;
 	private final JSONObjectBuilder _jsonObjectBuilder;
 	private final Page<T> _page;
 	private final PageMessageMapper<T> _pageMessageMapper;
@@ -749,6 +943,6 @@ public class PageWriter<T> {
 	private final RepresentorFunction _representorFunction;
 	private final RequestInfo _requestInfo;
 	private final ResourceNameFunction _resourceNameFunction;
-	private final SingleModelFunction _singleModelFunction;
+	private SingleModelFunction _singleModelFunction;
 
 }
\ No newline at end of file
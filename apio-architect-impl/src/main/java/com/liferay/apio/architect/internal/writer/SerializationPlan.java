@@ -0,0 +1,258 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.writer;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import com.liferay.apio.architect.alias.representor.FieldFunction;
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.internal.response.control.SelectedFields;
+import com.liferay.apio.architect.language.AcceptLanguage;
+import com.liferay.apio.architect.representor.BaseRepresentor;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Contains the field functions of a {@link BaseRepresentor} that must be
+ * written for a certain {@link Fields} projection, already filtered and
+ * grouped by the field's type.
+ *
+ * <p>
+ * Plans are compiled once per representor and projection, and then reused for
+ * every field of every model of that representor. This way, writing a model
+ * doesn't need to look up the field functions or test the {@code Fields}
+ * predicate again for every field.
+ * </p>
+ *
+ * @author Alejandro Hernández
+ * @param  <T> the model's type
+ * @review
+ */
+public final class SerializationPlan<T> {
+
+	/**
+	 * Returns the serialization plan for a representor and a {@link Fields}
+	 * projection.
+	 *
+	 * <p>
+	 * Plans for {@link Fields#ALL}, the projection used by every request that
+	 * doesn't select fields, are compiled once per representor and kept in the
+	 * {@code ManagerCache} until it's invalidated. Plans for the {@link
+	 * SelectedFields} of a request are compiled once per representor and kept
+	 * in that {@code SelectedFields} until the request ends. Plans for any
+	 * other projection are compiled every time.
+	 * </p>
+	 *
+	 * @param  baseRepresentor the representor
+	 * @param  fields the fields projection
+	 * @return the serialization plan
+	 * @review
+	 */
+	public static <T> SerializationPlan<T> of(
+		BaseRepresentor<T> baseRepresentor, Fields fields) {
+
+		if (fields == Fields.ALL) {
+			return INSTANCE.getSerializationPlan(
+				baseRepresentor,
+				representor -> new SerializationPlan<>(representor, fields));
+		}
+
+		if (fields instanceof SelectedFields) {
+			SelectedFields selectedFields = (SelectedFields)fields;
+
+			return selectedFields.getSerializationPlan(
+				baseRepresentor,
+				representor -> new SerializationPlan<>(representor, fields));
+		}
+
+		return new SerializationPlan<>(baseRepresentor, fields);
+	}
+
+	/**
+	 * Returns the application relative URL functions that must be written.
+	 *
+	 * @return the application relative URL functions
+	 * @review
+	 */
+	public FieldFunction<T, String>[] getApplicationRelativeURLFunctions() {
+		return _applicationRelativeURLFunctions;
+	}
+
+	/**
+	 * Returns the binary functions that must be written.
+	 *
+	 * @return the binary functions
+	 * @review
+	 */
+	public FieldFunction<T, BinaryFile>[] getBinaryFunctions() {
+		return _binaryFunctions;
+	}
+
+	/**
+	 * Returns the boolean functions that must be written.
+	 *
+	 * @return the boolean functions
+	 * @review
+	 */
+	public FieldFunction<T, Boolean>[] getBooleanFunctions() {
+		return _booleanFunctions;
+	}
+
+	/**
+	 * Returns the boolean list functions that must be written.
+	 *
+	 * @return the boolean list functions
+	 * @review
+	 */
+	public FieldFunction<T, List<Boolean>>[] getBooleanListFunctions() {
+		return _booleanListFunctions;
+	}
+
+	/**
+	 * Returns the {@link Fields} predicate for the representor's types.
+	 *
+	 * @return the {@code Fields} predicate
+	 * @review
+	 */
+	public Predicate<String> getFieldsPredicate() {
+		return _fieldsPredicate;
+	}
+
+	/**
+	 * Returns the link functions that must be written.
+	 *
+	 * @return the link functions
+	 * @review
+	 */
+	public FieldFunction<T, String>[] getLinkFunctions() {
+		return _linkFunctions;
+	}
+
+	/**
+	 * Returns the localized string functions that must be written.
+	 *
+	 * @return the localized string functions
+	 * @review
+	 */
+	public FieldFunction<T, Function<AcceptLanguage, String>>[]
+		getLocalizedStringFunctions() {
+
+		return _localizedStringFunctions;
+	}
+
+	/**
+	 * Returns the number functions that must be written.
+	 *
+	 * @return the number functions
+	 * @review
+	 */
+	public FieldFunction<T, Number>[] getNumberFunctions() {
+		return _numberFunctions;
+	}
+
+	/**
+	 * Returns the number list functions that must be written.
+	 *
+	 * @return the number list functions
+	 * @review
+	 */
+	public FieldFunction<T, List<Number>>[] getNumberListFunctions() {
+		return _numberListFunctions;
+	}
+
+	/**
+	 * Returns the relative URL functions that must be written.
+	 *
+	 * @return the relative URL functions
+	 * @review
+	 */
+	public FieldFunction<T, String>[] getRelativeURLFunctions() {
+		return _relativeURLFunctions;
+	}
+
+	/**
+	 * Returns the string functions that must be written.
+	 *
+	 * @return the string functions
+	 * @review
+	 */
+	public FieldFunction<T, String>[] getStringFunctions() {
+		return _stringFunctions;
+	}
+
+	/**
+	 * Returns the string list functions that must be written.
+	 *
+	 * @return the string list functions
+	 * @review
+	 */
+	public FieldFunction<T, List<String>>[] getStringListFunctions() {
+		return _stringListFunctions;
+	}
+
+	private SerializationPlan(
+		BaseRepresentor<T> baseRepresentor, Fields fields) {
+
+		_fieldsPredicate = fields.apply(baseRepresentor.getTypes());
+
+		_applicationRelativeURLFunctions = _filter(
+			baseRepresentor.getApplicationRelativeURLFunctions());
+		_binaryFunctions = _filter(baseRepresentor.getBinaryFunctions());
+		_booleanFunctions = _filter(baseRepresentor.getBooleanFunctions());
+		_booleanListFunctions = _filter(
+			baseRepresentor.getBooleanListFunctions());
+		_linkFunctions = _filter(baseRepresentor.getLinkFunctions());
+		_localizedStringFunctions = _filter(
+			baseRepresentor.getLocalizedStringFunctions());
+		_numberFunctions = _filter(baseRepresentor.getNumberFunctions());
+		_numberListFunctions = _filter(
+			baseRepresentor.getNumberListFunctions());
+		_relativeURLFunctions = _filter(
+			baseRepresentor.getRelativeURLFunctions());
+		_stringFunctions = _filter(baseRepresentor.getStringFunctions());
+		_stringListFunctions = _filter(
+			baseRepresentor.getStringListFunctions());
+	}
+
+	@SuppressWarnings("unchecked")
+	private <U> FieldFunction<T, U>[] _filter(
+		List<FieldFunction<T, U>> fieldFunctions) {
+
+		return fieldFunctions.stream(
+		).filter(
+			fieldFunction -> _fieldsPredicate.test(fieldFunction.getKey())
+		).toArray(
+			FieldFunction[]::new
+		);
+	}
+
+	private final FieldFunction<T, String>[] _applicationRelativeURLFunctions;
+	private final FieldFunction<T, BinaryFile>[] _binaryFunctions;
+	private final FieldFunction<T, Boolean>[] _booleanFunctions;
+	private final FieldFunction<T, List<Boolean>>[] _booleanListFunctions;
+	private final Predicate<String> _fieldsPredicate;
+	private final FieldFunction<T, String>[] _linkFunctions;
+	private final FieldFunction<T, Function<AcceptLanguage, String>>[]
+		_localizedStringFunctions;
+	private final FieldFunction<T, Number>[] _numberFunctions;
+	private final FieldFunction<T, List<Number>>[] _numberListFunctions;
+	private final FieldFunction<T, String>[] _relativeURLFunctions;
+	private final FieldFunction<T, String>[] _stringFunctions;
+	private final FieldFunction<T, List<String>>[] _stringListFunctions;
+
+}
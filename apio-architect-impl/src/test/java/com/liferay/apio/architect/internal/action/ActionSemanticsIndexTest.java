@@ -0,0 +1,137 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.action;
+
+import static java.util.stream.Collectors.toList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import com.liferay.apio.architect.resource.Resource;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+import com.liferay.apio.architect.resource.Resource.Paged;
+
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ActionSemanticsIndexTest {
+
+	@Test
+	public void testGetActionSemanticsKeepsTheProvidedOrder() {
+		assertThat(
+			_actionSemanticsIndex.getActionSemantics(),
+			contains(
+				_retrievePaged, _createPaged, _retrieveItem,
+				_anotherRetrievePaged));
+	}
+
+	@Test
+	public void testGetActionSemanticsOfResourceIgnoresIdentifiers() {
+		Item item = Item.of("name", Id.of(42L, "42"));
+
+		assertThat(
+			_actionSemanticsIndex.getActionSemantics(item),
+			contains(_retrieveItem));
+	}
+
+	@Test
+	public void testGetActionSemanticsOfResourceReturnsItsActions() {
+		assertThat(
+			_actionSemanticsIndex.getActionSemantics(Paged.of("name")),
+			contains(_retrievePaged, _createPaged, _anotherRetrievePaged));
+		assertThat(
+			_actionSemanticsIndex.getActionSemantics(Paged.of("other")),
+			is(empty()));
+	}
+
+	@Test
+	public void testGetActionSemanticsOptionalAppliesThePredicate() {
+		Optional<ActionSemantics> optional =
+			_actionSemanticsIndex.getActionSemanticsOptional(
+				Paged.of("name"), "GET", "retrieve",
+				actionSemantics -> actionSemantics.getReturnClass() ==
+					Long.class);
+
+		assertThat(optional, is(Optional.of(_anotherRetrievePaged)));
+	}
+
+	@Test
+	public void testGetActionSemanticsOptionalReturnsEmptyIfNotFound() {
+		Optional<ActionSemantics> optional =
+			_actionSemanticsIndex.getActionSemanticsOptional(
+				Paged.of("name"), "DELETE", "retrieve", __ -> true);
+
+		assertThat(optional, is(Optional.empty()));
+	}
+
+	@Test
+	public void testGetActionSemanticsOptionalReturnsTheFirstMatch() {
+		Optional<ActionSemantics> optional =
+			_actionSemanticsIndex.getActionSemanticsOptional(
+				Paged.of("name"), "GET", "retrieve", __ -> true);
+
+		assertThat(optional, is(Optional.of(_retrievePaged)));
+	}
+
+	@Test
+	public void testGetResourceStreamReturnsDistinctResources() {
+		Stream<Resource> stream = _actionSemanticsIndex.getResourceStream();
+
+		assertThat(
+			stream.collect(toList()),
+			contains(Paged.of("name"), Item.of("name")));
+	}
+
+	private static ActionSemantics _createActionSemantics(
+		Resource resource, String method, String name, Class<?> returnClass) {
+
+		return ActionSemantics.ofResource(
+			resource
+		).name(
+			name
+		).method(
+			method
+		).returns(
+			returnClass
+		).executeFunction(
+			__ -> null
+		).build();
+	}
+
+	private static final ActionSemantics _anotherRetrievePaged =
+		_createActionSemantics(Paged.of("name"), "GET", "retrieve", Long.class);
+	private static final ActionSemantics _createPaged = _createActionSemantics(
+		Paged.of("name"), "POST", "create", String.class);
+	private static final ActionSemantics _retrieveItem = _createActionSemantics(
+		Item.of("name"), "GET", "retrieve", String.class);
+	private static final ActionSemantics _retrievePaged =
+		_createActionSemantics(
+			Paged.of("name"), "GET", "retrieve", String.class);
+
+	private final ActionSemanticsIndex _actionSemanticsIndex =
+		new ActionSemanticsIndex(
+			Stream.of(
+				_retrievePaged, _createPaged, _retrieveItem,
+				_anotherRetrievePaged));
+
+}
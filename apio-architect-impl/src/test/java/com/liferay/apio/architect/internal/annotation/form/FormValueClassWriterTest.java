@@ -0,0 +1,226 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.form;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import com.liferay.apio.architect.file.BinaryFile;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author Víctor Galán
+ */
+public class FormValueClassWriterTest {
+
+	@Test
+	public void testGeneratedClassImplementsTheTypeInterface()
+		throws Exception {
+
+		Class<?> formValueClass = _defineClass(AllTypes.class);
+
+		int modifiers = formValueClass.getModifiers();
+
+		assertThat(Modifier.isFinal(modifiers), is(true));
+		assertThat(Modifier.isPublic(modifiers), is(true));
+		assertThat(formValueClass.getName(), is(_CLASS_NAME));
+		assertThat(formValueClass.getSuperclass(), is(Object.class));
+		assertThat(
+			formValueClass.getInterfaces(), arrayContaining(AllTypes.class));
+
+		for (Method method : _getMethods(AllTypes.class)) {
+			Field field = formValueClass.getField(method.getName());
+
+			assertThat(field.getType(), is(Object.class));
+			assertThat(Modifier.isPublic(field.getModifiers()), is(true));
+
+			Method getterMethod = formValueClass.getMethod(method.getName());
+
+			assertThat(
+				getterMethod.getReturnType(), is(method.getReturnType()));
+		}
+	}
+
+	@Test
+	public void testGeneratedClassWithoutMethodsCanBeCreated()
+		throws Exception {
+
+		Class<?> formValueClass = _defineClass(Empty.class);
+
+		Object object = formValueClass.newInstance();
+
+		assertThat(object instanceof Empty, is(true));
+		assertThat(formValueClass.getFields().length, is(0));
+	}
+
+	@Test
+	public void testGettersReturnTheFieldsValues() throws Exception {
+		Class<?> formValueClass = _defineClass(AllTypes.class);
+
+		AllTypes allTypes = (AllTypes)formValueClass.newInstance();
+
+		assertThat(allTypes.getBinaryFile(), is(nullValue()));
+		assertThat(allTypes.getBoolean(), is(nullValue()));
+		assertThat(allTypes.getDate(), is(nullValue()));
+		assertThat(allTypes.getDouble(), is(nullValue()));
+		assertThat(allTypes.getInteger(), is(nullValue()));
+		assertThat(allTypes.getList(), is(nullValue()));
+		assertThat(allTypes.getLong(), is(nullValue()));
+		assertThat(allTypes.getNested(), is(nullValue()));
+		assertThat(allTypes.getNumber(), is(nullValue()));
+		assertThat(allTypes.getString(), is(nullValue()));
+
+		BinaryFile binaryFile = new BinaryFile(null, 0L, "text/plain");
+		Date date = new Date();
+		List<String> list = singletonList("apio");
+		Nested nested = () -> "nested";
+
+		_set(allTypes, "getBinaryFile", binaryFile);
+		_set(allTypes, "getBoolean", true);
+		_set(allTypes, "getDate", date);
+		_set(allTypes, "getDouble", 4.2D);
+		_set(allTypes, "getInteger", 42);
+		_set(allTypes, "getList", list);
+		_set(allTypes, "getLong", 42L);
+		_set(allTypes, "getNested", nested);
+		_set(allTypes, "getNumber", 21L);
+		_set(allTypes, "getString", "apio");
+
+		assertThat(allTypes.getBinaryFile(), is(sameInstance(binaryFile)));
+		assertThat(allTypes.getBoolean(), is(true));
+		assertThat(allTypes.getDate(), is(sameInstance(date)));
+		assertThat(allTypes.getDouble(), is(4.2D));
+		assertThat(allTypes.getInteger(), is(42));
+		assertThat(allTypes.getList(), is(sameInstance(list)));
+		assertThat(allTypes.getLong(), is(42L));
+		assertThat(allTypes.getNested(), is(sameInstance(nested)));
+		assertThat(allTypes.getNumber(), is(21L));
+		assertThat(allTypes.getString(), is("apio"));
+	}
+
+	@Test(expected = ClassCastException.class)
+	public void testGettersThrowExceptionIfValueHasDifferentType()
+		throws Exception {
+
+		Class<?> formValueClass = _defineClass(AllTypes.class);
+
+		AllTypes allTypes = (AllTypes)formValueClass.newInstance();
+
+		_set(allTypes, "getLong", "apio");
+
+		allTypes.getLong();
+	}
+
+	@Test
+	public void testInstancesKeepTheirOwnValues() throws Exception {
+		Class<?> formValueClass = _defineClass(AllTypes.class);
+
+		AllTypes allTypes1 = (AllTypes)formValueClass.newInstance();
+		AllTypes allTypes2 = (AllTypes)formValueClass.newInstance();
+
+		_set(allTypes1, "getString", "apio");
+
+		assertThat(allTypes1.getString(), is("apio"));
+		assertThat(allTypes2.getString(), is(nullValue()));
+	}
+
+	private static Class<?> _defineClass(Class<?> typeClass) {
+		byte[] bytes = FormValueClassWriter.write(
+			_CLASS_NAME, typeClass, _getMethods(typeClass));
+
+		TestClassLoader testClassLoader = new TestClassLoader(
+			typeClass.getClassLoader());
+
+		return testClassLoader.defineClass(bytes);
+	}
+
+	private static List<Method> _getMethods(Class<?> typeClass) {
+		return new ArrayList<>(asList(typeClass.getMethods()));
+	}
+
+	private static void _set(Object object, String name, Object value)
+		throws Exception {
+
+		Class<?> clazz = object.getClass();
+
+		Field field = clazz.getField(name);
+
+		field.set(object, value);
+	}
+
+	private static final String _CLASS_NAME =
+		FormValueClassWriterTest.class.getName() + "$FormValue";
+
+	public interface AllTypes {
+
+		public BinaryFile getBinaryFile();
+
+		public Boolean getBoolean();
+
+		public Date getDate();
+
+		public Double getDouble();
+
+		public Integer getInteger();
+
+		public List<String> getList();
+
+		public Long getLong();
+
+		public Nested getNested();
+
+		public Number getNumber();
+
+		public String getString();
+
+	}
+
+	public interface Empty {
+	}
+
+	public interface Nested {
+
+		public String getName();
+
+	}
+
+	private static class TestClassLoader extends ClassLoader {
+
+		public TestClassLoader(ClassLoader parent) {
+			super(parent);
+		}
+
+		public Class<?> defineClass(byte[] bytes) {
+			return defineClass(_CLASS_NAME, bytes, 0, bytes.length);
+		}
+
+	}
+
+}
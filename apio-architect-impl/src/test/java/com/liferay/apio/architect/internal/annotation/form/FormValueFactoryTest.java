@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.form;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import java.lang.reflect.Proxy;
+
+import java.util.List;
+
+import org.junit.Test;
+
+/**
+ * @author Víctor Galán
+ */
+public class FormValueFactoryTest {
+
+	@Test
+	public void testGeneratedInstancesAreIndependent() {
+		FormValueFactory<Simple> formValueFactory = FormValueFactory.of(
+			Simple.class);
+
+		Simple simple1 = formValueFactory.create();
+		Simple simple2 = formValueFactory.create();
+
+		formValueFactory.getBiConsumer(
+			"getString"
+		).accept(
+			simple1, "string"
+		);
+
+		assertThat(simple1.getString(), is("string"));
+		assertThat(simple2.getString(), is(nullValue()));
+	}
+
+	@Test
+	public void testGeneratedInstancesOverrideDefaultMethods() {
+		FormValueFactory<Simple> formValueFactory = FormValueFactory.of(
+			Simple.class);
+
+		Simple simple = formValueFactory.create();
+
+		assertThat(simple.getDefault(), is(nullValue()));
+
+		formValueFactory.getBiConsumer(
+			"getDefault"
+		).accept(
+			simple, "value"
+		);
+
+		assertThat(simple.getDefault(), is("value"));
+	}
+
+	@Test
+	public void testGeneratesClassForSimpleTypes() {
+		FormValueFactory<Simple> formValueFactory = FormValueFactory.of(
+			Simple.class);
+
+		Simple simple = formValueFactory.create();
+
+		assertThat(Proxy.isProxyClass(simple.getClass()), is(false));
+
+		formValueFactory.getBiConsumer(
+			"getLong"
+		).accept(
+			simple, 42L
+		);
+
+		assertThat(simple.getLong(), is(42L));
+		assertThat(simple.getStrings(), is(nullValue()));
+	}
+
+	@Test
+	public void testUsesProxyIfClassCannotBeGenerated() {
+		FormValueFactory<WithPrimitive> formValueFactory = FormValueFactory.of(
+			WithPrimitive.class);
+
+		WithPrimitive withPrimitive1 = formValueFactory.create();
+		WithPrimitive withPrimitive2 = formValueFactory.create();
+
+		assertThat(Proxy.isProxyClass(withPrimitive1.getClass()), is(true));
+
+		formValueFactory.getBiConsumer(
+			"getString"
+		).accept(
+			withPrimitive1, "string"
+		);
+
+		assertThat(withPrimitive1.getString(), is("string"));
+		assertThat(withPrimitive2.getString(), is(nullValue()));
+	}
+
+	public interface Simple {
+
+		public default String getDefault() {
+			return "default";
+		}
+
+		public Long getLong();
+
+		public String getString();
+
+		public List<String> getStrings();
+
+	}
+
+	public interface WithPrimitive {
+
+		public int getNumber();
+
+		public String getString();
+
+	}
+
+}
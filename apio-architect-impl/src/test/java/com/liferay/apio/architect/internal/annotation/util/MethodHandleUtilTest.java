@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.annotation.util;
+
+import static com.liferay.apio.architect.internal.annotation.util.MethodHandleUtil.getArrayFunction;
+import static com.liferay.apio.architect.internal.annotation.util.MethodHandleUtil.getBiFunction;
+import static com.liferay.apio.architect.internal.annotation.util.MethodHandleUtil.getFunction;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import io.vavr.CheckedFunction1;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class MethodHandleUtilTest {
+
+	@Test
+	public void testGetArrayFunctionCallsTheMethod() throws Throwable {
+		Method method = Dummy.class.getMethod(
+			"concat", String.class, Long.class);
+
+		CheckedFunction1<Object[], Object> arrayFunction = getArrayFunction(
+			new Dummy(), method);
+
+		assertThat(arrayFunction.apply(new Object[] {"a", 42L}), is("a42"));
+	}
+
+	@Test
+	public void testGetArrayFunctionWrapsExceptions() throws Exception {
+		Method method = Dummy.class.getMethod("fail");
+
+		CheckedFunction1<Object[], Object> arrayFunction = getArrayFunction(
+			new Dummy(), method);
+
+		try {
+			arrayFunction.apply(new Object[0]);
+
+			throw new AssertionError("An exception should have been thrown");
+		}
+		catch (Throwable throwable) {
+			assertThat(
+				throwable, is(instanceOf(InvocationTargetException.class)));
+			assertThat(
+				throwable.getCause(),
+				is(instanceOf(IllegalStateException.class)));
+		}
+	}
+
+	@Test
+	public void testGetBiFunctionCallsTheMethod() throws Exception {
+		Method method = Dummy.class.getMethod("prefix", String.class);
+
+		BiFunction<Dummy, String, String> biFunction = getBiFunction(method);
+
+		assertThat(biFunction.apply(new Dummy(), "value"), is("dummy-value"));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void testGetBiFunctionRethrowsErrors() throws Exception {
+		Method method = Dummy.class.getMethod("error", String.class);
+
+		BiFunction<Dummy, String, Object> biFunction = getBiFunction(method);
+
+		biFunction.apply(new Dummy(), "value");
+	}
+
+	@Test
+	public void testGetFunctionCallsTheMethod() throws Exception {
+		Method method = Dummy.class.getMethod("getName");
+
+		Function<Dummy, String> function = getFunction(method);
+
+		assertThat(function.apply(new Dummy()), is("dummy"));
+	}
+
+	@Test(expected = AssertionError.class)
+	public void testGetFunctionRethrowsErrors() throws Exception {
+		Method method = Dummy.class.getMethod("error");
+
+		Function<Dummy, Object> function = getFunction(method);
+
+		function.apply(new Dummy());
+	}
+
+	@Test
+	public void testGetFunctionReturnsNullIfTheMethodFails() throws Exception {
+		Method method = Dummy.class.getMethod("fail");
+
+		Function<Dummy, Object> function = getFunction(method);
+
+		assertThat(function.apply(new Dummy()), is(nullValue()));
+	}
+
+	public static class Dummy {
+
+		public String concat(String string, Long number) {
+			return string + number;
+		}
+
+		public Object error() {
+			throw new AssertionError();
+		}
+
+		public Object error(String string) {
+			throw new AssertionError(string);
+		}
+
+		public Object fail() {
+			throw new IllegalStateException();
+		}
+
+		public String getName() {
+			return "dummy";
+		}
+
+		public String prefix(String string) {
+			return getName() + "-" + string;
+		}
+
+	}
+
+}
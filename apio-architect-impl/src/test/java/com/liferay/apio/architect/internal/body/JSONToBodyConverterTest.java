@@ -21,21 +21,30 @@ import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.core.Is.is;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.liferay.apio.architect.form.Body;
+import com.liferay.apio.architect.internal.body.JSONToBodyConverter.JSONArrayBodyImpl;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 
+import java.nio.charset.StandardCharsets;
+
+import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import javax.servlet.http.HttpServletRequest;
 
+import javax.ws.rs.BadRequestException;
+
 import org.hamcrest.Matcher;
 
 import org.junit.Before;
@@ -52,6 +61,32 @@ public class JSONToBodyConverterTest {
 		_request = mock(HttpServletRequest.class);
 	}
 
+	@Test(expected = BadRequestException.class)
+	public void testBodyDeeperThanMaxDepthFails() throws IOException {
+		InputStream inputStream = _getInputStream("/body/json-body-1.json");
+
+		when(
+			_request.getInputStream()
+		).thenReturn(
+			new MockServletInputStream(inputStream)
+		);
+
+		jsonToBody(_request, new JSONParsingOptions(true, 2, 0));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testBodyLargerThanMaxSizeFails() throws IOException {
+		InputStream inputStream = _getInputStream("/body/json-body-1.json");
+
+		when(
+			_request.getInputStream()
+		).thenReturn(
+			new MockServletInputStream(inputStream)
+		);
+
+		jsonToBody(_request, new JSONParsingOptions(false, 0, 16));
+	}
+
 	@Test
 	public void testTransformingJSONArrayIntoBody() throws IOException {
 		InputStream inputStream = _getInputStream("/body/json-body-2.json");
@@ -75,6 +110,54 @@ public class JSONToBodyConverterTest {
 			});
 	}
 
+	@Test(expected = IllegalStateException.class)
+	public void testJSONArrayMembersCanOnlyBeConsumedOnce() throws IOException {
+		InputStream inputStream = _getInputStream("/body/json-body-2.json");
+
+		when(
+			_request.getInputStream()
+		).thenReturn(
+			new MockServletInputStream(inputStream)
+		);
+
+		JSONArrayBodyImpl jsonArrayBodyImpl = (JSONArrayBodyImpl)jsonToBody(
+			_request);
+
+		Stream<Body> stream = jsonArrayBodyImpl.getBodyMemberStream();
+
+		assertThat(stream.count(), is(2L));
+
+		jsonArrayBodyImpl.getBodyMemberStream();
+	}
+
+	@Test
+	public void testTransformingJSONArrayIntoStreamOfBodies()
+		throws IOException {
+
+		InputStream inputStream = _getInputStream("/body/json-body-2.json");
+
+		when(
+			_request.getInputStream()
+		).thenReturn(
+			new MockServletInputStream(inputStream)
+		);
+
+		Body body = jsonToBody(_request);
+
+		assertThat(body, is(instanceOf(JSONArrayBodyImpl.class)));
+
+		JSONArrayBodyImpl jsonArrayBodyImpl = (JSONArrayBodyImpl)body;
+
+		Stream<Body> stream = jsonArrayBodyImpl.getBodyMemberStream();
+
+		Iterator<Body> iterator = stream.iterator();
+
+		_testLanguage(iterator.next(), "Spanish", "es-ES", "Apio");
+		_testLanguage(iterator.next(), "English", "en", "Celery");
+
+		assertThat(iterator.hasNext(), is(false));
+	}
+
 	@Test
 	public void testTransformingJSONObjectIntoBody() throws IOException {
 		InputStream inputStream = _getInputStream("/body/json-body-1.json");
@@ -121,6 +204,44 @@ public class JSONToBodyConverterTest {
 			});
 	}
 
+	@Test
+	public void testWideBodyWithinLimitsIsParsed() throws IOException {
+		StringBuilder sb = new StringBuilder("{\"list\": [\"a\", \"b\"]");
+
+		for (int i = 0; i < 500; i++) {
+			sb.append(", \"key");
+			sb.append(i);
+			sb.append("\": \"value");
+			sb.append(i);
+			sb.append("\"");
+		}
+
+		sb.append("}");
+
+		String json = sb.toString();
+
+		byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+
+		when(
+			_request.getInputStream()
+		).thenReturn(
+			new MockServletInputStream(new ByteArrayInputStream(bytes))
+		);
+
+		Body body = jsonToBody(
+			_request, new JSONParsingOptions(true, 2, bytes.length));
+
+		_assertValue(body, "key0", "value0");
+		_assertValue(body, "key499", "value499");
+
+		Matcher<Iterable<? extends String>> containingValues = contains(
+			"a", "b");
+
+		assertThat(
+			body.getValueListOptional("list"),
+			is(optionalWithValue(containingValues)));
+	}
+
 	private void _assertValue(Body body, String key, String value) {
 		Optional<String> optional = body.getValueOptional(key);
 
@@ -0,0 +1,193 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.body;
+
+import static com.liferay.apio.architect.internal.body.MultipartToBodyConverter.multipartToBody;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.form.Body;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+import java.util.List;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.BadRequestException;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ * @review
+ */
+public class MultipartToBodyConverterTest {
+
+	@Before
+	public void setUp() {
+		_request = mock(HttpServletRequest.class);
+
+		when(
+			_request.getContentLength()
+		).thenReturn(
+			-1
+		);
+
+		when(
+			_request.getContentType()
+		).thenReturn(
+			"multipart/form-data; boundary=" + _BOUNDARY
+		);
+
+		when(
+			_request.getMethod()
+		).thenReturn(
+			"POST"
+		);
+	}
+
+	@Test
+	public void testFilePartsAreSpilledAndReadLazily() throws IOException {
+		_mockBody(
+			_getFilePart("file", "apio.txt", "Apio"),
+			_getFieldPart("title", "Celery"));
+
+		Body body = multipartToBody(
+			_request, new MultipartParsingOptions(0, null, 0, 0));
+
+		assertThat(body.getValueOptional("title"), is(Optional.of("Celery")));
+
+		Optional<BinaryFile> optional = body.getFileOptional("file");
+
+		assertThat(optional, is(optionalWithValue()));
+
+		BinaryFile binaryFile = optional.get();
+
+		assertThat(binaryFile.getMimeType(), is("text/plain"));
+		assertThat(binaryFile.getName(), is("apio.txt"));
+		assertThat(binaryFile.getSize(), is(4L));
+
+		try (InputStream inputStream = binaryFile.getInputStream()) {
+			assertThat(_read(inputStream), is("Apio"));
+		}
+	}
+
+	@Test
+	public void testIndexedFieldsAreOrderedByIndex() throws IOException {
+		_mockBody(
+			_getFieldPart("names[20]", "c"), _getFieldPart("names[3]", "b"),
+			_getFieldPart("names[1]", "a"));
+
+		Body body = multipartToBody(_request);
+
+		Optional<List<String>> optional = body.getValueListOptional("names");
+
+		assertThat(optional, is(optionalWithValue()));
+
+		assertThat(optional.get(), contains("a", "b", "c"));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testPartLargerThanMaxPartSizeFails() throws IOException {
+		_mockBody(_getFilePart("file", "apio.txt", "Apio"));
+
+		multipartToBody(_request, new MultipartParsingOptions(0, null, 2, 0));
+	}
+
+	@Test(expected = BadRequestException.class)
+	public void testRequestLargerThanMaxSizeFails() throws IOException {
+		_mockBody(
+			_getFieldPart("title", "Celery"),
+			_getFilePart("file", "apio.txt", "Apio"));
+
+		multipartToBody(_request, new MultipartParsingOptions(0, null, 0, 64));
+	}
+
+	private static String _getFieldPart(String name, String value) {
+		return "Content-Disposition: form-data; name=\"" + name + "\"\r\n\r\n" +
+			value;
+	}
+
+	private static String _getFilePart(
+		String name, String fileName, String content) {
+
+		return "Content-Disposition: form-data; name=\"" + name +
+			"\"; filename=\"" + fileName + "\"\r\n" +
+				"Content-Type: text/plain\r\n\r\n" + content;
+	}
+
+	private static String _read(InputStream inputStream) throws IOException {
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		byte[] bytes = new byte[1024];
+
+		int read;
+
+		while ((read = inputStream.read(bytes)) != -1) {
+			byteArrayOutputStream.write(bytes, 0, read);
+		}
+
+		return new String(byteArrayOutputStream.toByteArray(), UTF_8);
+	}
+
+	private void _mockBody(String... parts) throws IOException {
+		StringBuilder sb = new StringBuilder();
+
+		for (String part : parts) {
+			sb.append("--");
+			sb.append(_BOUNDARY);
+			sb.append("\r\n");
+			sb.append(part);
+			sb.append("\r\n");
+		}
+
+		sb.append("--");
+		sb.append(_BOUNDARY);
+		sb.append("--\r\n");
+
+		String string = sb.toString();
+
+		InputStream inputStream = new ByteArrayInputStream(
+			string.getBytes(UTF_8));
+
+		when(
+			_request.getInputStream()
+		).thenReturn(
+			new MockServletInputStream(inputStream)
+		);
+	}
+
+	private static final String _BOUNDARY = "apioBoundary";
+
+	private HttpServletRequest _request;
+
+}
@@ -51,6 +51,38 @@ public class DateTransformerTest {
 		assertThat(date, is(sameInstant(1465981200000L)));
 	}
 
+	@Test
+	public void testAsDateWithOutOfRangeValuesRollsThemOver() {
+		Try<Date> dateTry = DateTransformer.asDate("2016-06-14T33:00Z");
+
+		Date date = dateTry.getUnchecked();
+
+		assertThat(date, is(sameInstant(1465981200000L)));
+	}
+
+	@Test
+	public void testAsDateWithVeryOldDateReturnsSuccess() {
+		Try<Date> dateTry = DateTransformer.asDate("0999-01-01T00:00Z");
+
+		Date date = dateTry.getUnchecked();
+
+		assertThat(date, is(sameInstant(-30641328000000L)));
+	}
+
+	@Test
+	public void testAsStringFormatsVeryOldDates() {
+		String date = DateTransformer.asString(new Date(-30641328000000L));
+
+		assertThat(date, is("0999-01-01T00:00Z"));
+	}
+
+	@Test
+	public void testAsStringIgnoresSecondsAndMilliseconds() {
+		String date = DateTransformer.asString(new Date(1465981259999L));
+
+		assertThat(date, is("2016-06-15T09:00Z"));
+	}
+
 	@Test
 	public void testAsStringReturnsDateInISO8061Format() {
 		String date = DateTransformer.asString(new Date(1465981200000L));
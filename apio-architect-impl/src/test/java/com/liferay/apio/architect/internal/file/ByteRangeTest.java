@@ -0,0 +1,134 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.file;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ByteRangeTest {
+
+	@Test
+	public void testParseCoalescesAdjacentRanges() {
+		Optional<List<ByteRange>> optional = ByteRange.parse(
+			"bytes=0-9,10-19,30-39", 100);
+
+		List<ByteRange> byteRanges = optional.get();
+
+		assertThat(byteRanges, hasSize(2));
+
+		_assertByteRange(byteRanges.get(0), 0, 19);
+		_assertByteRange(byteRanges.get(1), 30, 39);
+	}
+
+	@Test
+	public void testParseCoalescesOverlappingRanges() {
+		StringBuilder sb = new StringBuilder("bytes=0-");
+
+		for (int i = 1; i < ByteRange.MAX_RANGES; i++) {
+			sb.append(",0-");
+		}
+
+		Optional<List<ByteRange>> optional = ByteRange.parse(
+			sb.toString(), 100);
+
+		List<ByteRange> byteRanges = optional.get();
+
+		assertThat(byteRanges, hasSize(1));
+
+		_assertByteRange(byteRanges.get(0), 0, 99);
+	}
+
+	@Test
+	public void testParseIgnoresInvalidHeaders() {
+		assertThat(ByteRange.parse(null, 100), is(emptyOptional()));
+		assertThat(ByteRange.parse("items=0-10", 100), is(emptyOptional()));
+		assertThat(ByteRange.parse("bytes=10", 100), is(emptyOptional()));
+		assertThat(ByteRange.parse("bytes=10-5", 100), is(emptyOptional()));
+		assertThat(ByteRange.parse("bytes=a-5", 100), is(emptyOptional()));
+		assertThat(ByteRange.parse("bytes=-", 100), is(emptyOptional()));
+	}
+
+	@Test
+	public void testParseIgnoresTooManyRanges() {
+		StringBuilder sb = new StringBuilder("bytes=0-0");
+
+		for (int i = 1; i <= ByteRange.MAX_RANGES; i++) {
+			sb.append(",");
+			sb.append(i);
+			sb.append("-");
+			sb.append(i);
+		}
+
+		assertThat(ByteRange.parse(sb.toString(), 100), is(emptyOptional()));
+	}
+
+	@Test
+	public void testParseReturnsEmptyListIfNoRangeIsSatisfiable() {
+		Optional<List<ByteRange>> optional = ByteRange.parse(
+			"bytes=100-200,-0", 100);
+
+		assertThat(optional.get(), is(empty()));
+	}
+
+	@Test
+	public void testParseReturnsSatisfiableRanges() {
+		Optional<List<ByteRange>> optional = ByteRange.parse(
+			"bytes=0-9, 90-, -5, 95-200, 200-300", 100);
+
+		List<ByteRange> byteRanges = optional.get();
+
+		assertThat(byteRanges, hasSize(2));
+
+		_assertByteRange(byteRanges.get(0), 0, 9);
+		_assertByteRange(byteRanges.get(1), 90, 99);
+
+		ByteRange byteRange = byteRanges.get(0);
+
+		assertThat(byteRange.getContentRange(100), is("bytes 0-9/100"));
+	}
+
+	@Test
+	public void testParseReturnsSortedRanges() {
+		Optional<List<ByteRange>> optional = ByteRange.parse(
+			"bytes=50-59,-10,0-9", 100);
+
+		List<ByteRange> byteRanges = optional.get();
+
+		assertThat(byteRanges, hasSize(3));
+
+		_assertByteRange(byteRanges.get(0), 0, 9);
+		_assertByteRange(byteRanges.get(1), 50, 59);
+		_assertByteRange(byteRanges.get(2), 90, 99);
+	}
+
+	private void _assertByteRange(ByteRange byteRange, long start, long end) {
+		assertThat(byteRange.getStart(), is(start));
+		assertThat(byteRange.getEnd(), is(end));
+		assertThat(byteRange.getLength(), is((end - start) + 1));
+	}
+
+}
@@ -0,0 +1,361 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.cache;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+
+import static javax.ws.rs.core.HttpHeaders.ETAG;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.core.Is.is;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.internal.jaxrs.cache.ResponseCache.Key;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.MultivaluedHashMap;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ResponseCacheTest {
+
+	@Before
+	public void setUp() {
+		_responseCache = new ResponseCache();
+
+		Map<String, Object> properties = new HashMap<>();
+
+		properties.put("response.cache.enabled", "true");
+		properties.put("response.cache.max.entries", "2");
+		properties.put("response.cache.max.entry.size", "16");
+
+		_responseCache.activate(properties);
+	}
+
+	@After
+	public void tearDown() {
+		_responseCache.deactivate();
+	}
+
+	@Test
+	public void testCachedResponseIsReturnedWithItsEntityTag()
+		throws IOException {
+
+		EntityTag entityTag = _cache("blog-postings", "Apio");
+
+		Optional<Response> optional = _getResponseOptional(
+			"blog-postings", null);
+
+		Response response = optional.get();
+
+		assertThat(response.getStatus(), is(200));
+		assertThat(response.getEntityTag(), is(entityTag));
+		assertThat(entityTag.isWeak(), is(true));
+		assertThat(
+			new String((byte[])response.getEntity(), UTF_8), is("Apio"));
+	}
+
+	@Test
+	public void testDisabledCacheNeverReturnsResponses() throws IOException {
+		_responseCache.modified(emptyMap());
+
+		assertThat(_responseCache.isEnabled(), is(false));
+
+		_cache("blog-postings", "Apio");
+
+		assertThat(
+			_getResponseOptional("blog-postings", null),
+			is(Optional.empty()));
+	}
+
+	@Test
+	public void testDocumentationResponseIsCachedUntilManagerCacheChanges()
+		throws IOException {
+
+		_responseCache.modified(emptyMap());
+
+		EntityTag entityTag = _cacheDocumentation("Apio");
+
+		assertThat(entityTag.isWeak(), is(false));
+
+		Optional<Response> optional = _getDocumentationResponseOptional(
+			"\"" + entityTag.getValue() + "\"");
+
+		Response response = optional.get();
+
+		assertThat(response.getStatus(), is(304));
+
+		INSTANCE.clear();
+
+		assertThat(
+			_getDocumentationResponseOptional(null), is(Optional.empty()));
+	}
+
+	@Test
+	public void testDocumentationResponseIsNotStoredIfManagerCacheChanges()
+		throws IOException {
+
+		_getDocumentationResponseOptional(null);
+
+		INSTANCE.clear();
+
+		OutputStream responseOutputStream = _responseCache.getOutputStream(
+			_getRequest(null), "application/json", new MultivaluedHashMap<>(),
+			new ByteArrayOutputStream());
+
+		responseOutputStream.write("Apio".getBytes(UTF_8));
+
+		responseOutputStream.close();
+
+		assertThat(
+			_getDocumentationResponseOptional(null), is(Optional.empty()));
+	}
+
+	@Test
+	public void testInvalidateEvictsResponsesContainingTheName()
+		throws IOException {
+
+		_cache("blog-postings", "Apio");
+		_cache("people", "Celery");
+
+		_responseCache.invalidate("blog-postings");
+
+		assertThat(
+			_getResponseOptional("blog-postings", null),
+			is(Optional.empty()));
+		assertThat(
+			_getResponseOptional("people", null).isPresent(), is(true));
+	}
+
+	@Test
+	public void testLeastRecentlyUsedResponseIsEvicted() throws IOException {
+		_cache("blog-postings", "Apio");
+		_cache("people", "Celery");
+
+		_getResponseOptional("blog-postings", null);
+
+		_cache("comments", "Leek");
+
+		assertThat(
+			_getResponseOptional("blog-postings", null).isPresent(),
+			is(true));
+		assertThat(
+			_getResponseOptional("people", null), is(Optional.empty()));
+	}
+
+	@Test
+	public void testMatchingIfNoneMatchReturnsNotModified() throws IOException {
+		EntityTag entityTag = _cache("blog-postings", "Apio");
+
+		Optional<Response> optional = _getResponseOptional(
+			"blog-postings", "W/\"" + entityTag.getValue() + "\"");
+
+		Response response = optional.get();
+
+		assertThat(response.getStatus(), is(304));
+		assertThat(response.getEntity(), is(nullValue()));
+	}
+
+	@Test
+	public void testResponsesAreEvictedWhenManagerCacheChanges()
+		throws IOException {
+
+		_cache("blog-postings", "Apio");
+
+		INSTANCE.clear();
+
+		assertThat(
+			_getResponseOptional("blog-postings", null),
+			is(Optional.empty()));
+	}
+
+	@Test
+	public void testResponsesBiggerThanMaxEntrySizeAreNotCached()
+		throws IOException {
+
+		String representation = "A representation bigger than 16 bytes";
+
+		MultivaluedMap<String, Object> httpHeaders = new MultivaluedHashMap<>();
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_write(
+			"blog-postings", representation, httpHeaders,
+			byteArrayOutputStream);
+
+		assertThat(
+			new String(byteArrayOutputStream.toByteArray(), UTF_8),
+			is(representation));
+		assertThat(httpHeaders.getFirst(ETAG), is(nullValue()));
+		assertThat(
+			_getResponseOptional("blog-postings", null),
+			is(Optional.empty()));
+	}
+
+	private EntityTag _cache(String name, String representation)
+		throws IOException {
+
+		MultivaluedMap<String, Object> httpHeaders = new MultivaluedHashMap<>();
+
+		_write(
+			name, representation, httpHeaders, new ByteArrayOutputStream());
+
+		Object entityTag = httpHeaders.getFirst(ETAG);
+
+		if (_responseCache.isEnabled()) {
+			assertThat(entityTag, is(instanceOf(EntityTag.class)));
+		}
+
+		return (EntityTag)entityTag;
+	}
+
+	private EntityTag _cacheDocumentation(String representation)
+		throws IOException {
+
+		_getDocumentationResponseOptional(null);
+
+		MultivaluedMap<String, Object> httpHeaders = new MultivaluedHashMap<>();
+
+		OutputStream responseOutputStream = _responseCache.getOutputStream(
+			_getRequest(null), "application/json", httpHeaders,
+			new ByteArrayOutputStream());
+
+		responseOutputStream.write(representation.getBytes(UTF_8));
+
+		responseOutputStream.close();
+
+		return (EntityTag)httpHeaders.getFirst(ETAG);
+	}
+
+	private Optional<Response> _getDocumentationResponseOptional(
+		String ifNoneMatch) {
+
+		HttpServletRequest httpServletRequest = _getRequest(ifNoneMatch);
+
+		Key key = Key.of(
+			httpServletRequest, singletonList("doc"), "http://localhost",
+			null);
+
+		return _responseCache.getDocumentationResponseOptional(
+			httpServletRequest, key);
+	}
+
+	private HttpServletRequest _getRequest(String ifNoneMatch) {
+		HttpServletRequest httpServletRequest = mock(HttpServletRequest.class);
+
+		when(
+			httpServletRequest.getHeader("If-None-Match")
+		).thenReturn(
+			ifNoneMatch
+		);
+
+		when(
+			httpServletRequest.getAttribute(anyString())
+		).thenAnswer(
+			invocation -> {
+				Object[] arguments = invocation.getArguments();
+
+				return _attributes.get(arguments[0]);
+			}
+		);
+
+		doAnswer(
+			invocation -> {
+				Object[] arguments = invocation.getArguments();
+
+				return _attributes.put((String)arguments[0], arguments[1]);
+			}
+		).when(
+			httpServletRequest
+		).setAttribute(
+			anyString(), any()
+		);
+
+		doAnswer(
+			invocation -> {
+				Object[] arguments = invocation.getArguments();
+
+				return _attributes.remove(arguments[0]);
+			}
+		).when(
+			httpServletRequest
+		).removeAttribute(
+			anyString()
+		);
+
+		return httpServletRequest;
+	}
+
+	private Optional<Response> _getResponseOptional(
+		String name, String ifNoneMatch) {
+
+		HttpServletRequest httpServletRequest = _getRequest(ifNoneMatch);
+
+		Key key = Key.of(
+			httpServletRequest, singletonList(name), "http://localhost",
+			"user");
+
+		return _responseCache.getResponseOptional(httpServletRequest, key);
+	}
+
+	private void _write(
+			String name, String representation,
+			MultivaluedMap<String, Object> httpHeaders,
+			OutputStream outputStream)
+		throws IOException {
+
+		_getResponseOptional(name, null);
+
+		OutputStream responseOutputStream = _responseCache.getOutputStream(
+			_getRequest(null), "application/json", httpHeaders, outputStream);
+
+		responseOutputStream.write(representation.getBytes(UTF_8));
+
+		responseOutputStream.close();
+	}
+
+	private final Map<String, Object> _attributes = new HashMap<>();
+	private ResponseCache _responseCache;
+
+}
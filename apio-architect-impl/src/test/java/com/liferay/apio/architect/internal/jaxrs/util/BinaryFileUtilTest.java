@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.jaxrs.util;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.file.BinaryFile;
+import com.liferay.apio.architect.internal.file.ByteRange;
+import com.liferay.apio.architect.internal.file.PartialBinaryFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import java.util.Date;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Response;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BinaryFileUtilTest {
+
+	@Before
+	public void setUp() {
+		_inputStream = new ClosingAwareInputStream();
+
+		_binaryFile = new BinaryFile(
+			_inputStream, 100L, "text/plain", "file",
+			new Date(1465981200000L), null);
+
+		_httpServletRequest = Mockito.mock(HttpServletRequest.class);
+
+		Mockito.when(
+			_httpServletRequest.getMethod()
+		).thenReturn(
+			"GET"
+		);
+
+		Mockito.when(
+			_httpServletRequest.getDateHeader(Mockito.anyString())
+		).thenReturn(
+			-1L
+		);
+	}
+
+	@Test
+	public void testHeadReturnsHeadersWithoutEntity() {
+		Mockito.when(
+			_httpServletRequest.getMethod()
+		).thenReturn(
+			"HEAD"
+		);
+
+		_mockHeader("Range", "bytes=0-9");
+
+		Response response = BinaryFileUtil.getResponse(
+			_binaryFile, _httpServletRequest);
+
+		assertThat(response.getStatus(), is(200));
+		assertThat(response.hasEntity(), is(false));
+		assertThat(response.getHeaderString("Content-Length"), is("100"));
+		assertThat(response.getHeaderString("Content-Type"), is("text/plain"));
+		assertThat(_inputStream._closed, is(true));
+	}
+
+	@Test
+	public void testMatchingIfNoneMatchReturnsNotModified() {
+		_mockHeader("If-None-Match", "\"other\", \"64-1555349e680\"");
+
+		Response response = BinaryFileUtil.getResponse(
+			_binaryFile, _httpServletRequest);
+
+		assertThat(response.getStatus(), is(304));
+		assertThat(_inputStream._closed, is(true));
+	}
+
+	@Test
+	public void testNonMatchingIfRangeReturnsWholeFile() {
+		_mockHeader("If-Range", "\"other\"");
+		_mockHeader("Range", "bytes=0-9");
+
+		Response response = BinaryFileUtil.getResponse(
+			_binaryFile, _httpServletRequest);
+
+		assertThat(response.getStatus(), is(200));
+		assertThat(response.getEntity(), is(_binaryFile));
+	}
+
+	@Test
+	public void testOverlappingRangesAreCoalesced() {
+		_mockHeader("Range", "bytes=0-9,5-19,0-");
+
+		Response response = BinaryFileUtil.getResponse(
+			_binaryFile, _httpServletRequest);
+
+		assertThat(response.getStatus(), is(206));
+
+		PartialBinaryFile partialBinaryFile =
+			(PartialBinaryFile)response.getEntity();
+
+		List<ByteRange> byteRanges = partialBinaryFile.getByteRanges();
+
+		assertThat(byteRanges, hasSize(1));
+
+		ByteRange byteRange = byteRanges.get(0);
+
+		assertThat(byteRange.getStart(), is(0L));
+		assertThat(byteRange.getEnd(), is(99L));
+		assertThat(_inputStream._closed, is(false));
+	}
+
+	@Test
+	public void testRangeReturnsPartialContent() {
+		_mockHeader("If-Range", "\"64-1555349e680\"");
+		_mockHeader("Range", "bytes=10-19");
+
+		Response response = BinaryFileUtil.getResponse(
+			_binaryFile, _httpServletRequest);
+
+		assertThat(response.getStatus(), is(206));
+		assertThat(
+			response.getEntity(), is(instanceOf(PartialBinaryFile.class)));
+
+		PartialBinaryFile partialBinaryFile =
+			(PartialBinaryFile)response.getEntity();
+
+		List<ByteRange> byteRanges = partialBinaryFile.getByteRanges();
+
+		ByteRange byteRange = byteRanges.get(0);
+
+		assertThat(byteRange.getStart(), is(10L));
+		assertThat(byteRange.getEnd(), is(19L));
+	}
+
+	@Test
+	public void testResponseContainsValidators() {
+		Response response = BinaryFileUtil.getResponse(
+			_binaryFile, _httpServletRequest);
+
+		assertThat(response.getStatus(), is(200));
+		assertThat(response.getHeaderString("Accept-Ranges"), is("bytes"));
+		assertThat(
+			response.getEntityTag(), is(new EntityTag("64-1555349e680")));
+		assertThat(response.getLastModified(), is(new Date(1465981200000L)));
+	}
+
+	@Test
+	public void testUnsatisfiableRangeReturnsRangeNotSatisfiable() {
+		_mockHeader("Range", "bytes=100-");
+
+		Response response = BinaryFileUtil.getResponse(
+			_binaryFile, _httpServletRequest);
+
+		assertThat(response.getStatus(), is(416));
+		assertThat(
+			response.getHeaderString("Content-Range"), is("bytes */100"));
+		assertThat(_inputStream._closed, is(true));
+	}
+
+	private void _mockHeader(String name, String value) {
+		Mockito.when(
+			_httpServletRequest.getHeader(name)
+		).thenReturn(
+			value
+		);
+	}
+
+	private BinaryFile _binaryFile;
+	private HttpServletRequest _httpServletRequest;
+	private ClosingAwareInputStream _inputStream;
+
+	private static class ClosingAwareInputStream extends ByteArrayInputStream {
+
+		public ClosingAwareInputStream() {
+			super(new byte[100]);
+		}
+
+		@Override
+		public void close() throws IOException {
+			_closed = true;
+
+			super.close();
+		}
+
+		private boolean _closed;
+
+	}
+
+}
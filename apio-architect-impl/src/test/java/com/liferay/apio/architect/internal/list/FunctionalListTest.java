@@ -110,6 +110,31 @@ public class FunctionalListTest {
 		assertThat(stream, empty());
 	}
 
+	@Test
+	public void testRetrievingSizeReturnsTheNumberOfElements() {
+		FunctionalList<String> stringFunctionalList = new FunctionalList<>(
+			null, "test");
+
+		assertThat(stringFunctionalList.size(), is(1));
+		assertThat(_getFunctionalList().size(), is(4));
+	}
+
+	@Test
+	public void testRetrievingStreamsDoesNotModifyPreviousLists() {
+		FunctionalList<String> stringFunctionalList1 = new FunctionalList<>(
+			null, "element1");
+
+		FunctionalList<String> stringFunctionalList2 = new FunctionalList<>(
+			stringFunctionalList1, "element2");
+
+		FunctionalList<String> stringFunctionalList3 = new FunctionalList<>(
+			stringFunctionalList1, "element3");
+
+		assertThat(stringFunctionalList1.tailStream(), empty());
+		assertThat(stringFunctionalList2.tailStream(), contains("element2"));
+		assertThat(stringFunctionalList3.tailStream(), contains("element3"));
+	}
+
 	@Test
 	public void testRetrievingTailFromMultiElementListReturnsMiddleSublist() {
 		FunctionalList<String> stringFunctionalList = _getFunctionalList();
@@ -14,8 +14,18 @@
 
 package com.liferay.apio.architect.internal.message.json;
 
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
 import static org.skyscreamer.jsonassert.JSONAssert.assertEquals;
 
+import com.liferay.apio.architect.internal.list.FunctionalList;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
 import java.util.Arrays;
 
 import org.json.JSONException;
@@ -172,6 +182,134 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingBuildWithCompactProfileKeepsOrderAndNoWhitespace() {
+		_addUnsortedFields();
+
+		String result = _jsonObjectBuilder.build(JSONOutputProfile.COMPACT);
+
+		assertThat(result, is("{\"second\":2,\"first\":{\"b\":1,\"a\":0}}"));
+	}
+
+	@Test
+	public void testInvokingBuildWithPrettyProfileSortsAndIndentsFields() {
+		_addUnsortedFields();
+
+		String result = _jsonObjectBuilder.build(JSONOutputProfile.PRETTY);
+
+		String lineSeparator = System.lineSeparator();
+
+		String expected = String.join(
+			lineSeparator, "{", "  \"first\" : {", "    \"a\" : 0,",
+			"    \"b\" : 1", "  },", "  \"second\" : 2", "}");
+
+		assertThat(result, is(expected));
+	}
+
+	@Test
+	public void testInvokingEmbeddedFieldCreatesACorrectNestedField()
+		throws JSONException {
+
+		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+			new FunctionalList<>(null, "first"), "second");
+
+		_jsonObjectBuilder.embeddedField(
+			embeddedPathElements, "solution"
+		).numberValue(
+			42
+		);
+
+		_jsonObjectBuilder.embeddedField(
+			embeddedPathElements, "answer"
+		).stringValue(
+			"forty-two"
+		);
+
+		String expected =
+			"{'first': {'second': {'answer': 'forty-two', 'solution': 42}}}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
+	@Test
+	public void testInvokingEmbeddedFieldWalksThePathAgainIfAParentIsReplaced()
+		throws JSONException {
+
+		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+			new FunctionalList<>(null, "first"), "second");
+
+		_jsonObjectBuilder.embeddedField(
+			embeddedPathElements, "solution"
+		).numberValue(
+			42
+		);
+
+		_jsonObjectBuilder.field(
+			"first"
+		).stringValue(
+			"replaced"
+		);
+
+		_jsonObjectBuilder.embeddedField(
+			embeddedPathElements, "answer"
+		).stringValue(
+			"forty-two"
+		);
+
+		String expected = "{'first': {'second': {'answer': 'forty-two'}}}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
+	@Test
+	public void testInvokingEmbeddedFieldWalksThePathAgainIfReplaced()
+		throws JSONException {
+
+		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+			new FunctionalList<>(null, "first"), "second");
+
+		_jsonObjectBuilder.embeddedField(
+			embeddedPathElements, "solution"
+		).numberValue(
+			42
+		);
+
+		_jsonObjectBuilder.nestedField(
+			"first", "second"
+		).stringValue(
+			"replaced"
+		);
+
+		_jsonObjectBuilder.embeddedField(
+			embeddedPathElements, "answer"
+		).stringValue(
+			"forty-two"
+		);
+
+		String expected = "{'first': {'second': {'answer': 'forty-two'}}}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
+	@Test
+	public void testInvokingEmbeddedPrefixedFieldCreatesACorrectField()
+		throws JSONException {
+
+		FunctionalList<String> embeddedPathElements = new FunctionalList<>(
+			new FunctionalList<>(null, "first"), "second");
+
+		_jsonObjectBuilder.embeddedPrefixedField(
+			"prefix", embeddedPathElements, "solution"
+		).numberValue(
+			42
+		);
+
+		String expected =
+			"{'prefix': {'first': {'prefix': {'second': {'solution': 42}}}}}";
+
+		assertEquals(expected, _jsonObjectBuilder.build(), true);
+	}
+
 	@Test
 	public void testInvokingFalseIfElseConditionCreatesACorrectField()
 		throws JSONException {
@@ -424,6 +562,59 @@ public class JSONObjectBuilderTest {
 		assertEquals(expected, _jsonObjectBuilder.build(), true);
 	}
 
+	@Test
+	public void testInvokingWriteToWritesTheSameJsonObjectAsBuild()
+		throws IOException, JSONException {
+
+		_jsonObjectBuilder.nestedField(
+			"object", "inner", "other"
+		).numberValue(
+			42
+		);
+
+		_jsonObjectBuilder.field(
+			"solution"
+		).stringValue(
+			"forty-two"
+		);
+
+		ByteArrayOutputStream byteArrayOutputStream =
+			new ByteArrayOutputStream();
+
+		_jsonObjectBuilder.writeTo(byteArrayOutputStream);
+
+		String result = new String(
+			byteArrayOutputStream.toByteArray(), StandardCharsets.UTF_8);
+
+		assertThat(
+			result, is(_jsonObjectBuilder.build() + System.lineSeparator()));
+
+		String expected =
+			"{'object': {'inner': {'other': 42}}, 'solution': 'forty-two'}";
+
+		assertEquals(expected, result, true);
+	}
+
+	private void _addUnsortedFields() {
+		_jsonObjectBuilder.field(
+			"second"
+		).numberValue(
+			2
+		);
+
+		_jsonObjectBuilder.nestedField(
+			"first", "b"
+		).numberValue(
+			1
+		);
+
+		_jsonObjectBuilder.nestedField(
+			"first", "a"
+		).numberValue(
+			0
+		);
+	}
+
 	private final JSONObjectBuilder _jsonObjectBuilder =
 		new JSONObjectBuilder();
 
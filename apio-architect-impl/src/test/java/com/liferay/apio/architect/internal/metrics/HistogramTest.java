@@ -0,0 +1,75 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class HistogramTest {
+
+	@Test
+	public void testEmptyHistogramReturnsZeros() {
+		Histogram histogram = new Histogram("duration", "resource", "action");
+
+		assertThat(histogram.getCount(), is(0L));
+		assertThat(histogram.getMax(), is(0L));
+		assertThat(histogram.getMean(), is(0L));
+		assertThat(histogram.getP99(), is(0L));
+	}
+
+	@Test
+	public void testHistogramAggregatesRecordedValues() {
+		Histogram histogram = new Histogram("duration", "resource", "action");
+
+		for (long value = 1; value <= 100; value++) {
+			histogram.record(value);
+		}
+
+		assertThat(histogram.getCount(), is(100L));
+		assertThat(histogram.getId(), is("duration:resource:action"));
+		assertThat(histogram.getMax(), is(100L));
+		assertThat(histogram.getMean(), is(50L));
+		assertThat(histogram.getSum(), is(5050L));
+	}
+
+	@Test
+	public void testPercentilesAreBoundedByTheBucketsAndTheMax() {
+		Histogram histogram = new Histogram("duration", "resource", "action");
+
+		for (long value = 1; value <= 100; value++) {
+			histogram.record(value);
+		}
+
+		assertThat(histogram.getP50(), is(63L));
+		assertThat(histogram.getP99(), is(100L));
+		assertThat(histogram.getPercentile(0.01), is(1L));
+	}
+
+	@Test
+	public void testRecordTreatsNegativeValuesAsZero() {
+		Histogram histogram = new Histogram("duration", "resource", "action");
+
+		histogram.record(-5);
+
+		assertThat(histogram.getCount(), is(1L));
+		assertThat(histogram.getSum(), is(0L));
+	}
+
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.metrics;
+
+import static com.liferay.apio.architect.internal.metrics.InMemoryMetricsRecorder.MAX_HISTOGRAMS;
+import static com.liferay.apio.architect.metrics.MetricsRecorder.Stage.ROUTING;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class InMemoryMetricsRecorderTest {
+
+	@Test
+	public void testRecorderDiscardsNewHistogramsOverTheLimit() {
+		InMemoryMetricsRecorder inMemoryMetricsRecorder =
+			new InMemoryMetricsRecorder();
+
+		for (int i = 0; i <= MAX_HISTOGRAMS; i++) {
+			inMemoryMetricsRecorder.recordDuration(
+				ROUTING, "resource" + i, "action", 1);
+		}
+
+		assertThat(
+			inMemoryMetricsRecorder.getHistograms(), hasSize(MAX_HISTOGRAMS));
+
+		Optional<Histogram> optional =
+			inMemoryMetricsRecorder.getHistogramOptional(
+				Histogram.getId(
+					ROUTING.name(), "resource" + MAX_HISTOGRAMS, "action"));
+
+		assertThat(optional.isPresent(), is(false));
+
+		inMemoryMetricsRecorder.recordDuration(
+			ROUTING, "resource0", "action", 1);
+
+		Histogram histogram = inMemoryMetricsRecorder.getHistogramOptional(
+			Histogram.getId(ROUTING.name(), "resource0", "action")
+		).get();
+
+		assertThat(histogram.getCount(), is(2L));
+	}
+
+}
\ No newline at end of file
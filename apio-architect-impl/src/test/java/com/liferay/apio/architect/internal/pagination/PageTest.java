@@ -15,6 +15,7 @@
 package com.liferay.apio.architect.internal.pagination;
 
 import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
 
 import static java.util.Collections.emptyList;
 
@@ -23,6 +24,7 @@ import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
 import static org.hamcrest.core.Is.is;
 
+import com.liferay.apio.architect.pagination.CursorPageItems;
 import com.liferay.apio.architect.pagination.Page;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
@@ -114,6 +116,25 @@ public class PageTest {
 		assertThat(_page.hasNext(), is(true));
 	}
 
+	@Test
+	public void testHasNextUsesTheNextCursorInCursorPages() {
+		Pagination pagination = new CursorPaginationImpl(1, 1, "a");
+
+		Page<String> page = new PageImpl<>(
+			_paged, new CursorPageItems<>(emptyList(), 10, null), pagination);
+
+		assertThat(page.hasNext(), is(false));
+		assertThat(page.isCursorPaginated(), is(true));
+		assertThat(page.getCursorOptional(), is(optionalWithValue(is("a"))));
+
+		page = new PageImpl<>(
+			_paged, new CursorPageItems<>(emptyList(), 10, "b"), pagination);
+
+		assertThat(page.hasNext(), is(true));
+		assertThat(
+			page.getNextCursorOptional(), is(optionalWithValue(is("b"))));
+	}
+
 	@Test
 	public void testHasPreviousReturnsFalseWhenIsFirst() {
 		Pagination pagination = new PaginationImpl(1, 1);
@@ -128,6 +149,22 @@ public class PageTest {
 		assertThat(_page.hasPrevious(), is(true));
 	}
 
+	@Test
+	public void testHasPreviousUsesThePreviousCursorInCursorPages() {
+		Pagination pagination = new CursorPaginationImpl(1, 1, "a");
+
+		Page<String> page = new PageImpl<>(
+			_paged, new CursorPageItems<>(emptyList(), 10, null), pagination);
+
+		assertThat(page.hasPrevious(), is(false));
+
+		page = new PageImpl<>(
+			_paged, new CursorPageItems<>(emptyList(), 10, null, "z"),
+			pagination);
+
+		assertThat(page.hasPrevious(), is(true));
+	}
+
 	private Page<String> _page;
 	private Paged _paged;
 	private PageItems<String> _pageItems;
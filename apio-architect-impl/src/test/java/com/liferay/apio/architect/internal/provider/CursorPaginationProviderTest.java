@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.provider;
+
+import static com.spotify.hamcrest.optional.OptionalMatchers.emptyOptional;
+import static com.spotify.hamcrest.optional.OptionalMatchers.optionalWithValue;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.pagination.CursorPagination;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CursorPaginationProviderTest {
+
+	@Before
+	public void setUp() {
+		_httpServletRequest = Mockito.mock(HttpServletRequest.class);
+	}
+
+	@Test
+	public void testCursorPaginationProviderHonorsPageIfNoCursor() {
+		_mockParameter("page", "3");
+		_mockParameter("per_page", "10");
+
+		CursorPagination cursorPagination =
+			_cursorPaginationProvider.createContext(_httpServletRequest);
+
+		assertThat(cursorPagination.getCursorOptional(), is(emptyOptional()));
+		assertThat(cursorPagination.getPageNumber(), is(3));
+		assertThat(cursorPagination.getStartPosition(), is(20));
+		assertThat(cursorPagination.getEndPosition(), is(30));
+	}
+
+	@Test
+	public void testCursorPaginationProviderIgnoresInvalidCursor() {
+		_mockParameter("cursor", "%%");
+		_mockParameter("page", "3");
+
+		CursorPagination cursorPagination =
+			_cursorPaginationProvider.createContext(_httpServletRequest);
+
+		assertThat(cursorPagination.getCursorOptional(), is(emptyOptional()));
+		assertThat(cursorPagination.getPageNumber(), is(3));
+	}
+
+	@Test
+	public void testCursorPaginationProviderReturnsCursorIfValid() {
+		_mockParameter("cursor", "YXBpbw");
+		_mockParameter("page", "3");
+		_mockParameter("per_page", "42");
+
+		CursorPagination cursorPagination =
+			_cursorPaginationProvider.createContext(_httpServletRequest);
+
+		assertThat(
+			cursorPagination.getCursorOptional(),
+			is(optionalWithValue(is("apio"))));
+		assertThat(cursorPagination.getItemsPerPage(), is(42));
+		assertThat(cursorPagination.getPageNumber(), is(1));
+		assertThat(cursorPagination.getStartPosition(), is(0));
+	}
+
+	private void _mockParameter(String name, String value) {
+		Mockito.when(
+			_httpServletRequest.getParameter(name)
+		).thenReturn(
+			value
+		);
+	}
+
+	private final CursorPaginationProvider _cursorPaginationProvider =
+		new CursorPaginationProvider();
+	private HttpServletRequest _httpServletRequest;
+
+}
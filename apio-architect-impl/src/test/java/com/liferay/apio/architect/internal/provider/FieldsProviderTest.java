@@ -16,10 +16,14 @@ package com.liferay.apio.architect.internal.provider;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.sameInstance;
 
 import com.liferay.apio.architect.internal.response.control.Fields;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 
@@ -61,22 +65,56 @@ public class FieldsProviderTest {
 		assertThat(predicate.test("givenName"), is(true));
 	}
 
-	private Predicate<String> _getPredicate(String... personFields) {
+	@Test
+	public void testFieldsProviderReturnsFieldsOfEveryType() {
+		Map<String, String[]> parameterMap = new HashMap<>();
+
+		parameterMap.put("fields[Person]", new String[] {"givenName"});
+		parameterMap.put("fields[Thing]", new String[] {"name"});
+
+		Fields fields = _getFields(parameterMap);
+
+		Predicate<String> predicate = fields.apply(
+			Arrays.asList("Person", "Thing"));
+
+		assertThat(predicate.test("alternateName"), is(false));
+		assertThat(predicate.test("givenName"), is(true));
+		assertThat(predicate.test("name"), is(true));
+	}
+
+	@Test
+	public void testFieldsProviderReusesPredicatesForSameTypes() {
+		Fields fields = _getFields(
+			Collections.singletonMap(
+				"fields[Person]", new String[] {"familyName,givenName"}));
+
+		List<String> types = Collections.singletonList("Person");
+
+		Predicate<String> predicate = fields.apply(types);
+
+		assertThat(
+			fields.apply(Collections.singletonList("Person")),
+			is(sameInstance(predicate)));
+	}
+
+	private Fields _getFields(Map<String, String[]> parameterMap) {
 		FieldsProvider fieldsProvider = new FieldsProvider();
 
 		HttpServletRequest httpServletRequest = Mockito.mock(
 			HttpServletRequest.class);
 
-		Map<String, String[]> parameterMap = Collections.singletonMap(
-			"fields[Person]", personFields);
-
 		Mockito.when(
 			httpServletRequest.getParameterMap()
 		).thenReturn(
 			parameterMap
 		);
 
-		Fields fields = fieldsProvider.createContext(httpServletRequest);
+		return fieldsProvider.createContext(httpServletRequest);
+	}
+
+	private Predicate<String> _getPredicate(String... personFields) {
+		Fields fields = _getFields(
+			Collections.singletonMap("fields[Person]", personFields));
 
 		return fields.apply(Collections.singletonList("Person"));
 	}
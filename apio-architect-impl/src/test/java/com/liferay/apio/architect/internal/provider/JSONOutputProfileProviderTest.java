@@ -0,0 +1,82 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.provider;
+
+import static com.liferay.apio.architect.internal.message.json.JSONOutputProfile.COMPACT;
+import static com.liferay.apio.architect.internal.message.json.JSONOutputProfile.PRETTY;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.internal.message.json.JSONOutputProfile;
+
+import java.util.Map;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Test;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class JSONOutputProfileProviderTest {
+
+	@Test
+	public void testJSONOutputProfileProviderReturnsCompactByDefault() {
+		assertThat(_getJSONOutputProfile(emptyMap(), null), is(COMPACT));
+	}
+
+	@Test
+	public void testJSONOutputProfileProviderReturnsConfiguredProfile() {
+		Map<String, Object> properties = singletonMap(
+			"json.output.profile", " pretty ");
+
+		assertThat(_getJSONOutputProfile(properties, null), is(PRETTY));
+		assertThat(_getJSONOutputProfile(properties, "false"), is(COMPACT));
+	}
+
+	@Test
+	public void testJSONOutputProfileProviderReturnsPrettyIfParamIsPresent() {
+		assertThat(_getJSONOutputProfile(emptyMap(), ""), is(PRETTY));
+		assertThat(_getJSONOutputProfile(emptyMap(), "true"), is(PRETTY));
+		assertThat(_getJSONOutputProfile(emptyMap(), "false"), is(COMPACT));
+	}
+
+	private JSONOutputProfile _getJSONOutputProfile(
+		Map<String, Object> properties, String pretty) {
+
+		JSONOutputProfileProvider jsonOutputProfileProvider =
+			new JSONOutputProfileProvider();
+
+		jsonOutputProfileProvider.activate(properties);
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("pretty")
+		).thenReturn(
+			pretty
+		);
+
+		return jsonOutputProfileProvider.createContext(httpServletRequest);
+	}
+
+}
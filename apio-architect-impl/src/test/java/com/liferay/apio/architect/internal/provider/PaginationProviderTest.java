@@ -17,6 +17,7 @@ package com.liferay.apio.architect.internal.provider;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
+import com.liferay.apio.architect.pagination.CursorPagination;
 import com.liferay.apio.architect.pagination.Pagination;
 
 import javax.servlet.http.HttpServletRequest;
@@ -30,6 +31,32 @@ import org.mockito.Mockito;
  */
 public class PaginationProviderTest {
 
+	@Test
+	public void testPaginationProviderIgnoresCursor() {
+		PaginationProvider paginationProvider = new PaginationProvider();
+
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getParameter("cursor")
+		).thenReturn(
+			"YXBpbw"
+		);
+
+		Mockito.when(
+			httpServletRequest.getParameter("page")
+		).thenReturn(
+			"3"
+		);
+
+		Pagination pagination = paginationProvider.createContext(
+			httpServletRequest);
+
+		assertThat(pagination instanceof CursorPagination, is(false));
+		assertThat(pagination.getPageNumber(), is(3));
+	}
+
 	@Test
 	public void testPaginationProviderReturnDefaultValuesIfError() {
 		PaginationProvider paginationProvider = new PaginationProvider();
@@ -0,0 +1,170 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.routes;
+
+import static com.liferay.apio.architect.internal.routes.BatchCreateUtil.createInChunks;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class BatchCreateUtilTest {
+
+	@Test
+	public void testCreateInChunksCallsTheBatchCreatorOnceIfEmpty()
+		throws Exception {
+
+		List<List<String>> chunks = new ArrayList<>();
+		List<Integer> identifiers = new ArrayList<>();
+
+		createInChunks(
+			Stream.<String>empty(), 2,
+			list -> {
+				chunks.add(list);
+
+				return new ArrayList<>();
+			},
+			identifiers::addAll);
+
+		assertThat(chunks, hasSize(1));
+		assertThat(chunks.get(0), is(empty()));
+		assertThat(identifiers, is(empty()));
+	}
+
+	@Test
+	public void testCreateInChunksCreatesEachChunkBeforeReadingTheNext()
+		throws Exception {
+
+		List<String> events = new ArrayList<>();
+
+		Stream<String> stream = Stream.of(
+			"a", "bb", "ccc"
+		).peek(
+			string -> events.add("read " + string)
+		);
+
+		createInChunks(
+			stream, 2,
+			list -> {
+				events.add("create " + list);
+
+				return _getLengths(list);
+			},
+			identifiers -> events.add("emit " + identifiers));
+
+		assertThat(
+			events,
+			contains(
+				"read a", "read bb", "create [a, bb]", "emit [1, 2]",
+				"read ccc", "create [ccc]", "emit [3]"));
+	}
+
+	@Test
+	public void testCreateInChunksDoesNotCreateAnythingIfAFormFailsAndNoLimit()
+		throws Exception {
+
+		List<List<String>> chunks = new ArrayList<>();
+
+		try {
+			createInChunks(
+				_getFailingStream(), Integer.MAX_VALUE,
+				list -> {
+					chunks.add(list);
+
+					return new ArrayList<>();
+				},
+				identifiers -> {
+				});
+
+			throw new AssertionError("An exception should have been thrown");
+		}
+		catch (IllegalArgumentException iae) {
+			assertThat(chunks, is(empty()));
+		}
+	}
+
+	@Test
+	public void testCreateInChunksSplitsTheStream() throws Exception {
+		List<List<String>> chunks = new ArrayList<>();
+		List<Integer> identifiers = new ArrayList<>();
+
+		createInChunks(
+			Stream.of("a", "bb", "ccc", "dddd", "eeeee"), 2,
+			list -> {
+				chunks.add(list);
+
+				return _getLengths(list);
+			},
+			identifiers::addAll);
+
+		assertThat(chunks, hasSize(3));
+		assertThat(chunks.get(0), contains("a", "bb"));
+		assertThat(chunks.get(1), contains("ccc", "dddd"));
+		assertThat(chunks.get(2), contains("eeeee"));
+		assertThat(identifiers, contains(1, 2, 3, 4, 5));
+	}
+
+	@Test
+	public void testCreateInChunksStopsAtTheChunkWithAFailingForm()
+		throws Exception {
+
+		List<Integer> identifiers = new ArrayList<>();
+
+		try {
+			createInChunks(
+				_getFailingStream(), 2, this::_getLengths,
+				identifiers::addAll);
+
+			throw new AssertionError("An exception should have been thrown");
+		}
+		catch (IllegalArgumentException iae) {
+			assertThat(identifiers, contains(1, 2));
+		}
+	}
+
+	private Stream<String> _getFailingStream() {
+		return Stream.of(
+			"a", "bb", "ccc"
+		).map(
+			string -> {
+				if (string.length() == 3) {
+					throw new IllegalArgumentException();
+				}
+
+				return string;
+			}
+		);
+	}
+
+	private List<Integer> _getLengths(List<String> list) {
+		List<Integer> lengths = new ArrayList<>();
+
+		list.forEach(string -> lengths.add(string.length()));
+
+		return lengths;
+	}
+
+}
@@ -58,6 +58,8 @@ import io.vavr.control.Try;
 
 import java.lang.annotation.Annotation;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -77,6 +79,33 @@ public class CollectionRoutesImplTest {
 			__ -> Optional.of("custom"));
 	}
 
+	@Test
+	public void testChunkedCreatorCreatesBatchCreateActionSemantics() {
+		List<Integer> chunkSizes = new ArrayList<>();
+
+		CollectionRoutes<String, Long> collectionRoutes =
+			_builder.addChunkedCreator(
+				map -> "Apio",
+				list -> {
+					chunkSizes.add(list.size());
+
+					return Collections.nCopies(list.size(), 42L);
+				},
+				__ -> true, FORM_BUILDER_FUNCTION
+			).build();
+
+		CollectionRoutesImpl<String, Long> collectionRoutesImpl =
+			(CollectionRoutesImpl<String, Long>)collectionRoutes;
+
+		_testBatchCreateActionSemantics(
+			asList(Body.class, Void.class, Void.class, Void.class, Void.class),
+			filterActionSemantics(
+				collectionRoutesImpl.getActionSemantics(),
+				IS_BATCH_CREATE_ACTION));
+
+		assertThat(chunkSizes, contains(2));
+	}
+
 	@Test
 	public void testCollectionRoutesDeprecatedMethodsThrowsException() {
 		CollectionRoutes<String, Long> collectionRoutes = _builder.build();
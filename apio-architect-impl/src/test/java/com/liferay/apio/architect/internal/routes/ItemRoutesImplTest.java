@@ -33,15 +33,19 @@ import static com.liferay.apio.architect.internal.util.matcher.FailsWith.failsWi
 import static io.vavr.Predicates.isNull;
 
 import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
 import static org.hamcrest.core.Is.is;
 
 import com.liferay.apio.architect.annotation.Id;
+import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.form.Body;
 import com.liferay.apio.architect.internal.action.ActionSemantics;
 import com.liferay.apio.architect.internal.routes.ItemRoutesImpl.BuilderImpl;
@@ -55,6 +59,7 @@ import io.vavr.control.Try;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -71,6 +76,84 @@ public class ItemRoutesImplTest {
 			__ -> Optional.of("custom"));
 	}
 
+	@Test
+	public void testBatchGetterCreatesSingleModels() throws Exception {
+		ItemRoutes<String, Long> itemRoutes = _builder.addBatchGetter(
+			(identifiers, string) -> {
+				assertThat(identifiers, is(asList(1L, 2L)));
+				assertThat(string, is("Apio"));
+
+				return singletonMap(1L, "Hello");
+			},
+			String.class
+		).build();
+
+		ItemRoutesImpl<String, Long> itemRoutesImpl =
+			(ItemRoutesImpl<String, Long>)itemRoutes;
+
+		assertThat(itemRoutesImpl.getActionSemantics(), is(empty()));
+
+		Optional<Map<Object, SingleModel>> optional =
+			itemRoutesImpl.getSingleModelsOptional(
+				asList(1L, 2L), __ -> "Apio");
+
+		assertThat(optional.isPresent(), is(true));
+
+		Map<Object, SingleModel> singleModels = optional.get();
+
+		assertThat(singleModels.size(), is(1));
+
+		SingleModel singleModel = singleModels.get(1L);
+
+		assertThat(singleModel.getModel(), is("Hello"));
+		assertThat(singleModel.getResourceName(), is("name"));
+	}
+
+	@Test
+	public void testBulkPermissionFunctionReturnsAllowedActionNames()
+		throws Exception {
+
+		Credentials credentials = () -> "Apio";
+
+		ItemRoutes<String, Long> itemRoutes =
+			_builder.addBulkPermissionFunction(
+				(currentCredentials, identifiers) -> {
+					assertThat(currentCredentials, is(credentials));
+					assertThat(identifiers, is(asList(1L, 2L)));
+
+					return singletonMap(1L, singleton("remove"));
+				}
+			).build();
+
+		ItemRoutesImpl<String, Long> itemRoutesImpl =
+			(ItemRoutesImpl<String, Long>)itemRoutes;
+
+		assertThat(itemRoutesImpl.getActionSemantics(), is(empty()));
+
+		Optional<Map<Object, Set<String>>> optional =
+			itemRoutesImpl.getAllowedActionNamesOptional(
+				credentials, asList(1L, 2L));
+
+		assertThat(optional.isPresent(), is(true));
+
+		Map<Object, Set<String>> allowedActionNames = optional.get();
+
+		assertThat(allowedActionNames.get(1L), is(singleton("remove")));
+		assertThat(allowedActionNames.get(2L), is(nullValue()));
+	}
+
+	@Test
+	public void testEmptyBuilderDoesNotCreateSingleModels() throws Exception {
+		ItemRoutesImpl<String, Long> itemRoutesImpl =
+			(ItemRoutesImpl<String, Long>)_builder.build();
+
+		Optional<Map<Object, SingleModel>> optional =
+			itemRoutesImpl.getSingleModelsOptional(
+				asList(1L, 2L), __ -> null);
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
 	@Test
 	public void testEmptyBuilderDoesNotGenerateActionSemantics() {
 		ItemRoutes<String, Long> itemRoutes = _builder.build();
@@ -83,6 +166,20 @@ public class ItemRoutesImplTest {
 		assertThat(itemRoutesImpl.getActionSemantics(), is(empty()));
 	}
 
+	@Test
+	public void testEmptyBuilderDoesNotReturnAllowedActionNames()
+		throws Exception {
+
+		ItemRoutesImpl<String, Long> itemRoutesImpl =
+			(ItemRoutesImpl<String, Long>)_builder.build();
+
+		Optional<Map<Object, Set<String>>> optional =
+			itemRoutesImpl.getAllowedActionNamesOptional(
+				() -> "Apio", asList(1L, 2L));
+
+		assertThat(optional.isPresent(), is(false));
+	}
+
 	@Test
 	public void testFiveParameterBuilderMethodsCreatesActionSemantics() {
 		ItemRoutes<String, Long> itemRoutes = _builder.addGetter(
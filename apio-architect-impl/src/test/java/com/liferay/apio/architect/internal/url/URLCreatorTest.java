@@ -17,6 +17,7 @@ package com.liferay.apio.architect.internal.url;
 import static com.liferay.apio.architect.internal.url.URLCreator.createAbsoluteURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createActionURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createBinaryURL;
+import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionCursorPageURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createCollectionPageURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createGenericParentResourceURL;
 import static com.liferay.apio.architect.internal.url.URLCreator.createItemResourceURL;
@@ -233,6 +234,21 @@ public class URLCreatorTest {
 		assertThat(url, is("www.liferay.com/name/id/binary"));
 	}
 
+	@Test
+	public void testCreateCollectionCursorPageURL() {
+		String url = createCollectionCursorPageURL(
+			"www.liferay.com", "apio", 30);
+
+		assertThat(url, is("www.liferay.com?cursor=YXBpbw&per_page=30"));
+	}
+
+	@Test
+	public void testCreateCollectionCursorPageURLWithoutCursor() {
+		String url = createCollectionCursorPageURL("www.liferay.com", null, 30);
+
+		assertThat(url, is("www.liferay.com?per_page=30"));
+	}
+
 	@Test
 	public void testCreateCollectionPageURL() {
 		Pagination pagination = Mockito.mock(Pagination.class);
@@ -278,6 +294,18 @@ public class URLCreatorTest {
 		assertThat(optional, is(emptyOptional()));
 	}
 
+	@Test
+	public void testCreateItemResourceURLEncodesUnsafeValues() {
+		Item item = Item.of("item", Id.of("a b/c", "a b/c"));
+
+		Optional<String> optional = createItemResourceURL(
+			_applicationURL, item);
+
+		assertThat(
+			optional,
+			is(optionalWithValue(equalTo("www.liferay.com/item/a%20b%2Fc"))));
+	}
+
 	@Test
 	public void testCreateNestedResourceURLReturnsEmptyIfMissingId() {
 		Nested nested = Nested.of(Item.of("parent"), "related");
@@ -0,0 +1,268 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.cache;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static javax.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.internal.message.json.ErrorMessageMapper;
+import com.liferay.apio.architect.internal.wiring.osgi.alias.EmptyFunction;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.ws.rs.core.EntityTag;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response.ResponseBuilder;
+import javax.ws.rs.core.Variant;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ManagerCacheTest {
+
+	@Before
+	public void setUp() {
+		INSTANCE.clear();
+	}
+
+	@After
+	public void tearDown() {
+		INSTANCE.clear();
+	}
+
+	@Test
+	public void testClearForcesDataToBeComputedAgain() {
+		INSTANCE.getNameOptional("class", () -> INSTANCE.putName("class", "a"));
+
+		INSTANCE.clear();
+
+		Optional<String> optional = INSTANCE.getNameOptional(
+			"class", () -> INSTANCE.putName("class", "b"));
+
+		assertThat(optional, is(Optional.of("b")));
+	}
+
+	@Test
+	public void testDataIsComputedOnlyOnce() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		for (int i = 0; i < 3; i++) {
+			Optional<String> optional = INSTANCE.getNameOptional(
+				"class",
+				() -> {
+					atomicInteger.incrementAndGet();
+
+					INSTANCE.putName("class", "name");
+				});
+
+			assertThat(optional, is(Optional.of("name")));
+		}
+
+		assertThat(atomicInteger.get(), is(1));
+	}
+
+	@Test
+	public void testInvalidateChangesGenerationAndNotifiesListeners() {
+		AtomicInteger atomicInteger = new AtomicInteger();
+
+		Runnable runnable = atomicInteger::incrementAndGet;
+
+		INSTANCE.addInvalidationListener(runnable);
+
+		long generation = INSTANCE.getGeneration();
+
+		INSTANCE.getNameOptional("class", () -> INSTANCE.putName("class", "a"));
+
+		assertThat(INSTANCE.getGeneration(), is(generation));
+
+		INSTANCE.invalidateItemRoutes();
+
+		assertThat(INSTANCE.getGeneration() > generation, is(true));
+		assertThat(atomicInteger.get(), is(1));
+
+		INSTANCE.removeInvalidationListener(runnable);
+
+		INSTANCE.clear();
+
+		assertThat(atomicInteger.get(), is(1));
+	}
+
+	@Test
+	public void testInvalidateRemovesDependentData() {
+		INSTANCE.getNameOptional("class", () -> INSTANCE.putName("class", "a"));
+		INSTANCE.putReusableIdentifierClass("a", String.class);
+
+		INSTANCE.invalidateRepresentors();
+
+		assertThat(INSTANCE.getNamesOptional(), is(Optional.empty()));
+		assertThat(
+			INSTANCE.getReusableIdentifierClassOptional("a"),
+			is(Optional.empty()));
+	}
+
+	@Test
+	public void testInvalidateRoutesKeepsOtherData() {
+		INSTANCE.getNameOptional("class", () -> INSTANCE.putName("class", "a"));
+		INSTANCE.putReusableIdentifierClass("a", String.class);
+
+		INSTANCE.invalidateReusableNestedCollectionRoutes();
+
+		assertThat(
+			INSTANCE.getReusableIdentifierClassOptional("a"),
+			is(Optional.empty()));
+
+		Optional<String> optional = INSTANCE.getNameOptional(
+			"class", () -> INSTANCE.putName("class", "b"));
+
+		assertThat(optional, is(Optional.of("a")));
+	}
+
+	@Test
+	public void testMessageMapperSelectionIsCachedPerAcceptHeader() {
+		ErrorMessageMapper errorMessageMapper = () -> "application/json";
+
+		EmptyFunction computeEmptyFunction =
+			() -> INSTANCE.putErrorMessageMapper(
+				APPLICATION_JSON_TYPE, errorMessageMapper);
+
+		MockRequest mockRequest = new MockRequest();
+
+		for (String acceptHeader :
+				Arrays.asList(
+					"application/json", "Application/JSON",
+					"application/json ")) {
+
+			Optional<ErrorMessageMapper> optional =
+				INSTANCE.getErrorMessageMapperOptional(
+					mockRequest, acceptHeader, computeEmptyFunction);
+
+			assertThat(optional, is(Optional.of(errorMessageMapper)));
+		}
+
+		assertThat(mockRequest._count, is(1));
+
+		INSTANCE.replaceErrorMessageMapper(APPLICATION_JSON_TYPE, null);
+
+		Optional<ErrorMessageMapper> optional =
+			INSTANCE.getErrorMessageMapperOptional(
+				mockRequest, "application/json", computeEmptyFunction);
+
+		assertThat(optional, is(Optional.empty()));
+		assertThat(mockRequest._count, is(2));
+	}
+
+	@Test
+	public void testPreviousDataIsServedWhileComputing() throws Exception {
+		INSTANCE.getNameOptional("class", () -> INSTANCE.putName("class", "a"));
+
+		INSTANCE.clear();
+
+		CountDownLatch computingCountDownLatch = new CountDownLatch(1);
+		CountDownLatch finishCountDownLatch = new CountDownLatch(1);
+
+		Thread thread = new Thread(
+			() -> INSTANCE.getNameOptional(
+				"class",
+				() -> {
+					computingCountDownLatch.countDown();
+
+					try {
+						finishCountDownLatch.await(10, TimeUnit.SECONDS);
+					}
+					catch (InterruptedException ie) {
+						Thread.currentThread().interrupt();
+					}
+
+					INSTANCE.putName("class", "b");
+				}));
+
+		thread.start();
+
+		computingCountDownLatch.await(10, TimeUnit.SECONDS);
+
+		Optional<String> staleOptional = INSTANCE.getNameOptional(
+			"class", () -> INSTANCE.putName("class", "c"));
+
+		assertThat(staleOptional, is(Optional.of("a")));
+
+		finishCountDownLatch.countDown();
+
+		thread.join();
+
+		Optional<String> optional = INSTANCE.getNameOptional(
+			"class", () -> INSTANCE.putName("class", "c"));
+
+		assertThat(optional, is(Optional.of("b")));
+	}
+
+	private static class MockRequest implements Request {
+
+		@Override
+		public ResponseBuilder evaluatePreconditions() {
+			return null;
+		}
+
+		@Override
+		public ResponseBuilder evaluatePreconditions(Date lastModified) {
+			return null;
+		}
+
+		@Override
+		public ResponseBuilder evaluatePreconditions(
+			Date lastModified, EntityTag entityTag) {
+
+			return null;
+		}
+
+		@Override
+		public ResponseBuilder evaluatePreconditions(EntityTag entityTag) {
+			return null;
+		}
+
+		@Override
+		public String getMethod() {
+			return "GET";
+		}
+
+		@Override
+		public Variant selectVariant(List<Variant> variants) {
+			_count++;
+
+			if (variants.isEmpty()) {
+				return null;
+			}
+
+			return variants.get(0);
+		}
+
+		private int _count;
+
+	}
+
+}
@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.wiring.osgi.manager.provider;
+
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.TypeArgumentProperties.KEY_PRINCIPAL_TYPE_ARGUMENT;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.provider.ProviderManager.KEY_PER_CALL;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.core.Is.is;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.provider.Provider;
+import com.liferay.osgi.service.tracker.collections.map.ServiceTrackerMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import org.osgi.framework.BundleContext;
+import org.osgi.framework.ServiceReference;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class ProviderManagerTest {
+
+	@Before
+	public void setUp() {
+		_bundleContext = mock(BundleContext.class);
+		_serviceTrackerMap = mock(ServiceTrackerMap.class);
+
+		_providerManager = new TestProviderManager(
+			_bundleContext, _serviceTrackerMap);
+
+		_provider =
+			httpServletRequest -> "context" + _atomicInteger.incrementAndGet();
+
+		when(
+			_serviceTrackerMap.getService(String.class.getName())
+		).thenReturn(
+			_provider
+		);
+	}
+
+	@Test
+	public void testContextIsCreatedOncePerRequest() {
+		HttpServletRequest httpServletRequest = _getRequest();
+
+		Optional<String> optional = _providerManager.provideOptional(
+			httpServletRequest, String.class);
+
+		assertThat(optional, is(Optional.of("context1")));
+		assertThat(
+			_providerManager.provideMandatory(httpServletRequest, String.class),
+			is("context1"));
+
+		String string = _providerManager.provideMandatory(
+			_getRequest(), String.class);
+
+		assertThat(string, is("context2"));
+	}
+
+	@Test
+	public void testMissingCredentialsAreEmpty() {
+		Provider<Credentials> provider = httpServletRequest -> null;
+
+		when(
+			_serviceTrackerMap.getService(Credentials.class.getName())
+		).thenReturn(
+			provider
+		);
+
+		Credentials credentials = _providerManager.provideMandatory(
+			_getRequest(), Credentials.class);
+
+		assertThat(credentials.get(), is(""));
+	}
+
+	@Test
+	public void testPerCallContextIsCreatedEveryTime() {
+		ServiceReference<Provider> serviceReference = mock(
+			ServiceReference.class);
+
+		when(
+			serviceReference.getProperty(KEY_PER_CALL)
+		).thenReturn(
+			"true"
+		);
+
+		when(
+			serviceReference.getProperty(KEY_PRINCIPAL_TYPE_ARGUMENT)
+		).thenReturn(
+			String.class
+		);
+
+		when(
+			_bundleContext.getService(serviceReference)
+		).thenReturn(
+			_provider
+		);
+
+		List<String> keys = new ArrayList<>();
+
+		_providerManager.emit(serviceReference, keys::add);
+
+		assertThat(keys.get(0), is(String.class.getName()));
+
+		HttpServletRequest httpServletRequest = _getRequest();
+
+		_providerManager.provideMandatory(httpServletRequest, String.class);
+
+		String string = _providerManager.provideMandatory(
+			httpServletRequest, String.class);
+
+		assertThat(string, is("context2"));
+	}
+
+	private HttpServletRequest _getRequest() {
+		HttpServletRequest httpServletRequest = mock(HttpServletRequest.class);
+
+		Map<String, Object> attributes = new HashMap<>();
+
+		when(
+			httpServletRequest.getAttribute(anyString())
+		).thenAnswer(
+			invocation -> {
+				Object[] arguments = invocation.getArguments();
+
+				return attributes.get(arguments[0]);
+			}
+		);
+
+		doAnswer(
+			invocation -> {
+				Object[] arguments = invocation.getArguments();
+
+				return attributes.put((String)arguments[0], arguments[1]);
+			}
+		).when(
+			httpServletRequest
+		).setAttribute(
+			anyString(), any()
+		);
+
+		return httpServletRequest;
+	}
+
+	private final AtomicInteger _atomicInteger = new AtomicInteger();
+	private BundleContext _bundleContext;
+	private Provider<String> _provider;
+	private ProviderManager _providerManager;
+	private ServiceTrackerMap<String, Provider> _serviceTrackerMap;
+
+	private static class TestProviderManager extends ProviderManager {
+
+		private TestProviderManager(
+			BundleContext bundleContext,
+			ServiceTrackerMap<String, Provider> serviceTrackerMap) {
+
+			this.bundleContext = bundleContext;
+			this.serviceTrackerMap = serviceTrackerMap;
+		}
+
+	}
+
+}
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.writer;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.toList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.internal.action.ActionSemantics;
+import com.liferay.apio.architect.resource.Resource.Id;
+import com.liferay.apio.architect.resource.Resource.Item;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class AllowedActionsLoaderTest {
+
+	@Test
+	public void testFilterLoadsItemsNotLoadedBefore() {
+		List<Object> calls = new ArrayList<>();
+
+		AllowedActionsLoader allowedActionsLoader = new AllowedActionsLoader(
+			(name, identifiers) -> {
+				calls.add(identifiers);
+
+				return Optional.of(singletonMap(3L, singleton("replace")));
+			});
+
+		allowedActionsLoader.load("name", asList(1L, 2L));
+
+		assertThat(_filter(allowedActionsLoader, 1L), is(empty()));
+		assertThat(_filter(allowedActionsLoader, 3L), contains("replace"));
+		assertThat(_filter(allowedActionsLoader, 3L), contains("replace"));
+
+		assertThat(calls, contains(asList(1L, 2L), singletonList(3L)));
+	}
+
+	@Test
+	public void testFilterReturnsAllActionsIfResourceIsNotRestricted() {
+		List<Object> calls = new ArrayList<>();
+
+		AllowedActionsLoader allowedActionsLoader = new AllowedActionsLoader(
+			(name, identifiers) -> {
+				calls.add(identifiers);
+
+				return Optional.empty();
+			});
+
+		allowedActionsLoader.load("name", asList(1L, 2L));
+
+		assertThat(allowedActionsLoader.isRestricted("name"), is(false));
+		assertThat(
+			_filter(allowedActionsLoader, 1L), contains("remove", "replace"));
+		assertThat(
+			_filter(allowedActionsLoader, 3L), contains("remove", "replace"));
+
+		assertThat(calls, hasSize(1));
+	}
+
+	@Test
+	public void testLoadRetrievesAllowedActionsInOneCall() {
+		List<Object> calls = new ArrayList<>();
+
+		AllowedActionsLoader allowedActionsLoader = new AllowedActionsLoader(
+			(name, identifiers) -> {
+				calls.add(identifiers);
+
+				return Optional.of(singletonMap(1L, singleton("remove")));
+			});
+
+		allowedActionsLoader.load("name", asList(1L, 2L));
+
+		assertThat(allowedActionsLoader.isRestricted("name"), is(true));
+		assertThat(_filter(allowedActionsLoader, 1L), contains("remove"));
+		assertThat(_filter(allowedActionsLoader, 2L), is(empty()));
+
+		allowedActionsLoader.load("name", asList(2L, 1L));
+
+		assertThat(calls, contains(asList(1L, 2L)));
+	}
+
+	private static ActionSemantics _createActionSemantics(String name) {
+		return ActionSemantics.ofResource(
+			Item.of("name")
+		).name(
+			name
+		).method(
+			"GET"
+		).returns(
+			Void.class
+		).executeFunction(
+			__ -> null
+		).build();
+	}
+
+	private List<String> _filter(
+		AllowedActionsLoader allowedActionsLoader, long identifier) {
+
+		Item item = Item.of(
+			"name", Id.of(identifier, String.valueOf(identifier)));
+
+		Stream<ActionSemantics> stream = Stream.of(
+			_createActionSemantics("remove"),
+			_createActionSemantics("replace"));
+
+		return allowedActionsLoader.filter(
+			item, stream
+		).map(
+			ActionSemantics::getActionName
+		).collect(
+			toList()
+		);
+	}
+
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.writer;
+
+import static com.liferay.apio.architect.internal.util.writer.MockWriterUtil.getRequestInfo;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.identifier.Identifier;
+import com.liferay.apio.architect.internal.alias.SingleModelFunction;
+import com.liferay.apio.architect.internal.single.model.SingleModelImpl;
+import com.liferay.apio.architect.internal.util.identifier.FirstEmbeddedId;
+import com.liferay.apio.architect.internal.util.model.FirstEmbeddedModel;
+import com.liferay.apio.architect.internal.util.model.RootModel;
+import com.liferay.apio.architect.internal.util.writer.MockWriterUtil;
+import com.liferay.apio.architect.single.model.SingleModel;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class EmbeddedModelsLoaderTest {
+
+	@Test
+	public void testLoadRetrievesEmbeddedModelsInOneCall() {
+		List<List<Object>> calls = new ArrayList<>();
+		List<Class<? extends Identifier>> identifierClasses =
+			new ArrayList<>();
+
+		SingleModel<FirstEmbeddedModel> batchSingleModel =
+			new SingleModelImpl<>(() -> "batch", "first");
+
+		EmbeddedModelsLoader<RootModel> embeddedModelsLoader =
+			new EmbeddedModelsLoader<>(
+				getRequestInfo(), MockWriterUtil::getRepresentorOptional,
+				(identifiers, identifierClass) -> {
+					calls.add(identifiers);
+					identifierClasses.add(identifierClass);
+
+					return Optional.of(
+						singletonMap(identifiers.get(0), batchSingleModel));
+				});
+
+		SingleModelFunction singleModelFunction = embeddedModelsLoader.load(
+			asList(
+				new SingleModelImpl<>(() -> "1", "root"),
+				new SingleModelImpl<>(() -> "2", "root"),
+				new SingleModelImpl<>(() -> "3", "root")),
+			MockWriterUtil::getSingleModel);
+
+		assertThat(calls, hasSize(1));
+		assertThat(calls.get(0), contains("first"));
+		assertThat(identifierClasses, contains(FirstEmbeddedId.class));
+
+		Optional<SingleModel> batchOptional = singleModelFunction.apply(
+			"first", FirstEmbeddedId.class);
+
+		assertThat(batchOptional.get(), is(sameInstance(batchSingleModel)));
+
+		Optional<SingleModel> fallbackOptional = singleModelFunction.apply(
+			"second", FirstEmbeddedId.class);
+
+		SingleModel<FirstEmbeddedModel> singleModel = fallbackOptional.get();
+
+		FirstEmbeddedModel firstEmbeddedModel = singleModel.getModel();
+
+		assertThat(firstEmbeddedModel.getId(), is("second"));
+	}
+
+	@Test
+	public void testLoadRetrievesModelsMissingFromTheBatchOneByOne() {
+		EmbeddedModelsLoader<RootModel> embeddedModelsLoader =
+			new EmbeddedModelsLoader<>(
+				getRequestInfo(), MockWriterUtil::getRepresentorOptional,
+				(identifiers, identifierClass) -> Optional.of(emptyMap()));
+
+		SingleModelFunction singleModelFunction = embeddedModelsLoader.load(
+			singletonList(new SingleModelImpl<>(() -> "1", "root")),
+			MockWriterUtil::getSingleModel);
+
+		Optional<SingleModel> optional = singleModelFunction.apply(
+			"first", FirstEmbeddedId.class);
+
+		SingleModel<FirstEmbeddedModel> singleModel = optional.get();
+
+		FirstEmbeddedModel firstEmbeddedModel = singleModel.getModel();
+
+		assertThat(firstEmbeddedModel.getId(), is("first"));
+	}
+
+	@Test
+	public void testLoadReturnsSameFunctionIfNoBatchIsAvailable() {
+		EmbeddedModelsLoader<RootModel> embeddedModelsLoader =
+			new EmbeddedModelsLoader<>(
+				getRequestInfo(), MockWriterUtil::getRepresentorOptional,
+				(identifiers, identifierClass) -> Optional.empty());
+
+		SingleModelFunction singleModelFunction =
+			MockWriterUtil::getSingleModel;
+
+		SingleModelFunction loadedSingleModelFunction =
+			embeddedModelsLoader.load(
+				singletonList(new SingleModelImpl<>(() -> "1", "root")),
+				singleModelFunction);
+
+		assertThat(
+			loadedSingleModelFunction, is(sameInstance(singleModelFunction)));
+	}
+
+}
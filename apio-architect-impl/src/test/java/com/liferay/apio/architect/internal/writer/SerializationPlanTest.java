@@ -0,0 +1,126 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.internal.writer;
+
+import static com.liferay.apio.architect.internal.util.representor.MockRepresentorCreator.createRootModelRepresentor;
+import static com.liferay.apio.architect.internal.wiring.osgi.manager.cache.ManagerCache.INSTANCE;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.hamcrest.core.Is.is;
+
+import com.liferay.apio.architect.alias.representor.FieldFunction;
+import com.liferay.apio.architect.internal.response.control.Fields;
+import com.liferay.apio.architect.internal.response.control.SelectedFields;
+import com.liferay.apio.architect.internal.util.model.RootModel;
+import com.liferay.apio.architect.representor.Representor;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class SerializationPlanTest {
+
+	@Before
+	public void setUp() {
+		INSTANCE.clear();
+	}
+
+	@After
+	public void tearDown() {
+		INSTANCE.clear();
+	}
+
+	@Test
+	public void testPlanContainsOnlySelectedFields() {
+		Representor<RootModel> representor = createRootModelRepresentor(true);
+
+		Fields fields = list -> "boolean2"::equals;
+
+		SerializationPlan<RootModel> serializationPlan = SerializationPlan.of(
+			representor, fields);
+
+		FieldFunction<RootModel, Boolean>[] booleanFunctions =
+			serializationPlan.getBooleanFunctions();
+
+		assertThat(booleanFunctions, is(arrayWithSize(1)));
+		assertThat(booleanFunctions[0].getKey(), is("boolean2"));
+
+		assertThat(
+			serializationPlan.getStringFunctions(), is(arrayWithSize(0)));
+	}
+
+	@Test
+	public void testPlanForEveryFieldIsCompiledOncePerRepresentor() {
+		Representor<RootModel> representor = createRootModelRepresentor(true);
+
+		SerializationPlan<RootModel> serializationPlan = SerializationPlan.of(
+			representor, Fields.ALL);
+
+		assertThat(
+			SerializationPlan.of(representor, Fields.ALL),
+			is(sameInstance(serializationPlan)));
+		assertThat(
+			SerializationPlan.of(createRootModelRepresentor(true), Fields.ALL),
+			is(not(sameInstance(serializationPlan))));
+
+		INSTANCE.invalidateRepresentors();
+
+		assertThat(
+			SerializationPlan.of(representor, Fields.ALL),
+			is(not(sameInstance(serializationPlan))));
+	}
+
+	@Test
+	public void testPlanForOtherFieldsIsNotCached() {
+		Representor<RootModel> representor = createRootModelRepresentor(true);
+
+		Fields fields = list -> field -> true;
+
+		SerializationPlan<RootModel> serializationPlan = SerializationPlan.of(
+			representor, fields);
+
+		assertThat(
+			SerializationPlan.of(representor, fields),
+			is(not(sameInstance(serializationPlan))));
+	}
+
+	@Test
+	public void testPlanForSelectedFieldsIsCompiledOncePerRequest() {
+		Representor<RootModel> representor = createRootModelRepresentor(true);
+
+		Fields fields = new SelectedFields(list -> "boolean2"::equals);
+
+		SerializationPlan<RootModel> serializationPlan = SerializationPlan.of(
+			representor, fields);
+
+		assertThat(
+			SerializationPlan.of(representor, fields),
+			is(sameInstance(serializationPlan)));
+
+		Fields otherRequestFields = new SelectedFields(
+			list -> "boolean2"::equals);
+
+		assertThat(
+			SerializationPlan.of(representor, otherRequestFields),
+			is(not(sameInstance(serializationPlan))));
+	}
+
+}
@@ -16,6 +16,9 @@ package com.liferay.apio.architect.sample.internal.credentials;
 
 import com.liferay.apio.architect.credentials.Credentials;
 import com.liferay.apio.architect.provider.Provider;
+import com.liferay.apio.architect.sample.internal.auth.PermissionChecker;
+
+import java.util.Optional;
 
 import javax.servlet.http.HttpServletRequest;
 
@@ -29,6 +32,12 @@ import org.osgi.service.component.annotations.Component;
  * This provider is mandatory for any Apio application.
  * </p>
  *
+ * <p>
+ * The credentials' cache key only tells whether the request has permission,
+ * since that's the only thing the sample's representations depend on. This
+ * way, the authorization header never ends up in the response cache.
+ * </p>
+ *
  * @author Alejandro Hernández
  */
 @Component(service = Provider.class)
@@ -36,7 +45,25 @@ public class CredentialsProvider implements Provider<Credentials> {
 
 	@Override
 	public Credentials createContext(HttpServletRequest httpServletRequest) {
-		return () -> httpServletRequest.getHeader("Authorization");
+		String authorization = httpServletRequest.getHeader("Authorization");
+
+		return new Credentials() {
+
+			@Override
+			public Object get() {
+				return authorization;
+			}
+
+			@Override
+			public Optional<String> getCacheKeyOptional() {
+				if (PermissionChecker.hasPermission(this)) {
+					return Optional.of("authorized");
+				}
+
+				return Optional.of("anonymous");
+			}
+
+		};
 	}
 
 }
\ No newline at end of file
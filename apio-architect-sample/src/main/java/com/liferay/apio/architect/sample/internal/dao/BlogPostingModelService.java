@@ -29,9 +29,9 @@ import com.liferay.apio.architect.sample.internal.dto.ReviewModel;
 import java.util.Collection;
 import java.util.Date;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -160,6 +160,31 @@ public class BlogPostingModelService {
 		);
 	}
 
+	/**
+	 * Returns the page of blog postings whose IDs come after the specified
+	 * ID. Blog postings are kept ordered by ID, so the cost of retrieving a
+	 * page doesn't depend on how deep in the collection the page is.
+	 *
+	 * @param  id the ID after which the page starts; {@code -1} for the first
+	 *         page
+	 * @param  count the maximum number of blog postings in the page
+	 * @return the page of blog postings
+	 */
+	public List<BlogPostingModel> getPageAfter(long id, int count) {
+		Collection<BlogPostingModel> blogPostingModels =
+			_blogPostingModels.tailMap(
+				id, false
+			).values();
+
+		Stream<BlogPostingModel> stream = blogPostingModels.stream();
+
+		return stream.limit(
+			count
+		).collect(
+			Collectors.toList()
+		);
+	}
+
 	/**
 	 * Deletes the blog posting that matches the specified ID.
 	 *
@@ -203,8 +228,8 @@ public class BlogPostingModelService {
 		return Optional.of(blogPostingModel);
 	}
 
-	private final Map<Long, BlogPostingModel> _blogPostingModels =
-		new ConcurrentHashMap<>();
+	private final ConcurrentNavigableMap<Long, BlogPostingModel>
+		_blogPostingModels = new ConcurrentSkipListMap<>();
 	private final AtomicLong _count = new AtomicLong(0);
 
 	@Reference
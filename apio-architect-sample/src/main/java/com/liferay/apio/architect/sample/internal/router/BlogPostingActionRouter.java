@@ -27,6 +27,9 @@ import com.liferay.apio.architect.annotation.Body;
 import com.liferay.apio.architect.annotation.EntryPoint;
 import com.liferay.apio.architect.annotation.Id;
 import com.liferay.apio.architect.credentials.Credentials;
+import com.liferay.apio.architect.functional.Try;
+import com.liferay.apio.architect.pagination.CursorPageItems;
+import com.liferay.apio.architect.pagination.CursorPagination;
 import com.liferay.apio.architect.pagination.PageItems;
 import com.liferay.apio.architect.pagination.Pagination;
 import com.liferay.apio.architect.router.ActionRouter;
@@ -46,6 +49,7 @@ import java.util.Optional;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import javax.ws.rs.BadRequestException;
 import javax.ws.rs.ForbiddenException;
 import javax.ws.rs.NotFoundException;
 
@@ -124,21 +128,16 @@ public class BlogPostingActionRouter implements ActionRouter<BlogPosting> {
 
 	@EntryPoint
 	@Retrieve
-	public PageItems<BlogPosting> retrievePage(Pagination pagination) {
-		List<BlogPostingModel> blogPostingModels =
-			_blogPostingModelService.getPage(
-				pagination.getStartPosition(), pagination.getEndPosition());
-		int count = _blogPostingModelService.getCount();
+	public PageItems<BlogPosting> retrievePage(
+		CursorPagination cursorPagination) {
 
-		Stream<BlogPostingModel> stream = blogPostingModels.stream();
+		Optional<String> optional = cursorPagination.getCursorOptional();
 
-		List<BlogPosting> blogPostings = stream.map(
-			BlogPostingConverter::toBlogPosting
-		).collect(
-			Collectors.toList()
-		);
+		if (!optional.isPresent() && (cursorPagination.getPageNumber() > 1)) {
+			return _retrievePage(cursorPagination);
+		}
 
-		return new PageItems<>(blogPostings, count);
+		return _retrievePageAfterCursor(cursorPagination);
 	}
 
 	@Subscribe
@@ -163,6 +162,63 @@ public class BlogPostingActionRouter implements ActionRouter<BlogPosting> {
 		return toBlogSubscription(blogSubscriptionModel);
 	}
 
+	private PageItems<BlogPosting> _retrievePage(Pagination pagination) {
+		List<BlogPostingModel> blogPostingModels =
+			_blogPostingModelService.getPage(
+				pagination.getStartPosition(), pagination.getEndPosition());
+		int count = _blogPostingModelService.getCount();
+
+		return new PageItems<>(_toBlogPostings(blogPostingModels), count);
+	}
+
+	private PageItems<BlogPosting> _retrievePageAfterCursor(
+		CursorPagination cursorPagination) {
+
+		Optional<String> optional = cursorPagination.getCursorOptional();
+
+		long id = optional.map(
+			cursor -> Try.fromFallible(
+				() -> Long.parseLong(cursor)
+			).orElseThrow(
+				() -> new BadRequestException("Invalid cursor " + cursor)
+			)
+		).orElse(
+			-1L
+		);
+
+		int itemsPerPage = cursorPagination.getItemsPerPage();
+
+		List<BlogPostingModel> blogPostingModels =
+			_blogPostingModelService.getPageAfter(id, itemsPerPage + 1);
+		int count = _blogPostingModelService.getCount();
+
+		String nextCursor = null;
+
+		if (blogPostingModels.size() > itemsPerPage) {
+			blogPostingModels = blogPostingModels.subList(0, itemsPerPage);
+
+			BlogPostingModel blogPostingModel = blogPostingModels.get(
+				itemsPerPage - 1);
+
+			nextCursor = String.valueOf(blogPostingModel.getId());
+		}
+
+		return new CursorPageItems<>(
+			_toBlogPostings(blogPostingModels), count, nextCursor);
+	}
+
+	private List<BlogPosting> _toBlogPostings(
+		List<BlogPostingModel> blogPostingModels) {
+
+		Stream<BlogPostingModel> stream = blogPostingModels.stream();
+
+		return stream.map(
+			BlogPostingConverter::toBlogPosting
+		).collect(
+			Collectors.toList()
+		);
+	}
+
 	@Reference
 	private BlogPostingModelService _blogPostingModelService;
 
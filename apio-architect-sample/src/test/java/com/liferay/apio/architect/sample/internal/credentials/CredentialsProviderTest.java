@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2000-present Liferay, Inc. All rights reserved.
+ *
+ * This library is free software; you can redistribute it and/or modify it under
+ * the terms of the GNU Lesser General Public License as published by the Free
+ * Software Foundation; either version 2.1 of the License, or (at your option)
+ * any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but WITHOUT
+ * ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or FITNESS
+ * FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License for more
+ * details.
+ */
+
+package com.liferay.apio.architect.sample.internal.credentials;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+import com.liferay.apio.architect.credentials.Credentials;
+
+import java.util.Optional;
+
+import javax.servlet.http.HttpServletRequest;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.contrib.java.lang.system.EnvironmentVariables;
+
+import org.mockito.Mockito;
+
+/**
+ * @author Alejandro Hernández
+ */
+public class CredentialsProviderTest {
+
+	@Test
+	public void testCacheKeyDoesNotContainTheAuthorizationHeader() {
+		environmentVariables.set("LIFERAY_APIO_AUTH", "Apio");
+
+		Credentials credentials = _createCredentials("Apio");
+
+		assertThat(credentials.get(), is("Apio"));
+		assertThat(
+			credentials.getCacheKeyOptional(), is(Optional.of("authorized")));
+	}
+
+	@Test
+	public void testCacheKeyIsSharedByRequestsWithoutPermission() {
+		environmentVariables.set("LIFERAY_APIO_AUTH", "Apio");
+
+		Credentials credentials = _createCredentials("Hypermedia");
+
+		assertThat(
+			credentials.getCacheKeyOptional(), is(Optional.of("anonymous")));
+	}
+
+	@Rule
+	public final EnvironmentVariables environmentVariables =
+		new EnvironmentVariables();
+
+	private Credentials _createCredentials(String authorization) {
+		HttpServletRequest httpServletRequest = Mockito.mock(
+			HttpServletRequest.class);
+
+		Mockito.when(
+			httpServletRequest.getHeader("Authorization")
+		).thenReturn(
+			authorization
+		);
+
+		CredentialsProvider credentialsProvider = new CredentialsProvider();
+
+		return credentialsProvider.createContext(httpServletRequest);
+	}
+
+}
@@ -50,6 +50,7 @@ import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
@@ -258,6 +259,14 @@ public class RootResourceTest extends BaseTest {
 			return Optional.empty();
 		}
 
+		@Override
+		public Optional<Map<Object, SingleModel>> getItemSingleModels(
+			String name, List<Object> identifiers,
+			HttpServletRequest request) {
+
+			return Optional.empty();
+		}
+
 		private static final NotFound _notFound = new NotFound() {
 		};
 		private static final HashSet<String> _specialAllowedMethods =